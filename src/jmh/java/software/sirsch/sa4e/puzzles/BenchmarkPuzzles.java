@@ -0,0 +1,126 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Random;
+
+import javax.annotation.Nonnull;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+
+/**
+ * Diese Klasse erzeugt reproduzierbare Rätsel für die Benchmarks.
+ *
+ * <p>
+ *     Alle Rätsel werden aus einem {@link PuzzleGenerator} mit festem Seed erzeugt, damit die
+ *     Ergebnisse verschiedener Builds vergleichbar sind. Rätsel ohne Lösung entstehen, indem die
+ *     Summanden der ersten Zeile eines lösbaren Rätsels vertauscht werden. Da dabei zufällig
+ *     wieder ein lösbares Rätsel entstehen kann, wird das Ergebnis geprüft und gegebenenfalls
+ *     das nächste Rätsel des Generators verwendet.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public final class BenchmarkPuzzles {
+
+	/**
+	 * Diese Konstante enthält den Seed für den Zufallszahlengenerator.
+	 */
+	public static final long SEED = 20221212L;
+
+	/**
+	 * Diese Konstante enthält die maximale Anzahl der Versuche, ein Rätsel ohne Lösung zu
+	 * erzeugen.
+	 */
+	private static final int MAX_ATTEMPTS = 1000;
+
+	/**
+	 * Dieser Konstruktor verhindert das Erzeugen von Instanzen.
+	 */
+	private BenchmarkPuzzles() {
+	}
+
+	/**
+	 * Diese Methode erzeugt ein Rätsel.
+	 *
+	 * @param digits die maximale Anzahl der Stellen der Summanden
+	 * @param solvable ob das Rätsel eine Lösung haben soll
+	 * @return das erzeugte Rätsel
+	 */
+	@Nonnull
+	public static Puzzle createPuzzle(final int digits, final boolean solvable) {
+		Random random = new Random(SEED);
+
+		for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+			Puzzle puzzle = new PuzzleGenerator(
+					random,
+					new PuzzleBuilder(),
+					Cell::new,
+					new RandomIconGenerator(
+							RandomIconGenerator.DEFAULT_ICON_CODE_POINTS,
+							random))
+					.generate(digits);
+
+			if (solvable) {
+				return puzzle;
+			}
+
+			puzzle = swapFirstRowSummands(puzzle);
+
+			if (new PuzzleSolver(0).solvePuzzle(puzzle).isEmpty()) {
+				return puzzle;
+			}
+		}
+
+		throw new IllegalStateException("Could not create unsolvable puzzle with " + digits
+				+ " digits!");
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Kopie des Rätsels, in der die Summanden der ersten Zeile
+	 * vertauscht sind.
+	 *
+	 * @param puzzle das zu kopierende Rätsel
+	 * @return die veränderte Kopie
+	 */
+	@Nonnull
+	private static Puzzle swapFirstRowSummands(@Nonnull final Puzzle puzzle) {
+		Puzzles.SolvePuzzleRequest.Builder request = new Puzzle2ProtobufConverter()
+				.createSolvePuzzleRequest(puzzle)
+				.toBuilder();
+		int first = findCell(request, 0, 0);
+		int second = findCell(request, 0, 1);
+		List<Integer> firstSymbolIds = request.getCells(first).getNumberAsSymbolIdsList();
+		List<Integer> secondSymbolIds = request.getCells(second).getNumberAsSymbolIdsList();
+
+		request.getCellsBuilder(first).clearNumberAsSymbolIds().addAllNumberAsSymbolIds(
+				secondSymbolIds);
+		request.getCellsBuilder(second).clearNumberAsSymbolIds().addAllNumberAsSymbolIds(
+				firstSymbolIds);
+		return new Protobuf2PuzzleConverter().createPuzzle(request.build());
+	}
+
+	/**
+	 * Diese Methode sucht den Index einer Zelle in der Anfrage.
+	 *
+	 * @param request die zu durchsuchende Anfrage
+	 * @param row die Zeile der Zelle
+	 * @param column die Spalte der Zelle
+	 * @return der Index der Zelle
+	 */
+	private static int findCell(
+			@Nonnull final Puzzles.SolvePuzzleRequest.Builder request,
+			final int row,
+			final int column) {
+
+		for (int index = 0; index < request.getCellsCount(); index++) {
+			if (request.getCells(index).getRow() == row
+					&& request.getCells(index).getColumn() == column) {
+
+				return index;
+			}
+		}
+
+		throw new IllegalArgumentException("Cell " + row + "/" + column + " not found!");
+	}
+}
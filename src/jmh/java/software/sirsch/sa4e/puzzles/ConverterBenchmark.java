@@ -0,0 +1,119 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+
+/**
+ * Diese Klasse stellt Benchmarks für die Konvertierung zwischen {@link Puzzle}, dem
+ * Protobuf-Format und dem Austauschdatenformat bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConverterBenchmark {
+
+	/**
+	 * Dieses Feld enthält die maximale Anzahl der Stellen der Summanden.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6"})
+	int digits;
+
+	/**
+	 * Dieses Feld enthält das zu konvertierende Rätsel.
+	 */
+	private Puzzle puzzle;
+
+	/**
+	 * Dieses Feld enthält das Rätsel im Protobuf-Format.
+	 */
+	private Puzzles.SolvePuzzleRequest solvePuzzleRequest;
+
+	/**
+	 * Dieses Feld enthält das Rätsel im Austauschdatenformat.
+	 */
+	private CommonSolvePuzzleRequest commonSolvePuzzleRequest;
+
+	/**
+	 * Diese Methode erzeugt das Rätsel in allen Formaten.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.puzzle = BenchmarkPuzzles.createPuzzle(this.digits, true);
+		this.solvePuzzleRequest = new Puzzle2ProtobufConverter().createSolvePuzzleRequest(
+				this.puzzle);
+		this.commonSolvePuzzleRequest = new Puzzle2CommonConverter()
+				.createCommonSolvePuzzleRequest(this.puzzle);
+	}
+
+	/**
+	 * Diese Methode misst {@link Protobuf2PuzzleConverter#createPuzzle(Puzzles.SolvePuzzleRequest)}.
+	 *
+	 * @return das erzeugte Rätsel
+	 */
+	@Benchmark
+	public Puzzle protobuf2Puzzle() {
+		return new Protobuf2PuzzleConverter().createPuzzle(this.solvePuzzleRequest);
+	}
+
+	/**
+	 * Diese Methode misst {@link Puzzle2ProtobufConverter#createSolvePuzzleRequest(Puzzle)}.
+	 *
+	 * @return die erzeugte Anfrage
+	 */
+	@Benchmark
+	public Puzzles.SolvePuzzleRequest puzzle2Protobuf() {
+		return new Puzzle2ProtobufConverter().createSolvePuzzleRequest(this.puzzle);
+	}
+
+	/**
+	 * Diese Methode misst {@link Common2PuzzleConverter#createPuzzle(CommonSolvePuzzleRequest)}.
+	 *
+	 * @return das erzeugte Rätsel
+	 */
+	@Benchmark
+	public Puzzle common2Puzzle() {
+		return new Common2PuzzleConverter().createPuzzle(this.commonSolvePuzzleRequest);
+	}
+
+	/**
+	 * Diese Methode misst {@link Puzzle2CommonConverter#createCommonSolvePuzzleRequest(Puzzle)}.
+	 *
+	 * @return die erzeugte Anfrage
+	 */
+	@Benchmark
+	public CommonSolvePuzzleRequest puzzle2Common() {
+		return new Puzzle2CommonConverter().createCommonSolvePuzzleRequest(this.puzzle);
+	}
+
+	/**
+	 * Diese Methode misst die Konvertierung vom Austauschdatenformat in das Protobuf-Format, wie
+	 * sie die Camel-Route für jedes empfangene Rätsel durchführt.
+	 *
+	 * @return die erzeugte Anfrage
+	 */
+	@Benchmark
+	public Puzzles.SolvePuzzleRequest common2Protobuf() {
+		return new Puzzle2ProtobufConverter().createSolvePuzzleRequest(
+				new Common2PuzzleConverter().createPuzzle(this.commonSolvePuzzleRequest));
+	}
+}
@@ -0,0 +1,100 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Diese Klasse stellt Benchmarks für die Prüfung einer einzelnen Belegung bereit.
+ *
+ * <p>
+ *     Verglichen werden {@link Puzzle#isSolution(List)} und {@link CompiledPuzzle#isSolution(int[])}
+ *     jeweils mit der Lösung des Rätsels, sodass alle Gleichungen ausgewertet werden müssen.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PuzzleIsSolutionBenchmark {
+
+	/**
+	 * Dieses Feld enthält die maximale Anzahl der Stellen der Summanden.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6"})
+	int digits;
+
+	/**
+	 * Dieses Feld enthält das zu prüfende Rätsel.
+	 */
+	private Puzzle puzzle;
+
+	/**
+	 * Dieses Feld enthält das kompilierte Rätsel.
+	 */
+	private CompiledPuzzle compiledPuzzle;
+
+	/**
+	 * Dieses Feld enthält die Lösung als Liste für {@link Puzzle#isSolution(List)}.
+	 */
+	private List<Byte> valueList;
+
+	/**
+	 * Dieses Feld enthält die Lösung als Array für {@link CompiledPuzzle#isSolution(int[])}.
+	 */
+	private int[] valueArray;
+
+	/**
+	 * Diese Methode erzeugt das Rätsel und ermittelt seine Lösung.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		Solution solution;
+
+		this.puzzle = BenchmarkPuzzles.createPuzzle(this.digits, true);
+		this.compiledPuzzle = new CompiledPuzzle(this.puzzle);
+		solution = new PuzzleSolver(0).solvePuzzle(this.puzzle).orElseThrow();
+		this.valueList = this.puzzle.getSymbols().stream()
+				.map(symbol -> (byte) solution.getDigit(symbol.getId()))
+				.collect(Collectors.toList());
+		this.valueArray = this.valueList.stream().mapToInt(Byte::intValue).toArray();
+	}
+
+	/**
+	 * Diese Methode misst {@link Puzzle#isSolution(List)}.
+	 *
+	 * @return das Ergebnis der Prüfung
+	 */
+	@Benchmark
+	public boolean puzzleIsSolution() {
+		return this.puzzle.isSolution(this.valueList);
+	}
+
+	/**
+	 * Diese Methode misst {@link CompiledPuzzle#isSolution(int[])}.
+	 *
+	 * @return das Ergebnis der Prüfung
+	 */
+	@Benchmark
+	public boolean compiledPuzzleIsSolution() {
+		return this.compiledPuzzle.isSolution(this.valueArray);
+	}
+}
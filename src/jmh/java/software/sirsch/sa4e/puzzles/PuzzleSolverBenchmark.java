@@ -0,0 +1,86 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Diese Klasse stellt Benchmarks für das Lösen von Rätseln mit den verschiedenen
+ * {@link SolverEngine}s bereit.
+ *
+ * <p>
+ *     Gemessen wird die Anzahl der gelösten Rätsel pro Sekunde für lösbare und unlösbare Rätsel
+ *     mit Summanden von einer bis sechs Stellen. Ein unlösbares Rätsel erfordert stets das
+ *     vollständige Durchsuchen aller Belegungen und bildet damit den ungünstigsten Fall ab.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PuzzleSolverBenchmark {
+
+	/**
+	 * Dieses Feld enthält die maximale Anzahl der Stellen der Summanden.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6"})
+	int digits;
+
+	/**
+	 * Dieses Feld zeigt an, ob das Rätsel eine Lösung haben soll.
+	 */
+	@Param({"true", "false"})
+	boolean solvable;
+
+	/**
+	 * Dieses Feld enthält das zu verwendende Verfahren.
+	 */
+	@Param({"BRUTE_FORCE", "COLUMNWISE", "PARALLEL"})
+	SolverEngine engine;
+
+	/**
+	 * Dieses Feld enthält das zu lösende Rätsel.
+	 */
+	private Puzzle puzzle;
+
+	/**
+	 * Dieses Feld enthält den zu messenden {@link PuzzleSolver}.
+	 */
+	private PuzzleSolver puzzleSolver;
+
+	/**
+	 * Diese Methode erzeugt das Rätsel und den {@link PuzzleSolver}.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		this.puzzle = BenchmarkPuzzles.createPuzzle(this.digits, this.solvable);
+		this.puzzleSolver = this.engine.createPuzzleSolver(0);
+	}
+
+	/**
+	 * Diese Methode misst {@link PuzzleSolver#solvePuzzle(Puzzle)}.
+	 *
+	 * @return die gefundene Lösung, damit die Berechnung nicht wegoptimiert wird
+	 */
+	@Benchmark
+	public Optional<Solution> solvePuzzle() {
+		return this.puzzleSolver.solvePuzzle(this.puzzle);
+	}
+}
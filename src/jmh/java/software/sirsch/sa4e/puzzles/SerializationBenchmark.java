@@ -0,0 +1,205 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+
+/**
+ * Diese Klasse stellt Benchmarks für die Serialisierung der Nachrichten bereit.
+ *
+ * <p>
+ *     Gemessen werden das Lesen und Schreiben des Austauschdatenformats als JSON, wie es die
+ *     Camel-Route durchführt, sowie das Lesen und Schreiben des Protobuf-Formats. JSON wird
+ *     sowohl formatiert als auch kompakt geschrieben, um die Kosten der Formatierung sichtbar
+ *     zu machen.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+	/**
+	 * Dieses Feld enthält die maximale Anzahl der Stellen der Summanden.
+	 */
+	@Param({"1", "2", "3", "4", "5", "6"})
+	int digits;
+
+	/**
+	 * Dieses Feld enthält den {@link ObjectMapper}.
+	 */
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Dieses Feld enthält den {@link ObjectWriter} für formatierte Ausgaben.
+	 */
+	private ObjectWriter prettyWriter;
+
+	/**
+	 * Dieses Feld enthält die Anfrage im Austauschdatenformat.
+	 */
+	private CommonSolvePuzzleRequest commonSolvePuzzleRequest;
+
+	/**
+	 * Dieses Feld enthält die Anfrage im Austauschdatenformat als JSON.
+	 */
+	private byte[] commonSolvePuzzleRequestJson;
+
+	/**
+	 * Dieses Feld enthält die Antwort im Austauschdatenformat.
+	 */
+	private CommonSolvePuzzleResponse commonSolvePuzzleResponse;
+
+	/**
+	 * Dieses Feld enthält die Anfrage im Protobuf-Format.
+	 */
+	private Puzzles.SolvePuzzleRequest solvePuzzleRequest;
+
+	/**
+	 * Dieses Feld enthält die Anfrage im Protobuf-Format als Bytes.
+	 */
+	private byte[] solvePuzzleRequestBytes;
+
+	/**
+	 * Diese Methode erzeugt die Nachrichten.
+	 *
+	 * @throws IOException falls die Serialisierung fehlschlägt
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Puzzle puzzle = BenchmarkPuzzles.createPuzzle(this.digits, true);
+		Solution solution = new PuzzleSolver(0).solvePuzzle(puzzle).orElseThrow();
+
+		this.objectMapper = new ObjectMapper();
+		this.prettyWriter = this.objectMapper.writerWithDefaultPrettyPrinter();
+		this.commonSolvePuzzleRequest = new Puzzle2CommonConverter()
+				.createCommonSolvePuzzleRequest(puzzle);
+		this.commonSolvePuzzleRequest.setServerId("benchmark");
+		this.commonSolvePuzzleRequest.setRaetselId(BenchmarkPuzzles.SEED);
+		this.commonSolvePuzzleRequestJson = this.prettyWriter.writeValueAsBytes(
+				this.commonSolvePuzzleRequest);
+		this.commonSolvePuzzleResponse = new CommonSolvePuzzleResponse();
+		this.commonSolvePuzzleResponse.setServerId("benchmark");
+		this.commonSolvePuzzleResponse.setRaetselId(BenchmarkPuzzles.SEED);
+		this.commonSolvePuzzleResponse.setRow1(createRow(puzzle, solution, 0));
+		this.commonSolvePuzzleResponse.setRow2(createRow(puzzle, solution, 1));
+		this.commonSolvePuzzleResponse.setRow3(createRow(puzzle, solution, 2));
+		this.commonSolvePuzzleResponse.setTime(0.0);
+		this.solvePuzzleRequest = new Puzzle2ProtobufConverter().createSolvePuzzleRequest(puzzle);
+		this.solvePuzzleRequestBytes = this.solvePuzzleRequest.toByteArray();
+	}
+
+	/**
+	 * Diese Methode ermittelt die Zahlen einer Zeile der Lösung.
+	 *
+	 * @param puzzle das gelöste Rätsel
+	 * @param solution die Lösung
+	 * @param row die Zeile
+	 * @return die Zahlen der Zeile in der Reihenfolge der Spalten
+	 */
+	private static List<Integer> createRow(
+			final Puzzle puzzle,
+			final Solution solution,
+			final int row) {
+
+		return puzzle.getCells().stream()
+				.filter(cell -> cell.getRow() == row)
+				.sorted((first, second) -> first.getColumn() - second.getColumn())
+				.map(cell -> cell.getSymbols().stream()
+						.mapToInt(symbol -> solution.getDigit(symbol.getId()))
+						.reduce(0, (value, digit) -> value * 10 + digit))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Diese Methode misst das Lesen einer Anfrage im Austauschdatenformat.
+	 *
+	 * @return die gelesene Anfrage
+	 * @throws IOException falls das Lesen fehlschlägt
+	 */
+	@Benchmark
+	public CommonSolvePuzzleRequest readCommonRequest() throws IOException {
+		return this.objectMapper.readValue(
+				this.commonSolvePuzzleRequestJson,
+				CommonSolvePuzzleRequest.class);
+	}
+
+	/**
+	 * Diese Methode misst das formatierte Schreiben einer Anfrage im Austauschdatenformat.
+	 *
+	 * @return die geschriebenen Bytes
+	 * @throws IOException falls das Schreiben fehlschlägt
+	 */
+	@Benchmark
+	public byte[] writeCommonRequestPretty() throws IOException {
+		return this.prettyWriter.writeValueAsBytes(this.commonSolvePuzzleRequest);
+	}
+
+	/**
+	 * Diese Methode misst das formatierte Schreiben einer Antwort im Austauschdatenformat.
+	 *
+	 * @return die geschriebenen Bytes
+	 * @throws IOException falls das Schreiben fehlschlägt
+	 */
+	@Benchmark
+	public byte[] writeCommonResponsePretty() throws IOException {
+		return this.prettyWriter.writeValueAsBytes(this.commonSolvePuzzleResponse);
+	}
+
+	/**
+	 * Diese Methode misst das kompakte Schreiben einer Antwort im Austauschdatenformat.
+	 *
+	 * @return die geschriebenen Bytes
+	 * @throws IOException falls das Schreiben fehlschlägt
+	 */
+	@Benchmark
+	public byte[] writeCommonResponseCompact() throws IOException {
+		return this.objectMapper.writeValueAsBytes(this.commonSolvePuzzleResponse);
+	}
+
+	/**
+	 * Diese Methode misst das Lesen einer Anfrage im Protobuf-Format.
+	 *
+	 * @return die gelesene Anfrage
+	 * @throws InvalidProtocolBufferException falls das Lesen fehlschlägt
+	 */
+	@Benchmark
+	public Puzzles.SolvePuzzleRequest readProtobufRequest() throws InvalidProtocolBufferException {
+		return Puzzles.SolvePuzzleRequest.parseFrom(this.solvePuzzleRequestBytes);
+	}
+
+	/**
+	 * Diese Methode misst das Schreiben einer Anfrage im Protobuf-Format.
+	 *
+	 * @return die geschriebenen Bytes
+	 */
+	@Benchmark
+	public byte[] writeProtobufRequest() {
+		return this.solvePuzzleRequest.toByteArray();
+	}
+}
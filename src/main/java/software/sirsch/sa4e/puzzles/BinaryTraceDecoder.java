@@ -0,0 +1,209 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.BITS_PER_DIGIT;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.MAGIC;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.MAX_SYMBOL_COUNT;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.TAG_BLOCK;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.TAG_MESSAGE;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.TAG_SYMBOLS;
+import static software.sirsch.sa4e.puzzles.BinaryTraceSolverProgressLogger.VERSION;
+
+/**
+ * Diese Klasse liest eine mit {@link BinaryTraceSolverProgressLogger} geschriebene Aufzeichnung
+ * und gibt sie an einen {@link SolverProgressLogger} weiter.
+ *
+ * <p>
+ *     Je Datensatz wird {@link SolverProgressLogger#logPermutation(List, int[], boolean)} und je
+ *     Nachricht {@link SolverProgressLogger#log(String)} aufgerufen. Mit einem
+ *     {@link PrintStreamSolverProgressLogger} entsteht so wieder die Textform. Die Symbole
+ *     werden ohne Beschreibung wiederhergestellt, da diese nicht aufgezeichnet wird.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class BinaryTraceDecoder {
+
+	/**
+	 * Diese Konstante enthält die Maske für eine Ziffer eines Datensatzes.
+	 */
+	private static final long DIGIT_MASK = (1L << BITS_PER_DIGIT) - 1;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nutzbits je Byte eines Varints.
+	 */
+	private static final int VARINT_SHIFT = 7;
+
+	/**
+	 * Diese Konstante enthält die Maske für die Nutzbits eines Varint-Bytes.
+	 */
+	private static final int VARINT_MASK = 0x7F;
+
+	/**
+	 * Diese Konstante enthält das Bit, das weitere Varint-Bytes ankündigt.
+	 */
+	private static final int VARINT_CONTINUATION = 0x80;
+
+	/**
+	 * Diese Methode liest eine Aufzeichnung vollständig.
+	 *
+	 * @param in der Eingabedatenstrom, der gepuffert sein sollte
+	 * @param target der {@link SolverProgressLogger}, an den die Einträge weitergegeben werden
+	 * @throws IOException falls nicht gelesen werden kann oder die Aufzeichnung fehlerhaft ist
+	 */
+	public void decode(
+			@Nonnull final InputStream in,
+			@Nonnull final SolverProgressLogger target) throws IOException {
+
+		List<Symbol> symbols = null;
+		int tag;
+
+		readHeader(in);
+
+		while ((tag = in.read()) >= 0) {
+			if (tag == TAG_SYMBOLS) {
+				symbols = readSymbols(in);
+			} else if (tag == TAG_BLOCK && symbols != null) {
+				readBlock(in, symbols, target);
+			} else if (tag == TAG_MESSAGE) {
+				target.log(readMessage(in));
+			} else {
+				throw new IOException("Corrupt trace: unexpected tag " + tag);
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode liest und prüft den Kopf der Aufzeichnung.
+	 *
+	 * @param in der Eingabedatenstrom
+	 * @throws IOException falls es sich nicht um eine Aufzeichnung in {@link
+	 * BinaryTraceSolverProgressLogger#VERSION} handelt
+	 */
+	private static void readHeader(@Nonnull final InputStream in) throws IOException {
+		byte[] magic = in.readNBytes(MAGIC.length);
+
+		if (!Arrays.equals(MAGIC, magic) || in.read() != VERSION) {
+			throw new IOException("Not a puzzle trace of version " + VERSION);
+		}
+	}
+
+	/**
+	 * Diese Methode liest die Symbole.
+	 *
+	 * @param in der Eingabedatenstrom
+	 * @return die gelesenen Symbole
+	 * @throws IOException falls nicht gelesen werden kann oder die Anzahl ungültig ist
+	 */
+	@Nonnull
+	private static List<Symbol> readSymbols(@Nonnull final InputStream in) throws IOException {
+		long count = readVarint(in);
+		List<Symbol> result = new ArrayList<>();
+
+		if (count > MAX_SYMBOL_COUNT) {
+			throw new IOException("Corrupt trace: " + count + " symbols");
+		}
+
+		for (int index = 0; index < count; index++) {
+			result.add(new Symbol((int) readVarint(in), null, (int) readVarint(in)));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode liest einen Block von Datensätzen und gibt sie weiter.
+	 *
+	 * @param in der Eingabedatenstrom
+	 * @param symbols die aktuellen Symbole
+	 * @param target der {@link SolverProgressLogger}, an den die Datensätze weitergegeben werden
+	 * @throws IOException falls nicht gelesen werden kann
+	 */
+	private static void readBlock(
+			@Nonnull final InputStream in,
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final SolverProgressLogger target) throws IOException {
+
+		long count = readVarint(in);
+		int[] values = new int[symbols.size()];
+		long record = 0;
+
+		for (long index = 0; index < count; index++) {
+			long zigZag = readVarint(in);
+
+			record += (zigZag >>> 1) ^ -(zigZag & 1);
+			unpack(record, values);
+			target.logPermutation(symbols, values, (record & 1) != 0);
+		}
+	}
+
+	/**
+	 * Diese Methode zerlegt einen Datensatz in die Ziffern der Belegung.
+	 *
+	 * @param record der Datensatz
+	 * @param values das zu befüllende Feld der Werte
+	 */
+	private static void unpack(final long record, @Nonnull final int[] values) {
+		long digits = record >>> 1;
+
+		for (int index = values.length - 1; index >= 0; index--) {
+			values[index] = (int) (digits & DIGIT_MASK);
+			digits >>>= BITS_PER_DIGIT;
+		}
+	}
+
+	/**
+	 * Diese Methode liest eine Nachricht.
+	 *
+	 * @param in der Eingabedatenstrom
+	 * @return die gelesene Nachricht
+	 * @throws IOException falls nicht gelesen werden kann
+	 */
+	@Nonnull
+	private static String readMessage(@Nonnull final InputStream in) throws IOException {
+		int length = (int) readVarint(in);
+		byte[] bytes = in.readNBytes(length);
+
+		if (bytes.length != length) {
+			throw new EOFException("Corrupt trace: truncated message");
+		}
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Diese Methode liest einen Varint.
+	 *
+	 * @param in der Eingabedatenstrom
+	 * @return die gelesene Zahl
+	 * @throws IOException falls nicht gelesen werden kann oder die Aufzeichnung endet
+	 */
+	private static long readVarint(@Nonnull final InputStream in) throws IOException {
+		long result = 0;
+		int shift = 0;
+		int next;
+
+		do {
+			next = in.read();
+
+			if (next < 0) {
+				throw new EOFException("Corrupt trace: truncated number");
+			}
+
+			result |= (long) (next & VARINT_MASK) << shift;
+			shift += VARINT_SHIFT;
+		} while ((next & VARINT_CONTINUATION) != 0 && shift < Long.SIZE);
+
+		return result;
+	}
+}
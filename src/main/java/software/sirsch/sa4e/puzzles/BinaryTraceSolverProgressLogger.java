@@ -0,0 +1,588 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen {@link SolverProgressLogger} bereit, der die geprüften Belegungen in
+ * einem kompakten Binärformat aufzeichnet.
+ *
+ * <p>
+ *     Das Format beginnt mit {@link #MAGIC} und {@link #VERSION}. Danach folgen Einträge, die
+ *     jeweils mit einem Kennzeichen beginnen:
+ * </p>
+ * <ul>
+ *     <li>
+ *         {@link #TAG_SYMBOLS}: die Anzahl der Symbole und je Symbol ID und Code-Point des Icons.
+ *         Der Eintrag wird geschrieben, sobald sich die Symbole ändern.
+ *     </li>
+ *     <li>
+ *         {@link #TAG_BLOCK}: die Anzahl der Datensätze und die Datensätze eines Blocks. Ein
+ *         Datensatz enthält die Ziffern der Belegung zu je vier Bit, gefolgt von einem Bit, das
+ *         eine Lösung kennzeichnet. Gespeichert wird die Differenz zum vorigen Datensatz des
+ *         Blocks im ZigZag-Verfahren als Varint.
+ *     </li>
+ *     <li>
+ *         {@link #TAG_MESSAGE}: die Länge und der Inhalt einer Nachricht in UTF-8.
+ *     </li>
+ * </ul>
+ *
+ * <p>
+ *     Designentscheidung: Da die Suche die Belegungen in lexikographischer Reihenfolge aufzählt,
+ *     unterscheiden sich aufeinanderfolgende Datensätze meist nur in den hinteren Ziffern. Die
+ *     Differenzen belegen daher typischerweise ein bis drei Bytes, während die Textform
+ *     {@code Permutation A:1 B:2 ... is not a solution.} je nach Icons 60 bis 100 Bytes benötigt.
+ * </p>
+ *
+ * <p>
+ *     Da die parallelen Verfahren aus mehreren Threads aufzeichnen, sammelt jeder Thread die
+ *     Datensätze in einem eigenen Block und kodiert diesen selbst. Nur das Schreiben eines
+ *     fertigen Blocks in den Ausgabedatenstrom ist synchronisiert. Die Blöcke verschiedener
+ *     Threads folgen daher nacheinander, vor jedem Block stehen die zugehörigen Symbole.
+ * </p>
+ *
+ * <p>
+ *     Ein Hintergrund-Thread schreibt in festen Abständen auch unvollständige Blöcke und leert den
+ *     Ausgabedatenstrom, sodass eine laufende Aufzeichnung nicht erst beim Schließen vollständig
+ *     in der Datei steht. Nach dem Schließen werden weitere Belegungen verworfen.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class BinaryTraceSolverProgressLogger implements SolverProgressLogger {
+
+	/**
+	 * Diese Konstante enthält die Kennung am Anfang jeder Aufzeichnung.
+	 */
+	@Nonnull
+	public static final byte[] MAGIC = {'P', 'Z', 'T', 'R'};
+
+	/**
+	 * Diese Konstante enthält die Version des Formats.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Diese Konstante enthält das Kennzeichen eines Eintrags mit Symbolen.
+	 */
+	public static final int TAG_SYMBOLS = 1;
+
+	/**
+	 * Diese Konstante enthält das Kennzeichen eines Blocks von Datensätzen.
+	 */
+	public static final int TAG_BLOCK = 2;
+
+	/**
+	 * Diese Konstante enthält das Kennzeichen einer Nachricht.
+	 */
+	public static final int TAG_MESSAGE = 3;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits je Ziffer.
+	 */
+	public static final int BITS_PER_DIGIT = 4;
+
+	/**
+	 * Diese Konstante enthält die maximale Anzahl der Symbole, die ein Datensatz aufnehmen kann.
+	 */
+	public static final int MAX_SYMBOL_COUNT = 15;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Datensätze je Block.
+	 */
+	public static final int BLOCK_SIZE = 4096;
+
+	/**
+	 * Diese Konstante enthält den Standardabstand in Millisekunden, in dem unvollständige Blöcke
+	 * geschrieben werden.
+	 */
+	public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nutzbits je Byte eines Varints.
+	 */
+	private static final int VARINT_SHIFT = 7;
+
+	/**
+	 * Diese Konstante enthält die Maske für die Nutzbits eines Varint-Bytes.
+	 */
+	private static final int VARINT_MASK = 0x7F;
+
+	/**
+	 * Diese Konstante enthält das Bit, das weitere Varint-Bytes ankündigt.
+	 */
+	private static final int VARINT_CONTINUATION = 0x80;
+
+	/**
+	 * Dieses Feld muss den Ausgabedatenstrom enthalten.
+	 */
+	@Nonnull
+	private final OutputStream out;
+
+	/**
+	 * Dieses Feld muss den Block des jeweiligen Threads enthalten.
+	 */
+	@Nonnull
+	private final ThreadLocal<Block> threadBlock = ThreadLocal.withInitial(this::registerBlock);
+
+	/**
+	 * Dieses Feld muss die Blöcke aller Threads enthalten, damit sie regelmäßig und beim
+	 * Schließen geschrieben werden können.
+	 */
+	@Nonnull
+	private final Queue<Block> blocks = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Dieses Feld muss das Signal zum Beenden des Hintergrund-Threads enthalten.
+	 */
+	@Nonnull
+	private final CountDownLatch closing = new CountDownLatch(1);
+
+	/**
+	 * Dieses Feld muss den Abstand in Millisekunden enthalten, in dem unvollständige Blöcke
+	 * geschrieben werden.
+	 */
+	private final long flushIntervalMillis;
+
+	/**
+	 * Dieses Feld muss den Hintergrund-Thread für das regelmäßige Schreiben enthalten.
+	 */
+	@Nonnull
+	private final Thread flushThread;
+
+	/**
+	 * Dieses Feld enthält die zuletzt geschriebenen Symbole und wird nur beim Schreiben in
+	 * {@link #out} verwendet.
+	 */
+	@CheckForNull
+	private List<Symbol> writtenSymbols;
+
+	/**
+	 * Dieses Feld zeigt an, ob die Ausgabe geschlossen wurde, und wird nur beim Schreiben in
+	 * {@link #out} verwendet.
+	 */
+	private boolean closed;
+
+	/**
+	 * Dieser Konstruktor legt den Ausgabedatenstrom fest und schreibt den Kopf des Formats.
+	 *
+	 * @param out der zu setzende Ausgabedatenstrom, der gepuffert sein sollte
+	 * @throws UncheckedIOException falls der Kopf nicht geschrieben werden kann
+	 */
+	public BinaryTraceSolverProgressLogger(@Nonnull final OutputStream out) {
+		this(out, DEFAULT_FLUSH_INTERVAL_MILLIS, Thread::new);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param out der zu setzende Ausgabedatenstrom, der gepuffert sein sollte
+	 * @param flushIntervalMillis der Abstand in Millisekunden, in dem unvollständige Blöcke
+	 *                            geschrieben werden
+	 * @param threadFactory die Fabrikmethode für den Hintergrund-Thread
+	 * @throws IllegalArgumentException falls der Abstand kleiner als 1 ist
+	 * @throws UncheckedIOException falls der Kopf nicht geschrieben werden kann
+	 */
+	protected BinaryTraceSolverProgressLogger(
+			@Nonnull final OutputStream out,
+			final long flushIntervalMillis,
+			@Nonnull final Function<Runnable, Thread> threadFactory) {
+
+		if (flushIntervalMillis < 1) {
+			throw new IllegalArgumentException("Flush interval must be positive!");
+		}
+
+		this.out = out;
+		this.flushIntervalMillis = flushIntervalMillis;
+
+		try {
+			this.out.write(MAGIC);
+			this.out.write(VERSION);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		this.flushThread = threadFactory.apply(this::flushRepeatedly);
+		this.flushThread.setDaemon(true);
+		this.flushThread.start();
+	}
+
+	/**
+	 * Diese Methode erzeugt den Block für den aktuellen Thread und merkt ihn vor.
+	 *
+	 * @return der erzeugte Block
+	 */
+	@Nonnull
+	private Block registerBlock() {
+		Block result = new Block();
+
+		this.blocks.offer(result);
+		return result;
+	}
+
+	/**
+	 * Diese Methode zeichnet eine Belegung auf.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte der Symbole in der Reihenfolge von {@code symbols}
+	 * @param isSolution {@code true}, falls es sich um eine Lösung handelt, sonst {@code false}
+	 * @throws IllegalArgumentException falls das Rätsel mehr als {@link #MAX_SYMBOL_COUNT}
+	 * Symbole hat
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	@Override
+	public void logPermutation(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] values,
+			final boolean isSolution) {
+
+		Block block = this.threadBlock.get();
+
+		synchronized (block) {
+			if (symbols != block.symbols) {
+				this.switchSymbols(block, symbols);
+			}
+
+			block.records[block.length++] = pack(values, symbols.size(), isSolution);
+
+			if (block.length == BLOCK_SIZE) {
+				this.flushBlock(block);
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode fasst die Ziffern einer Belegung und das Kennzeichen einer Lösung zu einem
+	 * Datensatz zusammen.
+	 *
+	 * @param values die Werte der Symbole
+	 * @param symbolCount die Anzahl der Symbole
+	 * @param isSolution {@code true}, falls es sich um eine Lösung handelt, sonst {@code false}
+	 * @return der Datensatz
+	 */
+	public static long pack(
+			@Nonnull final int[] values,
+			final int symbolCount,
+			final boolean isSolution) {
+
+		long result = 0;
+
+		for (int index = 0; index < symbolCount; index++) {
+			result = (result << BITS_PER_DIGIT) | values[index];
+		}
+
+		result <<= 1;
+
+		if (isSolution) {
+			result |= 1;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode schreibt den Block, falls sich die Symbole von denen des Blocks
+	 * unterscheiden, und merkt die neuen Symbole am Block vor.
+	 *
+	 * @param block der Block des aktuellen Threads
+	 * @param symbols die neuen Symbole
+	 */
+	private void switchSymbols(@Nonnull final Block block, @Nonnull final List<Symbol> symbols) {
+		if (symbols.size() > MAX_SYMBOL_COUNT) {
+			throw new IllegalArgumentException("Too many symbols for trace: " + symbols.size());
+		}
+
+		if (block.symbols == null || !hasSameIcons(block.symbols, symbols)) {
+			this.flushBlock(block);
+		}
+
+		block.symbols = symbols;
+	}
+
+	/**
+	 * Diese Methode schreibt die Symbole, falls sie sich von den zuletzt geschriebenen
+	 * unterscheiden.
+	 *
+	 * @param symbols die Symbole des folgenden Blocks
+	 * @throws IOException falls nicht geschrieben werden kann
+	 */
+	private void writeSymbols(@Nonnull final List<Symbol> symbols) throws IOException {
+		if (this.writtenSymbols != null && hasSameIcons(this.writtenSymbols, symbols)) {
+			return;
+		}
+
+		this.out.write(TAG_SYMBOLS);
+		writeVarint(this.out, symbols.size());
+
+		for (Symbol symbol : symbols) {
+			writeVarint(this.out, symbol.getId());
+			writeVarint(this.out, symbol.getIconCodePoint());
+		}
+
+		this.writtenSymbols = symbols;
+	}
+
+	/**
+	 * Diese Methode prüft, ob zwei Listen von Symbolen dieselben IDs und Icons enthalten.
+	 *
+	 * @param first die erste Liste
+	 * @param second die zweite Liste
+	 * @return {@code true}, falls IDs und Icons übereinstimmen, sonst {@code false}
+	 */
+	private static boolean hasSameIcons(
+			@Nonnull final List<Symbol> first,
+			@Nonnull final List<Symbol> second) {
+
+		if (first.size() != second.size()) {
+			return false;
+		}
+
+		for (int index = 0; index < first.size(); index++) {
+			if (first.get(index).getId() != second.get(index).getId()
+					|| first.get(index).getIconCodePoint()
+							!= second.get(index).getIconCodePoint()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Diese Methode kodiert die Datensätze eines Blocks und schreibt sie.
+	 *
+	 * <p>
+	 *     Kodiert wird ohne Sperre des Ausgabedatenstroms. Der Aufrufer muss den Block gesperrt
+	 *     haben.
+	 * </p>
+	 *
+	 * @param block der zu schreibende Block
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	private void flushBlock(@Nonnull final Block block) {
+		long previous = 0;
+		List<Symbol> symbols = block.symbols;
+
+		if (block.length == 0 || symbols == null) {
+			return;
+		}
+
+		block.encoded.reset();
+		block.encoded.write(TAG_BLOCK);
+
+		try {
+			writeVarint(block.encoded, block.length);
+
+			for (int index = 0; index < block.length; index++) {
+				long delta = block.records[index] - previous;
+
+				writeVarint(block.encoded, (delta << 1) ^ (delta >> (Long.SIZE - 1)));
+				previous = block.records[index];
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		block.length = 0;
+		this.writeBlock(symbols, block.encoded);
+	}
+
+	/**
+	 * Diese Methode schreibt einen kodierten Block samt seiner Symbole.
+	 *
+	 * @param symbols die Symbole des Blocks
+	 * @param encoded der kodierte Block
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	private synchronized void writeBlock(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final ByteArrayOutputStream encoded) {
+
+		if (this.closed) {
+			return;
+		}
+
+		try {
+			this.writeSymbols(symbols);
+			encoded.writeTo(this.out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt die Blöcke aller Threads.
+	 */
+	private void flushBlocks() {
+		for (Block block : this.blocks) {
+			synchronized (block) {
+				this.flushBlock(block);
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt in festen Abständen die unvollständigen Blöcke und leert den
+	 * Ausgabedatenstrom, bis die Ausgabe geschlossen wird.
+	 */
+	private void flushRepeatedly() {
+		try {
+			while (!this.closing.await(this.flushIntervalMillis, TimeUnit.MILLISECONDS)) {
+				this.flush();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (UncheckedIOException e) {
+			/* Der Fehler tritt beim nächsten Block oder beim Schließen erneut auf. */
+			return;
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt die unvollständigen Blöcke aller Threads und leert den
+	 * Ausgabedatenstrom.
+	 *
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	public void flush() {
+		this.flushBlocks();
+
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+
+			try {
+				this.out.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt eine nicht negative Zahl als Varint.
+	 *
+	 * @param out der Ausgabedatenstrom
+	 * @param value die zu schreibende Zahl
+	 * @throws IOException falls nicht geschrieben werden kann
+	 */
+	private static void writeVarint(
+			@Nonnull final OutputStream out,
+			final long value) throws IOException {
+
+		long remaining = value;
+
+		while ((remaining & ~VARINT_MASK) != 0) {
+			out.write((int) (remaining & VARINT_MASK) | VARINT_CONTINUATION);
+			remaining >>>= VARINT_SHIFT;
+		}
+
+		out.write((int) remaining);
+	}
+
+	/**
+	 * Diese Methode zeichnet eine Nachricht auf.
+	 *
+	 * @param message die Nachricht
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	@Override
+	public void log(@Nonnull final String message) {
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+		Block block = this.threadBlock.get();
+
+		synchronized (block) {
+			this.flushBlock(block);
+		}
+
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+
+			try {
+				this.out.write(TAG_MESSAGE);
+				writeVarint(this.out, bytes.length);
+				this.out.write(bytes);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode beendet den Hintergrund-Thread, schreibt die Blöcke aller Threads und
+	 * schließt den Ausgabedatenstrom.
+	 *
+	 * @throws UncheckedIOException falls nicht geschrieben werden kann
+	 */
+	@Override
+	public void close() {
+		this.closing.countDown();
+
+		try {
+			this.flushThread.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		this.flushBlocks();
+
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+
+			this.closed = true;
+
+			try {
+				this.out.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Diese Klasse enthält die Datensätze, die ein Thread noch nicht geschrieben hat.
+	 */
+	private static final class Block {
+
+		/**
+		 * Dieses Feld muss die Datensätze enthalten.
+		 */
+		@Nonnull
+		private final long[] records = new long[BLOCK_SIZE];
+
+		/**
+		 * Dieses Feld muss den Puffer für den kodierten Block enthalten.
+		 */
+		@Nonnull
+		private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Datensätze.
+		 */
+		private int length;
+
+		/**
+		 * Dieses Feld enthält die Symbole der Datensätze.
+		 */
+		@CheckForNull
+		private List<Symbol> symbols;
+	}
+}
@@ -0,0 +1,143 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen {@link Spliterator} bereit, der einen anderen Spliterator umhüllt und
+ * die Traversierung bei einem Abbruch beendet.
+ *
+ * <p>
+ *     Das Abbruchkennzeichen wird nicht bei jedem Element, sondern nur bei jedem
+ *     {@link #CHECK_INTERVAL}-ten Element und beim ersten Element abgefragt. So bleibt der Aufwand
+ *     auch dann vernachlässigbar, wenn die Abfrage wie bei {@code io.grpc.Context#isCancelled()}
+ *     nicht ganz billig ist. Wurde die Suche abgebrochen, wird eine
+ *     {@link CancellationException} geworfen, damit ein abgebrochener Aufruf nicht mit einem
+ *     Rätsel ohne Lösung verwechselt wird.
+ * </p>
+ *
+ * <p>
+ *     Durch Teilung entstandene Spliteratoren werden ebenfalls umhüllt und zählen die Elemente
+ *     unabhängig voneinander, sodass bei paralleler Verarbeitung keine gemeinsamen Zähler
+ *     zwischen den Threads entstehen.
+ * </p>
+ *
+ * <p>
+ *     Optional wird bei einem erkannten Abbruch ein gemeinsames Stoppkennzeichen gesetzt. Bei
+ *     paralleler Verarbeitung beendet die {@link CancellationException} nur den Teil, der den
+ *     Abbruch erkannt hat. Über das Stoppkennzeichen hören auch die übrigen Teile sofort auf,
+ *     Elemente zu erzeugen, statt erst bei ihrer nächsten Abfrage.
+ * </p>
+ *
+ * @param <T> der Typ der Elemente
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CancellableSpliterator<T> implements Spliterator<T> {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Elemente zwischen zwei Abfragen des
+	 * Abbruchkennzeichens.
+	 */
+	public static final int CHECK_INTERVAL = 1024;
+
+	/**
+	 * Dieses Feld muss den umhüllten Spliterator enthalten.
+	 */
+	@Nonnull
+	private final Spliterator<T> delegate;
+
+	/**
+	 * Dieses Feld muss die Abfrage des Abbruchkennzeichens enthalten.
+	 */
+	@Nonnull
+	private final BooleanSupplier cancelled;
+
+	/**
+	 * Dieses Feld kann das Stoppkennzeichen enthalten, das bei einem Abbruch gesetzt wird.
+	 */
+	@CheckForNull
+	private final AtomicBoolean stopFlag;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der Elemente bis zur nächsten Abfrage.
+	 */
+	private int countdown;
+
+	/**
+	 * Dieser Konstruktor umhüllt den übergebenen Spliterator.
+	 *
+	 * @param delegate der zu umhüllende Spliterator
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 */
+	public CancellableSpliterator(
+			@Nonnull final Spliterator<T> delegate,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		this(delegate, cancelled, null);
+	}
+
+	/**
+	 * Dieser Konstruktor umhüllt den übergebenen Spliterator und setzt bei einem Abbruch das
+	 * übergebene Stoppkennzeichen.
+	 *
+	 * @param delegate der zu umhüllende Spliterator
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @param stopFlag das bei einem Abbruch zu setzende Stoppkennzeichen oder {@code null}
+	 */
+	public CancellableSpliterator(
+			@Nonnull final Spliterator<T> delegate,
+			@Nonnull final BooleanSupplier cancelled,
+			@CheckForNull final AtomicBoolean stopFlag) {
+
+		this.delegate = delegate;
+		this.cancelled = cancelled;
+		this.stopFlag = stopFlag;
+	}
+
+	@Override
+	public boolean tryAdvance(@Nonnull final Consumer<? super T> action) {
+		if (this.countdown <= 0) {
+			this.countdown = CHECK_INTERVAL;
+
+			if (this.cancelled.getAsBoolean()) {
+				if (this.stopFlag != null) {
+					this.stopFlag.set(true);
+				}
+
+				throw new CancellationException("Search was cancelled!");
+			}
+		}
+
+		this.countdown--;
+		return this.delegate.tryAdvance(action);
+	}
+
+	@CheckForNull
+	@Override
+	public Spliterator<T> trySplit() {
+		Spliterator<T> result = this.delegate.trySplit();
+
+		if (result == null) {
+			return null;
+		}
+
+		return new CancellableSpliterator<>(result, this.cancelled, this.stopFlag);
+	}
+
+	@Override
+	public long estimateSize() {
+		return this.delegate.estimateSize();
+	}
+
+	@Override
+	public int characteristics() {
+		return this.delegate.characteristics();
+	}
+}
@@ -0,0 +1,149 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse bildet die kanonische Form eines {@link Puzzle} ab.
+ *
+ * <p>
+ *     Die kanonische Form beschreibt nur die Struktur des Rätsels: Die Zellen werden nach Zeile
+ *     und Spalte sortiert und die Symbole in der Reihenfolge ihres ersten Auftretens neu
+ *     nummeriert. Zwei Rätsel, die sich nur in den Ids, Beschreibungen und Icons ihrer Symbole
+ *     unterscheiden, haben daher dieselbe kanonische Form und dieselben Lösungen.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: {@link #equals(Object)} und {@link #hashCode()} berücksichtigen nur
+ *     die Struktur, damit Instanzen als Schlüssel eines Caches dienen können. Die Zuordnung zu
+ *     den Symbolen des jeweiligen Rätsels wird nur für die Übertragung von Lösungen verwendet.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public final class CanonicalPuzzle {
+
+	/**
+	 * Dieses Feld muss die Struktur des Rätsels enthalten.
+	 *
+	 * <p>
+	 *     Sie besteht aus der Anzahl der Symbole und für jede Zelle aus Zeile, Spalte, Anzahl der
+	 *     Stellen und den kanonischen Nummern der Symbole.
+	 * </p>
+	 */
+	@Nonnull
+	private final int[] structure;
+
+	/**
+	 * Dieses Feld muss die Symbole des Rätsels enthalten.
+	 */
+	@Nonnull
+	private final List<Symbol> symbols;
+
+	/**
+	 * Dieses Feld muss die kanonische Nummer jedes Symbols in der Reihenfolge von
+	 * {@link #symbols} enthalten.
+	 */
+	@Nonnull
+	private final int[] canonicalIndices;
+
+	/**
+	 * Dieses Feld enthält den Hash-Code der Struktur.
+	 */
+	private final int hashCode;
+
+	/**
+	 * Dieser Konstruktor ermittelt die kanonische Form des übergebenen Rätsels.
+	 *
+	 * @param puzzle das zu betrachtende Rätsel
+	 */
+	public CanonicalPuzzle(@Nonnull final Puzzle puzzle) {
+		Map<Symbol, Integer> canonicalIndexLookup = new IdentityHashMap<>();
+		List<Cell> cells = new ArrayList<>(puzzle.getCells());
+		List<Integer> structureList = new ArrayList<>();
+
+		this.symbols = puzzle.getSymbols();
+		structureList.add(this.symbols.size());
+		cells.sort(Comparator.comparingInt(Cell::getRow).thenComparingInt(Cell::getColumn));
+
+		for (Cell cell : cells) {
+			structureList.add(cell.getRow());
+			structureList.add(cell.getColumn());
+			structureList.add(cell.getSymbols().size());
+
+			for (Symbol symbol : cell.getSymbols()) {
+				structureList.add(canonicalIndexLookup.computeIfAbsent(
+						symbol,
+						key -> canonicalIndexLookup.size()));
+			}
+		}
+
+		for (Symbol symbol : this.symbols) {
+			canonicalIndexLookup.computeIfAbsent(symbol, key -> canonicalIndexLookup.size());
+		}
+
+		this.structure = structureList.stream().mapToInt(Integer::intValue).toArray();
+		this.canonicalIndices = this.symbols.stream().mapToInt(canonicalIndexLookup::get).toArray();
+		this.hashCode = Arrays.hashCode(this.structure);
+	}
+
+	/**
+	 * Diese Methode überträgt eine Lösung des Rätsels in die Ziffern der kanonischen Symbole.
+	 *
+	 * @param solution die zu übertragende Lösung
+	 * @return die Ziffern indiziert nach kanonischer Nummer
+	 */
+	@Nonnull
+	public int[] toCanonicalDigits(@Nonnull final Solution solution) {
+		int[] result = new int[this.symbols.size()];
+
+		for (int index = 0; index < this.symbols.size(); index++) {
+			int symbolId = this.symbols.get(index).getId();
+
+			result[this.canonicalIndices[index]] = solution.getDigit(symbolId);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode erzeugt aus den Ziffern der kanonischen Symbole eine Lösung mit den Ids der
+	 * Symbole dieses Rätsels.
+	 *
+	 * @param canonicalDigits die Ziffern indiziert nach kanonischer Nummer
+	 * @return die erzeugte Lösung
+	 */
+	@Nonnull
+	public Solution createSolution(@Nonnull final int[] canonicalDigits) {
+		int[] values = new int[this.symbols.size()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = canonicalDigits[this.canonicalIndices[index]];
+		}
+
+		return Solution.of(this.symbols, values);
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		return other instanceof CanonicalPuzzle
+				&& Arrays.equals(this.structure, ((CanonicalPuzzle) other).structure);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return "CanonicalPuzzle" + Arrays.toString(this.structure);
+	}
+}
@@ -0,0 +1,537 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen Iterator über die Belegungen der Symbole eines Rätsels bereit, die
+ * spaltenweise, beginnend mit der niederwertigsten Stelle, ermittelt werden.
+ *
+ * <p>
+ *     Die Symbole werden in der Reihenfolge belegt, in der sie in den Spalten aller Additionen
+ *     erstmals auftreten. Sobald alle Symbole bis zu einer Spalte einer Addition belegt sind,
+ *     wird diese Spalte unter Berücksichtigung des Übertrags aus der vorherigen Spalte geprüft.
+ *     Bei einem Widerspruch wird der Suchbaum an dieser Stelle abgeschnitten. Der Iterator
+ *     liefert daher nur Belegungen, die alle Gleichungen des Rätsels erfüllen.
+ * </p>
+ *
+ * <p>
+ *     Die Belegungen werden als Feld in der Reihenfolge von {@link Puzzle#getSymbols()} geliefert.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ColumnwiseAssignmentIterator implements Iterator<int[]> {
+
+	/**
+	 * Diese Konstante enthält die Basis des Zahlensystems.
+	 */
+	private static final int BASE = 10;
+
+	/**
+	 * Diese Konstante zeigt an, dass einem Symbol kein Wert zugewiesen ist.
+	 */
+	private static final int NOT_ASSIGNED = -1;
+
+	/**
+	 * Dieses Feld enthält zu jeder Suchebene den Index des zu belegenden Symbols in der Liste
+	 * {@link Puzzle#getSymbols()}.
+	 */
+	@Nonnull
+	private final int[] symbolIndexes;
+
+	/**
+	 * Dieses Feld enthält zu jeder Suchebene die Spaltenprüfungen, die nach der Belegung des
+	 * Symbols dieser Ebene durchgeführt werden können.
+	 */
+	@Nonnull
+	private final ColumnCheck[][] checks;
+
+	/**
+	 * Dieses Feld enthält für jede Addition die Überträge in die einzelnen Spalten.
+	 */
+	@Nonnull
+	private final int[][] carries;
+
+	/**
+	 * Dieses Feld enthält die aktuell zugewiesenen Werte in der Reihenfolge von
+	 * {@link Puzzle#getSymbols()}.
+	 */
+	@Nonnull
+	private final int[] values;
+
+	/**
+	 * Dieses Feld enthält die Menge der vergebenen Ziffern als Bitmaske.
+	 */
+	private int usedDigits;
+
+	/**
+	 * Dieses Feld zeigt an, ob die Suche bereits begonnen wurde.
+	 */
+	private boolean started;
+
+	/**
+	 * Dieses Feld zeigt an, ob eine gefundene Belegung noch nicht per {@link #next()} abgerufen
+	 * wurde.
+	 */
+	private boolean prepared;
+
+	/**
+	 * Dieses Feld zeigt an, dass der Suchraum vollständig durchlaufen wurde.
+	 */
+	private boolean exhausted;
+
+	/**
+	 * Dieser Konstruktor bereitet die spaltenweise Suche für ein Rätsel vor.
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 */
+	public ColumnwiseAssignmentIterator(@Nonnull final Puzzle puzzle) {
+		Map<Symbol, Integer> symbolIndexLookup = createSymbolIndexLookup(puzzle.getSymbols());
+		Map<Symbol, Integer> levelLookup = new HashMap<>();
+		List<Addition> additions = puzzle.getAdditions();
+
+		this.symbolIndexes = new int[symbolIndexLookup.size()];
+		this.collectSearchOrder(puzzle, symbolIndexLookup, levelLookup);
+		this.checks = this.createChecks(additions, symbolIndexLookup, levelLookup);
+		this.carries = new int[additions.size()][];
+
+		for (int addition = 0; addition < additions.size(); addition++) {
+			this.carries[addition] = new int[countColumns(additions.get(addition)) + 1];
+		}
+
+		this.values = new int[this.symbolIndexes.length];
+		Arrays.fill(this.values, NOT_ASSIGNED);
+	}
+
+	/**
+	 * Diese Methode erzeugt die Zuordnung von Symbolen zu deren Index im Rätsel.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @return die erzeugte Zuordnung
+	 */
+	@Nonnull
+	private static Map<Symbol, Integer> createSymbolIndexLookup(
+			@Nonnull final List<Symbol> symbols) {
+
+		Map<Symbol, Integer> result = new HashMap<>();
+
+		for (int index = 0; index < symbols.size(); index++) {
+			result.put(symbols.get(index), index);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode legt die Reihenfolge fest, in der die Symbole belegt werden.
+	 *
+	 * <p>
+	 *     Die Symbole werden spaltenweise von der niederwertigsten Stelle aus über alle Additionen
+	 *     gesammelt. Symbole, die in keiner Zelle vorkommen, werden zuletzt belegt.
+	 * </p>
+	 *
+	 * @param puzzle das zu untersuchende Rätsel
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 * @param levelLookup die zu befüllende Zuordnung von Symbolen zu deren Suchebene
+	 */
+	private void collectSearchOrder(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		int maxColumns = puzzle.getAdditions().stream()
+				.mapToInt(ColumnwiseAssignmentIterator::countColumns)
+				.max()
+				.orElse(0);
+
+		for (int column = 0; column < maxColumns; column++) {
+			for (Addition addition : puzzle.getAdditions()) {
+				this.addToSearchOrder(
+						addition.getFirstSummand(), column, symbolIndexLookup, levelLookup);
+				this.addToSearchOrder(
+						addition.getSecondSummand(), column, symbolIndexLookup, levelLookup);
+				this.addToSearchOrder(
+						addition.getSum(), column, symbolIndexLookup, levelLookup);
+			}
+		}
+
+		for (Symbol symbol : puzzle.getSymbols()) {
+			this.addToSearchOrder(symbol, symbolIndexLookup, levelLookup);
+		}
+	}
+
+	/**
+	 * Diese Methode fügt das Symbol einer Spalte einer Zelle der Suchreihenfolge hinzu, falls es
+	 * vorhanden und noch nicht enthalten ist.
+	 *
+	 * @param cell die zu untersuchende Zelle
+	 * @param column die Spalte, beginnend bei der niederwertigsten Stelle mit 0
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 * @param levelLookup die zu befüllende Zuordnung von Symbolen zu deren Suchebene
+	 */
+	private void addToSearchOrder(
+			@Nonnull final Cell cell,
+			final int column,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		if (column < cell.getSymbols().size()) {
+			this.addToSearchOrder(cell.getSymbols().get(column), symbolIndexLookup, levelLookup);
+		}
+	}
+
+	/**
+	 * Diese Methode fügt ein Symbol der Suchreihenfolge hinzu, falls es noch nicht enthalten ist.
+	 *
+	 * @param symbol das hinzuzufügende Symbol
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 * @param levelLookup die zu befüllende Zuordnung von Symbolen zu deren Suchebene
+	 */
+	private void addToSearchOrder(
+			@Nonnull final Symbol symbol,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		if (!levelLookup.containsKey(symbol)) {
+			this.symbolIndexes[levelLookup.size()] = symbolIndexLookup.get(symbol);
+			levelLookup.put(symbol, levelLookup.size());
+		}
+	}
+
+	/**
+	 * Diese Methode ordnet die Spaltenprüfungen aller Additionen den Suchebenen zu, ab denen sie
+	 * ausgewertet werden können.
+	 *
+	 * @param additions die Additionen des Rätsels
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 * @param levelLookup die Zuordnung von Symbolen zu deren Suchebene
+	 * @return die Prüfungen je Suchebene
+	 */
+	@Nonnull
+	private ColumnCheck[][] createChecks(
+			@Nonnull final List<Addition> additions,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		List<List<ColumnCheck>> checksPerLevel = new ArrayList<>();
+
+		for (int level = 0; level < this.symbolIndexes.length; level++) {
+			checksPerLevel.add(new ArrayList<>());
+		}
+
+		for (int index = 0; index < additions.size(); index++) {
+			Addition addition = additions.get(index);
+			int columns = countColumns(addition);
+			int readyLevel = 0;
+
+			for (int column = 0; column < columns; column++) {
+				readyLevel = Math.max(readyLevel, findLevel(addition, column, levelLookup));
+				checksPerLevel.get(readyLevel).add(new ColumnCheck(
+						index,
+						column,
+						findSymbolIndex(addition.getFirstSummand(), column, symbolIndexLookup),
+						findSymbolIndex(addition.getSecondSummand(), column, symbolIndexLookup),
+						findSymbolIndex(addition.getSum(), column, symbolIndexLookup),
+						column == columns - 1));
+			}
+		}
+
+		return checksPerLevel.stream()
+				.map(list -> list.toArray(new ColumnCheck[0]))
+				.toArray(ColumnCheck[][]::new);
+	}
+
+	/**
+	 * Diese Methode ermittelt die Anzahl der Spalten einer Addition.
+	 *
+	 * @param addition die zu untersuchende Addition
+	 * @return die Anzahl der Stellen der längsten beteiligten Zahl
+	 */
+	private static int countColumns(@Nonnull final Addition addition) {
+		return Math.max(
+				addition.getFirstSummand().getSymbols().size(),
+				Math.max(
+						addition.getSecondSummand().getSymbols().size(),
+						addition.getSum().getSymbols().size()));
+	}
+
+	/**
+	 * Diese Methode ermittelt die höchste Suchebene der Symbole einer Spalte einer Addition.
+	 *
+	 * @param addition die zu untersuchende Addition
+	 * @param column die zu untersuchende Spalte
+	 * @param levelLookup die Zuordnung von Symbolen zu deren Suchebene
+	 * @return die ermittelte Suchebene
+	 */
+	private static int findLevel(
+			@Nonnull final Addition addition,
+			final int column,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		return Math.max(
+				findLevel(addition.getFirstSummand(), column, levelLookup),
+				Math.max(
+						findLevel(addition.getSecondSummand(), column, levelLookup),
+						findLevel(addition.getSum(), column, levelLookup)));
+	}
+
+	/**
+	 * Diese Methode ermittelt die Suchebene des Symbols einer Spalte einer Zelle.
+	 *
+	 * @param cell die zu untersuchende Zelle
+	 * @param column die zu untersuchende Spalte
+	 * @param levelLookup die Zuordnung von Symbolen zu deren Suchebene
+	 * @return die ermittelte Suchebene oder 0, falls die Zelle keine Stelle in dieser Spalte hat
+	 */
+	private static int findLevel(
+			@Nonnull final Cell cell,
+			final int column,
+			@Nonnull final Map<Symbol, Integer> levelLookup) {
+
+		if (column < cell.getSymbols().size()) {
+			return levelLookup.get(cell.getSymbols().get(column));
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Diese Methode ermittelt den Index des Symbols einer Spalte einer Zelle.
+	 *
+	 * @param cell die zu untersuchende Zelle
+	 * @param column die zu untersuchende Spalte
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 * @return der ermittelte Index oder {@link ColumnCheck#ZERO}, falls die Zelle keine Stelle in
+	 * dieser Spalte hat
+	 */
+	private static int findSymbolIndex(
+			@Nonnull final Cell cell,
+			final int column,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup) {
+
+		if (column < cell.getSymbols().size()) {
+			return symbolIndexLookup.get(cell.getSymbols().get(column));
+		}
+
+		return ColumnCheck.ZERO;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!this.prepared && !this.exhausted) {
+			this.prepared = this.findNext();
+			this.exhausted = !this.prepared;
+		}
+
+		return this.prepared;
+	}
+
+	/**
+	 * Diese Methode gibt die nächste Belegung zurück.
+	 *
+	 * <p>
+	 *     Um Objekterzeugungen zu vermeiden, wird stets dasselbe Feld zurückgegeben, dessen Inhalt
+	 *     beim nächsten Aufruf von {@link #hasNext()} überschrieben wird.
+	 * </p>
+	 *
+	 * @return die Werte in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 */
+	@Override
+	public int[] next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		this.prepared = false;
+		return this.values;
+	}
+
+	/**
+	 * Diese Methode sucht die nächste Belegung, die alle Spaltenprüfungen besteht.
+	 *
+	 * @return {@code true}, falls eine Belegung gefunden wurde, sonst {@code false}
+	 */
+	private boolean findNext() {
+		int level = this.symbolIndexes.length - 1;
+
+		if (!this.started) {
+			this.started = true;
+
+			if (this.symbolIndexes.length == 0) {
+				return true;
+			}
+
+			level = 0;
+		}
+
+		while (level >= 0) {
+			if (!this.assignNextDigit(level)) {
+				level--;
+			} else if (level == this.symbolIndexes.length - 1) {
+				return true;
+			} else {
+				level++;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Diese Methode weist dem Symbol einer Suchebene die nächste freie Ziffer zu, mit der die
+	 * Prüfungen dieser Ebene bestanden werden.
+	 *
+	 * @param level die Suchebene
+	 * @return {@code true}, falls eine Ziffer zugewiesen wurde, sonst {@code false}
+	 */
+	private boolean assignNextDigit(final int level) {
+		int symbolIndex = this.symbolIndexes[level];
+		int digit = this.values[symbolIndex];
+
+		if (digit != NOT_ASSIGNED) {
+			this.usedDigits &= ~(1 << digit);
+		}
+
+		for (digit++; digit < BASE; digit++) {
+			if ((this.usedDigits & (1 << digit)) == 0) {
+				this.values[symbolIndex] = digit;
+
+				if (this.passesChecks(level)) {
+					this.usedDigits |= 1 << digit;
+					return true;
+				}
+			}
+		}
+
+		this.values[symbolIndex] = NOT_ASSIGNED;
+		return false;
+	}
+
+	/**
+	 * Diese Methode führt die Spaltenprüfungen einer Suchebene durch.
+	 *
+	 * @param level die Suchebene
+	 * @return {@code true}, falls alle Prüfungen bestanden wurden, sonst {@code false}
+	 */
+	private boolean passesChecks(final int level) {
+		for (ColumnCheck check : this.checks[level]) {
+			if (!check.evaluate(this.values, this.carries)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Diese Klasse beschreibt die Prüfung einer Spalte einer Addition.
+	 */
+	private static final class ColumnCheck {
+
+		/**
+		 * Dieser Wert zeigt an, dass eine Zelle in der Spalte keine Stelle hat und daher mit 0 in
+		 * die Summe eingeht.
+		 */
+		private static final int ZERO = -1;
+
+		/**
+		 * Dieses Feld enthält den Index der Addition.
+		 */
+		private final int addition;
+
+		/**
+		 * Dieses Feld enthält die Spalte, beginnend bei der niederwertigsten Stelle mit 0.
+		 */
+		private final int column;
+
+		/**
+		 * Dieses Feld enthält den Index des Symbols des ersten Summanden oder {@link #ZERO}.
+		 */
+		private final int firstSummand;
+
+		/**
+		 * Dieses Feld enthält den Index des Symbols des zweiten Summanden oder {@link #ZERO}.
+		 */
+		private final int secondSummand;
+
+		/**
+		 * Dieses Feld enthält den Index des Symbols des Ergebnisses oder {@link #ZERO}.
+		 */
+		private final int sum;
+
+		/**
+		 * Dieses Feld zeigt an, ob es sich um die höchstwertige Spalte der Addition handelt.
+		 */
+		private final boolean lastColumn;
+
+		/**
+		 * Dieser Konstruktor legt alle Eigenschaften fest.
+		 *
+		 * @param addition der Index der Addition
+		 * @param column die Spalte
+		 * @param firstSummand der Index des Symbols des ersten Summanden oder {@link #ZERO}
+		 * @param secondSummand der Index des Symbols des zweiten Summanden oder {@link #ZERO}
+		 * @param sum der Index des Symbols des Ergebnisses oder {@link #ZERO}
+		 * @param lastColumn {@code true}, falls es sich um die höchstwertige Spalte handelt
+		 */
+		private ColumnCheck(
+				final int addition,
+				final int column,
+				final int firstSummand,
+				final int secondSummand,
+				final int sum,
+				final boolean lastColumn) {
+
+			this.addition = addition;
+			this.column = column;
+			this.firstSummand = firstSummand;
+			this.secondSummand = secondSummand;
+			this.sum = sum;
+			this.lastColumn = lastColumn;
+		}
+
+		/**
+		 * Diese Methode prüft die Spalte und legt den Übertrag in die nächste Spalte fest.
+		 *
+		 * @param values die aktuell zugewiesenen Werte
+		 * @param carries die Überträge aller Additionen
+		 * @return {@code true}, falls die Spalte widerspruchsfrei ist, sonst {@code false}
+		 */
+		private boolean evaluate(@Nonnull final int[] values, @Nonnull final int[][] carries) {
+			int total = digit(values, this.firstSummand)
+					+ digit(values, this.secondSummand)
+					+ carries[this.addition][this.column];
+
+			if (total % BASE != digit(values, this.sum)) {
+				return false;
+			}
+
+			carries[this.addition][this.column + 1] = total / BASE;
+			return !this.lastColumn || total < BASE;
+		}
+
+		/**
+		 * Diese Methode ermittelt den Wert einer Stelle.
+		 *
+		 * @param values die aktuell zugewiesenen Werte
+		 * @param symbolIndex der Index des Symbols oder {@link #ZERO}
+		 * @return der Wert der Stelle
+		 */
+		private static int digit(@Nonnull final int[] values, final int symbolIndex) {
+			if (symbolIndex == ZERO) {
+				return 0;
+			}
+
+			return values[symbolIndex];
+		}
+	}
+}
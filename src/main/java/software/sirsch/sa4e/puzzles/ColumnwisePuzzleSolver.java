@@ -0,0 +1,65 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Iterator;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt die Funktionalität zum Lösen eines Puzzles mittels spaltenweiser Suche mit
+ * Übertrag bereit.
+ *
+ * <p>
+ *     Anstatt alle Permutationen der Ziffern zu prüfen, werden die Symbole beginnend mit der
+ *     niederwertigsten Stelle über alle Additionen belegt. Teilbelegungen, die bereits in einer
+ *     Spalte zu einem Widerspruch führen, werden nicht weiter verfolgt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ColumnwisePuzzleSolver extends PuzzleSolver {
+
+	/**
+	 * Dieser Konstruktor legt das Delay zur Verzögerung der Anwendung fest.
+	 *
+	 * @param delay das zu verwendende Delay in Millisekunden
+	 */
+	public ColumnwisePuzzleSolver(final int delay) {
+		super(delay);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Iterator, der nur die widerspruchsfreien Belegungen der
+	 * spaltenweisen Suche liefert.
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @return der erzeugte Iterator
+	 */
+	@Nonnull
+	@Override
+	protected Iterator<int[]> createCandidateIterator(@Nonnull final Puzzle puzzle) {
+		return new ColumnwiseAssignmentIterator(puzzle);
+	}
+
+	/**
+	 * Diese Methode gibt für den gesamten Suchraum die spaltenweise Suche zurück.
+	 *
+	 * <p>
+	 *     Die spaltenweise Suche prüft nur vollständige Belegungen, die bereits alle Spalten
+	 *     erfüllen, und wird daher getrennt vom Brute-Force-Ansatz erfasst. Teilräume mit Präfix
+	 *     werden dagegen lexikographisch wie beim Brute-Force-Ansatz durchlaufen.
+	 * </p>
+	 *
+	 * @param range der zu durchsuchende Teilraum
+	 * @return das Verfahren
+	 */
+	@Nonnull
+	@Override
+	protected SolverEngine getEngine(@Nonnull final PrefixRange range) {
+		if (range.getPrefixLength() == 0) {
+			return SolverEngine.COLUMNWISE;
+		}
+
+		return super.getEngine(range);
+	}
+}
@@ -0,0 +1,198 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+
+/**
+ * Diese Klasse stellt die Konvertierung von {@link CommonSolvePuzzleRequest} direkt nach
+ * {@link Puzzles.SolvePuzzleRequest} bereit.
+ *
+ * <p>
+ *     Das Ergebnis entspricht der Konvertierung mit {@link Common2PuzzleConverter} und
+ *     anschließend {@link Puzzle2ProtobufConverter}, ohne dazwischen ein {@link Puzzle} mit
+ *     {@link Cell}-, {@link Addition}- und {@link Symbol}-Objekten aufzubauen. Die Anfrage wird
+ *     in einem Durchlauf in den Protobuf-Builder übertragen und dabei wie von
+ *     {@link PuzzleBuilder} geprüft. Die Symbole werden in der Reihenfolge ihres ersten
+ *     Auftretens übertragen, die Zellen zeilenweise.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class Common2ProtobufConverter {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Zeilen.
+	 */
+	private static final int ROW_COUNT = 3;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Spalten.
+	 */
+	private static final int COLUMN_COUNT = 3;
+
+	/**
+	 * Diese Konstante enthält die maximale Anzahl verschiedener Symbole.
+	 */
+	private static final int MAX_SYMBOLS = 10;
+
+	/**
+	 * Diese Methode erzeugt ein {@link Puzzles.SolvePuzzleRequest} zu einem
+	 * {@link CommonSolvePuzzleRequest}.
+	 *
+	 * @param request die zu untersuchende Anfrage
+	 * @return die erzeugte Anfrage
+	 * @throws IllegalArgumentException falls die Anfrage kein gültiges Rätsel beschreibt
+	 */
+	@Nonnull
+	public Puzzles.SolvePuzzleRequest createSolvePuzzleRequest(
+			@Nonnull final CommonSolvePuzzleRequest request) {
+
+		Puzzles.SolvePuzzleRequest.Builder builder = Puzzles.SolvePuzzleRequest.newBuilder();
+		List<Integer> symbolIds = new ArrayList<>(MAX_SYMBOLS);
+
+		this.addRow(builder, symbolIds, 0, request.getRow1());
+		this.addRow(builder, symbolIds, 1, request.getRow2());
+		this.addRow(builder, symbolIds, 2, request.getRow3());
+		this.verifyComplete(request);
+		return builder.build();
+	}
+
+	/**
+	 * Diese Methode überträgt eine Zeile aus der Anfrage in den Builder.
+	 *
+	 * @param builder der zu befüllende Builder
+	 * @param symbolIds die IDs der bereits übertragenen Symbole
+	 * @param row die Zeilennummer
+	 * @param cells die zu untersuchende Zellen als Liste von Zeichenketten
+	 */
+	private void addRow(
+			@Nonnull final Puzzles.SolvePuzzleRequest.Builder builder,
+			@Nonnull final List<Integer> symbolIds,
+			final int row,
+			@CheckForNull final List<String> cells) {
+
+		int column = 0;
+
+		if (cells != null) {
+			for (String cell : cells) {
+				builder.addCells(this.convertCell(builder, symbolIds, row, column++, cell));
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Protobuf-Zelle aus einer Zeichenkette.
+	 *
+	 * <p>
+	 *     Die Zeichen werden wie von {@link Common2PuzzleConverter} von hinten nach vorne
+	 *     gelesen, sodass die Einerstelle zuerst steht.
+	 * </p>
+	 *
+	 * @param builder der zu befüllende Builder für neue Symbole
+	 * @param symbolIds die IDs der bereits übertragenen Symbole
+	 * @param row die Zeilennummer
+	 * @param column die Spaltennummer
+	 * @param cell die zu untersuchende Zelle als Zeichenkette
+	 * @return die erzeugte Zelle
+	 */
+	@Nonnull
+	private Puzzles.Cell convertCell(
+			@Nonnull final Puzzles.SolvePuzzleRequest.Builder builder,
+			@Nonnull final List<Integer> symbolIds,
+			final int row,
+			final int column,
+			@Nonnull final String cell) {
+
+		Puzzles.Cell.Builder cellBuilder = Puzzles.Cell.newBuilder();
+
+		for (int index = cell.length() - 1; index >= 0; index--) {
+			int symbolId = cell.charAt(index);
+
+			this.addSymbolIfAbsent(builder, symbolIds, symbolId);
+			cellBuilder.addNumberAsSymbolIds(symbolId);
+		}
+
+		this.verify(row, column);
+		return cellBuilder.setRow(row).setColumn(column).build();
+	}
+
+	/**
+	 * Diese Methode überträgt ein Symbol in den Builder, falls es noch nicht übertragen wurde.
+	 *
+	 * @param builder der zu befüllende Builder
+	 * @param symbolIds die IDs der bereits übertragenen Symbole
+	 * @param symbolId die ID des Symbols
+	 */
+	private void addSymbolIfAbsent(
+			@Nonnull final Puzzles.SolvePuzzleRequest.Builder builder,
+			@Nonnull final List<Integer> symbolIds,
+			final int symbolId) {
+
+		if (symbolIds.contains(symbolId)) {
+			return;
+		}
+
+		if (symbolIds.size() >= MAX_SYMBOLS) {
+			throw new IllegalArgumentException(
+					"Max symbol count (" + MAX_SYMBOLS + ") exceeded!");
+		}
+
+		symbolIds.add(symbolId);
+		builder.addSymbols(Puzzles.Symbol.newBuilder()
+				.setId(symbolId)
+				.setDescription("Character '" + Character.toString(symbolId) + "'")
+				.setIconCodePoint(symbolId));
+	}
+
+	/**
+	 * Diese Methode prüft, ob Zeilen- und Spaltennummern ok sind.
+	 *
+	 * @param row die zu prüfende Zeilennummer
+	 * @param column die zu prüfende Spaltennummer
+	 */
+	private void verify(final int row, final int column) {
+		if (row < 0 || row >= ROW_COUNT) {
+			throw new IllegalArgumentException("Invalid row number!");
+		}
+
+		if (column < 0 || column >= COLUMN_COUNT) {
+			throw new IllegalArgumentException("Invalid column number!");
+		}
+	}
+
+	/**
+	 * Diese Methode prüft, ob alle Zellen angegeben wurden.
+	 *
+	 * @param request die zu untersuchende Anfrage
+	 */
+	private void verifyComplete(@Nonnull final CommonSolvePuzzleRequest request) {
+		this.verifyComplete(0, request.getRow1());
+		this.verifyComplete(1, request.getRow2());
+		this.verifyComplete(2, request.getRow3());
+	}
+
+	/**
+	 * Diese Methode prüft, ob alle Zellen einer Zeile angegeben wurden.
+	 *
+	 * @param row die Zeilennummer
+	 * @param cells die Zellen der Zeile als Liste von Zeichenketten
+	 */
+	private void verifyComplete(final int row, @CheckForNull final List<String> cells) {
+		int cellCount = 0;
+
+		if (cells != null) {
+			cellCount = cells.size();
+		}
+
+		if (cellCount < COLUMN_COUNT) {
+			throw new IllegalArgumentException(
+					"Cell at row " + row + " column " + cellCount + " has not been provided!");
+		}
+	}
+}
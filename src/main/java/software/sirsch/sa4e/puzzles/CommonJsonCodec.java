@@ -0,0 +1,143 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import javax.annotation.Nonnull;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+/**
+ * Diese Klasse stellt das JSON-Format für {@link CommonSolvePuzzleRequest} und
+ * {@link CommonSolvePuzzleResponse} bereit.
+ *
+ * <p>
+ *     Alle Instanzen teilen sich einen {@link ObjectMapper} sowie je Typ einen vorbereiteten
+ *     {@link ObjectReader} bzw. den {@link ObjectWriter}. Die Serialisierer und Deserialisierer
+ *     werden dadurch nur einmal aufgebaut und nicht je Nachricht. Gelesen wird mit einem
+ *     {@link JsonParser} direkt aus den Bytes der Nachricht, ohne diese vorher in eine
+ *     Zeichenkette umzuwandeln. Geschrieben wird kompaktes JSON ohne Pretty-Print.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CommonJsonCodec {
+
+	/**
+	 * Diese Konstante enthält den gemeinsamen {@link ObjectMapper}.
+	 */
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * Diese Konstante enthält den {@link ObjectReader} für {@link CommonSolvePuzzleRequest}.
+	 */
+	private static final ObjectReader REQUEST_READER =
+			OBJECT_MAPPER.readerFor(CommonSolvePuzzleRequest.class);
+
+	/**
+	 * Diese Konstante enthält den {@link ObjectReader} für {@link CommonSolvePuzzleResponse}.
+	 */
+	private static final ObjectReader RESPONSE_READER =
+			OBJECT_MAPPER.readerFor(CommonSolvePuzzleResponse.class);
+
+	/**
+	 * Diese Konstante enthält den {@link ObjectWriter} für kompaktes JSON.
+	 */
+	private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+	/**
+	 * Diese Methode liest eine Lösungsanfrage.
+	 *
+	 * @param payload die JSON-kodierte Nachricht in UTF-8
+	 * @return die gelesene Anfrage
+	 * @throws UncheckedIOException falls die Nachricht kein gültiges JSON der Anfrage enthält
+	 */
+	@Nonnull
+	public CommonSolvePuzzleRequest readRequest(@Nonnull final byte[] payload) {
+		return read(REQUEST_READER, payload);
+	}
+
+	/**
+	 * Diese Methode liest eine Lösung.
+	 *
+	 * @param payload die JSON-kodierte Nachricht in UTF-8
+	 * @return die gelesene Lösung
+	 * @throws UncheckedIOException falls die Nachricht kein gültiges JSON der Lösung enthält
+	 */
+	@Nonnull
+	public CommonSolvePuzzleResponse readResponse(@Nonnull final byte[] payload) {
+		return read(RESPONSE_READER, payload);
+	}
+
+	/**
+	 * Diese Methode schreibt eine Lösungsanfrage als kompaktes JSON.
+	 *
+	 * @param request die zu schreibende Anfrage
+	 * @return die JSON-kodierte Nachricht in UTF-8
+	 * @throws UncheckedIOException falls die Anfrage nicht geschrieben werden kann
+	 */
+	@Nonnull
+	public byte[] writeRequest(@Nonnull final CommonSolvePuzzleRequest request) {
+		return write(request);
+	}
+
+	/**
+	 * Diese Methode schreibt eine Lösung als kompaktes JSON.
+	 *
+	 * @param response die zu schreibende Lösung
+	 * @return die JSON-kodierte Nachricht in UTF-8
+	 * @throws UncheckedIOException falls die Lösung nicht geschrieben werden kann
+	 */
+	@Nonnull
+	public byte[] writeResponse(@Nonnull final CommonSolvePuzzleResponse response) {
+		return write(response);
+	}
+
+	/**
+	 * Diese Methode liest ein Objekt mit einem {@link JsonParser} direkt aus den Bytes.
+	 *
+	 * @param reader der zu verwendende {@link ObjectReader}
+	 * @param payload die JSON-kodierte Nachricht in UTF-8
+	 * @param <T> der Typ des zu lesenden Objekts
+	 * @return das gelesene Objekt
+	 * @throws UncheckedIOException falls die Bytes kein gültiges JSON des Typs enthalten
+	 */
+	@Nonnull
+	private static <T> T read(@Nonnull final ObjectReader reader, @Nonnull final byte[] payload) {
+		try (JsonParser parser = reader.createParser(payload)) {
+			T result = reader.readValue(parser);
+
+			if (result == null) {
+				throw MismatchedInputException.from(
+						parser,
+						reader.getValueType(),
+						"No content to map");
+			}
+
+			return result;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt ein Objekt als kompaktes JSON.
+	 *
+	 * @param value das zu schreibende Objekt
+	 * @return die JSON-kodierte Nachricht in UTF-8
+	 */
+	@Nonnull
+	private static byte[] write(@Nonnull final Object value) {
+		try {
+			return WRITER.writeValueAsBytes(value);
+		} catch (JsonProcessingException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
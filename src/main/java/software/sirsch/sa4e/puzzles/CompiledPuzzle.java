@@ -0,0 +1,192 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt eine kompilierte Form eines {@link Puzzle} für die schnelle Prüfung von
+ * Belegungen bereit.
+ *
+ * <p>
+ *     Jede Addition {@code a + b = c} wird zu einer Gleichung {@code a + b - c = 0} umgeformt.
+ *     Da jede Zelle ein gewichteter Wert ihrer Stellen ist, lässt sich die linke Seite als
+ *     Skalarprodukt eines Koeffizientenvektors mit den Werten der Symbole schreiben. Die
+ *     Koeffizienten werden einmalig bei der Erzeugung berechnet, sodass die Prüfung einer Belegung
+ *     ohne Objekterzeugung und ohne Zugriff auf {@link Addition}, {@link Cell} und {@link Symbol}
+ *     auskommt.
+ * </p>
+ *
+ * <p>
+ *     Die Koeffizienten werden als {@code long} abgelegt, weil Zellen mit zehn oder mehr Stellen
+ *     den Wertebereich von {@code int} überschreiten.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Instanzen sind nach der Erzeugung unveränderlich und verändern auch die
+ *     Symbole des zugrundeliegenden Rätsels nicht. Sie können daher von mehreren Threads
+ *     gleichzeitig verwendet werden, sofern jeder Thread ein eigenes Feld für die Belegung nutzt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CompiledPuzzle {
+
+	/**
+	 * Diese Konstante zeigt an, dass eine Belegung alle Gleichungen erfüllt.
+	 */
+	public static final int NO_CONTRADICTION = -1;
+
+	/**
+	 * Diese Konstante enthält die Basis des Zahlensystems.
+	 */
+	private static final int BASE = 10;
+
+	/**
+	 * Dieses Feld muss die Symbole des Rätsels enthalten.
+	 */
+	@Nonnull
+	private final List<Symbol> symbols;
+
+	/**
+	 * Dieses Feld muss die Koeffizienten aller Gleichungen hintereinander enthalten.
+	 *
+	 * <p>
+	 *     Der Koeffizient des Symbols {@code s} in Gleichung {@code e} liegt an Index
+	 *     {@code e * symbols.size() + s}.
+	 * </p>
+	 */
+	@Nonnull
+	private final long[] coefficients;
+
+	/**
+	 * Dieser Konstruktor kompiliert das übergebene Rätsel.
+	 *
+	 * @param puzzle das zu kompilierende Rätsel
+	 */
+	public CompiledPuzzle(@Nonnull final Puzzle puzzle) {
+		Map<Symbol, Integer> symbolIndexLookup = new HashMap<>();
+		List<Addition> additions = puzzle.getAdditions();
+		int symbolCount;
+
+		this.symbols = puzzle.getSymbols();
+		symbolCount = this.symbols.size();
+
+		for (int index = 0; index < symbolCount; index++) {
+			symbolIndexLookup.put(this.symbols.get(index), index);
+		}
+
+		this.coefficients = new long[additions.size() * symbolCount];
+
+		for (int equation = 0; equation < additions.size(); equation++) {
+			Addition addition = additions.get(equation);
+			int offset = equation * symbolCount;
+
+			this.addCoefficients(offset, addition.getFirstSummand(), 1, symbolIndexLookup);
+			this.addCoefficients(offset, addition.getSecondSummand(), 1, symbolIndexLookup);
+			this.addCoefficients(offset, addition.getSum(), -1, symbolIndexLookup);
+		}
+	}
+
+	/**
+	 * Diese Methode addiert die gewichteten Stellen einer Zelle zu den Koeffizienten einer
+	 * Gleichung.
+	 *
+	 * @param offset der Index des ersten Koeffizienten der Gleichung
+	 * @param cell die zu berücksichtigende Zelle
+	 * @param sign das Vorzeichen, mit dem die Zelle in die Gleichung eingeht
+	 * @param symbolIndexLookup die Zuordnung von Symbolen zu deren Index im Rätsel
+	 */
+	private void addCoefficients(
+			final int offset,
+			@Nonnull final Cell cell,
+			final int sign,
+			@Nonnull final Map<Symbol, Integer> symbolIndexLookup) {
+
+		long factor = sign;
+
+		for (Symbol symbol : cell.getSymbols()) {
+			this.coefficients[offset + symbolIndexLookup.get(symbol)] += factor;
+			factor *= BASE;
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Symbole zurück.
+	 *
+	 * @return die Anzahl der Symbole
+	 */
+	public int getSymbolCount() {
+		return this.symbols.size();
+	}
+
+	/**
+	 * Diese Methode prüft, ob es sich bei der übergebenen Belegung um eine Lösung handelt.
+	 *
+	 * <p>
+	 *     Die Prüfung erzeugt keine Objekte.
+	 * </p>
+	 *
+	 * @param values die Werte aller Symbole in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 * @return {@code true} falls alle Gleichungen erfüllt sind, sonst {@code false}
+	 */
+	public boolean isSolution(@Nonnull final int[] values) {
+		return values.length >= this.symbols.size() && this.findContradiction(values) < 0;
+	}
+
+	/**
+	 * Diese Methode ermittelt die erste Gleichung, die von der Belegung nicht erfüllt wird.
+	 *
+	 * <p>
+	 *     Die Prüfung erzeugt keine Objekte und ist genauso aufwändig wie
+	 *     {@link #isSolution(int[])}. Sie erlaubt es aber, Widersprüche je {@link Addition} zu
+	 *     zählen.
+	 * </p>
+	 *
+	 * @param values die Werte aller Symbole in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 * @return der Index der ersten nicht erfüllten Gleichung in der Reihenfolge von
+	 * {@link Puzzle#getAdditions()} oder {@link #NO_CONTRADICTION}, falls alle Gleichungen
+	 * erfüllt sind
+	 */
+	public int findContradiction(@Nonnull final int[] values) {
+		int symbolCount = this.symbols.size();
+
+		for (int offset = 0; offset < this.coefficients.length; offset += symbolCount) {
+			long total = 0;
+
+			for (int symbol = 0; symbol < symbolCount; symbol++) {
+				total += this.coefficients[offset + symbol] * values[symbol];
+			}
+
+			if (total != 0) {
+				return offset / symbolCount;
+			}
+		}
+
+		return NO_CONTRADICTION;
+	}
+
+	/**
+	 * Diese Methode gibt die Symbole des Rätsels zurück.
+	 *
+	 * @return die Symbole als unveränderliche Liste
+	 */
+	@Nonnull
+	public List<Symbol> getSymbols() {
+		return this.symbols;
+	}
+
+	/**
+	 * Diese Methode erzeugt eine unveränderliche Lösung aus der übergebenen Belegung.
+	 *
+	 * @param values die Werte aller Symbole in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 * @return die erzeugte Lösung
+	 */
+	@Nonnull
+	public Solution createSolution(@Nonnull final int[] values) {
+		return Solution.of(this.symbols, values);
+	}
+}
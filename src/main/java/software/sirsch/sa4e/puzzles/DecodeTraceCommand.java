@@ -0,0 +1,216 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt das Kommando zum Auswerten einer binären Aufzeichnung bereit.
+ *
+ * <p>
+ *     Im Modus {@value #MODE_TEXT} wird die Aufzeichnung in der Textform ausgegeben, die auch
+ *     die übrigen Ausgaben verwenden. Im Modus {@value #MODE_SUMMARY} werden nur die gefundenen
+ *     Lösungen sowie die Anzahl der Symboltabellen, Belegungen, Lösungen und Nachrichten
+ *     ausgegeben.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class DecodeTraceCommand implements Command {
+
+	/**
+	 * Diese Konstante enthält den Namen des Kommandos.
+	 */
+	public static final String COMMAND_NAME = "decode-trace";
+
+	/**
+	 * Diese Konstante enthält den Modus für die Ausgabe in Textform.
+	 */
+	public static final String MODE_TEXT = "text";
+
+	/**
+	 * Diese Konstante enthält den Modus für die zusammenfassende Ausgabe.
+	 */
+	public static final String MODE_SUMMARY = "summary";
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für den Modus.
+	 */
+	private static final int MODE_INDEX = 2;
+
+	/**
+	 * Diese Konstante enthält die Größe des Lesepuffers in Bytes.
+	 */
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * Dieses Feld muss den für die Ausgabe zu verwendenden {@link PrintStream} enthalten.
+	 */
+	@Nonnull
+	private final PrintStream out;
+
+	/**
+	 * Dieses Feld muss den {@link BinaryTraceDecoder} enthalten.
+	 */
+	@Nonnull
+	private final BinaryTraceDecoder binaryTraceDecoder;
+
+	/**
+	 * Dieser Konstruktor nimmt die interne Initialisierung vor.
+	 */
+	public DecodeTraceCommand() {
+		this(System.out, new BinaryTraceDecoder());
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param out der zu setzende {@link PrintStream}
+	 * @param binaryTraceDecoder der zu setzende {@link BinaryTraceDecoder}
+	 */
+	protected DecodeTraceCommand(
+			@Nonnull final PrintStream out,
+			@Nonnull final BinaryTraceDecoder binaryTraceDecoder) {
+
+		this.out = out;
+		this.binaryTraceDecoder = binaryTraceDecoder;
+	}
+
+	/**
+	 * Diese Methode führt das Kommando aus.
+	 *
+	 * <p>
+	 *     Dabei wird als Argument der Dateiname der Aufzeichnung und optional der Modus erwartet.
+	 * </p>
+	 *
+	 * @param args die Argumente
+	 */
+	@Override
+	public void execute(@Nonnull final String[] args) {
+		if (args.length < 2) {
+			throw new IllegalArgumentException(
+					"usage: decode-trace <filename> <?" + MODE_TEXT + "|" + MODE_SUMMARY + ">");
+		}
+
+		if (args.length <= MODE_INDEX || MODE_TEXT.equalsIgnoreCase(args[MODE_INDEX])) {
+			this.decode(args[1], new PrintStreamSolverProgressLogger(this.out));
+		} else if (MODE_SUMMARY.equalsIgnoreCase(args[MODE_INDEX])) {
+			this.printSummary(args[1]);
+		} else {
+			throw new IllegalArgumentException("Unknown mode: " + args[MODE_INDEX]);
+		}
+	}
+
+	/**
+	 * Diese Methode liest eine Aufzeichnung und gibt eine Zusammenfassung aus.
+	 *
+	 * @param filename der Name der Datei
+	 */
+	private void printSummary(@Nonnull final String filename) {
+		TraceSummary summary = new TraceSummary(this.out);
+
+		this.decode(filename, summary);
+		this.out.println("Symbol tables: " + summary.symbolTableCount);
+		this.out.println("Permutations: " + summary.permutationCount);
+		this.out.println("Solutions: " + summary.solutionCount);
+		this.out.println("Messages: " + summary.messageCount);
+	}
+
+	/**
+	 * Diese Methode liest eine Aufzeichnung.
+	 *
+	 * @param filename der Name der Datei
+	 * @param target der {@link SolverProgressLogger}, an den die Einträge weitergegeben werden
+	 */
+	private void decode(
+			@Nonnull final String filename,
+			@Nonnull final SolverProgressLogger target) {
+
+		try (InputStream in = new BufferedInputStream(
+				new FileInputStream(filename),
+				BUFFER_SIZE)) {
+
+			this.binaryTraceDecoder.decode(in, target);
+			this.out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Klasse zählt die Einträge einer Aufzeichnung und gibt die Lösungen aus.
+	 */
+	private static final class TraceSummary implements SolverProgressLogger {
+
+		/**
+		 * Dieses Feld muss die Ausgabe der Lösungen enthalten.
+		 */
+		@Nonnull
+		private final SolverProgressLogger solutionPrinter;
+
+		/**
+		 * Dieses Feld enthält die zuletzt übergebenen Symbole.
+		 */
+		private List<Symbol> symbols;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Wechsel der Symbole.
+		 */
+		private long symbolTableCount;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Belegungen.
+		 */
+		private long permutationCount;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Lösungen.
+		 */
+		private long solutionCount;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Nachrichten.
+		 */
+		private long messageCount;
+
+		/**
+		 * Dieser Konstruktor legt die Ausgabe fest.
+		 *
+		 * @param out der {@link PrintStream} für die Ausgabe der Lösungen
+		 */
+		private TraceSummary(@Nonnull final PrintStream out) {
+			this.solutionPrinter = new PrintStreamSolverProgressLogger(out);
+		}
+
+		@Override
+		public void logPermutation(
+				@Nonnull final List<Symbol> permutationSymbols,
+				@Nonnull final int[] values,
+				final boolean isSolution) {
+
+			if (permutationSymbols != this.symbols) {
+				this.symbols = permutationSymbols;
+				this.symbolTableCount++;
+			}
+
+			this.permutationCount++;
+
+			if (isSolution) {
+				this.solutionCount++;
+				this.solutionPrinter.logPermutation(permutationSymbols, values, true);
+			}
+		}
+
+		@Override
+		public void log(@Nonnull final String message) {
+			this.messageCount++;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen Iterator über alle k-Permutationen der Ziffern 0 bis 9 bereit.
+ *
+ * <p>
+ *     Es werden nur so viele Stellen belegt, wie das Rätsel Symbole hat. Jede Belegung mit
+ *     paarweise verschiedenen Ziffern wird genau einmal in lexikographischer Reihenfolge geliefert.
+ *     Für ein Rätsel mit sechs Symbolen sind das 10!/4! = 151.200 statt 10! = 3.628.800
+ *     Kandidaten.
+ * </p>
+ *
+ * <p>
+ *     Optional wird die Aufzählung auf einen {@link PrefixRange} beschränkt. Sie beginnt dann
+ *     mit dem ersten Präfix des Bereichs und endet, sobald das Präfix den Bereich verlässt. Die
+ *     Belegungen außerhalb des Bereichs werden dabei nicht erzeugt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class DigitPermutationIterator implements Iterator<int[]> {
+
+	/**
+	 * Diese Konstante enthält die Basis des Zahlensystems.
+	 */
+	private static final int BASE = 10;
+
+	/**
+	 * Dieses Feld enthält die aktuell zugewiesenen Ziffern.
+	 */
+	@Nonnull
+	private final int[] values;
+
+	/**
+	 * Dieses Feld muss den Bereich der zu liefernden Präfixe enthalten.
+	 */
+	@Nonnull
+	private final PrefixRange range;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der noch nicht begonnenen Präfixe des Bereichs.
+	 */
+	private long remainingPrefixes;
+
+	/**
+	 * Dieses Feld enthält die Menge der vergebenen Ziffern als Bitmaske.
+	 */
+	private int usedDigits;
+
+	/**
+	 * Dieses Feld zeigt an, ob die Suche bereits begonnen wurde.
+	 */
+	private boolean started;
+
+	/**
+	 * Dieses Feld zeigt an, ob eine ermittelte Belegung noch nicht per {@link #next()} abgerufen
+	 * wurde.
+	 */
+	private boolean prepared;
+
+	/**
+	 * Dieses Feld zeigt an, dass alle Belegungen geliefert wurden.
+	 */
+	private boolean exhausted;
+
+	/**
+	 * Dieser Konstruktor legt die Anzahl der zu belegenden Stellen fest.
+	 *
+	 * @param size die Anzahl der Stellen, die der Anzahl der Symbole des Rätsels entspricht
+	 */
+	public DigitPermutationIterator(final int size) {
+		this(size, PrefixRange.FULL);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die Anzahl der zu belegenden Stellen und den Bereich der Präfixe
+	 * fest.
+	 *
+	 * @param size die Anzahl der Stellen, die der Anzahl der Symbole des Rätsels entspricht
+	 * @param range der Bereich der zu liefernden Präfixe
+	 * @throws IllegalArgumentException falls das Präfix länger als die Belegung ist
+	 */
+	public DigitPermutationIterator(final int size, @Nonnull final PrefixRange range) {
+		if (size < 0) {
+			throw new IllegalArgumentException("size must not be negative!");
+		}
+
+		if (range.getPrefixLength() > size) {
+			throw new IllegalArgumentException("prefix must not be longer than size!");
+		}
+
+		this.values = new int[size];
+		this.range = range;
+		this.remainingPrefixes = range.getRankCount();
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!this.prepared && !this.exhausted) {
+			this.prepared = this.advance();
+			this.exhausted = !this.prepared;
+		}
+
+		return this.prepared;
+	}
+
+	/**
+	 * Diese Methode gibt die nächste Belegung zurück.
+	 *
+	 * <p>
+	 *     Um Objekterzeugungen zu vermeiden, wird stets dasselbe Feld zurückgegeben, dessen Inhalt
+	 *     beim nächsten Aufruf von {@link #hasNext()} überschrieben wird.
+	 * </p>
+	 *
+	 * @return die Ziffern der aktuellen Belegung
+	 */
+	@Override
+	public int[] next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		this.prepared = false;
+		return this.values;
+	}
+
+	/**
+	 * Diese Methode ermittelt die lexikographisch nächste Belegung.
+	 *
+	 * @return {@code true}, falls eine Belegung ermittelt wurde, sonst {@code false}
+	 */
+	private boolean advance() {
+		if (!this.started) {
+			this.started = true;
+			return this.startRange();
+		}
+
+		for (int position = this.values.length - 1; position >= 0; position--) {
+			if (position == this.range.getPrefixLength() - 1 && --this.remainingPrefixes <= 0) {
+				return false;
+			}
+
+			this.usedDigits &= ~(1 << this.values[position]);
+
+			for (int digit = this.values[position] + 1; digit < BASE; digit++) {
+				if ((this.usedDigits & (1 << digit)) == 0) {
+					this.values[position] = digit;
+					this.usedDigits |= 1 << digit;
+					return this.fillFrom(position + 1);
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Diese Methode übernimmt das erste Präfix des Bereichs und belegt die übrigen Stellen mit
+	 * den kleinsten freien Ziffern.
+	 *
+	 * @return {@code true}, falls genügend freie Ziffern vorhanden waren, sonst {@code false}
+	 */
+	private boolean startRange() {
+		int[] prefix = this.range.getFirstPrefix();
+
+		for (int position = 0; position < prefix.length; position++) {
+			this.values[position] = prefix[position];
+			this.usedDigits |= 1 << prefix[position];
+		}
+
+		return this.fillFrom(prefix.length);
+	}
+
+	/**
+	 * Diese Methode belegt die Stellen ab der übergebenen Position mit den kleinsten freien
+	 * Ziffern.
+	 *
+	 * @param start die erste zu belegende Position
+	 * @return {@code true}, falls genügend freie Ziffern vorhanden waren, sonst {@code false}
+	 */
+	private boolean fillFrom(final int start) {
+		int digit = 0;
+
+		for (int position = start; position < this.values.length; position++) {
+			while (digit < BASE && (this.usedDigits & (1 << digit)) != 0) {
+				digit++;
+			}
+
+			if (digit >= BASE) {
+				return false;
+			}
+
+			this.values[position] = digit;
+			this.usedDigits |= 1 << digit;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,379 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * Diese Klasse stellt ein größenbeschränktes {@link IdempotentRepository} bereit, dessen
+ * Einträge nach einer festen Zeit verfallen.
+ *
+ * <p>
+ *     Die Schlüssel werden in der Reihenfolge ihres Eintragens gehalten. Da alle Einträge gleich
+ *     lange gültig sind, verfallen sie in derselben Reihenfolge, sodass beim Bereinigen nur der
+ *     Anfang der Tabelle betrachtet werden muss. Ist die Kapazität erreicht, wird der älteste
+ *     Eintrag verdrängt.
+ * </p>
+ *
+ * <p>
+ *     Optional werden die Einträge in einer Datei gesichert, damit sie einen Neustart
+ *     überdauern. Jede Zeile enthält den Zeitpunkt des Eintragens und den Schlüssel, getrennt
+ *     durch ein Tabulatorzeichen. Neue Einträge werden angehängt. Beim Start, beim Entfernen
+ *     eines Schlüssels und sobald die Datei doppelt so viele Zeilen wie die Kapazität enthält,
+ *     wird sie mit den gültigen Einträgen neu geschrieben.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ExpiringIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+	/**
+	 * Diese Konstante enthält die Standardkapazität.
+	 */
+	public static final int DEFAULT_CAPACITY = 10_000;
+
+	/**
+	 * Diese Konstante enthält die Standardgültigkeit der Einträge in Millisekunden.
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE = 3_600_000L;
+
+	/**
+	 * Diese Konstante enthält das Trennzeichen zwischen Zeitpunkt und Schlüssel.
+	 */
+	private static final char SEPARATOR = '\t';
+
+	/**
+	 * Dieses Feld muss die Kapazität enthalten.
+	 */
+	private final int capacity;
+
+	/**
+	 * Dieses Feld muss die Gültigkeit der Einträge in Millisekunden enthalten.
+	 */
+	private final long timeToLive;
+
+	/**
+	 * Dieses Feld kann die Datei zum Sichern der Einträge enthalten.
+	 */
+	@CheckForNull
+	private final Path file;
+
+	/**
+	 * Dieses Feld muss die Uhr in Millisekunden enthalten.
+	 */
+	@Nonnull
+	private final LongSupplier clock;
+
+	/**
+	 * Dieses Feld muss die Zeitpunkte des Eintragens je Schlüssel in der Reihenfolge des
+	 * Eintragens enthalten.
+	 */
+	@Nonnull
+	private final Map<String, Long> entries = new LinkedHashMap<>();
+
+	/**
+	 * Dieses Feld enthält den Writer zum Anhängen an die Datei, solange der Dienst läuft.
+	 */
+	@CheckForNull
+	private BufferedWriter writer;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der Zeilen in der Datei.
+	 */
+	private int lineCount;
+
+	/**
+	 * Dieser Konstruktor legt Kapazität, Gültigkeit und optional die Datei fest.
+	 *
+	 * @param capacity die maximale Anzahl der Einträge
+	 * @param timeToLive die Gültigkeit der Einträge in Millisekunden
+	 * @param file die Datei zum Sichern der Einträge oder {@code null}, um nur im Speicher zu
+	 * arbeiten
+	 */
+	public ExpiringIdempotentRepository(
+			final int capacity,
+			final long timeToLive,
+			@CheckForNull final Path file) {
+
+		this(capacity, timeToLive, file, System::currentTimeMillis);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param capacity die maximale Anzahl der Einträge
+	 * @param timeToLive die Gültigkeit der Einträge in Millisekunden
+	 * @param file die Datei zum Sichern der Einträge oder {@code null}
+	 * @param clock die zu setzende Uhr in Millisekunden
+	 * @throws IllegalArgumentException falls Kapazität oder Gültigkeit kleiner als 1 sind
+	 */
+	protected ExpiringIdempotentRepository(
+			final int capacity,
+			final long timeToLive,
+			@CheckForNull final Path file,
+			@Nonnull final LongSupplier clock) {
+
+		if (capacity < 1 || timeToLive < 1) {
+			throw new IllegalArgumentException("capacity and timeToLive must be positive!");
+		}
+
+		this.capacity = capacity;
+		this.timeToLive = timeToLive;
+		this.file = file;
+		this.clock = clock;
+	}
+
+	/**
+	 * Diese Methode trägt einen Schlüssel ein, falls er noch nicht gültig eingetragen ist.
+	 *
+	 * @param key der Schlüssel
+	 * @return {@code true} falls der Schlüssel neu ist, sonst {@code false}
+	 * @throws UncheckedIOException falls die Datei nicht geschrieben werden kann
+	 */
+	@Override
+	public synchronized boolean add(@Nonnull final String key) {
+		long now = this.clock.getAsLong();
+
+		this.purgeExpired(now);
+
+		if (this.entries.containsKey(key)) {
+			return false;
+		}
+
+		this.entries.put(key, now);
+		this.evictOverflow();
+		this.append(key, now);
+		return true;
+	}
+
+	@Override
+	public synchronized boolean contains(@Nonnull final String key) {
+		this.purgeExpired(this.clock.getAsLong());
+		return this.entries.containsKey(key);
+	}
+
+	/**
+	 * Diese Methode entfernt einen Schlüssel.
+	 *
+	 * @param key der Schlüssel
+	 * @return {@code true} falls der Schlüssel eingetragen war, sonst {@code false}
+	 * @throws UncheckedIOException falls die Datei nicht geschrieben werden kann
+	 */
+	@Override
+	public synchronized boolean remove(@Nonnull final String key) {
+		if (this.entries.remove(key) == null) {
+			return false;
+		}
+
+		if (this.writer != null) {
+			this.rewrite();
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean confirm(@Nonnull final String key) {
+		return true;
+	}
+
+	/**
+	 * Diese Methode entfernt alle Schlüssel.
+	 *
+	 * @throws UncheckedIOException falls die Datei nicht geschrieben werden kann
+	 */
+	@Override
+	public synchronized void clear() {
+		this.entries.clear();
+
+		if (this.writer != null) {
+			this.rewrite();
+		}
+	}
+
+	/**
+	 * Diese Methode lädt die gültigen Einträge aus der Datei und öffnet sie zum Anhängen.
+	 *
+	 * @throws IOException falls die Datei nicht gelesen oder geschrieben werden kann
+	 */
+	@Override
+	protected synchronized void doStart() throws IOException {
+		if (this.file == null) {
+			return;
+		}
+
+		if (Files.exists(this.file)) {
+			this.load(Files.readAllLines(this.file, StandardCharsets.UTF_8));
+		}
+
+		this.purgeExpired(this.clock.getAsLong());
+		this.rewrite();
+	}
+
+	@Override
+	protected synchronized void doStop() throws IOException {
+		this.closeWriter();
+	}
+
+	/**
+	 * Diese Methode schließt den Writer zum Anhängen an die Datei, falls dieser geöffnet ist.
+	 *
+	 * @throws IOException falls die Datei nicht geschlossen werden kann
+	 */
+	private void closeWriter() throws IOException {
+		if (this.writer != null) {
+			this.writer.close();
+			this.writer = null;
+		}
+	}
+
+	/**
+	 * Diese Methode übernimmt die Einträge aus den Zeilen der Datei.
+	 *
+	 * <p>
+	 *     Zeilen, die sich nicht lesen lassen, etwa weil das Schreiben abgebrochen wurde, werden
+	 *     übersprungen.
+	 * </p>
+	 *
+	 * @param lines die Zeilen der Datei
+	 */
+	private void load(@Nonnull final List<String> lines) {
+		lines.forEach(this::loadLine);
+		this.evictOverflow();
+	}
+
+	/**
+	 * Diese Methode übernimmt den Eintrag aus einer Zeile der Datei, falls sich diese lesen lässt.
+	 *
+	 * @param line die Zeile
+	 */
+	private void loadLine(@Nonnull final String line) {
+		int separatorIndex = line.indexOf(SEPARATOR);
+
+		if (separatorIndex <= 0) {
+			return;
+		}
+
+		try {
+			this.entries.putIfAbsent(
+					line.substring(separatorIndex + 1),
+					Long.parseLong(line.substring(0, separatorIndex)));
+		} catch (NumberFormatException e) {
+			// Die Zeile wurde unvollständig geschrieben und wird übersprungen.
+			return;
+		}
+	}
+
+	/**
+	 * Diese Methode entfernt die verfallenen Einträge.
+	 *
+	 * @param now der aktuelle Zeitpunkt in Millisekunden
+	 */
+	private void purgeExpired(final long now) {
+		Iterator<Long> iterator = this.entries.values().iterator();
+
+		while (iterator.hasNext() && iterator.next() <= now - this.timeToLive) {
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Diese Methode verdrängt die ältesten Einträge, solange die Kapazität überschritten ist.
+	 */
+	private void evictOverflow() {
+		Iterator<String> iterator = this.entries.keySet().iterator();
+
+		while (this.entries.size() > this.capacity) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Diese Methode hängt einen Eintrag an die Datei an, falls diese geöffnet ist.
+	 *
+	 * @param key der Schlüssel
+	 * @param timestamp der Zeitpunkt des Eintragens
+	 */
+	private void append(@Nonnull final String key, final long timestamp) {
+		if (this.writer == null) {
+			return;
+		}
+
+		if (this.lineCount >= 2 * this.capacity) {
+			this.rewrite();
+			return;
+		}
+
+		try {
+			this.writer.write(timestamp + String.valueOf(SEPARATOR) + key);
+			this.writer.newLine();
+			this.writer.flush();
+			this.lineCount++;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt die Datei mit den aktuellen Einträgen neu und öffnet sie erneut zum
+	 * Anhängen.
+	 *
+	 * <p>
+	 *     Die Einträge werden zunächst in eine temporäre Datei geschrieben, die anschließend die
+	 *     bisherige Datei ersetzt, damit bei einem Abbruch keine Einträge verloren gehen.
+	 * </p>
+	 */
+	private void rewrite() {
+		Path temporaryFile;
+
+		if (this.file == null) {
+			return;
+		}
+
+		try {
+			this.closeWriter();
+			temporaryFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+			try (BufferedWriter temporaryWriter =
+					Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+
+				for (Map.Entry<String, Long> entry : this.entries.entrySet()) {
+					temporaryWriter.write(entry.getValue() + String.valueOf(SEPARATOR)
+							+ entry.getKey());
+					temporaryWriter.newLine();
+				}
+			}
+
+			Files.move(
+					temporaryFile,
+					this.file,
+					StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			this.lineCount = this.entries.size();
+			this.writer = Files.newBufferedWriter(
+					this.file,
+					StandardCharsets.UTF_8,
+					StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
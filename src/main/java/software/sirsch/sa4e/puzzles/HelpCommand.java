@@ -19,10 +19,16 @@ public class HelpCommand implements Command {
 	public void execute(@Nonnull final String[] args) {
 		System.out.println("usage: generate-puzzle <filename> <?numberOfDigits>");
 		System.out.println("usage: solve-puzzle <filename>");
-		System.out.println("usage: run-server <port>");
-		System.out.println(
-				"usage: request-solve-puzzle <serverHost> <serverPort> <?numberOfDigits>");
+		System.out.println("usage: run-server <port> <?engine> <?threads> <?queue-capacity>"
+				+ " <?cache-size> <?metrics-port>");
+		System.out.println("usage: request-solve-puzzle <serverHost[,serverHost...]> <serverPort>"
+				+ " <?numberOfDigits> <?numberOfPuzzles> <?loadBalancingStrategy>");
+		System.out.println("usage: request-solve-puzzle-sharded <host:port,host:port,...>"
+				+ " <?numberOfDigits> <?callsPerServer>");
 		System.out.println("usage: "
-				+ "run-camel <mqttBrokerUrl> <grpcServer> <?generatePuzzleNumberOfDigits>");
+				+ "run-camel <mqttBrokerUrl> <grpcServer> <?generatePuzzleProfile|->"
+				+ " <?maxInFlight> <?concurrentConsumers> <?queueSize> <?ordered|unordered>"
+				+ " <?shareGroup> <?deduplicationFile> <?resequenceTimeout> <?nodeId>");
+		System.out.println("usage: decode-trace <filename> <?text|summary>");
 	}
 }
@@ -0,0 +1,156 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Diese Klasse stellt ein Histogramm für Laufzeiten bereit.
+ *
+ * <p>
+ *     Die Laufzeiten werden in Nanosekunden in Klassen mit exponentiell wachsenden Obergrenzen
+ *     einsortiert. Die Obergrenze der ersten Klasse beträgt 2^10 Nanosekunden (etwa eine
+ *     Mikrosekunde), jede weitere Klasse verdoppelt die Obergrenze. Laufzeiten oberhalb der
+ *     letzten Obergrenze werden in einer zusätzlichen Überlaufklasse gezählt. Der relative Fehler
+ *     einer Klasse ist damit unabhängig von der Größenordnung der Laufzeit, wie bei
+ *     HDR-Histogrammen.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Jede Klasse wird durch einen {@link LongAdder} gezählt. Das Erfassen
+ *     einer Laufzeit ist damit ohne Sperren aus beliebig vielen Threads möglich. Das Auslesen
+ *     liefert keinen atomaren Schnappschuss, was für die Überwachung ausreicht.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class LatencyHistogram {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Klassen mit endlicher Obergrenze.
+	 */
+	public static final int BUCKET_COUNT = 32;
+
+	/**
+	 * Diese Konstante enthält den Exponenten der Obergrenze der ersten Klasse zur Basis 2.
+	 */
+	private static final int MIN_EXPONENT = 10;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits eines {@code long}.
+	 */
+	private static final int LONG_BITS = 64;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Prozent, die allen Werten entsprechen.
+	 */
+	private static final double ALL_PERCENT = 100.0;
+
+	/**
+	 * Dieses Feld muss die Zähler der Klassen einschließlich der Überlaufklasse enthalten.
+	 */
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT + 1];
+
+	/**
+	 * Dieses Feld muss die Summe aller erfassten Laufzeiten in Nanosekunden enthalten.
+	 */
+	private final LongAdder totalNanos = new LongAdder();
+
+	/**
+	 * Dieser Konstruktor erzeugt ein leeres Histogramm.
+	 */
+	public LatencyHistogram() {
+		for (int index = 0; index < this.buckets.length; index++) {
+			this.buckets[index] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Diese Methode erfasst eine Laufzeit.
+	 *
+	 * @param nanos die Laufzeit in Nanosekunden, negative Werte werden als 0 erfasst
+	 */
+	public void record(final long nanos) {
+		long value = Math.max(nanos, 1);
+		int exponent = LONG_BITS - Long.numberOfLeadingZeros(value - 1);
+		int bucket = Math.min(Math.max(exponent - MIN_EXPONENT, 0), BUCKET_COUNT);
+
+		this.buckets[bucket].increment();
+		this.totalNanos.add(Math.max(nanos, 0));
+	}
+
+	/**
+	 * Diese Methode gibt die Obergrenze einer Klasse zurück.
+	 *
+	 * @param bucket der Index der Klasse, höchstens {@link #BUCKET_COUNT} {@code - 1}
+	 * @return die Obergrenze in Nanosekunden
+	 */
+	public static long getUpperBoundNanos(final int bucket) {
+		return 1L << (MIN_EXPONENT + bucket);
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Laufzeiten zurück, die höchstens der Obergrenze einer
+	 * Klasse entsprechen.
+	 *
+	 * @param bucket der Index der Klasse, höchstens {@link #BUCKET_COUNT} {@code - 1}
+	 * @return die kumulierte Anzahl
+	 */
+	public long getCumulativeCount(final int bucket) {
+		long result = 0;
+
+		for (int index = 0; index <= bucket; index++) {
+			result += this.buckets[index].sum();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl aller erfassten Laufzeiten zurück.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getCount() {
+		return this.getCumulativeCount(BUCKET_COUNT);
+	}
+
+	/**
+	 * Diese Methode gibt die Summe aller erfassten Laufzeiten zurück.
+	 *
+	 * @return die Summe in Nanosekunden
+	 */
+	public long getTotalNanos() {
+		return this.totalNanos.sum();
+	}
+
+	/**
+	 * Diese Methode schätzt ein Perzentil der erfassten Laufzeiten.
+	 *
+	 * <p>
+	 *     Geliefert wird die Obergrenze der Klasse, in die das Perzentil fällt. Fällt es in die
+	 *     Überlaufklasse, wird {@link Long#MAX_VALUE} geliefert.
+	 * </p>
+	 *
+	 * @param percentile das Perzentil zwischen 0 und 100
+	 * @return die geschätzte Laufzeit in Nanosekunden oder 0, falls keine Laufzeit erfasst wurde
+	 */
+	public long getValueAtPercentile(final double percentile) {
+		long count = this.getCount();
+		long rank = (long) Math.ceil(count * percentile / ALL_PERCENT);
+		long cumulativeCount = 0;
+
+		if (count == 0) {
+			return 0;
+		}
+
+		for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+			cumulativeCount += this.buckets[bucket].sum();
+
+			if (cumulativeCount >= Math.max(rank, 1)) {
+				return getUpperBoundNanos(bucket);
+			}
+		}
+
+		return Long.MAX_VALUE;
+	}
+}
@@ -0,0 +1,42 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Aufzählung beschreibt die Verfahren, nach denen {@link PuzzleSolverClient} Anfragen auf
+ * mehrere Server verteilt.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public enum LoadBalancingStrategy {
+
+	/**
+	 * Dieses Verfahren sendet die Anfragen reihum an die Server.
+	 */
+	ROUND_ROBIN,
+
+	/**
+	 * Dieses Verfahren sendet jede Anfrage an den Server mit den wenigsten offenen Anfragen.
+	 */
+	LEAST_OUTSTANDING;
+
+	/**
+	 * Diese Methode ermittelt ein Verfahren anhand seines Namens.
+	 *
+	 * <p>
+	 *     Groß- und Kleinschreibung werden nicht unterschieden, Bindestriche dürfen anstelle von
+	 *     Unterstrichen verwendet werden (z. B. {@code round-robin}).
+	 * </p>
+	 *
+	 * @param name der Name des Verfahrens
+	 * @return das ermittelte Verfahren
+	 * @throws IllegalArgumentException falls kein Verfahren mit diesem Namen existiert
+	 */
+	@Nonnull
+	public static LoadBalancingStrategy fromName(@Nonnull final String name) {
+		return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+}
@@ -18,6 +18,12 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * Diese Klasse stellt die Schaltstelle zum Umschalten der Log-Ausgabe bereit.
  *
+ * <p>
+ *     Die jeweils ersetzte Ausgabe wird geschlossen, nachdem die neue Ausgabe gesetzt wurde,
+ *     damit ihre Hintergrund-Threads, Verbindungen und Dateien freigegeben werden. Beim Beenden
+ *     der JVM wird die aktuelle Ausgabe ebenfalls geschlossen.
+ * </p>
+ *
  * @author sirsch
  * @since 21.01.2023
  */
@@ -33,7 +39,8 @@ public class LogOutputManager {
 			new PrintWriter(new OutputStreamWriter(System.out), true),
 			new SolverProgressLoggerFactory(),
 			new Injector<>(),
-			Thread::new);
+			Thread::new,
+			Runtime.getRuntime()::addShutdownHook);
 
 	/**
 	 * Dieses Feld enthält ein {@link CountDownLatch}, um das erste Setzen einer Log-Ausgabe
@@ -79,6 +86,36 @@ public class LogOutputManager {
 	@Nonnull
 	private final Function<SolverProgressLogger, Consumer<PuzzleSolver>> updateActionFactory;
 
+	/**
+	 * Dieses Feld muss die Fabrikmethode für {@link Thread} enthalten.
+	 */
+	@Nonnull
+	private final Function<Runnable, Thread> threadFactory;
+
+	/**
+	 * Dieses Feld muss den {@link Consumer} zum Hinzufügen von Shutdown-Hooks enthalten.
+	 */
+	@Nonnull
+	private final Consumer<Thread> shutdownHookAdder;
+
+	/**
+	 * Dieses Feld enthält die aktuelle Ausgabe oder {@code null}, falls keine Ausgabe gewählt
+	 * ist.
+	 */
+	@CheckForNull
+	private SolverProgressLogger currentOutput;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der Belegungen zwischen zwei Einträgen oder 0, falls jede
+	 * Belegung ausgegeben werden soll.
+	 */
+	private long progressCandidateInterval;
+
+	/**
+	 * Dieses Feld enthält die Zeit zwischen zwei Einträgen in Millisekunden.
+	 */
+	private long progressTimeIntervalMillis;
+
 	/**
 	 * Die Singleton-Instance wird per {@link #getSingletonInstance()} bereitgestellt.
 	 *
@@ -88,6 +125,7 @@ public class LogOutputManager {
 	 * @param solverProgressLoggerFactory die zu setzende Fabrik für {@link SolverProgressLogger}
 	 * @param updateActionFactory die Fabrikmethode für Update-Aktionen
 	 * @param threadFactory die Fabrikmethode für {@link Thread}
+	 * @param shutdownHookAdder der {@link Consumer} zum Hinzufügen von Shutdown-Hooks
 	 */
 	protected LogOutputManager(
 			@Nonnull final PuzzleSolverFactory puzzleSolverFactory,
@@ -96,13 +134,16 @@ public class LogOutputManager {
 			@Nonnull final SolverProgressLoggerFactory solverProgressLoggerFactory,
 			@Nonnull
 			final Function<SolverProgressLogger, Consumer<PuzzleSolver>> updateActionFactory,
-			@Nonnull final Function<Runnable, Thread> threadFactory) {
+			@Nonnull final Function<Runnable, Thread> threadFactory,
+			@Nonnull final Consumer<Thread> shutdownHookAdder) {
 
 		this.puzzleSolverFactory = puzzleSolverFactory;
 		this.consoleReader = consoleReader;
 		this.consoleWriter = consoleWriter;
 		this.solverProgressLoggerFactory = solverProgressLoggerFactory;
 		this.updateActionFactory = updateActionFactory;
+		this.threadFactory = threadFactory;
+		this.shutdownHookAdder = shutdownHookAdder;
 		this.backgroundThread = threadFactory.apply(this::showPromptRepeatedly);
 		this.backgroundThread.setDaemon(true);
 	}
@@ -118,12 +159,29 @@ public class LogOutputManager {
 	}
 
 	/**
-	 * Diese Methode startet den Hintergrund-Thread.
+	 * Diese Methode startet den Hintergrund-Thread und registriert das Schließen der Ausgabe
+	 * beim Beenden der JVM.
 	 */
 	public void init() {
+		this.shutdownHookAdder.accept(this.threadFactory.apply(this::close));
 		this.backgroundThread.start();
 	}
 
+	/**
+	 * Diese Methode schließt die aktuelle Ausgabe.
+	 *
+	 * <p>
+	 *     Die Rätsellöser werden dabei nicht umgestellt, da die Methode beim Beenden der JVM
+	 *     aufgerufen wird.
+	 * </p>
+	 */
+	public synchronized void close() {
+		if (this.currentOutput != null) {
+			this.currentOutput.close();
+			this.currentOutput = null;
+		}
+	}
+
 	/**
 	 * Diese Methode wartet, bis die erste Ausgabe gewählt wurde.
 	 *
@@ -150,8 +208,10 @@ public class LogOutputManager {
 	 * Diese Methode fragt die Einstellung für die Log-Ausgabe ab.
 	 */
 	private void showPrompt() {
-		this.consoleWriter.println(
-				"Select log output [none | stdout | file=<filename> | mqtt=<serverURI>]:");
+		this.consoleWriter.println("Select log output [none | stdout | file=<filename> | "
+				+ "trace=<filename> | mqtt=<serverURI>[,drop-oldest|drop-newest|block] | "
+				+ "progress=all | "
+				+ "progress=<candidates>,<millis>]:");
 		this.handleUserInput(this.readPrompt());
 	}
 
@@ -182,25 +242,114 @@ public class LogOutputManager {
 		} else if (StringUtils.startsWithIgnoreCase(input, "file=")) {
 			this.selectOutput(this.solverProgressLoggerFactory.createFileLogger(
 					input.substring("file=".length())));
+		} else if (StringUtils.startsWithIgnoreCase(input, "trace=")) {
+			this.selectOutput(this.solverProgressLoggerFactory.createTraceLogger(
+					input.substring("trace=".length())));
 		} else if (StringUtils.startsWithIgnoreCase(input, "mqtt=")) {
-			this.selectOutput(this.solverProgressLoggerFactory.createMqttLogger(
-					input.substring("mqtt=".length())));
+			this.selectMqttOutput(input.substring("mqtt=".length()));
+		} else if (StringUtils.startsWithIgnoreCase(input, "progress=")) {
+			this.selectProgressMode(input.substring("progress=".length()));
 		} else {
 			this.consoleWriter.println("Invalid log output!");
 		}
 	}
 
 	/**
-	 * Diese Methode legt die Ausgabe fest.
+	 * Diese Methode legt die Ausgabe an einen MQTT-Server fest.
+	 *
+	 * @param specification die URI des Servers, optional gefolgt von einem Komma und dem
+	 *                      Verfahren, falls der Server zu langsam ist
+	 */
+	private void selectMqttOutput(@Nonnull final String specification) {
+		int separator = specification.indexOf(',');
+		OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+		String serverURI = specification;
+
+		if (separator >= 0) {
+			serverURI = specification.substring(0, separator);
+
+			try {
+				overflowPolicy = OverflowPolicy.fromName(specification.substring(separator + 1));
+			} catch (IllegalArgumentException e) {
+				this.consoleWriter.println("Invalid overflow policy!");
+				return;
+			}
+		}
+
+		this.selectOutput(this.solverProgressLoggerFactory.createMqttLogger(
+				serverURI,
+				overflowPolicy));
+	}
+
+	/**
+	 * Diese Methode legt die Ausgabe fest und schließt die bisherige Ausgabe.
 	 *
 	 * @param solverProgressLogger der festzulegende Ausgabemechanismus oder {@code null} für keine
 	 *                             Ausgabe
 	 */
-	private void selectOutput(@CheckForNull final SolverProgressLogger solverProgressLogger) {
-		this.puzzleSolverFactory.updateAction(this.updateActionFactory.apply(solverProgressLogger));
+	private synchronized void selectOutput(
+			@CheckForNull final SolverProgressLogger solverProgressLogger) {
+
+		SolverProgressLogger selected = solverProgressLogger;
+		SolverProgressLogger previous = this.currentOutput;
+
+		if (selected != null && this.progressCandidateInterval > 0) {
+			selected = this.solverProgressLoggerFactory.createSampledLogger(
+					selected,
+					this.progressCandidateInterval,
+					this.progressTimeIntervalMillis);
+		}
+
+		this.puzzleSolverFactory.updateAction(this.updateActionFactory.apply(selected));
+		this.currentOutput = selected;
+
+		if (previous != null) {
+			previous.close();
+		}
+
 		this.firstSelection.countDown();
 	}
 
+	/**
+	 * Diese Methode legt fest, ob die nächste gewählte Ausgabe jede Belegung oder nur den
+	 * Fortschritt in Abständen erhält.
+	 *
+	 * @param mode {@code all} oder die Anzahl der Belegungen und die Zeit in Millisekunden
+	 *             zwischen zwei Einträgen durch Komma getrennt
+	 */
+	private void selectProgressMode(@Nonnull final String mode) {
+		String[] intervals = StringUtils.split(mode, ',');
+
+		if (StringUtils.equalsIgnoreCase(mode, "all")) {
+			this.progressCandidateInterval = 0;
+		} else if (intervals.length == 2
+				&& isPositiveNumber(intervals[0])
+				&& isPositiveNumber(intervals[1])) {
+			this.progressCandidateInterval = Long.parseLong(intervals[0].trim());
+			this.progressTimeIntervalMillis = Long.parseLong(intervals[1].trim());
+		} else {
+			this.consoleWriter.println("Invalid progress mode!");
+			return;
+		}
+
+		this.consoleWriter.println("Progress mode applies to the next selected log output.");
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine Zeichenkette eine positive Zahl darstellt.
+	 *
+	 * @param value die zu prüfende Zeichenkette
+	 * @return {@code true}, falls die Zeichenkette eine positive Zahl darstellt, sonst
+	 * {@code false}
+	 */
+	private static boolean isPositiveNumber(@Nonnull final String value) {
+		String trimmed = value.trim();
+
+		return StringUtils.isNumeric(trimmed)
+				&& trimmed.length() < String.valueOf(Long.MAX_VALUE).length()
+				&& Long.parseLong(trimmed) > 0;
+	}
+
 	/**
 	 * Diese Klasse stellt eine {@link RuntimeException} bereit, die anzeigt, dass die Eingabe
 	 * vollständig gelesen worden ist.
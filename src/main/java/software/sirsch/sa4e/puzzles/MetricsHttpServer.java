@@ -0,0 +1,164 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Diese Klasse stellt die Kennzahlen des Servers per HTTP unter {@value #PATH} bereit.
+ *
+ * <p>
+ *     Der Server nimmt nur Verbindungen über die Loopback-Schnittstelle an, da die Kennzahlen
+ *     für einen lokal laufenden Prometheus-Agenten gedacht sind. Die Anfragen werden von einem
+ *     einzelnen Thread des HTTP-Servers beantwortet und belasten den Pool zum Lösen der Rätsel
+ *     nicht.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class MetricsHttpServer {
+
+	/**
+	 * Diese Konstante enthält den Pfad, unter dem die Kennzahlen bereitgestellt werden.
+	 */
+	public static final String PATH = "/metrics";
+
+	/**
+	 * Diese Konstante enthält den Content-Type des Textformats von Prometheus.
+	 */
+	private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+	/**
+	 * Diese Konstante enthält den HTTP-Status für erfolgreiche Anfragen.
+	 */
+	private static final int STATUS_OK = 200;
+
+	/**
+	 * Diese Konstante enthält den HTTP-Status für nicht unterstützte Methoden.
+	 */
+	private static final int STATUS_METHOD_NOT_ALLOWED = 405;
+
+	/**
+	 * Dieses Feld muss den {@link HttpServer} enthalten.
+	 */
+	@Nonnull
+	private final HttpServer httpServer;
+
+	/**
+	 * Dieses Feld muss den Lieferanten der auszugebenden Kennzahlen enthalten.
+	 */
+	@Nonnull
+	private final Supplier<String> content;
+
+	/**
+	 * Dieser Konstruktor erzeugt den Server für den übergebenen Port.
+	 *
+	 * @param port der zu verwendende Port oder 0 für einen beliebigen freien Port
+	 * @param content der Lieferant der auszugebenden Kennzahlen
+	 */
+	public MetricsHttpServer(final int port, @Nonnull final Supplier<String> content) {
+		this(createHttpServer(port), content);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param httpServer der zu setzende {@link HttpServer}
+	 * @param content der zu setzende Lieferant der auszugebenden Kennzahlen
+	 */
+	protected MetricsHttpServer(
+			@Nonnull final HttpServer httpServer,
+			@Nonnull final Supplier<String> content) {
+
+		this.httpServer = httpServer;
+		this.content = content;
+		this.httpServer.createContext(PATH, this::handle);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen {@link HttpServer} auf der Loopback-Schnittstelle.
+	 *
+	 * @param port der zu verwendende Port
+	 * @return der erzeugte Server
+	 */
+	@Nonnull
+	private static HttpServer createHttpServer(final int port) {
+		try {
+			return HttpServer.create(
+					new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+					0);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode beantwortet eine Anfrage.
+	 *
+	 * @param exchange die zu beantwortende Anfrage
+	 * @throws IOException falls die Antwort nicht geschrieben werden kann
+	 */
+	private void handle(@Nonnull final HttpExchange exchange) throws IOException {
+		try {
+			this.respond(exchange);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt die Antwort auf eine Anfrage.
+	 *
+	 * @param exchange die zu beantwortende Anfrage
+	 * @throws IOException falls die Antwort nicht geschrieben werden kann
+	 */
+	private void respond(@Nonnull final HttpExchange exchange) throws IOException {
+		byte[] body;
+
+		if (!"GET".equals(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(STATUS_METHOD_NOT_ALLOWED, -1);
+			return;
+		}
+
+		body = this.content.get().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+		exchange.sendResponseHeaders(STATUS_OK, body.length);
+
+		try (OutputStream responseBody = exchange.getResponseBody()) {
+			responseBody.write(body);
+		}
+	}
+
+	/**
+	 * Diese Methode startet den Server.
+	 */
+	public void start() {
+		this.httpServer.start();
+	}
+
+	/**
+	 * Diese Methode stoppt den Server, ohne auf laufende Anfragen zu warten.
+	 */
+	public void stop() {
+		this.httpServer.stop(0);
+	}
+
+	/**
+	 * Diese Methode gibt den Port zurück, auf dem der Server Verbindungen entgegennimmt.
+	 *
+	 * @return der Port
+	 */
+	public int getPort() {
+		return this.httpServer.getAddress().getPort();
+	}
+}
@@ -1,11 +1,16 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import javax.annotation.Nonnull;
 
-import org.eclipse.paho.mqttv5.client.MqttClient;
+import org.eclipse.paho.mqttv5.client.MqttAsyncClient;
 import org.eclipse.paho.mqttv5.common.MqttException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 
@@ -13,16 +18,99 @@ import org.eclipse.paho.mqttv5.common.MqttMessage;
  * Diese Klasse stellt einen {@link SolverProgressLogger} bereit, der die Nachrichten mittels
  * Eclipse Paho an einen MQTT-Server sendet.
  *
+ * <p>
+ *     Designentscheidung: Die Meldungen werden nicht vom aufrufenden Thread versendet, sondern in
+ *     einen {@link RingBuffer} gestellt. Ein Hintergrund-Thread fasst die vorliegenden Meldungen
+ *     zeilenweise zu einer MQTT-Nachricht zusammen und versendet sie über einen
+ *     {@link MqttAsyncClient}. Die Suche hängt damit nicht von der Antwortzeit des Servers ab.
+ *     Ist der Server zu langsam, werden standardmäßig die ältesten Meldungen verworfen. Mit
+ *     einem anderen {@link OverflowPolicy Verfahren} können stattdessen die neuesten Meldungen
+ *     verworfen werden oder die suchenden Threads warten, bis Platz frei wird.
+ * </p>
+ *
  * @author sirsch
  * @since 22.01.2023
  */
 public class MqttSolverProgressLogger implements SolverProgressLogger {
 
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Meldungen, die höchstens auf den Versand
+	 * warten.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Meldungen, die höchstens in einer Nachricht
+	 * zusammengefasst werden.
+	 */
+	public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+	/**
+	 * Diese Konstante enthält das Topic, an das die Nachrichten gesendet werden.
+	 */
+	private static final String TOPIC = "PuzzleSolverStatus";
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit des Hintergrund-Threads in Millisekunden.
+	 */
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit für Verbindungsaufbau und Versand in
+	 * Millisekunden.
+	 */
+	private static final long COMPLETION_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * Diese Konstante enthält die Wartezeit nach einem fehlgeschlagenen Verbindungsaufbau in
+	 * Nanosekunden.
+	 */
+	private static final long RECONNECT_DELAY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit beim Schließen in Millisekunden.
+	 */
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
 	/**
 	 * Dieses Feld muss den Client enthalten.
 	 */
 	@Nonnull
-	private final MqttClient client;
+	private final MqttAsyncClient client;
+
+	/**
+	 * Dieses Feld muss den Puffer für die noch zu versendenden Meldungen enthalten.
+	 */
+	@Nonnull
+	private final RingBuffer<String> queue;
+
+	/**
+	 * Dieses Feld muss die Anzahl der Meldungen enthalten, die höchstens in einer Nachricht
+	 * zusammengefasst werden.
+	 */
+	private final int maxBatchSize;
+
+	/**
+	 * Dieses Feld muss die Anzahl der Meldungen enthalten, deren Versand fehlgeschlagen ist.
+	 */
+	@Nonnull
+	private final LongAdder failedCount = new LongAdder();
+
+	/**
+	 * Dieses Feld muss den Hintergrund-Thread für den Versand enthalten.
+	 */
+	@Nonnull
+	private final Thread publisherThread;
+
+	/**
+	 * Dieses Feld enthält den Zeitpunkt, ab dem ein neuer Verbindungsaufbau versucht wird.
+	 */
+	private long nextConnectTime = System.nanoTime();
+
+	/**
+	 * Dieses Feld zeigt an, ob die Ausgabe geschlossen wurde.
+	 */
+	private volatile boolean closed;
 
 	/**
 	 * Dieser Konstruktor legt die URI des Servers fest.
@@ -30,37 +118,183 @@ public class MqttSolverProgressLogger implements SolverProgressLogger {
 	 * @param serverURI die zu setzende URI
 	 */
 	public MqttSolverProgressLogger(@Nonnull final String serverURI) {
-		this(serverURI, MqttClient::new);
+		this(serverURI, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die URI des Servers und das Verfahren für einen vollen Puffer fest.
+	 *
+	 * @param serverURI die zu setzende URI
+	 * @param overflowPolicy das Verfahren für einen vollen Puffer
+	 */
+	public MqttSolverProgressLogger(
+			@Nonnull final String serverURI,
+			@Nonnull final OverflowPolicy overflowPolicy) {
+
+		this(serverURI, DEFAULT_QUEUE_CAPACITY, DEFAULT_MAX_BATCH_SIZE, overflowPolicy);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die URI des Servers und die Größen für Puffer und Nachrichten fest.
+	 *
+	 * @param serverURI die zu setzende URI
+	 * @param queueCapacity die Anzahl der Meldungen, die höchstens auf den Versand warten
+	 * @param maxBatchSize die Anzahl der Meldungen, die höchstens in einer Nachricht
+	 * zusammengefasst werden
+	 */
+	public MqttSolverProgressLogger(
+			@Nonnull final String serverURI,
+			final int queueCapacity,
+			final int maxBatchSize) {
+
+		this(serverURI, queueCapacity, maxBatchSize, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die URI des Servers, die Größen für Puffer und Nachrichten und das
+	 * Verfahren für einen vollen Puffer fest.
+	 *
+	 * @param serverURI die zu setzende URI
+	 * @param queueCapacity die Anzahl der Meldungen, die höchstens auf den Versand warten
+	 * @param maxBatchSize die Anzahl der Meldungen, die höchstens in einer Nachricht
+	 * zusammengefasst werden
+	 * @param overflowPolicy das Verfahren für einen vollen Puffer
+	 */
+	public MqttSolverProgressLogger(
+			@Nonnull final String serverURI,
+			final int queueCapacity,
+			final int maxBatchSize,
+			@Nonnull final OverflowPolicy overflowPolicy) {
+
+		this(
+				serverURI,
+				queueCapacity,
+				maxBatchSize,
+				overflowPolicy,
+				MqttAsyncClient::new,
+				Thread::new);
 	}
 
 	/**
 	 * Dieser Konstruktor ermöglicht das Einschleusen von Objekten zum Testen.
 	 *
 	 * @param serverURI die zu setzende URI
+	 * @param queueCapacity die Anzahl der Meldungen, die höchstens auf den Versand warten
+	 * @param maxBatchSize die Anzahl der Meldungen, die höchstens in einer Nachricht
+	 * zusammengefasst werden
+	 * @param overflowPolicy das Verfahren für einen vollen Puffer
 	 * @param mqttClientFactory die zu setzende Fabrik für Clients
+	 * @param threadFactory die Fabrikmethode für den Hintergrund-Thread
+	 * @throws IllegalArgumentException falls eine Größe kleiner als 1 ist
 	 */
 	protected MqttSolverProgressLogger(
 			@Nonnull final String serverURI,
-			@Nonnull final MqttClientFactory mqttClientFactory) {
+			final int queueCapacity,
+			final int maxBatchSize,
+			@Nonnull final OverflowPolicy overflowPolicy,
+			@Nonnull final MqttClientFactory mqttClientFactory,
+			@Nonnull final Function<Runnable, Thread> threadFactory) {
+
+		if (maxBatchSize < 1) {
+			throw new IllegalArgumentException("Batch size must be positive!");
+		}
 
 		try {
 			this.client = mqttClientFactory.create(serverURI, UUID.randomUUID().toString());
 		} catch (MqttException e) {
 			throw new RuntimeException(e);
 		}
+
+		this.queue = new RingBuffer<>(queueCapacity, overflowPolicy);
+		this.maxBatchSize = maxBatchSize;
+		this.publisherThread = threadFactory.apply(this::publishRepeatedly);
+		this.publisherThread.setDaemon(true);
+		this.publisherThread.start();
 	}
 
+	/**
+	 * Diese Methode stellt eine Meldung zum Versand in den Puffer.
+	 *
+	 * <p>
+	 *     Ist der Puffer voll, wird nach dem festgelegten {@link OverflowPolicy Verfahren}
+	 *     verfahren.
+	 * </p>
+	 *
+	 * @param message die Meldung
+	 */
 	@Override
 	public void log(@Nonnull final String message) {
+		this.queue.offer(message);
+	}
+
+	/**
+	 * Diese Methode versendet die Meldungen aus dem Puffer, bis die Ausgabe geschlossen und der
+	 * Puffer geleert wurde.
+	 */
+	private void publishRepeatedly() {
 		try {
-			if (!this.client.isConnected()) {
-				this.client.connect();
+			while (!this.closed || !this.queue.isEmpty()) {
+				this.publishNextBatch();
 			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
 
-			this.client.publish("PuzzleSolverStatus", this.createMessage(message));
+	/**
+	 * Diese Methode wartet auf Meldungen und versendet die vorliegenden Meldungen in einer
+	 * Nachricht.
+	 *
+	 * @return {@code true}, falls Meldungen entnommen wurden, sonst {@code false}
+	 * @throws InterruptedException falls der Thread beim Warten unterbrochen wurde
+	 */
+	protected boolean publishNextBatch() throws InterruptedException {
+		String first = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		List<String> batch = new ArrayList<>();
+
+		if (first == null) {
+			return false;
+		}
+
+		batch.add(first);
+		this.queue.drainTo(batch, this.maxBatchSize - 1);
+
+		try {
+			if (this.ensureConnected()) {
+				this.client.publish(TOPIC, this.createMessage(String.join("\n", batch)))
+						.waitForCompletion(COMPLETION_TIMEOUT_MILLIS);
+				return true;
+			}
 		} catch (MqttException e) {
-			throw new RuntimeException(e);
+			this.nextConnectTime = System.nanoTime() + RECONNECT_DELAY_NANOS;
 		}
+
+		this.failedCount.add(batch.size());
+		return true;
+	}
+
+	/**
+	 * Diese Methode stellt die Verbindung zum Server her, falls sie nicht besteht.
+	 *
+	 * <p>
+	 *     Nach einem fehlgeschlagenen Verbindungsaufbau wird eine Sekunde lang kein neuer Versuch
+	 *     unternommen, damit ein nicht erreichbarer Server nicht fortwährend angefragt wird.
+	 * </p>
+	 *
+	 * @return {@code true}, falls eine Verbindung besteht, sonst {@code false}
+	 * @throws MqttException falls der Verbindungsaufbau fehlschlägt
+	 */
+	private boolean ensureConnected() throws MqttException {
+		if (this.client.isConnected()) {
+			return true;
+		}
+
+		if (System.nanoTime() - this.nextConnectTime < 0) {
+			return false;
+		}
+
+		this.client.connect().waitForCompletion(COMPLETION_TIMEOUT_MILLIS);
+		return true;
 	}
 
 	/**
@@ -77,6 +311,63 @@ public class MqttSolverProgressLogger implements SolverProgressLogger {
 		return result;
 	}
 
+	/**
+	 * Diese Methode versendet die verbliebenen Meldungen und trennt anschließend die Verbindung.
+	 *
+	 * <p>
+	 *     Anschließend wird der Puffer geschlossen, damit bei {@link OverflowPolicy#BLOCK} kein
+	 *     Thread auf einen Puffer wartet, der nicht mehr geleert wird.
+	 * </p>
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+
+		try {
+			this.publisherThread.join(CLOSE_TIMEOUT_MILLIS);
+			this.queue.close();
+
+			if (this.client.isConnected()) {
+				this.client.disconnect().waitForCompletion(COMPLETION_TIMEOUT_MILLIS);
+			}
+
+			this.client.close();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (MqttException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode gibt das Verfahren für einen vollen Puffer zurück.
+	 *
+	 * @return das Verfahren
+	 */
+	@Nonnull
+	public OverflowPolicy getOverflowPolicy() {
+		return this.queue.getOverflowPolicy();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Meldungen zurück, die wegen eines vollen Puffers verworfen
+	 * wurden.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getDroppedCount() {
+		return this.queue.getDroppedCount();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Meldungen zurück, deren Versand fehlgeschlagen ist.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getFailedCount() {
+		return this.failedCount.sum();
+	}
+
 	/**
 	 * Diese Schnittstelle beschreibt die Fabrikmethode für den Client.
 	 */
@@ -93,6 +384,6 @@ public class MqttSolverProgressLogger implements SolverProgressLogger {
 		 * Herstellen der Verbindung an
 		 */
 		@Nonnull
-		MqttClient create(String serverURI, String clientId) throws MqttException;
+		MqttAsyncClient create(String serverURI, String clientId) throws MqttException;
 	}
 }
@@ -0,0 +1,49 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Aufzählung beschreibt, wie ein {@link RingBuffer} ein neues Element behandelt, wenn er
+ * voll ist.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Dieses Verfahren verdrängt das älteste Element, sodass stets die neuesten Elemente
+	 * vorliegen.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Dieses Verfahren verwirft das neue Element, sodass die ältesten Elemente erhalten bleiben.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * Dieses Verfahren lässt den einstellenden Thread warten, bis Platz frei wird, sodass kein
+	 * Element verloren geht.
+	 */
+	BLOCK;
+
+	/**
+	 * Diese Methode ermittelt ein Verfahren anhand seines Namens.
+	 *
+	 * <p>
+	 *     Groß- und Kleinschreibung werden nicht unterschieden, Bindestriche dürfen anstelle von
+	 *     Unterstrichen verwendet werden (z. B. {@code drop-newest}).
+	 * </p>
+	 *
+	 * @param name der Name des Verfahrens
+	 * @return das ermittelte Verfahren
+	 * @throws IllegalArgumentException falls kein Verfahren mit diesem Namen existiert
+	 */
+	@Nonnull
+	public static OverflowPolicy fromName(@Nonnull final String name) {
+		return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,119 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt die Funktionalität zum parallelen Lösen eines Puzzles mittels
+ * Brute-Force-Ansatz bereit.
+ *
+ * <p>
+ *     Der Suchraum wird durch {@link PrefixRangeSpliterator} anhand fester Präfixe der
+ *     Belegung aufgeteilt und in einem Fork-Join-Pool durchsucht. Sobald ein Thread eine
+ *     Lösung gefunden hat, beenden die übrigen Threads ihre Suche. Die Suche im gesamten
+ *     Suchraum verwendet dazu {@link PrefixRange#FULL}.
+ * </p>
+ *
+ * <p>
+ *     Ohne Aufruf von {@link #setParallelism(int)} wird der gemeinsame Fork-Join-Pool
+ *     verwendet. Andernfalls laufen alle Suchen dieser Instanz auf einem eigenen Pool mit der
+ *     angegebenen Anzahl an Threads, sodass etwa die Größe des {@link SolverExecutor} eines
+ *     Servers auch die Threads der parallelen Suchen begrenzt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ParallelPuzzleSolver extends PuzzleSolver {
+
+	/**
+	 * Dieses Feld enthält den Pool, in dem die Suchen laufen.
+	 */
+	@Nonnull
+	private volatile ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+	/**
+	 * Dieser Konstruktor legt das Delay zur Verzögerung der Anwendung fest.
+	 *
+	 * @param delay das zu verwendende Delay in Millisekunden
+	 */
+	public ParallelPuzzleSolver(final int delay) {
+		super(delay);
+	}
+
+	/**
+	 * Diese Methode legt einen eigenen Pool mit der angegebenen Anzahl an Threads fest.
+	 *
+	 * <p>
+	 *     Ein zuvor festgelegter eigener Pool wird beendet, nachdem die laufenden Suchen
+	 *     abgeschlossen sind.
+	 * </p>
+	 *
+	 * @param parallelism die Anzahl der Threads
+	 * @throws IllegalArgumentException falls die Anzahl kleiner als 1 ist
+	 */
+	@Override
+	public synchronized void setParallelism(final int parallelism) {
+		ForkJoinPool previous;
+
+		super.setParallelism(parallelism);
+		previous = this.forkJoinPool;
+		this.forkJoinPool = new ForkJoinPool(parallelism);
+
+		if (previous != ForkJoinPool.commonPool()) {
+			previous.shutdown();
+		}
+	}
+
+	/**
+	 * Diese Methode führt die Suche im Pool dieser Instanz aus, damit die parallelen Streams
+	 * dessen Threads verwenden.
+	 *
+	 * @param <T> der Typ des Ergebnisses
+	 * @param search die auszuführende Suche
+	 * @return das Ergebnis der Suche
+	 */
+	@Override
+	public <T> T runSearch(@Nonnull final Supplier<T> search) {
+		return this.forkJoinPool.invoke(ForkJoinTask.adapt(search::get));
+	}
+
+	/**
+	 * Diese Methode gibt das parallele Verfahren zurück.
+	 *
+	 * @param range der zu durchsuchende Teilraum
+	 * @return das Verfahren
+	 */
+	@Nonnull
+	@Override
+	protected SolverEngine getEngine(@Nonnull final PrefixRange range) {
+		return SolverEngine.PARALLEL;
+	}
+
+	@Nonnull
+	@Override
+	protected Stream<int[]> createPermutationStream(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final AtomicBoolean solutionFound) {
+
+		return this.createPermutationStream(puzzle, PrefixRange.FULL, solutionFound);
+	}
+
+	@Nonnull
+	@Override
+	protected Stream<int[]> createPermutationStream(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final PrefixRange range,
+			@Nonnull final AtomicBoolean solutionFound) {
+
+		return StreamSupport.stream(
+				new PrefixRangeSpliterator(puzzle.getSymbols().size(), range, solutionFound),
+				true);
+	}
+}
@@ -0,0 +1,291 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse beschreibt einen Teilraum der Suche über die Präfixe der Belegungen.
+ *
+ * <p>
+ *     Die k-Permutationen der Ziffern mit k = {@link #getPrefixLength()} werden in
+ *     lexikographischer Reihenfolge ab 0 durchnummeriert. Ein Bereich umfasst alle Belegungen,
+ *     deren erste k Ziffern eine Nummer von {@link #getBeginRank()} (inklusiv) bis
+ *     {@link #getEndRank()} (exklusiv) haben. Da die Suche die Belegungen ebenfalls
+ *     lexikographisch aufzählt, bildet ein solcher Bereich einen zusammenhängenden Abschnitt der
+ *     Suche, der ohne Prüfung der übrigen Belegungen durchlaufen werden kann.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public final class PrefixRange {
+
+	/**
+	 * Diese Konstante enthält die Basis des Zahlensystems.
+	 */
+	private static final int BASE = 10;
+
+	/**
+	 * Diese Konstante enthält den Bereich, der den gesamten Suchraum umfasst.
+	 */
+	@Nonnull
+	public static final PrefixRange FULL = new PrefixRange(0, 0, 1);
+
+	/**
+	 * Dieses Feld muss die Anzahl der Stellen des Präfixes enthalten.
+	 */
+	private final int prefixLength;
+
+	/**
+	 * Dieses Feld muss die Nummer des ersten Präfixes enthalten.
+	 */
+	private final long beginRank;
+
+	/**
+	 * Dieses Feld muss die Nummer nach dem letzten Präfix enthalten.
+	 */
+	private final long endRank;
+
+	/**
+	 * Dieser Konstruktor legt den Bereich fest.
+	 *
+	 * @param prefixLength die Anzahl der Stellen des Präfixes von 0 bis 10
+	 * @param beginRank die Nummer des ersten Präfixes
+	 * @param endRank die Nummer nach dem letzten Präfix
+	 * @throws IllegalArgumentException falls der Bereich leer ist oder über die Anzahl der
+	 * Präfixe hinausgeht
+	 */
+	public PrefixRange(final int prefixLength, final long beginRank, final long endRank) {
+		if (prefixLength < 0 || prefixLength > BASE) {
+			throw new IllegalArgumentException("Invalid prefix length: " + prefixLength);
+		}
+
+		if (beginRank < 0 || beginRank >= endRank || endRank > getPrefixCount(prefixLength)) {
+			throw new IllegalArgumentException(
+					"Invalid prefix range: [" + beginRank + ", " + endRank + ")");
+		}
+
+		this.prefixLength = prefixLength;
+		this.beginRank = beginRank;
+		this.endRank = endRank;
+	}
+
+	/**
+	 * Diese Methode ermittelt die Anzahl der Präfixe einer Länge.
+	 *
+	 * @param prefixLength die Anzahl der Stellen des Präfixes
+	 * @return die Anzahl der k-Permutationen der Ziffern mit k = {@code prefixLength}
+	 */
+	public static long getPrefixCount(final int prefixLength) {
+		return countPermutations(BASE, prefixLength);
+	}
+
+	/**
+	 * Diese Methode ermittelt die Anzahl der k-Permutationen von n Ziffern.
+	 *
+	 * @param available die Anzahl n der verfügbaren Ziffern
+	 * @param length die Anzahl k der zu belegenden Stellen
+	 * @return die ermittelte Anzahl oder 0, falls nicht genügend Ziffern verfügbar sind
+	 */
+	private static long countPermutations(final int available, final int length) {
+		long result = 1;
+
+		for (int digit = available; digit > available - length; digit--) {
+			result *= Math.max(digit, 0);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode teilt den Suchraum eines Rätsels in Bereiche auf.
+	 *
+	 * <p>
+	 *     Die Präfixlänge wird so klein gewählt, dass mindestens {@code minimumCount} Präfixe
+	 *     existieren, höchstens jedoch gleich der Anzahl der Symbole. Die Präfixe werden möglichst
+	 *     gleichmäßig auf die Bereiche verteilt. Hat das Rätsel zu wenige Symbole, entstehen
+	 *     entsprechend weniger Bereiche.
+	 * </p>
+	 *
+	 * @param symbolCount die Anzahl der Symbole des Rätsels
+	 * @param minimumCount die gewünschte Anzahl der Bereiche
+	 * @return die Bereiche in aufsteigender Reihenfolge
+	 * @throws IllegalArgumentException falls {@code minimumCount} kleiner als 1 ist
+	 */
+	@Nonnull
+	public static List<PrefixRange> split(final int symbolCount, final int minimumCount) {
+		List<PrefixRange> result = new ArrayList<>();
+		int length = 0;
+		long prefixCount;
+		int rangeCount;
+
+		if (minimumCount < 1) {
+			throw new IllegalArgumentException("minimumCount must be positive!");
+		}
+
+		while (getPrefixCount(length) < minimumCount && length < Math.min(symbolCount, BASE)) {
+			length++;
+		}
+
+		prefixCount = getPrefixCount(length);
+		rangeCount = (int) Math.min(prefixCount, minimumCount);
+
+		for (int index = 0; index < rangeCount; index++) {
+			result.add(new PrefixRange(
+					length,
+					prefixCount * index / rangeCount,
+					prefixCount * (index + 1) / rangeCount));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Stellen des Präfixes zurück.
+	 *
+	 * @return die Anzahl der Stellen
+	 */
+	public int getPrefixLength() {
+		return this.prefixLength;
+	}
+
+	/**
+	 * Diese Methode gibt die Nummer des ersten Präfixes zurück.
+	 *
+	 * @return die Nummer
+	 */
+	public long getBeginRank() {
+		return this.beginRank;
+	}
+
+	/**
+	 * Diese Methode gibt die Nummer nach dem letzten Präfix zurück.
+	 *
+	 * @return die Nummer
+	 */
+	public long getEndRank() {
+		return this.endRank;
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Präfixe im Bereich zurück.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getRankCount() {
+		return this.endRank - this.beginRank;
+	}
+
+	/**
+	 * Diese Methode ermittelt die Anzahl der Belegungen im Bereich.
+	 *
+	 * @param symbolCount die Anzahl der Symbole des Rätsels
+	 * @return die Anzahl der Belegungen
+	 */
+	public long getCandidateCount(final int symbolCount) {
+		return this.getRankCount()
+				* countPermutations(BASE - this.prefixLength, symbolCount - this.prefixLength);
+	}
+
+	/**
+	 * Diese Methode gibt den unteren Teil des Bereichs bis zur übergebenen Nummer zurück.
+	 *
+	 * @param rank die Nummer des ersten Präfixes des oberen Teils
+	 * @return der untere Teil
+	 * @throws IllegalArgumentException falls der Teil leer wäre
+	 */
+	@Nonnull
+	public PrefixRange lowerPart(final long rank) {
+		return new PrefixRange(this.prefixLength, this.beginRank, rank);
+	}
+
+	/**
+	 * Diese Methode gibt den oberen Teil des Bereichs ab der übergebenen Nummer zurück.
+	 *
+	 * @param rank die Nummer des ersten Präfixes des oberen Teils
+	 * @return der obere Teil
+	 * @throws IllegalArgumentException falls der Teil leer wäre
+	 */
+	@Nonnull
+	public PrefixRange upperPart(final long rank) {
+		return new PrefixRange(this.prefixLength, rank, this.endRank);
+	}
+
+	/**
+	 * Diese Methode beschreibt denselben Teilraum mit einem um eine Stelle längeren Präfix.
+	 *
+	 * <p>
+	 *     Auf jedes Präfix der Länge k folgen in lexikographischer Reihenfolge genau 10 - k
+	 *     Präfixe der Länge k + 1, deren Nummern sich daher durch Multiplikation ergeben.
+	 * </p>
+	 *
+	 * @return der verfeinerte Bereich
+	 * @throws IllegalArgumentException falls das Präfix bereits alle zehn Ziffern umfasst
+	 */
+	@Nonnull
+	public PrefixRange refine() {
+		int factor = BASE - this.prefixLength;
+
+		return new PrefixRange(
+				this.prefixLength + 1,
+				this.beginRank * factor,
+				this.endRank * factor);
+	}
+
+	/**
+	 * Diese Methode ermittelt die Ziffern des ersten Präfixes im Bereich.
+	 *
+	 * @return die Ziffern des Präfixes mit der Nummer {@link #getBeginRank()}
+	 */
+	@Nonnull
+	public int[] getFirstPrefix() {
+		int[] result = new int[this.prefixLength];
+		long remaining = this.beginRank;
+		int usedDigits = 0;
+
+		for (int position = 0; position < this.prefixLength; position++) {
+			long blockSize = countPermutations(
+					BASE - position - 1,
+					this.prefixLength - position - 1);
+			long skip = remaining / blockSize;
+			int digit = -1;
+
+			remaining %= blockSize;
+
+			do {
+				digit++;
+
+				if ((usedDigits & (1 << digit)) == 0) {
+					skip--;
+				}
+			} while (skip >= 0);
+
+			result[position] = digit;
+			usedDigits |= 1 << digit;
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		return other instanceof PrefixRange
+				&& this.prefixLength == ((PrefixRange) other).prefixLength
+				&& this.beginRank == ((PrefixRange) other).beginRank
+				&& this.endRank == ((PrefixRange) other).endRank;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.prefixLength, this.beginRank, this.endRank);
+	}
+
+	@Override
+	public String toString() {
+		return "PrefixRange[" + this.prefixLength + ": " + this.beginRank + ", "
+				+ this.endRank + ")";
+	}
+}
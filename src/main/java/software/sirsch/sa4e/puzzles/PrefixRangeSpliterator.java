@@ -0,0 +1,142 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen teilbaren {@link Spliterator} über die Belegungen eines
+ * {@link PrefixRange} bereit.
+ *
+ * <p>
+ *     {@link #trySplit()} halbiert den Bereich der Präfixe, solange die Traversierung noch nicht
+ *     begonnen wurde. Umfasst er nur noch ein Präfix, wird er zuvor mit
+ *     {@link PrefixRange#refine()} auf längere Präfixe umgestellt. Die Belegungen eines
+ *     Teilbereichs werden durch einen {@link DigitPermutationIterator} erzeugt. Alle Teile
+ *     teilen sich ein Abbruchkennzeichen. Über {@link PrefixRange#FULL} wird der gesamte
+ *     Suchraum durchlaufen.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PrefixRangeSpliterator implements Spliterator<int[]> {
+
+	/**
+	 * Dieses Feld muss die Anzahl der Stellen der Belegung enthalten.
+	 */
+	private final int size;
+
+	/**
+	 * Dieses Feld muss das gemeinsame Abbruchkennzeichen enthalten.
+	 */
+	@Nonnull
+	private final AtomicBoolean cancelled;
+
+	/**
+	 * Dieses Feld enthält den noch nicht abgetrennten Bereich.
+	 */
+	@Nonnull
+	private PrefixRange range;
+
+	/**
+	 * Dieses Feld enthält den Iterator, sobald die Traversierung begonnen wurde.
+	 */
+	@CheckForNull
+	private DigitPermutationIterator iterator;
+
+	/**
+	 * Dieser Konstruktor legt die Anzahl der Stellen und den Bereich fest.
+	 *
+	 * @param size die Anzahl der Stellen, die der Anzahl der Symbole des Rätsels entspricht
+	 * @param range der zu durchlaufende Bereich
+	 * @param cancelled das gemeinsame Abbruchkennzeichen
+	 * @throws IllegalArgumentException falls das Präfix länger als die Belegung ist
+	 */
+	public PrefixRangeSpliterator(
+			final int size,
+			@Nonnull final PrefixRange range,
+			@Nonnull final AtomicBoolean cancelled) {
+
+		if (size < 0 || range.getPrefixLength() > size) {
+			throw new IllegalArgumentException("prefix must not be longer than size!");
+		}
+
+		this.size = size;
+		this.range = range;
+		this.cancelled = cancelled;
+	}
+
+	@Override
+	public boolean tryAdvance(@Nonnull final Consumer<? super int[]> action) {
+		if (this.cancelled.get()) {
+			return false;
+		}
+
+		if (this.iterator == null) {
+			this.iterator = new DigitPermutationIterator(this.size, this.range);
+		}
+
+		if (!this.iterator.hasNext()) {
+			return false;
+		}
+
+		action.accept(this.iterator.next());
+		return true;
+	}
+
+	/**
+	 * Diese Methode trennt die untere Hälfte des noch nicht traversierten Bereichs ab.
+	 *
+	 * @return ein Spliterator über die untere Hälfte oder {@code null}, falls der Bereich nicht
+	 * weiter geteilt werden kann
+	 */
+	@Override
+	public Spliterator<int[]> trySplit() {
+		long middle;
+		PrefixRangeSpliterator result;
+
+		if (this.iterator != null || this.cancelled.get()) {
+			return null;
+		}
+
+		if (this.range.getRankCount() < 2 && this.range.getPrefixLength() < this.size - 1) {
+			this.range = this.range.refine();
+		}
+
+		if (this.range.getRankCount() < 2) {
+			return null;
+		}
+
+		middle = this.range.getBeginRank() + this.range.getRankCount() / 2;
+		result = new PrefixRangeSpliterator(
+				this.size,
+				this.range.lowerPart(middle),
+				this.cancelled);
+		this.range = this.range.upperPart(middle);
+		return result;
+	}
+
+	/**
+	 * Diese Methode schätzt die Anzahl der Belegungen im Bereich.
+	 *
+	 * <p>
+	 *     Vor Beginn der Traversierung ist die Schätzung exakt, danach wird sie nicht mehr
+	 *     angepasst.
+	 * </p>
+	 *
+	 * @return die geschätzte Anzahl
+	 */
+	@Override
+	public long estimateSize() {
+		return this.range.getCandidateCount(this.size);
+	}
+
+	@Override
+	public int characteristics() {
+		return Spliterator.NONNULL;
+	}
+}
@@ -19,13 +19,39 @@ public class PrintStreamSolverProgressLogger implements SolverProgressLogger {
 	@Nonnull
 	private final PrintStream out;
 
+	/**
+	 * Dieses Feld muss anzeigen, ob {@link #out} beim Schließen ebenfalls geschlossen wird.
+	 */
+	private final boolean closeStream;
+
 	/**
 	 * Dieser Initialisierungskonstruktor legt den {@link PrintStream} für die Ausgabe fest.
 	 *
 	 * @param out der zu setzende Ausgabedatenstrom
 	 */
 	public PrintStreamSolverProgressLogger(@Nonnull final PrintStream out) {
+		this(out, true);
+	}
+
+	/**
+	 * Dieser Initialisierungskonstruktor legt den {@link PrintStream} für die Ausgabe fest und
+	 * ob dieser beim Schließen ebenfalls geschlossen wird.
+	 *
+	 * <p>
+	 *     Für {@link System#out} darf der Datenstrom nicht geschlossen werden, da er von der
+	 *     gesamten Anwendung verwendet wird. Er wird dann beim Schließen nur geleert.
+	 * </p>
+	 *
+	 * @param out der zu setzende Ausgabedatenstrom
+	 * @param closeStream {@code true}, falls der Datenstrom beim Schließen geschlossen werden
+	 *                    soll, sonst {@code false}
+	 */
+	public PrintStreamSolverProgressLogger(
+			@Nonnull final PrintStream out,
+			final boolean closeStream) {
+
 		this.out = out;
+		this.closeStream = closeStream;
 	}
 
 	@Override
@@ -35,6 +61,10 @@ public class PrintStreamSolverProgressLogger implements SolverProgressLogger {
 
 	@Override
 	public void close() {
-		this.out.close();
+		if (this.closeStream) {
+			this.out.close();
+		} else {
+			this.out.flush();
+		}
 	}
 }
@@ -0,0 +1,284 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Locale;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt die Kennzahlen des Servers im Textformat von Prometheus bereit.
+ *
+ * <p>
+ *     Ausgegeben werden die {@link SolverMetrics}, die Auslastung des {@link SolverExecutor} und
+ *     die Zähler des {@link SolutionCache}. Raten wie die geprüften Belegungen je Sekunde werden
+ *     nicht hier berechnet, sondern von Prometheus aus den Zählern abgeleitet.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PrometheusMetricsFormatter {
+
+	/**
+	 * Diese Konstante enthält die Namen der Additionen in der Reihenfolge von
+	 * {@link Puzzle#getAdditions()}.
+	 */
+	@Nonnull
+	private static final List<String> ADDITION_NAMES = List.of(
+			"row1", "row2", "row3", "column1", "column2", "column3");
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nanosekunden je Sekunde.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * Dieses Feld muss die Kennzahlen der Suche enthalten.
+	 */
+	@Nonnull
+	private final SolverMetrics solverMetrics;
+
+	/**
+	 * Dieses Feld muss den Pool enthalten, auf dem die Rätsel gelöst werden.
+	 */
+	@Nonnull
+	private final SolverExecutor solverExecutor;
+
+	/**
+	 * Dieses Feld muss den Cache für die Lösungen enthalten.
+	 */
+	@Nonnull
+	private final SolutionCache solutionCache;
+
+	/**
+	 * Dieser Konstruktor legt die auszugebenden Quellen fest.
+	 *
+	 * @param solverMetrics die Kennzahlen der Suche
+	 * @param solverExecutor der Pool, auf dem die Rätsel gelöst werden
+	 * @param solutionCache der Cache für die Lösungen
+	 */
+	public PrometheusMetricsFormatter(
+			@Nonnull final SolverMetrics solverMetrics,
+			@Nonnull final SolverExecutor solverExecutor,
+			@Nonnull final SolutionCache solutionCache) {
+
+		this.solverMetrics = solverMetrics;
+		this.solverExecutor = solverExecutor;
+		this.solutionCache = solutionCache;
+	}
+
+	/**
+	 * Diese Methode erzeugt die Ausgabe mit den aktuellen Werten.
+	 *
+	 * @return die Kennzahlen im Textformat von Prometheus
+	 */
+	@Nonnull
+	public String format() {
+		StringBuilder out = new StringBuilder();
+
+		this.appendSolverMetrics(out);
+		this.appendExecutorMetrics(out);
+		this.appendCacheMetrics(out);
+		return out.toString();
+	}
+
+	/**
+	 * Diese Methode gibt die Kennzahlen der Suche aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 */
+	private void appendSolverMetrics(@Nonnull final StringBuilder out) {
+		appendHeader(out, "puzzles_solver_candidates_total", "counter",
+				"Number of digit assignments checked against the puzzle by engine. The columnwise"
+						+ " engine only checks complete assignments that satisfy all columns.");
+
+		for (SolverEngine engine : SolverEngine.values()) {
+			appendSample(out, "puzzles_solver_candidates_total", createEngineLabel(engine),
+					this.solverMetrics.getCandidateCount(engine));
+		}
+
+		appendHeader(out, "puzzles_solver_search_space_total", "counter",
+				"Number of digit assignments an exhaustive search would have checked by engine.");
+
+		for (SolverEngine engine : SolverEngine.values()) {
+			appendSample(out, "puzzles_solver_search_space_total", createEngineLabel(engine),
+					this.solverMetrics.getSearchSpaceSize(engine));
+		}
+
+		appendHeader(out, "puzzles_solver_pruning_ratio", "gauge",
+				"Share of the search space that did not need to be checked by engine.");
+
+		for (SolverEngine engine : SolverEngine.values()) {
+			appendSample(out, "puzzles_solver_pruning_ratio", createEngineLabel(engine),
+					this.solverMetrics.getPruningRatio(engine));
+		}
+
+		appendHeader(out, "puzzles_solver_contradictions_total", "counter",
+				"Number of assignments rejected by each addition.");
+
+		for (int addition = 0; addition < SolverMetrics.ADDITION_COUNT; addition++) {
+			appendSample(out, "puzzles_solver_contradictions_total",
+					"addition=\"" + ADDITION_NAMES.get(addition) + "\"",
+					this.solverMetrics.getContradictionCount(addition));
+		}
+
+		appendHeader(out, "puzzles_solver_solves_total", "counter",
+				"Number of searches by mode and result.");
+
+		for (SearchMode mode : SearchMode.values()) {
+			String modeLabel = createModeLabel(mode);
+
+			appendSample(out, "puzzles_solver_solves_total", modeLabel + ",result=\"found\"",
+					this.solverMetrics.getSolvedCount(mode));
+			appendSample(out, "puzzles_solver_solves_total",
+					modeLabel + ",result=\"not_found\"",
+					this.solverMetrics.getUnsolvedCount(mode));
+			appendSample(out, "puzzles_solver_solves_total",
+					modeLabel + ",result=\"cancelled\"",
+					this.solverMetrics.getCancelledCount(mode));
+		}
+
+		this.appendSolveDurations(out);
+	}
+
+	/**
+	 * Diese Methode gibt die Histogramme der Dauer der Suchen je Art aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 */
+	private void appendSolveDurations(@Nonnull final StringBuilder out) {
+		String name = "puzzles_solver_solve_duration_seconds";
+
+		appendHeader(out, name, "histogram", "Time spent searching by mode.");
+
+		for (SearchMode mode : SearchMode.values()) {
+			LatencyHistogram histogram = this.solverMetrics.getSolveDurations(mode);
+			String modeLabel = createModeLabel(mode);
+
+			for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+				appendSample(out, name + "_bucket",
+						modeLabel + ",le=\""
+								+ LatencyHistogram.getUpperBoundNanos(bucket) / NANOS_PER_SECOND
+								+ "\"",
+						histogram.getCumulativeCount(bucket));
+			}
+
+			appendSample(out, name + "_bucket", modeLabel + ",le=\"+Inf\"",
+					histogram.getCount());
+			appendSample(out, name + "_sum", modeLabel,
+					histogram.getTotalNanos() / NANOS_PER_SECOND);
+			appendSample(out, name + "_count", modeLabel, histogram.getCount());
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die Auslastung des Pools aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 */
+	private void appendExecutorMetrics(@Nonnull final StringBuilder out) {
+		appendHeader(out, "puzzles_executor_threads", "gauge",
+				"Number of threads solving puzzles.");
+		appendSample(out, "puzzles_executor_threads", "",
+				this.solverExecutor.getThreadCount());
+		appendHeader(out, "puzzles_executor_active_threads", "gauge",
+				"Number of threads currently solving a puzzle.");
+		appendSample(out, "puzzles_executor_active_threads", "",
+				this.solverExecutor.getActiveCount());
+		appendHeader(out, "puzzles_executor_queue_depth", "gauge",
+				"Number of puzzles waiting for a thread.");
+		appendSample(out, "puzzles_executor_queue_depth", "",
+				this.solverExecutor.getQueueDepth());
+		appendHeader(out, "puzzles_executor_queue_capacity", "gauge",
+				"Maximum number of puzzles waiting for a thread.");
+		appendSample(out, "puzzles_executor_queue_capacity", "",
+				this.solverExecutor.getQueueCapacity());
+	}
+
+	/**
+	 * Diese Methode gibt die Zähler des Caches aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 */
+	private void appendCacheMetrics(@Nonnull final StringBuilder out) {
+		appendHeader(out, "puzzles_cache_requests_total", "counter",
+				"Number of cache lookups by result.");
+		appendSample(out, "puzzles_cache_requests_total", "result=\"hit\"",
+				this.solutionCache.getHitCount());
+		appendSample(out, "puzzles_cache_requests_total", "result=\"miss\"",
+				this.solutionCache.getMissCount());
+		appendHeader(out, "puzzles_cache_evictions_total", "counter",
+				"Number of solutions evicted from the cache.");
+		appendSample(out, "puzzles_cache_evictions_total", "",
+				this.solutionCache.getEvictionCount());
+		appendHeader(out, "puzzles_cache_size", "gauge",
+				"Number of cached solutions.");
+		appendSample(out, "puzzles_cache_size", "", this.solutionCache.getSize());
+		appendHeader(out, "puzzles_cache_capacity", "gauge",
+				"Maximum number of cached solutions.");
+		appendSample(out, "puzzles_cache_capacity", "", this.solutionCache.getCapacity());
+	}
+
+	/**
+	 * Diese Methode erzeugt das Label eines Verfahrens.
+	 *
+	 * @param engine das Verfahren
+	 * @return das Label ohne geschweifte Klammern
+	 */
+	@Nonnull
+	private static String createEngineLabel(@Nonnull final SolverEngine engine) {
+		return "engine=\"" + engine.name().toLowerCase(Locale.ROOT) + "\"";
+	}
+
+	/**
+	 * Diese Methode erzeugt das Label einer Art der Suche.
+	 *
+	 * @param mode die Art der Suche
+	 * @return das Label ohne geschweifte Klammern
+	 */
+	@Nonnull
+	private static String createModeLabel(@Nonnull final SearchMode mode) {
+		return "mode=\"" + mode.name().toLowerCase(Locale.ROOT) + "\"";
+	}
+
+	/**
+	 * Diese Methode gibt die Beschreibung und den Typ einer Kennzahl aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 * @param name der Name der Kennzahl
+	 * @param type der Typ der Kennzahl
+	 * @param help die Beschreibung der Kennzahl
+	 */
+	private static void appendHeader(
+			@Nonnull final StringBuilder out,
+			@Nonnull final String name,
+			@Nonnull final String type,
+			@Nonnull final String help) {
+
+		out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+		out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+	}
+
+	/**
+	 * Diese Methode gibt einen Wert einer Kennzahl aus.
+	 *
+	 * @param out die zu befüllende Ausgabe
+	 * @param name der Name der Kennzahl
+	 * @param labels die Labels ohne geschweifte Klammern oder eine leere Zeichenkette
+	 * @param value der auszugebende Wert
+	 */
+	private static void appendSample(
+			@Nonnull final StringBuilder out,
+			@Nonnull final String name,
+			@Nonnull final String labels,
+			@Nonnull final Number value) {
+
+		out.append(name);
+
+		if (!labels.isEmpty()) {
+			out.append('{').append(labels).append('}');
+		}
+
+		out.append(' ').append(value).append('\n');
+	}
+}
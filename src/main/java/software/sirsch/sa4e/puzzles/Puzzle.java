@@ -55,6 +55,16 @@ public class Puzzle {
 		return this.symbols;
 	}
 
+	/**
+	 * Diese Methode gibt die Liste der Additionen zurück.
+	 *
+	 * @return die Additionen als unveränderliche Liste
+	 */
+	@Nonnull
+	public List<Addition> getAdditions() {
+		return this.additions;
+	}
+
 	/**
 	 * Diese Methode prüft, ob es sich bei der übergebenen Belegung von Ziffern um eine Lösung
 	 * des Zahlenrätsels handelt.
@@ -0,0 +1,312 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse beschreibt, wie viele Rätsel mit welcher Stellenzahl erzeugt werden sollen.
+ *
+ * <p>
+ *     Ein Profil wird aus einer Angabe der Form {@code stellen[@rate[/burst]]} gelesen:
+ * </p>
+ * <ul>
+ *     <li>
+ *         {@code stellen} ist eine kommagetrennte Liste von Stellenzahlen, jeweils optional mit
+ *         einem Gewicht, z. B. {@code 2:1,3:2,4:1}. Ohne Gewicht gilt 1.
+ *     </li>
+ *     <li>
+ *         {@code rate} ist die Anzahl der Rätsel je Sekunde. Ohne Angabe wird wie bisher ein
+ *         Rätsel je Minute erzeugt.
+ *     </li>
+ *     <li>
+ *         {@code burst} ist die höchste Anzahl Rätsel, die auf einmal erzeugt und gesendet wird.
+ *         Ohne Angabe wird ein Zehntel der Rate, mindestens jedoch 1, verwendet.
+ *     </li>
+ * </ul>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public final class PuzzleLoadProfile {
+
+	/**
+	 * Diese Konstante enthält die Standardrate von einem Rätsel je Minute.
+	 */
+	public static final double DEFAULT_RATE = 1d / 60;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bursts je Sekunde, nach der sich die
+	 * Standardgröße eines Bursts richtet.
+	 */
+	private static final int DEFAULT_BURSTS_PER_SECOND = 10;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Millisekunden je Sekunde.
+	 */
+	private static final double MILLIS_PER_SECOND = 1000d;
+
+	/**
+	 * Diese Konstante enthält den Anteil der Rate, unterhalb dessen die erreichte Rate als zu
+	 * gering gilt.
+	 */
+	private static final double RATE_TOLERANCE = 0.9d;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bursts, über die die erreichte Rate mindestens
+	 * gemessen wird.
+	 */
+	private static final int BURSTS_PER_RATE_CHECK = 10;
+
+	/**
+	 * Diese Konstante enthält die Mindestdauer einer Messung der erreichten Rate in
+	 * Millisekunden.
+	 */
+	private static final long MIN_RATE_CHECK_PERIOD = 10_000L;
+
+	/**
+	 * Dieses Feld muss die möglichen Stellenzahlen enthalten.
+	 */
+	@Nonnull
+	private final int[] numbersOfDigits;
+
+	/**
+	 * Dieses Feld muss die aufsummierten Gewichte der Stellenzahlen enthalten.
+	 */
+	@Nonnull
+	private final int[] cumulativeWeights;
+
+	/**
+	 * Dieses Feld muss die Anzahl der Rätsel je Sekunde enthalten.
+	 */
+	private final double rate;
+
+	/**
+	 * Dieses Feld muss die Größe eines Bursts enthalten.
+	 */
+	private final int burst;
+
+	/**
+	 * Dieser Konstruktor initialisiert die Felder.
+	 *
+	 * @param numbersOfDigits die möglichen Stellenzahlen
+	 * @param cumulativeWeights die aufsummierten Gewichte der Stellenzahlen
+	 * @param rate die Anzahl der Rätsel je Sekunde
+	 * @param burst die Größe eines Bursts
+	 */
+	private PuzzleLoadProfile(
+			@Nonnull final int[] numbersOfDigits,
+			@Nonnull final int[] cumulativeWeights,
+			final double rate,
+			final int burst) {
+
+		this.numbersOfDigits = numbersOfDigits;
+		this.cumulativeWeights = cumulativeWeights;
+		this.rate = rate;
+		this.burst = burst;
+	}
+
+	/**
+	 * Diese Methode liest ein Profil aus einer Angabe der Form {@code stellen[@rate[/burst]]}.
+	 *
+	 * @param specification die zu lesende Angabe
+	 * @return das gelesene Profil
+	 * @throws IllegalArgumentException falls die Angabe ungültig ist
+	 */
+	@Nonnull
+	public static PuzzleLoadProfile parse(@Nonnull final String specification) {
+		String[] digitsAndLoad = specification.split("@", 2);
+		String[] distribution = digitsAndLoad[0].split(",");
+		int[] numbersOfDigits = new int[distribution.length];
+		int[] cumulativeWeights = new int[distribution.length];
+		int totalWeight = 0;
+		double rate = DEFAULT_RATE;
+		int burst = 1;
+
+		for (int i = 0; i < distribution.length; i++) {
+			String[] digitsAndWeight = distribution[i].split(":", 2);
+
+			numbersOfDigits[i] = parsePositiveInt(digitsAndWeight[0], "numberOfDigits");
+			totalWeight += parseWeight(digitsAndWeight);
+			cumulativeWeights[i] = totalWeight;
+		}
+
+		if (digitsAndLoad.length > 1) {
+			String[] rateAndBurst = digitsAndLoad[1].split("/", 2);
+
+			rate = parseRate(rateAndBurst[0]);
+			burst = parseBurst(rateAndBurst, rate);
+		}
+
+		return new PuzzleLoadProfile(numbersOfDigits, cumulativeWeights, rate, burst);
+	}
+
+	/**
+	 * Diese Methode liest das Gewicht einer Stellenzahl.
+	 *
+	 * @param digitsAndWeight die Stellenzahl und optional das Gewicht
+	 * @return das gelesene Gewicht
+	 */
+	private static int parseWeight(@Nonnull final String[] digitsAndWeight) {
+		if (digitsAndWeight.length < 2) {
+			return 1;
+		}
+
+		return parsePositiveInt(digitsAndWeight[1], "weight");
+	}
+
+	/**
+	 * Diese Methode liest die Rate.
+	 *
+	 * @param value der zu lesende Wert
+	 * @return die gelesene Rate
+	 */
+	private static double parseRate(@Nonnull final String value) {
+		double rate;
+
+		try {
+			rate = Double.parseDouble(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("rate must be a number: " + value, e);
+		}
+
+		if (!(rate > 0) || Double.isInfinite(rate)) {
+			throw new IllegalArgumentException("rate must be positive: " + value);
+		}
+
+		return rate;
+	}
+
+	/**
+	 * Diese Methode liest die Größe eines Bursts oder leitet sie aus der Rate ab.
+	 *
+	 * @param rateAndBurst die Rate und optional die Größe eines Bursts
+	 * @param rate die bereits gelesene Rate
+	 * @return die Größe eines Bursts
+	 */
+	private static int parseBurst(@Nonnull final String[] rateAndBurst, final double rate) {
+		if (rateAndBurst.length < 2) {
+			return (int) Math.max(1, Math.ceil(rate / DEFAULT_BURSTS_PER_SECOND));
+		}
+
+		return parsePositiveInt(rateAndBurst[1], "burst");
+	}
+
+	/**
+	 * Diese Methode liest eine positive ganze Zahl.
+	 *
+	 * @param value der zu lesende Wert
+	 * @param name der Name des Werts für die Fehlermeldung
+	 * @return die gelesene Zahl
+	 */
+	private static int parsePositiveInt(@Nonnull final String value, @Nonnull final String name) {
+		int result;
+
+		try {
+			result = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException(name + " must be a number: " + value, e);
+		}
+
+		if (result < 1) {
+			throw new IllegalArgumentException(name + " must be positive: " + value);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode wählt entsprechend der Gewichte zufällig eine Stellenzahl aus.
+	 *
+	 * @param random der zu verwendende Pseudozufallszahlengenerator
+	 * @return die ausgewählte Stellenzahl
+	 */
+	public int nextNumberOfDigits(@Nonnull final Random random) {
+		int value = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+		int index = Arrays.binarySearch(this.cumulativeWeights, value + 1);
+
+		if (index < 0) {
+			index = -index - 1;
+		}
+
+		return this.numbersOfDigits[index];
+	}
+
+	/**
+	 * Diese Methode erzeugt einen {@link TokenBucket}, der die Rate dieses Profils einhält.
+	 *
+	 * <p>
+	 *     Der Eimer fasst zwei Bursts und enthält anfangs einen, sodass sofort ein Burst gesendet
+	 *     wird und geringe Schwankungen des Timers nicht zum Verlust von Marken führen.
+	 * </p>
+	 *
+	 * @return der erzeugte Eimer
+	 */
+	@Nonnull
+	public TokenBucket createTokenBucket() {
+		return new TokenBucket(2d * this.burst, this.rate, this.burst);
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Messung, die meldet, wenn die erreichte Rate die Rate dieses
+	 * Profils deutlich unterschreitet.
+	 *
+	 * @return die erzeugte Messung
+	 */
+	@Nonnull
+	public RateMonitor createRateMonitor() {
+		return new RateMonitor(
+				RATE_TOLERANCE * this.rate,
+				TimeUnit.MILLISECONDS.toNanos(this.getRateCheckPeriod()));
+	}
+
+	/**
+	 * Diese Methode ermittelt die Dauer, über die die erreichte Rate gemessen wird.
+	 *
+	 * <p>
+	 *     Gemessen wird über mehrere Bursts, damit die Stückelung in Bursts die Messung nicht
+	 *     verfälscht, mindestens jedoch über einige Sekunden.
+	 * </p>
+	 *
+	 * @return die Dauer in Millisekunden
+	 */
+	public long getRateCheckPeriod() {
+		return Math.max(
+				MIN_RATE_CHECK_PERIOD,
+				Math.round(BURSTS_PER_RATE_CHECK * this.burst * MILLIS_PER_SECOND / this.rate));
+	}
+
+	/**
+	 * Diese Methode ermittelt den Abstand, in dem der Eimer abgefragt werden soll.
+	 *
+	 * <p>
+	 *     Der Eimer wird doppelt so oft abgefragt, wie er einen Burst nachfüllt, damit volle
+	 *     Bursts ohne wesentliche Verzögerung gesendet werden.
+	 * </p>
+	 *
+	 * @return der Abstand in Millisekunden, mindestens 1
+	 */
+	public long getTickPeriod() {
+		return Math.max(1L, Math.round(this.burst * MILLIS_PER_SECOND / this.rate / 2));
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Rätsel je Sekunde zurück.
+	 *
+	 * @return die Rate
+	 */
+	public double getRate() {
+		return this.rate;
+	}
+
+	/**
+	 * Diese Methode gibt die höchste Anzahl Rätsel zurück, die auf einmal erzeugt wird.
+	 *
+	 * @return die Größe eines Bursts
+	 */
+	public int getBurst() {
+		return this.burst;
+	}
+}
@@ -1,21 +1,19 @@
 package software.sirsch.sa4e.puzzles;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
-import org.apache.commons.collections4.iterators.PermutationIterator;
-
 import static java.util.Spliterators.spliteratorUnknownSize;
 
 /**
@@ -26,6 +24,13 @@ import static java.util.Spliterators.spliteratorUnknownSize;
  */
 public class PuzzleSolver {
 
+	/**
+	 * Diese Konstante enthält die Abfrage des Abbruchkennzeichens für Suchen, die nicht
+	 * abgebrochen werden.
+	 */
+	@Nonnull
+	private static final BooleanSupplier NOT_CANCELLED = () -> false;
+
 	/**
 	 * Dieses Feld enthält das Delay zur Erzeugung der Permutationen in Millisekunden.
 	 */
@@ -38,6 +43,12 @@ public class PuzzleSolver {
 	@CheckForNull
 	private volatile SolverProgressLogger solverProgressLogger;
 
+	/**
+	 * Dieses Feld kann die Kennzahlen enthalten, in denen die Suchen erfasst werden.
+	 */
+	@CheckForNull
+	private volatile SolverMetrics solverMetrics;
+
 	/**
 	 * Dieser Konstruktor legt das Delay zur Verzögerung der Anwendung fest.
 	 *
@@ -59,32 +70,374 @@ public class PuzzleSolver {
 		this.solverProgressLogger = solverProgressLogger;
 	}
 
+	/**
+	 * Diese Methode legt die {@link SolverMetrics} fest.
+	 *
+	 * <p>
+	 *     Die Kennzahlen werden zu Beginn jeder Suche abgefragt. Eine Änderung wirkt sich daher
+	 *     erst auf die folgenden Suchen aus.
+	 * </p>
+	 *
+	 * @param solverMetrics die zu setzenden Kennzahlen oder {@code null} um die Erfassung zu
+	 * beenden
+	 */
+	public void setSolverMetrics(@CheckForNull final SolverMetrics solverMetrics) {
+		this.solverMetrics = solverMetrics;
+	}
+
+	/**
+	 * Diese Methode legt die Anzahl der Threads fest, auf denen die Suchen dieser Instanz
+	 * insgesamt höchstens laufen.
+	 *
+	 * <p>
+	 *     Sequentielle Verfahren durchsuchen den Suchraum auf dem aufrufenden Thread und
+	 *     ignorieren diese Einstellung.
+	 * </p>
+	 *
+	 * @param parallelism die Anzahl der Threads
+	 * @throws IllegalArgumentException falls die Anzahl kleiner als 1 ist
+	 */
+	public void setParallelism(final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive!");
+		}
+	}
+
+	/**
+	 * Diese Methode führt eine Suche dieser Instanz aus.
+	 *
+	 * <p>
+	 *     Die Streams von {@link #findAllSolutions(Puzzle, BooleanSupplier)} müssen innerhalb
+	 *     dieser Methode verarbeitet werden, damit parallele Verfahren die mit
+	 *     {@link #setParallelism(int)} festgelegten Threads verwenden. Sequentielle Verfahren
+	 *     führen die Suche auf dem aufrufenden Thread aus.
+	 * </p>
+	 *
+	 * @param <T> der Typ des Ergebnisses
+	 * @param search die auszuführende Suche
+	 * @return das Ergebnis der Suche
+	 */
+	public <T> T runSearch(@Nonnull final Supplier<T> search) {
+		return search.get();
+	}
+
 	/**
 	 * Diese Methode löst das Puzzle durch Durchprobieren von Permutationen.
 	 *
+	 * <p>
+	 *     Die Suche verändert die Symbole des Rätsels nicht. Das Rätsel kann daher von mehreren
+	 *     Threads gleichzeitig gelöst werden.
+	 * </p>
+	 *
 	 * @param puzzle das zu lösende Puzzle
-	 * @return die Symbole, mit gesetzten Werten oder eine leere Liste, falls keine Lösung gefunden
+	 * @return die gefundene Lösung oder {@link Optional#empty()}, falls keine Lösung gefunden
 	 * wurde
 	 */
-	public List<Symbol> solvePuzzle(@Nonnull final Puzzle puzzle) {
-		return this.createPermutationStreamWithDelay()
-				.filter(this.createIsSolutionPredicate(puzzle))
-				.findFirst()
-				.map(permutation -> puzzle.getSymbols())
-				.orElseGet(Collections::emptyList);
+	@Nonnull
+	public Optional<Solution> solvePuzzle(@Nonnull final Puzzle puzzle) {
+		return this.solvePuzzle(puzzle, NOT_CANCELLED);
 	}
 
 	/**
-	 * Diese Methode fügt dem {@link #createPermutationStream()} gegebenenfalls ein Delay hinzu.
+	 * Diese Methode löst das Puzzle und beendet die Suche vorzeitig, sobald sie abgebrochen wird.
+	 *
+	 * <p>
+	 *     Das Abbruchkennzeichen wird in kurzen Abständen abgefragt, sodass ein abgebrochener
+	 *     Aufruf seine Threads umgehend freigibt.
+	 * </p>
 	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @return die gefundene Lösung oder {@link Optional#empty()}, falls keine Lösung gefunden
+	 * wurde
+	 * @throws CancellationException falls die Suche abgebrochen wurde
+	 */
+	@Nonnull
+	public Optional<Solution> solvePuzzle(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		return this.solvePuzzle(puzzle, PrefixRange.FULL, cancelled);
+	}
+
+	/**
+	 * Diese Methode sucht eine Lösung des Puzzles nur unter den Belegungen eines Teilraums.
+	 *
+	 * <p>
+	 *     Die Belegungen außerhalb des Teilraums werden nicht erzeugt, sodass mehrere Knoten die
+	 *     Teilräume eines Rätsels unabhängig voneinander durchsuchen können. Ein Teilraum mit
+	 *     einem Präfix der Länge 0 umfasst den gesamten Suchraum und wird mit der Suchstrategie
+	 *     des Verfahrens durchsucht. Kürzere Teilräume werden stets in lexikographischer
+	 *     Reihenfolge durchlaufen, da sich die Nummerierung der Präfixe auf diese bezieht.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param range der zu durchsuchende Teilraum
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @return die gefundene Lösung oder {@link Optional#empty()}, falls im Teilraum keine Lösung
+	 * gefunden wurde
+	 * @throws IllegalArgumentException falls das Präfix länger als die Anzahl der Symbole ist
+	 * @throws CancellationException falls die Suche abgebrochen wurde
+	 */
+	@Nonnull
+	public Optional<Solution> solvePuzzle(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final PrefixRange range,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		SolverMetrics metrics = this.solverMetrics;
+
+		return measureSearch(
+				metrics,
+				SearchMode.FIRST_SOLUTION,
+				() -> this.solvePuzzle(puzzle, range, cancelled, metrics),
+				Optional::isPresent);
+	}
+
+	/**
+	 * Diese Methode löst das Puzzle und erfasst die geprüften Belegungen in den Kennzahlen.
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param range der zu durchsuchende Teilraum
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @param metrics die Kennzahlen oder {@code null}, falls keine erfasst werden
+	 * @return die gefundene Lösung oder {@link Optional#empty()}, falls keine Lösung gefunden
+	 * wurde
+	 */
+	@Nonnull
+	private Optional<Solution> solvePuzzle(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final PrefixRange range,
+			@Nonnull final BooleanSupplier cancelled,
+			@CheckForNull final SolverMetrics metrics) {
+
+		CompiledPuzzle compiledPuzzle = new CompiledPuzzle(puzzle);
+		AtomicBoolean solutionFound = new AtomicBoolean();
+
+		return this.runSearch(() -> this.createPermutationStreamWithDelay(
+				puzzle,
+				range,
+				solutionFound,
+				cancelled,
+				metrics)
+				.filter(this.createIsSolutionPredicate(
+						compiledPuzzle,
+						solutionFound,
+						this.getEngine(range),
+						metrics,
+						this.solverProgressLogger))
+				.findAny()
+				.map(compiledPuzzle::createSolution));
+	}
+
+	/**
+	 * Diese Methode ermittelt alle Lösungen des Puzzles.
+	 *
+	 * <p>
+	 *     Die Lösungen werden während der Verarbeitung des zurückgegebenen Streams gesucht. Durch
+	 *     Begrenzung des Streams, beispielsweise mit {@link Stream#limit(long)}, kann die Suche
+	 *     vorzeitig beendet werden. Die Reihenfolge der Lösungen ist nur bei sequentiellen
+	 *     Verfahren festgelegt. Der Stream sollte innerhalb von {@link #runSearch(Supplier)}
+	 *     verarbeitet werden.
+	 * </p>
+	 *
+	 * <p>
+	 *     Dauer und Ergebnis der Suche werden beim Schließen des Streams in den Kennzahlen
+	 *     erfasst. Der Stream sollte daher beispielsweise mit try-with-resources verarbeitet
+	 *     werden.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @return der Stream der Lösungen
+	 */
+	@Nonnull
+	public Stream<Solution> findAllSolutions(@Nonnull final Puzzle puzzle) {
+		return this.findAllSolutions(puzzle, NOT_CANCELLED);
+	}
+
+	/**
+	 * Diese Methode ermittelt alle Lösungen des Puzzles, bis die Suche abgebrochen wird.
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @return der Stream der Lösungen, dessen Verarbeitung nach dem Abbruch mit einer
+	 * {@link CancellationException} endet
+	 */
+	@Nonnull
+	public Stream<Solution> findAllSolutions(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		CompiledPuzzle compiledPuzzle = new CompiledPuzzle(puzzle);
+		SolverMetrics metrics = this.solverMetrics;
+		AtomicBoolean anySolutionFound = new AtomicBoolean();
+		long startTime = System.nanoTime();
+		Stream<Solution> result = this.createPermutationStreamWithDelay(
+				puzzle,
+				PrefixRange.FULL,
+				new AtomicBoolean(),
+				cancelled,
+				metrics)
+				.filter(this.createIsSolutionPredicate(
+						compiledPuzzle,
+						null,
+						this.getEngine(PrefixRange.FULL),
+						metrics,
+						this.solverProgressLogger))
+				.map(compiledPuzzle::createSolution)
+				.peek(solution -> anySolutionFound.set(true));
+
+		if (metrics == null) {
+			return result;
+		}
+
+		return result.onClose(() -> {
+			long duration = System.nanoTime() - startTime;
+
+			if (cancelled.getAsBoolean()) {
+				metrics.recordCancelled(SearchMode.ALL_SOLUTIONS, duration);
+			} else {
+				metrics.recordSolve(SearchMode.ALL_SOLUTIONS, duration, anySolutionFound.get());
+			}
+		});
+	}
+
+	/**
+	 * Diese Methode zählt die Lösungen des Puzzles.
+	 *
+	 * <p>
+	 *     Im Gegensatz zu {@link #findAllSolutions(Puzzle)} werden für die gefundenen Lösungen
+	 *     keine Objekte erzeugt.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param limit die Anzahl der Lösungen, nach der die Suche beendet wird
+	 * @return die Anzahl der gefundenen Lösungen, höchstens jedoch {@code limit}
+	 */
+	public long countSolutions(@Nonnull final Puzzle puzzle, final long limit) {
+		return this.countSolutions(puzzle, limit, NOT_CANCELLED);
+	}
+
+	/**
+	 * Diese Methode zählt die Lösungen des Puzzles, bis die Suche abgebrochen wird.
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param limit die Anzahl der Lösungen, nach der die Suche beendet wird
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @return die Anzahl der gefundenen Lösungen, höchstens jedoch {@code limit}
+	 * @throws CancellationException falls die Suche abgebrochen wurde
+	 */
+	public long countSolutions(
+			@Nonnull final Puzzle puzzle,
+			final long limit,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		CompiledPuzzle compiledPuzzle = new CompiledPuzzle(puzzle);
+		SolverMetrics metrics = this.solverMetrics;
+
+		return measureSearch(
+				metrics,
+				SearchMode.COUNT_SOLUTIONS,
+				() -> this.runSearch(() -> this.createPermutationStreamWithDelay(
+						puzzle,
+						PrefixRange.FULL,
+						new AtomicBoolean(),
+						cancelled,
+						metrics)
+						.filter(this.createIsSolutionPredicate(
+								compiledPuzzle,
+								null,
+								this.getEngine(PrefixRange.FULL),
+								metrics,
+								this.solverProgressLogger))
+						.limit(limit)
+						.count()),
+				count -> count > 0);
+	}
+
+	/**
+	 * Diese Methode führt eine Suche aus und erfasst deren Dauer und Ergebnis in den Kennzahlen.
+	 *
+	 * @param <T> der Typ des Ergebnisses
+	 * @param metrics die Kennzahlen oder {@code null}, falls keine erfasst werden
+	 * @param mode die Art der Suche
+	 * @param search die auszuführende Suche
+	 * @param solutionFound die Prüfung, ob das Ergebnis mindestens eine Lösung enthält
+	 * @return das Ergebnis der Suche
+	 * @throws CancellationException falls die Suche abgebrochen wurde
+	 */
+	@Nonnull
+	private static <T> T measureSearch(
+			@CheckForNull final SolverMetrics metrics,
+			@Nonnull final SearchMode mode,
+			@Nonnull final Supplier<T> search,
+			@Nonnull final Predicate<T> solutionFound) {
+
+		long startTime = System.nanoTime();
+		T result;
+
+		if (metrics == null) {
+			return search.get();
+		}
+
+		try {
+			result = search.get();
+		} catch (CancellationException e) {
+			metrics.recordCancelled(mode, System.nanoTime() - startTime);
+			throw e;
+		}
+
+		metrics.recordSolve(mode, System.nanoTime() - startTime, solutionFound.test(result));
+		return result;
+	}
+
+	/**
+	 * Diese Methode macht den {@link #createPermutationStream(Puzzle, AtomicBoolean)} abbrechbar
+	 * und fügt ihm gegebenenfalls ein Delay hinzu.
+	 *
+	 * <p>
+	 *     Ist der Teilraum kleiner als der gesamte Suchraum, wird stattdessen
+	 *     {@link #createPermutationStream(Puzzle, PrefixRange, AtomicBoolean)} verwendet.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param range der zu durchsuchende Teilraum
+	 * @param solutionFound das Kennzeichen, das nach dem Fund einer Lösung oder einem Abbruch
+	 * gesetzt wird und die Erzeugung weiterer Belegungen auch in parallelen Teilen beendet
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
+	 * @param metrics die Kennzahlen oder {@code null}, falls keine erfasst werden
 	 * @return der resultierende {@link Stream}
 	 */
 	@Nonnull
-	private Stream<List<Byte>> createPermutationStreamWithDelay() {
-		Stream<List<Byte>> result = this.createPermutationStream();
+	private Stream<int[]> createPermutationStreamWithDelay(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final PrefixRange range,
+			@Nonnull final AtomicBoolean solutionFound,
+			@Nonnull final BooleanSupplier cancelled,
+			@CheckForNull final SolverMetrics metrics) {
+
+		Stream<int[]> permutations;
+		Stream<int[]> result;
+
+		if (range.getPrefixLength() == 0) {
+			permutations = this.createPermutationStream(puzzle, solutionFound);
+		} else {
+			permutations = this.createPermutationStream(puzzle, range, solutionFound);
+		}
+
+		result = StreamSupport.stream(
+				new CancellableSpliterator<>(
+						permutations.spliterator(),
+						cancelled,
+						solutionFound),
+				permutations.isParallel());
+
+		if (metrics != null) {
+			metrics.recordSearch(this.getEngine(range), puzzle.getSymbols().size(), range);
+		}
 
 		if (this.delay > 0) {
-			result = result.map(this::delay);
+			result = result.map(permutation -> this.delay(permutation, solutionFound, cancelled));
 		}
 
 		return result;
@@ -93,11 +446,27 @@ public class PuzzleSolver {
 	/**
 	 * Diese Methode verzögert die Rückgabe um {@link #delay} Millisekunden.
 	 *
+	 * <p>
+	 *     Da bei einem Delay jede Belegung lange dauert, wird das Abbruchkennzeichen hier vor
+	 *     jeder Belegung abgefragt.
+	 * </p>
+	 *
 	 * @param permutation der zu verzögernde Wert
+	 * @param solutionFound das Kennzeichen, das bei einem Abbruch gesetzt wird
+	 * @param cancelled die Abfrage des Abbruchkennzeichens
 	 * @return der verzögerte Wert
 	 */
 	@Nonnull
-	private List<Byte> delay(@Nonnull final List<Byte> permutation) {
+	private int[] delay(
+			@Nonnull final int[] permutation,
+			@Nonnull final AtomicBoolean solutionFound,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		if (cancelled.getAsBoolean()) {
+			solutionFound.set(true);
+			throw new CancellationException("Search was cancelled!");
+		}
+
 		try {
 			Thread.sleep(this.delay);
 		} catch (InterruptedException e) {
@@ -110,61 +479,139 @@ public class PuzzleSolver {
 	/**
 	 * Diese Methode erzeugt einen Stream der Permutationen der Ziffern.
 	 *
+	 * <p>
+	 *     Der Stream wird sequentiell verarbeitet. Unterklassen können hier einen parallelen
+	 *     Stream erzeugen, der nach dem Setzen von {@code solutionFound} keine weiteren Elemente
+	 *     mehr liefern sollte.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param solutionFound das Kennzeichen, das nach dem Fund einer Lösung gesetzt wird
+	 * @return der erzeugte Stream
+	 */
+	@Nonnull
+	protected Stream<int[]> createPermutationStream(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final AtomicBoolean solutionFound) {
+
+		return StreamSupport.stream(this.createPermutationSpliterator(puzzle), false);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Stream der Permutationen der Ziffern in einem Teilraum.
+	 *
+	 * <p>
+	 *     Der Stream wird sequentiell verarbeitet. Unterklassen können hier einen parallelen
+	 *     Stream erzeugen, der nach dem Setzen von {@code solutionFound} keine weiteren Elemente
+	 *     mehr liefern sollte.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @param range der zu durchsuchende Teilraum
+	 * @param solutionFound das Kennzeichen, das nach dem Fund einer Lösung gesetzt wird
 	 * @return der erzeugte Stream
 	 */
 	@Nonnull
-	private Stream<List<Byte>> createPermutationStream() {
-		return StreamSupport.stream(this.createPermutationSpliterator(), false);
+	protected Stream<int[]> createPermutationStream(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final PrefixRange range,
+			@Nonnull final AtomicBoolean solutionFound) {
+
+		return StreamSupport.stream(
+				new PrefixRangeSpliterator(puzzle.getSymbols().size(), range, solutionFound),
+				false);
 	}
 
 	/**
 	 * Diese Methode erzeugt einen Spliterator der Permutationen der Ziffern.
 	 *
+	 * @param puzzle das zu lösende Puzzle
 	 * @return der erzeugte Spliterator
 	 */
 	@Nonnull
-	private Spliterator<List<Byte>> createPermutationSpliterator() {
-		return spliteratorUnknownSize(this.createPermutationIterator(), Spliterator.ORDERED);
+	private Spliterator<int[]> createPermutationSpliterator(@Nonnull final Puzzle puzzle) {
+		return spliteratorUnknownSize(
+				this.createCandidateIterator(puzzle),
+				Spliterator.ORDERED);
 	}
 
 	/**
-	 * Diese Methode erzeugt einen Iterator der Permutationen der Ziffern.
+	 * Diese Methode gibt das Verfahren zurück, unter dem eine Suche in den Kennzahlen erfasst
+	 * wird.
 	 *
-	 * @return der erzeugte Iterator
+	 * <p>
+	 *     Maßgeblich ist das Verfahren, das die Belegungen des Teilraums erzeugt, da davon
+	 *     abhängt, welche Belegungen überhaupt geprüft werden.
+	 * </p>
+	 *
+	 * @param range der zu durchsuchende Teilraum
+	 * @return das Verfahren
 	 */
 	@Nonnull
-	private Iterator<List<Byte>> createPermutationIterator() {
-		return new PermutationIterator<>(this.createDigits());
+	protected SolverEngine getEngine(@Nonnull final PrefixRange range) {
+		return SolverEngine.BRUTE_FORCE;
 	}
 
 	/**
-	 * Diese Methode erzeugt die Liste der Werte für die einzelnen Stellen von 0 bis 10.
+	 * Diese Methode erzeugt einen Iterator über die zu prüfenden Belegungen der Symbole.
+	 *
+	 * <p>
+	 *     Der Brute-Force-Ansatz liefert alle k-Permutationen der Ziffern, wobei k der Anzahl
+	 *     der Symbole entspricht. Unterklassen können hier eine Suchstrategie einsetzen, die nur
+	 *     einen Teil der Belegungen liefert.
+	 * </p>
 	 *
-	 * @return die erzeugte Liste
+	 * @param puzzle das zu lösende Puzzle
+	 * @return der erzeugte Iterator, dessen Elemente die Werte in der Reihenfolge von
+	 * {@link Puzzle#getSymbols()} enthalten und von ihm wiederverwendet werden dürfen
 	 */
 	@Nonnull
-	private List<Byte> createDigits() {
-		final int base = 10;
-
-		return IntStream.range(0, base)
-				.mapToObj(value -> (byte) value)
-				.collect(Collectors.toList());
+	protected Iterator<int[]> createCandidateIterator(@Nonnull final Puzzle puzzle) {
+		return new DigitPermutationIterator(puzzle.getSymbols().size());
 	}
 
 	/**
 	 * Diese Methode erzeugt ein {@link Predicate}, das prüft, ob die Permutation eine Lösung des
 	 * Rätsels ist.
 	 *
-	 * @param puzzle das zu verwendende Puzzle
+	 * <p>
+	 *     Der Logger wird einmal je Suche übergeben, damit nicht für jeden Kandidaten das
+	 *     volatile Feld {@link #solverProgressLogger} gelesen wird. Ein während der Suche
+	 *     gesetzter Logger gilt daher erst ab der nächsten Suche.
+	 * </p>
+	 *
+	 * @param compiledPuzzle das zu verwendende kompilierte Puzzle
+	 * @param solutionFound das Kennzeichen, das nach dem Fund einer Lösung gesetzt wird, oder
+	 * {@code null}, falls die Suche nach einer Lösung fortgesetzt werden soll
+	 * @param engine das Verfahren, unter dem die geprüften Belegungen erfasst werden
+	 * @param metrics die Kennzahlen oder {@code null}, falls keine erfasst werden
+	 * @param logger der Logger für den Fortschritt oder {@code null}, falls nicht geloggt wird
 	 * @return das erzeugte Prädikat
 	 */
 	@Nonnull
-	private Predicate<List<Byte>> createIsSolutionPredicate(@Nonnull final Puzzle puzzle) {
+	private Predicate<int[]> createIsSolutionPredicate(
+			@Nonnull final CompiledPuzzle compiledPuzzle,
+			@CheckForNull final AtomicBoolean solutionFound,
+			@Nonnull final SolverEngine engine,
+			@CheckForNull final SolverMetrics metrics,
+			@CheckForNull final SolverProgressLogger logger) {
+
 		return permutation -> {
-			boolean isSolution = puzzle.isSolution(permutation);
+			int contradiction = compiledPuzzle.findContradiction(permutation);
+			boolean isSolution = contradiction == CompiledPuzzle.NO_CONTRADICTION;
+
+			if (metrics != null) {
+				metrics.recordCandidate(engine, contradiction);
+			}
+
+			if (logger != null) {
+				logger.logPermutation(compiledPuzzle.getSymbols(), permutation, isSolution);
+			}
+
+			if (isSolution && solutionFound != null) {
+				solutionFound.set(true);
+			}
 
-			Optional.ofNullable(this.solverProgressLogger)
-					.ifPresent(logger -> logger.logPermutation(puzzle.getSymbols(), isSolution));
 			return isSolution;
 		};
 	}
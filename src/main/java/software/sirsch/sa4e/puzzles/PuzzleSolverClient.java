@@ -1,16 +1,26 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.io.Closeable;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 
 import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc;
 import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc.PuzzleSolverBlockingStub;
+import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc.PuzzleSolverFutureStub;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
 import io.grpc.Grpc;
 import io.grpc.InsecureChannelCredentials;
 import io.grpc.ManagedChannel;
@@ -18,22 +28,37 @@ import io.grpc.ManagedChannel;
 /**
  * Diese Klasse stellt den gRPC-Client für {@link PuzzleSolverService} bereit.
  *
+ * <p>
+ *     Ein Client kann mit mehreren Servern verbunden sein und verteilt die Anfragen dann nach der
+ *     angegebenen {@link LoadBalancingStrategy}. Die Channels werden beim Erzeugen geöffnet und
+ *     bleiben bis {@link #close()} bestehen, sodass ein Client für beliebig viele Anfragen aus
+ *     mehreren Threads gleichzeitig verwendet werden kann. Zum Teilen langlebiger Clients dient
+ *     {@link PuzzleSolverClientPool}.
+ * </p>
+ *
  * @author sirsch
  * @since 27.12.2022
  */
 public class PuzzleSolverClient implements Closeable {
 
 	/**
-	 * Dieses Feld muss den Channel enthalten.
+	 * Dieses Feld muss die Verbindungen zu den Servern enthalten.
+	 */
+	@Nonnull
+	private final List<Endpoint> endpoints;
+
+	/**
+	 * Dieses Feld muss das Verfahren zum Verteilen der Anfragen enthalten.
 	 */
 	@Nonnull
-	private final ManagedChannel channel;
+	private final LoadBalancingStrategy loadBalancingStrategy;
 
 	/**
-	 * Dieses Feld muss den Stub enthalten.
+	 * Dieses Feld muss den Zähler für das Verfahren {@link LoadBalancingStrategy#ROUND_ROBIN}
+	 * enthalten.
 	 */
 	@Nonnull
-	private final PuzzleSolverBlockingStub stub;
+	private final AtomicInteger nextEndpoint = new AtomicInteger();
 
 	/**
 	 * Dieses Feld muss den {@link Puzzle2ProtobufConverter} enthalten.
@@ -56,6 +81,26 @@ public class PuzzleSolverClient implements Closeable {
 				new Puzzle2ProtobufConverter());
 	}
 
+	/**
+	 * Dieser Konstruktor initialisiert je Server einen Channel.
+	 *
+	 * @param targets die Adressen der Server in der Form {@code host:port}
+	 * @param loadBalancingStrategy das Verfahren zum Verteilen der Anfragen
+	 */
+	public PuzzleSolverClient(
+			@Nonnull final List<String> targets,
+			@Nonnull final LoadBalancingStrategy loadBalancingStrategy) {
+
+		this(
+				targets.stream()
+						.map(target -> Grpc.newChannelBuilder(
+								target,
+								InsecureChannelCredentials.create()).build())
+						.collect(Collectors.toList()),
+				new Puzzle2ProtobufConverter(),
+				loadBalancingStrategy);
+	}
+
 	/**
 	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
 	 *
@@ -66,9 +111,31 @@ public class PuzzleSolverClient implements Closeable {
 			@Nonnull final ManagedChannel channel,
 			@Nonnull final Puzzle2ProtobufConverter puzzle2ProtobufConverter) {
 
-		this.channel = channel;
-		this.stub = PuzzleSolverGrpc.newBlockingStub(channel);
+		this(List.of(channel), puzzle2ProtobufConverter, LoadBalancingStrategy.ROUND_ROBIN);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param channels die zu setzenden Channels
+	 * @param puzzle2ProtobufConverter der zu setzende Converter
+	 * @param loadBalancingStrategy das Verfahren zum Verteilen der Anfragen
+	 * @throws IllegalArgumentException falls keine Channels übergeben werden
+	 */
+	protected PuzzleSolverClient(
+			@Nonnull final List<ManagedChannel> channels,
+			@Nonnull final Puzzle2ProtobufConverter puzzle2ProtobufConverter,
+			@Nonnull final LoadBalancingStrategy loadBalancingStrategy) {
+
+		if (channels.isEmpty()) {
+			throw new IllegalArgumentException("At least one server is required!");
+		}
+
+		this.endpoints = channels.stream()
+				.map(Endpoint::new)
+				.collect(Collectors.toUnmodifiableList());
 		this.puzzle2ProtobufConverter = puzzle2ProtobufConverter;
+		this.loadBalancingStrategy = loadBalancingStrategy;
 	}
 
 	/**
@@ -80,7 +147,78 @@ public class PuzzleSolverClient implements Closeable {
 	 * @throws RuntimeException falls das Rätsel keine Lösung hat
 	 */
 	public Map<Integer, Integer> solvePuzzle(@Nonnull final Puzzle puzzle) {
-		return this.extractResult(this.stub.solvePuzzle(this.convertRequest(puzzle)));
+		SolvePuzzleRequest request = this.convertRequest(puzzle);
+		Endpoint endpoint = this.selectEndpoint();
+
+		endpoint.outstandingCount.incrementAndGet();
+
+		try {
+			return this.extractResult(endpoint.blockingStub.solvePuzzle(request));
+		} finally {
+			endpoint.outstandingCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Diese Methode sendet ein Rätsel zum Lösen an einen Server, ohne auf die Antwort zu warten.
+	 *
+	 * <p>
+	 *     Das zurückgegebene Future wird im Transport-Thread von gRPC abgeschlossen. Aufwändige
+	 *     Folgeverarbeitung sollte daher mit einem eigenen Executor angehängt werden.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @return das Future mit der ermittelten Zuordnung von Symbol-ID zu Ziffernwert, das
+	 * mit einer {@link RuntimeException} fehlschlägt, falls das Rätsel keine Lösung hat
+	 */
+	@Nonnull
+	public CompletableFuture<Map<Integer, Integer>> solvePuzzleAsync(
+			@Nonnull final Puzzle puzzle) {
+
+		SolvePuzzleRequest request = this.convertRequest(puzzle);
+		Endpoint endpoint = this.selectEndpoint();
+		CompletableFuture<Map<Integer, Integer>> result = new CompletableFuture<>();
+
+		endpoint.outstandingCount.incrementAndGet();
+		Futures.addCallback(endpoint.futureStub.solvePuzzle(request), new FutureCallback<>() {
+
+			@Override
+			public void onSuccess(final SolvePuzzleResponse response) {
+				endpoint.outstandingCount.decrementAndGet();
+
+				try {
+					result.complete(PuzzleSolverClient.this.extractResult(response));
+				} catch (RuntimeException e) {
+					result.completeExceptionally(e);
+				}
+			}
+
+			@Override
+			public void onFailure(@Nonnull final Throwable throwable) {
+				endpoint.outstandingCount.decrementAndGet();
+				result.completeExceptionally(throwable);
+			}
+		}, MoreExecutors.directExecutor());
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode wählt die Verbindung für die nächste Anfrage aus.
+	 *
+	 * @return die ausgewählte Verbindung
+	 */
+	@Nonnull
+	private Endpoint selectEndpoint() {
+		if (this.loadBalancingStrategy == LoadBalancingStrategy.LEAST_OUTSTANDING) {
+			return this.endpoints.stream()
+					.min(Comparator.comparingInt(endpoint -> endpoint.outstandingCount.get()))
+					.orElseThrow();
+		}
+
+		return this.endpoints.get(Math.floorMod(
+				this.nextEndpoint.getAndIncrement(),
+				this.endpoints.size()));
 	}
 
 	/**
@@ -112,9 +250,57 @@ public class PuzzleSolverClient implements Closeable {
 	@Override
 	public void close() {
 		try {
-			this.channel.shutdownNow().awaitTermination(1, TimeUnit.MINUTES);
+			for (Endpoint endpoint : this.endpoints) {
+				endpoint.channel.shutdownNow();
+			}
+
+			for (Endpoint endpoint : this.endpoints) {
+				endpoint.channel.awaitTermination(1, TimeUnit.MINUTES);
+			}
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 		}
 	}
+
+	/**
+	 * Diese Klasse fasst den Channel zu einem Server mit dessen Stubs und der Anzahl der offenen
+	 * Anfragen zusammen.
+	 */
+	private static final class Endpoint {
+
+		/**
+		 * Dieses Feld muss den Channel enthalten.
+		 */
+		@Nonnull
+		private final ManagedChannel channel;
+
+		/**
+		 * Dieses Feld muss den blockierenden Stub enthalten.
+		 */
+		@Nonnull
+		private final PuzzleSolverBlockingStub blockingStub;
+
+		/**
+		 * Dieses Feld muss den asynchronen Stub enthalten.
+		 */
+		@Nonnull
+		private final PuzzleSolverFutureStub futureStub;
+
+		/**
+		 * Dieses Feld muss die Anzahl der offenen Anfragen enthalten.
+		 */
+		@Nonnull
+		private final AtomicInteger outstandingCount = new AtomicInteger();
+
+		/**
+		 * Dieser Konstruktor erzeugt die Stubs für einen Channel.
+		 *
+		 * @param channel der zu verwendende Channel
+		 */
+		private Endpoint(@Nonnull final ManagedChannel channel) {
+			this.channel = channel;
+			this.blockingStub = PuzzleSolverGrpc.newBlockingStub(channel);
+			this.futureStub = PuzzleSolverGrpc.newFutureStub(channel);
+		}
+	}
 }
@@ -0,0 +1,79 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen Pool wiederverwendbarer {@link PuzzleSolverClient}-Instanzen
+ * bereit.
+ *
+ * <p>
+ *     Für jede Liste von Serveradressen wird genau ein Client erzeugt und bei weiteren Abfragen
+ *     wiederverwendet. Solange der Pool besteht, fallen der Aufbau der TCP-Verbindung und der
+ *     HTTP/2-Handshake daher nur einmal je Server an und nicht bei jedem Rätsel. Die Clients
+ *     dürfen von den Aufrufern nicht geschlossen werden. Sie werden gemeinsam mit dem Pool durch
+ *     {@link #close()} geschlossen. Die Lebensdauer des Pools bestimmt sein Erzeuger, etwa ein
+ *     Kommando für die Dauer seiner Ausführung.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PuzzleSolverClientPool implements Closeable {
+
+	/**
+	 * Dieses Feld muss die Fabrikmethode für neue Clients enthalten.
+	 */
+	@Nonnull
+	private final Function<List<String>, PuzzleSolverClient> clientFactory;
+
+	/**
+	 * Dieses Feld muss die erzeugten Clients je Liste von Serveradressen enthalten.
+	 */
+	@Nonnull
+	private final Map<List<String>, PuzzleSolverClient> clients = new ConcurrentHashMap<>();
+
+	/**
+	 * Dieser Konstruktor legt das Verfahren zum Verteilen der Anfragen fest.
+	 *
+	 * @param loadBalancingStrategy das Verfahren, mit dem die Clients Anfragen auf ihre Server
+	 * verteilen
+	 */
+	public PuzzleSolverClientPool(@Nonnull final LoadBalancingStrategy loadBalancingStrategy) {
+		this(targets -> new PuzzleSolverClient(targets, loadBalancingStrategy));
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param clientFactory die zu setzende Fabrikmethode für neue Clients
+	 */
+	protected PuzzleSolverClientPool(
+			@Nonnull final Function<List<String>, PuzzleSolverClient> clientFactory) {
+
+		this.clientFactory = clientFactory;
+	}
+
+	/**
+	 * Diese Methode ermittelt den Client für die angegebenen Server und erzeugt ihn, falls er
+	 * noch nicht existiert.
+	 *
+	 * @param targets die Adressen der Server in der Form {@code host:port}
+	 * @return der gemeinsam verwendete Client
+	 */
+	@Nonnull
+	public PuzzleSolverClient getClient(@Nonnull final List<String> targets) {
+		return this.clients.computeIfAbsent(List.copyOf(targets), this.clientFactory);
+	}
+
+	@Override
+	public void close() {
+		this.clients.values().forEach(PuzzleSolverClient::close);
+		this.clients.clear();
+	}
+}
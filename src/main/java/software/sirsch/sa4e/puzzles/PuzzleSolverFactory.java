@@ -45,6 +45,12 @@ public class PuzzleSolverFactory {
 	@CheckForNull
 	private Consumer<PuzzleSolver> action;
 
+	/**
+	 * Dieses Feld enthält das Verfahren, mit dem neue Instanzen standardmäßig Rätsel lösen.
+	 */
+	@Nonnull
+	private SolverEngine engine = SolverEngine.BRUTE_FORCE;
+
 	/**
 	 * Die Singleton-Instance wird per {@link #getSingletonInstance()} bereitgestellt.
 	 */
@@ -71,13 +77,28 @@ public class PuzzleSolverFactory {
 	}
 
 	/**
-	 * Diese Methode erzeugt einen neuen {@link PuzzleSolver}.
+	 * Diese Methode erzeugt einen neuen {@link PuzzleSolver} mit dem eingestellten Verfahren.
 	 *
 	 * @param delay das zu verwendende Delay in Millisekunden
 	 * @return die erzeugte Instanz
+	 * @see #setEngine(SolverEngine)
 	 */
 	public synchronized PuzzleSolver create(final int delay) {
-		PuzzleSolver newInstance = new PuzzleSolver(delay);
+		return this.create(delay, this.engine);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen neuen {@link PuzzleSolver}.
+	 *
+	 * @param delay das zu verwendende Delay in Millisekunden
+	 * @param selectedEngine das zu verwendende Verfahren
+	 * @return die erzeugte Instanz
+	 */
+	public synchronized PuzzleSolver create(
+			final int delay,
+			@Nonnull final SolverEngine selectedEngine) {
+
+		PuzzleSolver newInstance = selectedEngine.createPuzzleSolver(delay);
 
 		if (this.action != null) {
 			this.action.accept(newInstance);
@@ -87,6 +108,19 @@ public class PuzzleSolverFactory {
 		return newInstance;
 	}
 
+	/**
+	 * Diese Methode legt das Verfahren fest, mit dem neue Instanzen standardmäßig Rätsel lösen.
+	 *
+	 * <p>
+	 *     Bereits erzeugte Instanzen sind davon nicht betroffen.
+	 * </p>
+	 *
+	 * @param engine das festzulegende Verfahren
+	 */
+	public synchronized void setEngine(@Nonnull final SolverEngine engine) {
+		this.engine = engine;
+	}
+
 	/**
 	 * Diese Methode legt die Aktion für neue Instanzen fest und führt die Aktion auf den bisher
 	 * erzeugten und noch vorhandenen Instanzen aus.
@@ -5,6 +5,7 @@ import java.io.UncheckedIOException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 import io.grpc.Server;
@@ -18,6 +19,15 @@ import io.grpc.ServerBuilder;
  */
 public class PuzzleSolverServer {
 
+	/**
+	 * Diese Konstante zeigt an, dass die Kennzahlen nicht per HTTP bereitgestellt werden.
+	 *
+	 * <p>
+	 *     Jeder negative Port hat dieselbe Bedeutung.
+	 * </p>
+	 */
+	public static final int METRICS_DISABLED = -1;
+
 	/**
 	 * Dieses Feld muss den {@link Server} enthalten.
 	 */
@@ -35,14 +45,106 @@ public class PuzzleSolverServer {
 	@Nonnull
 	private final Consumer<Thread> shutdownHookAdder;
 
+	/**
+	 * Dieses Feld muss den Pool enthalten, auf dem die Rätsel gelöst werden.
+	 */
+	@Nonnull
+	private final SolverExecutor solverExecutor;
+
+	/**
+	 * Dieses Feld muss den Cache für die Lösungen enthalten.
+	 */
+	@Nonnull
+	private final SolutionCache solutionCache;
+
+	/**
+	 * Dieses Feld muss die Kennzahlen der Suche enthalten.
+	 */
+	@Nonnull
+	private final SolverMetrics solverMetrics;
+
+	/**
+	 * Dieses Feld kann den Server enthalten, der die Kennzahlen per HTTP bereitstellt.
+	 */
+	@CheckForNull
+	private final MetricsHttpServer metricsHttpServer;
+
 	/**
 	 * Dieser Konstruktor legt den Port fest, auf dem der Server Verbindungen entgegennimmt.
 	 *
+	 * <p>
+	 *     Für das Lösen der Rätsel werden ein {@link SolverExecutor} und ein
+	 *     {@link SolutionCache} mit den Standardwerten verwendet. Die Kennzahlen werden nicht per
+	 *     HTTP bereitgestellt.
+	 * </p>
+	 *
 	 * @param port der zu verwendende Port
 	 */
 	public PuzzleSolverServer(final int port) {
 		this(
-				ServerBuilder.forPort(port).addService(new PuzzleSolverService()).build(),
+				port,
+				SolverExecutor.DEFAULT_THREAD_COUNT,
+				SolverExecutor.DEFAULT_QUEUE_CAPACITY,
+				SolutionCache.DEFAULT_CAPACITY,
+				METRICS_DISABLED);
+	}
+
+	/**
+	 * Dieser Konstruktor legt den Port, die Größe des Pools zum Lösen der Rätsel, die
+	 * Kapazität des Caches für die Lösungen und den Port für die Kennzahlen fest.
+	 *
+	 * @param port der zu verwendende Port
+	 * @param threadCount die Anzahl der Threads zum Lösen der Rätsel
+	 * @param queueCapacity die Anzahl der Rätsel, die höchstens auf einen Thread warten
+	 * @param cacheCapacity die Anzahl der zwischengespeicherten Lösungen
+	 * @param metricsPort der lokale Port, auf dem die Kennzahlen per HTTP bereitgestellt werden,
+	 * 0 für einen beliebigen freien Port oder {@link #METRICS_DISABLED}
+	 */
+	public PuzzleSolverServer(
+			final int port,
+			final int threadCount,
+			final int queueCapacity,
+			final int cacheCapacity,
+			final int metricsPort) {
+
+		this(
+				port,
+				new SolverExecutor(threadCount, queueCapacity),
+				new SolutionCache(cacheCapacity),
+				new SolverMetrics(),
+				metricsPort);
+	}
+
+	/**
+	 * Dieser Konstruktor erzeugt den Server für den übergebenen Pool, Cache und die Kennzahlen.
+	 *
+	 * @param port der zu verwendende Port
+	 * @param solverExecutor der zu verwendende Pool
+	 * @param solutionCache der zu verwendende Cache
+	 * @param solverMetrics die zu verwendenden Kennzahlen
+	 * @param metricsPort der Port für die Kennzahlen oder {@link #METRICS_DISABLED}
+	 */
+	private PuzzleSolverServer(
+			final int port,
+			@Nonnull final SolverExecutor solverExecutor,
+			@Nonnull final SolutionCache solutionCache,
+			@Nonnull final SolverMetrics solverMetrics,
+			final int metricsPort) {
+
+		this(
+				ServerBuilder.forPort(port)
+						.addService(new PuzzleSolverService(
+								solverExecutor,
+								solutionCache,
+								solverMetrics))
+						.build(),
+				solverExecutor,
+				solutionCache,
+				solverMetrics,
+				createMetricsHttpServer(metricsPort, new PrometheusMetricsFormatter(
+						solverMetrics,
+						solverExecutor,
+						solutionCache)),
 				Runtime.getRuntime()::addShutdownHook);
 	}
 
@@ -50,16 +152,47 @@ public class PuzzleSolverServer {
 	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
 	 *
 	 * @param server der zu setzende Server
+	 * @param solverExecutor der zu setzende Pool zum Lösen der Rätsel
+	 * @param solutionCache der zu setzende Cache für die Lösungen
+	 * @param solverMetrics die zu setzenden Kennzahlen der Suche
+	 * @param metricsHttpServer der zu setzende Server für die Kennzahlen oder {@code null}
 	 * @param shutdownHookAdder der zu setzende {@link Consumer} zum Hinzufügen von Shutdown-Hooks
 	 */
 	protected PuzzleSolverServer(
 			@Nonnull final Server server,
+			@Nonnull final SolverExecutor solverExecutor,
+			@Nonnull final SolutionCache solutionCache,
+			@Nonnull final SolverMetrics solverMetrics,
+			@CheckForNull final MetricsHttpServer metricsHttpServer,
 			@Nonnull final Consumer<Thread> shutdownHookAdder) {
 
 		this.server = server;
+		this.solverExecutor = solverExecutor;
+		this.solutionCache = solutionCache;
+		this.solverMetrics = solverMetrics;
+		this.metricsHttpServer = metricsHttpServer;
 		this.shutdownHookAdder = shutdownHookAdder;
 	}
 
+	/**
+	 * Diese Methode erzeugt den Server für die Kennzahlen, falls ein Port angegeben ist.
+	 *
+	 * @param metricsPort der Port für die Kennzahlen oder {@link #METRICS_DISABLED}
+	 * @param formatter die Ausgabe der Kennzahlen
+	 * @return der erzeugte Server oder {@code null}
+	 */
+	@CheckForNull
+	private static MetricsHttpServer createMetricsHttpServer(
+			final int metricsPort,
+			@Nonnull final PrometheusMetricsFormatter formatter) {
+
+		if (metricsPort < 0) {
+			return null;
+		}
+
+		return new MetricsHttpServer(metricsPort, formatter::format);
+	}
+
 	/**
 	 * Diese Methode führt den Server aus.
 	 *
@@ -86,19 +219,30 @@ public class PuzzleSolverServer {
 	protected void start() {
 		try {
 			this.server.start();
+
+			if (this.metricsHttpServer != null) {
+				this.metricsHttpServer.start();
+			}
 		} catch (IOException e) {
 			throw new UncheckedIOException(e);
 		}
 	}
 
 	/**
-	 * Diese Methode stoppt den Server.
+	 * Diese Methode stoppt den Server und anschließend den Server für die Kennzahlen und den Pool
+	 * zum Lösen der Rätsel.
 	 */
 	protected void stop() {
 		try {
 			this.server.shutdown().awaitTermination(1, TimeUnit.MINUTES);
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
+		} finally {
+			if (this.metricsHttpServer != null) {
+				this.metricsHttpServer.stop();
+			}
+
+			this.solverExecutor.shutdown();
 		}
 	}
 
@@ -112,4 +256,43 @@ public class PuzzleSolverServer {
 			Thread.currentThread().interrupt();
 		}
 	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Rätsel zurück, die auf einen Thread zum Lösen warten.
+	 *
+	 * @return die aktuelle Länge der Warteschlange
+	 */
+	public int getQueueDepth() {
+		return this.solverExecutor.getQueueDepth();
+	}
+
+	/**
+	 * Diese Methode gibt den Pool zurück, auf dem die Rätsel gelöst werden.
+	 *
+	 * @return der Pool
+	 */
+	@Nonnull
+	public SolverExecutor getSolverExecutor() {
+		return this.solverExecutor;
+	}
+
+	/**
+	 * Diese Methode gibt den Cache für die Lösungen zurück.
+	 *
+	 * @return der Cache
+	 */
+	@Nonnull
+	public SolutionCache getSolutionCache() {
+		return this.solutionCache;
+	}
+
+	/**
+	 * Diese Methode gibt die Kennzahlen der Suche zurück.
+	 *
+	 * @return die Kennzahlen
+	 */
+	@Nonnull
+	public SolverMetrics getSolverMetrics() {
+		return this.solverMetrics;
+	}
 }
@@ -10,11 +10,22 @@ public interface PuzzleSolverServerFactory {
 
 	/**
 	 * Diese Methode erzeugt einen {@link PuzzleSolverServer} und legt dabei den Port fest, auf dem
-	 * der Server Verbindungen entgegennimmt.
+	 * der Server Verbindungen entgegennimmt, sowie die Größe des Pools zum Lösen der Rätsel, die
+	 * Kapazität des Caches für die Lösungen und den Port für die Kennzahlen.
 	 *
 	 * @param port der zu verwendende Port
+	 * @param threadCount die Anzahl der Threads zum Lösen der Rätsel
+	 * @param queueCapacity die Anzahl der Rätsel, die höchstens auf einen Thread warten
+	 * @param cacheCapacity die Anzahl der zwischengespeicherten Lösungen
+	 * @param metricsPort der lokale Port für die Kennzahlen oder
+	 * {@link PuzzleSolverServer#METRICS_DISABLED}
 	 * @return die erzeugte Instanz
 	 */
 	@Nonnull
-	PuzzleSolverServer create(int port);
+	PuzzleSolverServer create(
+			int port,
+			int threadCount,
+			int queueCapacity,
+			int cacheCapacity,
+			int metricsPort);
 }
@@ -1,17 +1,32 @@
 package software.sirsch.sa4e.puzzles;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
 
+import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 
 import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse;
 
 import org.apache.commons.collections4.Factory;
 
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 /**
@@ -34,11 +49,55 @@ public class PuzzleSolverService extends PuzzleSolverGrpc.PuzzleSolverImplBase {
 	@Nonnull
 	private final PuzzleSolver puzzleSolver;
 
+	/**
+	 * Dieses Feld muss den {@link Executor} enthalten, auf dem die Rätsel gelöst werden.
+	 */
+	@Nonnull
+	private final Executor solverExecutor;
+
+	/**
+	 * Dieses Feld muss den Cache für die Lösungen enthalten.
+	 */
+	@Nonnull
+	private final SolutionCache solutionCache;
+
+	/**
+	 * Dieses Feld enthält die maximale Anzahl der Rätsel, die je Aufruf von
+	 * {@link #solvePuzzles(StreamObserver)} gleichzeitig angenommen werden.
+	 */
+	private final int batchWindow;
+
 	/**
 	 * Dieser Konstruktor nimmt die interne Initialisierung vor.
+	 *
+	 * <p>
+	 *     Dabei werden ein {@link SolverExecutor}, ein {@link SolutionCache} und
+	 *     {@link SolverMetrics} mit den Standardwerten erzeugt.
+	 * </p>
 	 */
 	public PuzzleSolverService() {
-		this(Protobuf2PuzzleConverter::new, PuzzleSolverFactory.getSingletonInstance().create());
+		this(new SolverExecutor(), new SolutionCache(), new SolverMetrics());
+	}
+
+	/**
+	 * Dieser Konstruktor legt den Pool, auf dem die Rätsel gelöst werden, den Cache für die
+	 * Lösungen und die Kennzahlen der Suche fest.
+	 *
+	 * @param solverExecutor der zu verwendende Pool
+	 * @param solutionCache der zu verwendende Cache
+	 * @param solverMetrics die Kennzahlen, in denen die Suchen erfasst werden
+	 */
+	public PuzzleSolverService(
+			@Nonnull final SolverExecutor solverExecutor,
+			@Nonnull final SolutionCache solutionCache,
+			@Nonnull final SolverMetrics solverMetrics) {
+
+		this(
+				Protobuf2PuzzleConverter::new,
+				createPuzzleSolver(solverMetrics, solverExecutor.getThreadCount()),
+				solverExecutor,
+				solutionCache,
+				solverExecutor.getThreadCount());
 	}
 
 	/**
@@ -47,13 +106,120 @@ public class PuzzleSolverService extends PuzzleSolverGrpc.PuzzleSolverImplBase {
 	 * @param protobuf2PuzzleConverterFactory der zu setzende Farbrik für
 	 * {@link Protobuf2PuzzleConverter}
 	 * @param puzzleSolver der zu setzende {@link PuzzleSolver}
+	 * @param solverExecutor der zu setzende {@link Executor} zum Lösen der Rätsel
+	 * @param solutionCache der zu setzende Cache für die Lösungen
+	 * @param batchWindow die maximale Anzahl gleichzeitig angenommener Rätsel je Stapel
 	 */
 	protected PuzzleSolverService(
 			@Nonnull final Factory<Protobuf2PuzzleConverter> protobuf2PuzzleConverterFactory,
-			@Nonnull final PuzzleSolver puzzleSolver) {
+			@Nonnull final PuzzleSolver puzzleSolver,
+			@Nonnull final Executor solverExecutor,
+			@Nonnull final SolutionCache solutionCache,
+			final int batchWindow) {
 
 		this.protobuf2PuzzleConverterFactory = protobuf2PuzzleConverterFactory;
 		this.puzzleSolver = puzzleSolver;
+		this.solverExecutor = solverExecutor;
+		this.solutionCache = solutionCache;
+		this.batchWindow = batchWindow;
+	}
+
+	/**
+	 * Diese Methode erzeugt einen {@link PuzzleSolver}, der seine Suchen in den übergebenen
+	 * Kennzahlen erfasst.
+	 *
+	 * <p>
+	 *     Parallele Verfahren verwenden dabei höchstens so viele Threads wie der Pool, damit
+	 *     dessen Größe auch die Last der parallelen Suchen begrenzt.
+	 * </p>
+	 *
+	 * @param solverMetrics die zu verwendenden Kennzahlen
+	 * @param threadCount die Anzahl der Threads des Pools
+	 * @return die erzeugte Instanz
+	 */
+	@Nonnull
+	private static PuzzleSolver createPuzzleSolver(
+			@Nonnull final SolverMetrics solverMetrics,
+			final int threadCount) {
+
+		PuzzleSolver result = PuzzleSolverFactory.getSingletonInstance().create();
+
+		result.setSolverMetrics(solverMetrics);
+		result.setParallelism(threadCount);
+		return result;
+	}
+
+	/**
+	 * Diese Methode übergibt die Bearbeitung eines Aufrufs an den Pool.
+	 *
+	 * <p>
+	 *     Ist die Warteschlange des Pools voll, wird der Aufruf mit
+	 *     {@link Status#RESOURCE_EXHAUSTED} beendet, damit der Client es später erneut versuchen
+	 *     kann. Ist die Anfrage ungültig, wird der Aufruf mit {@link Status#INVALID_ARGUMENT}
+	 *     beendet. Schlägt die Bearbeitung anderweitig fehl, wird der Aufruf mit einem Fehler
+	 *     beendet.
+	 * </p>
+	 *
+	 * <p>
+	 *     Die Bearbeitung läuft im {@link Context} des Aufrufs. Die Suche fragt den Abbruch jedoch
+	 *     über {@link #captureCancelled()} ab, da sie auch auf Threads laufen kann, die diesen
+	 *     Context nicht kennen.
+	 * </p>
+	 *
+	 * @param responseObserver der Empfänger der Antworten
+	 * @param task die auszuführende Bearbeitung
+	 */
+	private void submit(
+			@Nonnull final StreamObserver<?> responseObserver,
+			@Nonnull final Runnable task) {
+
+		try {
+			this.solverExecutor.execute(Context.current().wrap(() -> {
+				try {
+					task.run();
+				} catch (CancellationException e) {
+					responseObserver.onError(Status.CANCELLED
+							.withDescription(e.getMessage())
+							.withCause(e)
+							.asRuntimeException());
+				} catch (IllegalArgumentException e) {
+					responseObserver.onError(Status.INVALID_ARGUMENT
+							.withDescription(e.getMessage())
+							.withCause(e)
+							.asRuntimeException());
+				} catch (RuntimeException e) {
+					responseObserver.onError(Status.UNKNOWN
+							.withDescription(e.getMessage())
+							.withCause(e)
+							.asRuntimeException());
+				}
+			}));
+		} catch (RejectedExecutionException e) {
+			responseObserver.onError(Status.RESOURCE_EXHAUSTED
+					.withDescription("Solver queue is full!")
+					.withCause(e)
+					.asRuntimeException());
+		}
+	}
+
+	/**
+	 * Diese Methode ermittelt die Abfrage, ob der aktuelle Aufruf abgebrochen wurde oder dessen
+	 * Deadline abgelaufen ist.
+	 *
+	 * <p>
+	 *     Der {@link Context} wird beim Aufruf dieser Methode festgehalten. Die Abfrage liefert
+	 *     daher auch auf Threads, die nur {@link Context#ROOT} sehen, etwa den Worker-Threads der
+	 *     parallelen Suche, den Zustand dieses Aufrufs. Die Methode muss deshalb auf dem Thread
+	 *     aufgerufen werden, auf dem gRPC den Aufruf übergibt.
+	 * </p>
+	 *
+	 * @return die Abfrage des Abbruchs
+	 */
+	@Nonnull
+	private BooleanSupplier captureCancelled() {
+		Context context = Context.current();
+
+		return context::isCancelled;
 	}
 
 	@Override
@@ -61,18 +227,190 @@ public class PuzzleSolverService extends PuzzleSolverGrpc.PuzzleSolverImplBase {
 			@Nonnull final SolvePuzzleRequest request,
 			@Nonnull final StreamObserver<SolvePuzzleResponse> responseObserver) {
 
-		responseObserver.onNext(this.solvePuzzle(request));
+		BooleanSupplier cancelled = this.captureCancelled();
+
+		this.submit(responseObserver, () -> {
+			responseObserver.onNext(this.solvePuzzle(request, cancelled));
+			responseObserver.onCompleted();
+		});
+	}
+
+	@Override
+	public void enumerateSolutions(
+			@Nonnull final EnumerateSolutionsRequest request,
+			@Nonnull final StreamObserver<EnumerateSolutionsResponse> responseObserver) {
+
+		BooleanSupplier cancelled = this.captureCancelled();
+
+		this.submit(
+				responseObserver,
+				() -> this.enumerateSolutionsNow(request, responseObserver, cancelled));
+	}
+
+	/**
+	 * Diese Methode sucht die Lösungen eines Rätsels und sendet die Antworten.
+	 *
+	 * @param request die auszuwertende Anfrage
+	 * @param responseObserver der Empfänger der Antworten
+	 * @param cancelled die Abfrage des Abbruchs des Aufrufs
+	 */
+	private void enumerateSolutionsNow(
+			@Nonnull final EnumerateSolutionsRequest request,
+			@Nonnull final StreamObserver<EnumerateSolutionsResponse> responseObserver,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		Puzzle puzzle = this.convertRequest(request.getPuzzle());
+		long limit = this.extractLimit(request);
+		long solutionCount;
+
+		if (request.getMode() == EnumerationMode.COUNT_ONLY) {
+			solutionCount = this.puzzleSolver.countSolutions(puzzle, limit, cancelled);
+		} else {
+			solutionCount = this.sendSolutions(puzzle, limit, responseObserver, cancelled);
+		}
+
+		responseObserver.onNext(EnumerateSolutionsResponse.newBuilder()
+				.setSolutionCount(solutionCount)
+				.setCompleted(true)
+				.build());
 		responseObserver.onCompleted();
 	}
 
+	/**
+	 * Diese Methode ermittelt die Begrenzung der Anzahl der zu suchenden Lösungen.
+	 *
+	 * @param request die auszuwertende Anfrage
+	 * @return die ermittelte Begrenzung, wobei {@link Long#MAX_VALUE} für unbegrenzt steht
+	 */
+	private long extractLimit(@Nonnull final EnumerateSolutionsRequest request) {
+		if (request.getLimit() <= 0) {
+			return Long.MAX_VALUE;
+		}
+
+		return request.getLimit();
+	}
+
+	/**
+	 * Diese Methode sucht die Lösungen eines Rätsels und sendet für jede Lösung eine Antwort.
+	 *
+	 * <p>
+	 *     Die Antworten werden nacheinander gesendet, auch wenn die Lösungen parallel gesucht
+	 *     werden, da {@link StreamObserver} nicht thread-safe ist.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 * @param limit die maximale Anzahl der zu suchenden Lösungen
+	 * @param responseObserver der Empfänger der Antworten
+	 * @param cancelled die Abfrage des Abbruchs des Aufrufs
+	 * @return die Anzahl der gesendeten Lösungen
+	 */
+	private long sendSolutions(
+			@Nonnull final Puzzle puzzle,
+			final long limit,
+			@Nonnull final StreamObserver<EnumerateSolutionsResponse> responseObserver,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		AtomicLong result = new AtomicLong();
+
+		this.puzzleSolver.runSearch(() -> {
+			try (Stream<Solution> solutions = this.puzzleSolver.findAllSolutions(
+					puzzle,
+					cancelled)) {
+
+				solutions.limit(limit).forEachOrdered(solution -> {
+					responseObserver.onNext(EnumerateSolutionsResponse.newBuilder()
+							.putAllSymbolIdToDigit(solution.getSymbolIdToDigit())
+							.build());
+					result.incrementAndGet();
+				});
+			}
+
+			return null;
+		});
+
+		return result.get();
+	}
+
+	/**
+	 * Diese Methode nimmt einen Strom von Rätseln entgegen und löst diese parallel.
+	 *
+	 * <p>
+	 *     Die Antworten werden gesendet, sobald das jeweilige Rätsel gelöst ist, und sind über die
+	 *     Request-Id der Anfrage zugeordnet. Der Antwortstrom wird beendet, nachdem der Client
+	 *     seinen Anfragestrom beendet hat und alle Rätsel gelöst sind.
+	 * </p>
+	 *
+	 * <p>
+	 *     Um die Warteschlange des Pools nicht zu überfluten, werden über die Flusskontrolle von
+	 *     gRPC höchstens so viele Rätsel angefordert, wie gleichzeitig angenommen werden. Für jedes
+	 *     beantwortete Rätsel wird ein weiteres angefordert.
+	 * </p>
+	 *
+	 * @param responseObserver der Empfänger der Antworten
+	 * @return der Empfänger der Anfragen
+	 */
+	@Override
+	public StreamObserver<SolvePuzzlesRequest> solvePuzzles(
+			@Nonnull final StreamObserver<SolvePuzzlesResponse> responseObserver) {
+
+		BatchRequestObserver result = new BatchRequestObserver(responseObserver);
+
+		if (responseObserver instanceof ServerCallStreamObserver) {
+			result.enableFlowControl((ServerCallStreamObserver<?>) responseObserver);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Diese Methode löst ein Rätsel.
 	 *
+	 * <p>
+	 *     Wurde ein Rätsel mit derselben Struktur bereits gelöst, wird die Lösung aus dem
+	 *     {@link SolutionCache} verwendet. Ist die Suche auf einen Teilraum beschränkt, wird der
+	 *     Cache umgangen, da das Ergebnis nicht für das gesamte Rätsel gilt.
+	 * </p>
+	 *
 	 * @param request die auszuwertende Anfrage
+	 * @param cancelled die Abfrage des Abbruchs des Aufrufs
 	 * @return die erzeugte Antwort
 	 */
-	private SolvePuzzleResponse solvePuzzle(@Nonnull final SolvePuzzleRequest request) {
-		return this.generateResponse(this.puzzleSolver.solvePuzzle(this.convertRequest(request)));
+	private SolvePuzzleResponse solvePuzzle(
+			@Nonnull final SolvePuzzleRequest request,
+			@Nonnull final BooleanSupplier cancelled) {
+
+		PrefixRange range = this.extractRange(request);
+
+		if (range.getPrefixLength() > 0) {
+			return this.generateResponse(this.puzzleSolver.solvePuzzle(
+					this.convertRequest(request),
+					range,
+					cancelled));
+		}
+
+		return this.generateResponse(this.solutionCache.solve(
+				this.convertRequest(request),
+				cancelled,
+				puzzle -> this.puzzleSolver.solvePuzzle(puzzle, cancelled)));
+	}
+
+	/**
+	 * Diese Methode ermittelt den zu durchsuchenden Teilraum aus einer Anfrage.
+	 *
+	 * @param request die auszuwertende Anfrage
+	 * @return der Teilraum, wobei {@link PrefixRange#FULL} für den gesamten Suchraum steht
+	 * @throws IllegalArgumentException falls der Teilraum ungültig ist
+	 */
+	@Nonnull
+	private PrefixRange extractRange(@Nonnull final SolvePuzzleRequest request) {
+		if (request.getPrefixLength() == 0) {
+			return PrefixRange.FULL;
+		}
+
+		return new PrefixRange(
+				request.getPrefixLength(),
+				request.getPrefixRankBegin(),
+				request.getPrefixRankEnd());
 	}
 
 	/**
@@ -88,28 +426,188 @@ public class PuzzleSolverService extends PuzzleSolverGrpc.PuzzleSolverImplBase {
 	/**
 	 * Diese Methode erzeugt die {@link SolvePuzzleResponse}.
 	 *
-	 * <p>
-	 *     Eine leere Liste bedeutet, dass keine Lösung gefunden wurde.
-	 * </p>
-	 *
-	 * @param result die Belegung der Symbole
+	 * @param result die gefundene Lösung oder {@link Optional#empty()}, falls keine Lösung
+	 * gefunden wurde
 	 * @return die erzeugte Antwort
 	 */
-	private SolvePuzzleResponse generateResponse(@Nonnull final List<Symbol> result) {
+	private SolvePuzzleResponse generateResponse(@Nonnull final Optional<Solution> result) {
 		return SolvePuzzleResponse.newBuilder()
-				.setSolutionFound(!result.isEmpty())
-				.putAllSymbolIdToDigit(this.collectSymbolIdToDigitMap(result))
+				.setSolutionFound(result.isPresent())
+				.putAllSymbolIdToDigit(result
+						.map(Solution::getSymbolIdToDigit)
+						.orElseGet(Collections::emptyMap))
 				.build();
 	}
 
 	/**
-	 * Diese Methode gibt die Zuordnung von Symbol-Id zu Symbol-Wert zurück.
+	 * Diese Klasse nimmt die Anfragen von {@link #solvePuzzles(StreamObserver)} entgegen.
 	 *
-	 * @param result das zu untersuchende Ergebnis
-	 * @return die erzeugte Zuordnung
+	 * <p>
+	 *     Designentscheidung: Da {@link StreamObserver} nicht thread-safe ist, werden alle Aufrufe
+	 *     auf den Empfänger der Antworten über diesen synchronisiert.
+	 * </p>
 	 */
-	private Map<Integer, Integer> collectSymbolIdToDigitMap(@Nonnull final List<Symbol> result) {
-		return result.stream()
-				.collect(Collectors.toMap(Symbol::getId, symbol -> (int) symbol.getBoundValue()));
+	private final class BatchRequestObserver implements StreamObserver<SolvePuzzlesRequest> {
+
+		/**
+		 * Dieses Feld muss den Empfänger der Antworten enthalten.
+		 */
+		@Nonnull
+		private final StreamObserver<SolvePuzzlesResponse> responseObserver;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der noch nicht beantworteten Rätsel zuzüglich eins,
+		 * solange der Anfragestrom nicht beendet ist.
+		 */
+		@Nonnull
+		private final AtomicInteger pending = new AtomicInteger(1);
+
+		/**
+		 * Dieses Feld zeigt an, dass der Aufruf durch den Client abgebrochen wurde.
+		 */
+		private volatile boolean cancelled;
+
+		/**
+		 * Dieses Feld enthält den Aufruf, über den weitere Rätsel angefordert werden, falls die
+		 * Flusskontrolle aktiviert ist.
+		 */
+		@CheckForNull
+		private volatile ServerCallStreamObserver<?> flowControl;
+
+		/**
+		 * Dieser Konstruktor legt den Empfänger der Antworten fest.
+		 *
+		 * @param responseObserver der zu setzende Empfänger
+		 */
+		private BatchRequestObserver(
+				@Nonnull final StreamObserver<SolvePuzzlesResponse> responseObserver) {
+
+			this.responseObserver = responseObserver;
+		}
+
+		/**
+		 * Diese Methode schaltet die automatische Anforderung von Rätseln ab und fordert die
+		 * ersten Rätsel an.
+		 *
+		 * <p>
+		 *     Die Methode muss noch während {@link #solvePuzzles(StreamObserver)} aufgerufen
+		 *     werden.
+		 * </p>
+		 *
+		 * @param call der zu steuernde Aufruf
+		 */
+		private void enableFlowControl(@Nonnull final ServerCallStreamObserver<?> call) {
+			call.disableAutoRequest();
+			call.request(Math.max(PuzzleSolverService.this.batchWindow, 1));
+			this.flowControl = call;
+		}
+
+		@Override
+		public void onNext(@Nonnull final SolvePuzzlesRequest request) {
+			BooleanSupplier callCancelled = PuzzleSolverService.this.captureCancelled();
+
+			this.pending.incrementAndGet();
+
+			try {
+				PuzzleSolverService.this.solverExecutor.execute(
+						Context.current().wrap(() -> this.solve(request, callCancelled)));
+			} catch (RejectedExecutionException e) {
+				this.sendError(request, "Puzzle rejected: " + e.getMessage());
+				this.releaseRequest();
+			}
+		}
+
+		/**
+		 * Diese Methode löst ein Rätsel und sendet die Antwort.
+		 *
+		 * @param request die zu bearbeitende Anfrage
+		 * @param callCancelled die Abfrage des Abbruchs des Aufrufs
+		 */
+		private void solve(
+				@Nonnull final SolvePuzzlesRequest request,
+				@Nonnull final BooleanSupplier callCancelled) {
+
+			try {
+				if (!this.cancelled) {
+					this.send(SolvePuzzlesResponse.newBuilder()
+							.setRequestId(request.getRequestId())
+							.setResponse(PuzzleSolverService.this.solvePuzzle(
+									request.getPuzzle(),
+									callCancelled))
+							.build());
+				}
+			} catch (RuntimeException e) {
+				this.sendError(request, String.valueOf(e.getMessage()));
+			} finally {
+				this.releaseRequest();
+			}
+		}
+
+		/**
+		 * Diese Methode sendet eine Fehlerantwort.
+		 *
+		 * @param request die fehlgeschlagene Anfrage
+		 * @param errorMessage die Fehlermeldung
+		 */
+		private void sendError(
+				@Nonnull final SolvePuzzlesRequest request,
+				@Nonnull final String errorMessage) {
+
+			this.send(SolvePuzzlesResponse.newBuilder()
+					.setRequestId(request.getRequestId())
+					.setErrorMessage(errorMessage)
+					.build());
+		}
+
+		/**
+		 * Diese Methode sendet eine Antwort, sofern der Aufruf nicht abgebrochen wurde.
+		 *
+		 * @param response die zu sendende Antwort
+		 */
+		private void send(@Nonnull final SolvePuzzlesResponse response) {
+			synchronized (this.responseObserver) {
+				if (!this.cancelled) {
+					this.responseObserver.onNext(response);
+				}
+			}
+		}
+
+		/**
+		 * Diese Methode vermerkt die Erledigung einer Anfrage und fordert bei aktivierter
+		 * Flusskontrolle das nächste Rätsel an.
+		 */
+		private void releaseRequest() {
+			ServerCallStreamObserver<?> call = this.flowControl;
+
+			if (call != null && !this.cancelled) {
+				call.request(1);
+			}
+
+			this.release();
+		}
+
+		/**
+		 * Diese Methode vermerkt die Erledigung einer Anfrage oder des Anfragestroms und beendet
+		 * den Antwortstrom, sobald alles erledigt ist.
+		 */
+		private void release() {
+			if (this.pending.decrementAndGet() == 0) {
+				synchronized (this.responseObserver) {
+					if (!this.cancelled) {
+						this.responseObserver.onCompleted();
+					}
+				}
+			}
+		}
+
+		@Override
+		public void onError(@Nonnull final Throwable throwable) {
+			this.cancelled = true;
+		}
+
+		@Override
+		public void onCompleted() {
+			this.release();
+		}
 	}
 }
@@ -23,7 +23,9 @@ public class PuzzlesApplication {
 			SolvePuzzleCommand.COMMAND_NAME, SolvePuzzleCommand::new,
 			RunServerCommand.COMMAND_NAME, RunServerCommand::new,
 			RequestSolvePuzzleCommand.COMMAND_NAME, RequestSolvePuzzleCommand::new,
+			RequestSolvePuzzleShardedCommand.COMMAND_NAME, RequestSolvePuzzleShardedCommand::new,
 			RunCamelCommand.COMMAND_NAME, RunCamelCommand::new,
+			DecodeTraceCommand.COMMAND_NAME, DecodeTraceCommand::new,
 			HelpCommand.COMMAND_NAME, HelpCommand::new));
 
 	/**
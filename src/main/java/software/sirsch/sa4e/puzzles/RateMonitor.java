@@ -0,0 +1,116 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.OptionalDouble;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt eine Messung der tatsächlich erreichten Rate bereit.
+ *
+ * <p>
+ *     Der Aufrufer meldet nach jeder Aktion mit {@link #record(int)}, wie viele Einheiten er
+ *     verarbeitet hat. Nach Ablauf eines Messfensters wird die erreichte Rate mit der
+ *     Mindestrate verglichen und das Fenster neu begonnen.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RateMonitor {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nanosekunden je Sekunde.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	/**
+	 * Dieses Feld muss die Mindestrate in Einheiten je Sekunde enthalten.
+	 */
+	private final double minimumRate;
+
+	/**
+	 * Dieses Feld muss die Länge eines Messfensters in Nanosekunden enthalten.
+	 */
+	private final long windowNanos;
+
+	/**
+	 * Dieses Feld muss die Uhr in Nanosekunden enthalten.
+	 */
+	@Nonnull
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Dieses Feld enthält den Beginn des aktuellen Messfensters in Nanosekunden.
+	 */
+	private long windowStart;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der im aktuellen Messfenster verarbeiteten Einheiten.
+	 */
+	private long count;
+
+	/**
+	 * Dieser Konstruktor legt Mindestrate und Messfenster fest.
+	 *
+	 * @param minimumRate die Mindestrate in Einheiten je Sekunde
+	 * @param windowNanos die Länge eines Messfensters in Nanosekunden
+	 */
+	public RateMonitor(final double minimumRate, final long windowNanos) {
+		this(minimumRate, windowNanos, System::nanoTime);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param minimumRate die Mindestrate in Einheiten je Sekunde
+	 * @param windowNanos die Länge eines Messfensters in Nanosekunden
+	 * @param nanoClock die zu setzende Uhr in Nanosekunden
+	 * @throws IllegalArgumentException falls Mindestrate oder Messfenster nicht positiv sind
+	 */
+	protected RateMonitor(
+			final double minimumRate,
+			final long windowNanos,
+			@Nonnull final LongSupplier nanoClock) {
+
+		if (!(minimumRate > 0) || windowNanos < 1) {
+			throw new IllegalArgumentException("minimumRate and windowNanos must be positive!");
+		}
+
+		this.minimumRate = minimumRate;
+		this.windowNanos = windowNanos;
+		this.nanoClock = nanoClock;
+		this.windowStart = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Diese Methode zählt verarbeitete Einheiten und prüft nach Ablauf des Messfensters die
+	 * erreichte Rate.
+	 *
+	 * @param processed die Anzahl der verarbeiteten Einheiten
+	 * @return die erreichte Rate in Einheiten je Sekunde, falls ein Messfenster abgelaufen ist
+	 * und die Mindestrate unterschritten wurde, sonst leer
+	 */
+	@Nonnull
+	public synchronized OptionalDouble record(final int processed) {
+		long now = this.nanoClock.getAsLong();
+		long elapsed = now - this.windowStart;
+		double achievedRate;
+
+		this.count += processed;
+
+		if (elapsed < this.windowNanos) {
+			return OptionalDouble.empty();
+		}
+
+		achievedRate = this.count * NANOS_PER_SECOND / elapsed;
+		this.windowStart = now;
+		this.count = 0;
+
+		if (achievedRate < this.minimumRate) {
+			return OptionalDouble.of(achievedRate);
+		}
+
+		return OptionalDouble.empty();
+	}
+}
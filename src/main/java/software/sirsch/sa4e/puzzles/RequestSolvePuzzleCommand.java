@@ -1,8 +1,14 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -25,6 +31,12 @@ public class RequestSolvePuzzleCommand implements Command {
 	 */
 	public static final String COMMAND_NAME = "request-solve-puzzle";
 
+	/**
+	 * Diese Konstante enthält die Beschreibung der Argumente.
+	 */
+	private static final String USAGE = "usage: request-solve-puzzle <serverHost[,serverHost...]> "
+			+ "<serverPort> <?numberOfDigits> <?numberOfPuzzles> <?loadBalancingStrategy>";
+
 	/**
 	 * Dieses Feld muss den {@link PrintStream} für die Ausgabe enthalten.
 	 */
@@ -44,16 +56,22 @@ public class RequestSolvePuzzleCommand implements Command {
 	private final Factory<PuzzleGenerator> puzzleGeneratorFactory;
 
 	/**
-	 * Dieses Feld muss die Fabrik für {@link PuzzleSolverClient} enthalten.
+	 * Dieses Feld muss die Fabrik für den {@link PuzzleSolverClientPool} je Verfahren zum
+	 * Verteilen der Anfragen enthalten.
 	 */
 	@Nonnull
-	private final PuzzleSolverClientFactory puzzleSolverClientFactory;
+	private final Function<LoadBalancingStrategy, PuzzleSolverClientPool>
+			puzzleSolverClientPoolFactory;
 
 	/**
 	 * Dieser Konstruktor führt die interne Initialisierung durch.
 	 */
 	public RequestSolvePuzzleCommand() {
-		this(System.out, new PuzzlePrinter(), PuzzleGenerator::new, PuzzleSolverClient::new);
+		this(
+				System.out,
+				new PuzzlePrinter(),
+				PuzzleGenerator::new,
+				PuzzleSolverClientPool::new);
 	}
 
 	/**
@@ -62,35 +80,64 @@ public class RequestSolvePuzzleCommand implements Command {
 	 * @param out der zu setzende {@link PrintStream} für die Ausgabe
 	 * @param puzzlePrinter der zu setzende {@link PuzzlePrinter}
 	 * @param puzzleGeneratorFactory die zu setzende Fabrik für {@link PuzzleGenerator}
-	 * @param puzzleSolverClientFactory die zu setzende Fabrik für {@link PuzzleSolverClient}
+	 * @param puzzleSolverClientPoolFactory die zu setzende Fabrik für den
+	 * {@link PuzzleSolverClientPool}
 	 */
 	protected RequestSolvePuzzleCommand(
 			@Nonnull final PrintStream out,
 			@Nonnull final PuzzlePrinter puzzlePrinter,
 			@Nonnull final Factory<PuzzleGenerator> puzzleGeneratorFactory,
-			@Nonnull final PuzzleSolverClientFactory puzzleSolverClientFactory) {
+			@Nonnull final Function<LoadBalancingStrategy, PuzzleSolverClientPool>
+					puzzleSolverClientPoolFactory) {
 
 		this.out = out;
 		this.puzzlePrinter = puzzlePrinter;
 		this.puzzleGeneratorFactory = puzzleGeneratorFactory;
-		this.puzzleSolverClientFactory = puzzleSolverClientFactory;
+		this.puzzleSolverClientPoolFactory = puzzleSolverClientPoolFactory;
 	}
 
 	/**
 	 * Diese Methode führt das Kommando aus.
 	 *
 	 * <p>
-	 *     Dabei wird als Argument der Dateiname für die Ausgabedatei erwartet.
+	 *     Dabei werden als Argumente der Host oder kommagetrennt mehrere Hosts, der Port sowie
+	 *     optional die Anzahl der Stellen, die Anzahl der Rätsel und das Verfahren zum Verteilen
+	 *     der Anfragen ({@code round-robin} oder {@code least-outstanding}, Standard) erwartet.
+	 *     Der {@link PuzzleSolverClientPool} besteht nur für die Dauer des Kommandos. Alle Rätsel
+	 *     werden gleichzeitig über einen gemeinsamen Client aus diesem Pool gesendet, sodass je
+	 *     Server nur ein Channel aufgebaut wird. Anschließend wird der Pool samt seiner Channels
+	 *     geschlossen.
 	 * </p>
 	 *
 	 * @param args die Argumente
 	 */
 	@Override
 	public void execute(@Nonnull final String... args) {
-		this.solvePuzzleRemotely(
-				this.extractHost(args),
-				this.extractPort(args),
-				this.generatePuzzle(this.extractNumberOfDigits(args)));
+		LoadBalancingStrategy loadBalancingStrategy = this.extractLoadBalancingStrategy(args);
+
+		try (PuzzleSolverClientPool pool =
+				this.puzzleSolverClientPoolFactory.apply(loadBalancingStrategy)) {
+			this.solvePuzzlesRemotely(
+					pool.getClient(
+							this.createTargets(this.extractHost(args), this.extractPort(args))),
+					this.generatePuzzles(
+							this.extractNumberOfDigits(args),
+							this.extractNumberOfPuzzles(args)));
+		}
+	}
+
+	/**
+	 * Diese Methode erzeugt die Adressen der Server.
+	 *
+	 * @param hosts die kommagetrennten Namen der Hosts
+	 * @param port der gemeinsame Port der Server
+	 * @return die Adressen in der Form {@code host:port}
+	 */
+	@Nonnull
+	private List<String> createTargets(@Nonnull final String hosts, @Nonnull final Integer port) {
+		return Arrays.stream(hosts.split(","))
+				.map(host -> host.trim() + ":" + port)
+				.collect(Collectors.toList());
 	}
 
 	/**
@@ -102,8 +149,7 @@ public class RequestSolvePuzzleCommand implements Command {
 	@Nonnull
 	private String extractHost(@Nonnull final String[] args) {
 		if (args.length < 2) {
-			throw new IllegalArgumentException(
-					"usage: request-solve-puzzle <serverHost> <serverPort> <?numberOfDigits>");
+			throw new IllegalArgumentException(USAGE);
 		}
 
 		return args[1];
@@ -119,8 +165,7 @@ public class RequestSolvePuzzleCommand implements Command {
 	@Nonnull
 	private Integer extractPort(@Nonnull final String[] args) {
 		if (args.length <= 2) {
-			throw new IllegalArgumentException(
-					"usage: request-solve-puzzle <serverHost> <serverPort> <?numberOfDigits>");
+			throw new IllegalArgumentException(USAGE);
 		}
 
 		return Integer.valueOf(args[2]);
@@ -146,53 +191,107 @@ public class RequestSolvePuzzleCommand implements Command {
 	}
 
 	/**
-	 * Diese Methode erzeugt das Puzzle.
+	 * Diese Methode ermittelt die Anzahl der zu lösenden Rätsel, falls das Argument vorhanden ist.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @return die ermittelte Anzahl
+	 */
+	private int extractNumberOfPuzzles(@Nonnull final String[] args) {
+		final int numberOfPuzzlesParameter = 4;
+
+		if (args.length > numberOfPuzzlesParameter) {
+			return Integer.parseInt(args[numberOfPuzzlesParameter]);
+		}
+
+		return 1;
+	}
+
+	/**
+	 * Diese Methode ermittelt das Verfahren zum Verteilen der Anfragen, falls das Argument
+	 * vorhanden ist.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @return das ermittelte Verfahren oder {@link LoadBalancingStrategy#LEAST_OUTSTANDING}
+	 * @throws IllegalArgumentException falls kein Verfahren mit dem angegebenen Namen existiert
+	 */
+	@Nonnull
+	private LoadBalancingStrategy extractLoadBalancingStrategy(@Nonnull final String[] args) {
+		final int loadBalancingStrategyParameter = 5;
+
+		if (args.length > loadBalancingStrategyParameter) {
+			return LoadBalancingStrategy.fromName(args[loadBalancingStrategyParameter]);
+		}
+
+		return LoadBalancingStrategy.LEAST_OUTSTANDING;
+	}
+
+	/**
+	 * Diese Methode erzeugt die Puzzles.
 	 *
 	 * @param numberOfDigits die Anzahl der zu erzeugenden Stellen oder {@code null} für Vorgabe
-	 * @return das erzeugte Puzzle
+	 * @param numberOfPuzzles die Anzahl der zu erzeugenden Puzzles
+	 * @return die erzeugten Puzzles
 	 */
-	private Puzzle generatePuzzle(@CheckForNull final Integer numberOfDigits) {
-		return this.puzzleGeneratorFactory.create()
-				.generate(defaultIfNull(numberOfDigits, 2));
+	@Nonnull
+	private List<Puzzle> generatePuzzles(
+			@CheckForNull final Integer numberOfDigits,
+			final int numberOfPuzzles) {
+
+		PuzzleGenerator puzzleGenerator = this.puzzleGeneratorFactory.create();
+
+		return IntStream.range(0, numberOfPuzzles)
+				.mapToObj(index -> puzzleGenerator.generate(defaultIfNull(numberOfDigits, 2)))
+				.collect(Collectors.toList());
 	}
 
 	/**
-	 * Diese Methode schickt ein Rätsel zur Lösung an einen Server.
+	 * Diese Methode schickt Rätsel zur Lösung an die Server und gibt die Lösungen aus.
 	 *
-	 * @param host der Hostname des Servers
-	 * @param port der Port des Servers
-	 * @param puzzle das zu lösende Puzzle
+	 * <p>
+	 *     Die Anfragen werden zunächst alle gesendet, bevor auf die erste Antwort gewartet wird.
+	 *     Die Ausgabe erfolgt in der Reihenfolge der Rätsel.
+	 * </p>
+	 *
+	 * @param client der zu verwendende Client
+	 * @param puzzles die zu lösenden Puzzles
 	 */
-	private void solvePuzzleRemotely(
-			@Nonnull final String host,
-			@Nonnull final Integer port,
-			@Nonnull final Puzzle puzzle) {
+	private void solvePuzzlesRemotely(
+			@Nonnull final PuzzleSolverClient client,
+			@Nonnull final List<Puzzle> puzzles) {
+
+		List<CompletableFuture<Map<Integer, Integer>>> results = puzzles.stream()
+				.map(client::solvePuzzleAsync)
+				.collect(Collectors.toList());
 
-		Map<Integer, Integer> result;
+		for (int index = 0; index < puzzles.size(); index++) {
+			Puzzle puzzle = puzzles.get(index);
 
-		this.puzzlePrinter.print(puzzle);
-		result = this.solvePuzzleWithNewClient(host, port, puzzle);
-		this.out.println("Solution found:");
-		this.printSymbols(puzzle.getSymbols(), result);
+			this.puzzlePrinter.print(puzzle);
+			this.out.println("Solution found:");
+			this.printSymbols(puzzle.getSymbols(), this.awaitResult(results.get(index)));
+		}
 	}
 
 	/**
-	 * Diese Methode erzeugt einen neuen Client und sendet mit diesem die Anfrage zum Lösen eines
-	 * Rätsels an den Server.
+	 * Diese Methode wartet auf die Antwort eines Servers.
 	 *
-	 * @param host der Hostname des Servers
-	 * @param port der Port des Servers
-	 * @param puzzle das zu lösende Puzzle
-	 * @return die ermittelte Antwort
+	 * @param result das Future der Antwort
+	 * @return die ermittelte Zuordnung von Symbol-ID zu Ziffernwert
+	 * @throws RuntimeException falls die Anfrage fehlgeschlagen ist oder das Rätsel keine Lösung
+	 * hat
 	 */
 	@Nonnull
-	private Map<Integer, Integer> solvePuzzleWithNewClient(
-			@Nonnull final String host,
-			@Nonnull final Integer port,
-			@Nonnull final Puzzle puzzle) {
+	private Map<Integer, Integer> awaitResult(
+			@Nonnull final CompletableFuture<Map<Integer, Integer>> result) {
+
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
 
-		try (PuzzleSolverClient client = this.puzzleSolverClientFactory.create(host, port)) {
-			return client.solvePuzzle(puzzle);
+			throw e;
 		}
 	}
 
@@ -0,0 +1,180 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.collections4.Factory;
+
+/**
+ * Diese Klasse stellt das Kommando zum Erzeugen eines Puzzles und zum verteilten Lösen auf
+ * mehreren Servern bereit.
+ *
+ * <p>
+ *     Das Kommando übernimmt die Rolle des Koordinators: Es teilt den Suchraum des Rätsels mit
+ *     {@link ShardedPuzzleSolverClient} auf die angegebenen Server auf.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RequestSolvePuzzleShardedCommand implements Command {
+
+	/**
+	 * Diese Konstante enthält den Namen des Kommandos.
+	 */
+	public static final String COMMAND_NAME = "request-solve-puzzle-sharded";
+
+	/**
+	 * Diese Konstante enthält die Beschreibung der Argumente.
+	 */
+	private static final String USAGE = "usage: request-solve-puzzle-sharded "
+			+ "<host:port,host:port,...> <?numberOfDigits> <?callsPerServer>";
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Anzahl der Stellen.
+	 */
+	private static final int NUMBER_OF_DIGITS_INDEX = 2;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Anzahl der Teilanfragen je Server.
+	 */
+	private static final int CALLS_PER_SERVER_INDEX = 3;
+
+	/**
+	 * Dieses Feld muss den {@link PrintStream} für die Ausgabe enthalten.
+	 */
+	@Nonnull
+	private final PrintStream out;
+
+	/**
+	 * Dieses Feld muss den {@link PuzzlePrinter} enthalten.
+	 */
+	@Nonnull
+	private final PuzzlePrinter puzzlePrinter;
+
+	/**
+	 * Dieses Feld muss die Fabrik für {@link PuzzleGenerator} enthalten.
+	 */
+	@Nonnull
+	private final Factory<PuzzleGenerator> puzzleGeneratorFactory;
+
+	/**
+	 * Dieses Feld muss die Fabrikmethode für {@link ShardedPuzzleSolverClient} enthalten.
+	 */
+	@Nonnull
+	private final BiFunction<List<String>, Integer, ShardedPuzzleSolverClient> clientFactory;
+
+	/**
+	 * Dieser Konstruktor führt die interne Initialisierung durch.
+	 */
+	public RequestSolvePuzzleShardedCommand() {
+		this(
+				System.out,
+				new PuzzlePrinter(),
+				PuzzleGenerator::new,
+				ShardedPuzzleSolverClient::new);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param out der zu setzende {@link PrintStream} für die Ausgabe
+	 * @param puzzlePrinter der zu setzende {@link PuzzlePrinter}
+	 * @param puzzleGeneratorFactory die zu setzende Fabrik für {@link PuzzleGenerator}
+	 * @param clientFactory die zu setzende Fabrikmethode für {@link ShardedPuzzleSolverClient},
+	 * die die Adressen der Server und die Anzahl der Teilanfragen je Server erhält
+	 */
+	protected RequestSolvePuzzleShardedCommand(
+			@Nonnull final PrintStream out,
+			@Nonnull final PuzzlePrinter puzzlePrinter,
+			@Nonnull final Factory<PuzzleGenerator> puzzleGeneratorFactory,
+			@Nonnull final BiFunction<List<String>, Integer, ShardedPuzzleSolverClient>
+					clientFactory) {
+
+		this.out = out;
+		this.puzzlePrinter = puzzlePrinter;
+		this.puzzleGeneratorFactory = puzzleGeneratorFactory;
+		this.clientFactory = clientFactory;
+	}
+
+	/**
+	 * Diese Methode führt das Kommando aus.
+	 *
+	 * <p>
+	 *     Dabei werden als Argumente die kommagetrennten Adressen der Server sowie optional die
+	 *     Anzahl der Stellen und die Anzahl der gleichzeitigen Teilanfragen je Server erwartet.
+	 * </p>
+	 *
+	 * @param args die Argumente
+	 */
+	@Override
+	public void execute(@Nonnull final String... args) {
+		Puzzle puzzle;
+		Map<Integer, Integer> result;
+
+		if (args.length < 2) {
+			throw new IllegalArgumentException(USAGE);
+		}
+
+		puzzle = this.puzzleGeneratorFactory.create().generate(
+				this.extractInt(args, NUMBER_OF_DIGITS_INDEX, 2));
+		this.puzzlePrinter.print(puzzle);
+		result = this.solvePuzzleWithNewClient(
+				Arrays.asList(args[1].split(",")),
+				this.extractInt(
+						args,
+						CALLS_PER_SERVER_INDEX,
+						ShardedPuzzleSolverClient.DEFAULT_CALLS_PER_SERVER),
+				puzzle);
+		this.out.println("Solution found:");
+		puzzle.getSymbols().forEach(symbol -> this.out.println("Symbol "
+				+ Character.toString(symbol.getIconCodePoint()) + " ID: " + symbol.getId()
+				+ ", digit value: " + result.get(symbol.getId())));
+	}
+
+	/**
+	 * Diese Methode erzeugt einen neuen Client und löst mit diesem das Rätsel auf den Servern.
+	 *
+	 * @param targets die Adressen der Server
+	 * @param callsPerServer die Anzahl der Teilanfragen, die je Server gleichzeitig offen sind
+	 * @param puzzle das zu lösende Puzzle
+	 * @return die ermittelte Zuordnung von Symbol-ID zu Ziffernwert
+	 */
+	@Nonnull
+	private Map<Integer, Integer> solvePuzzleWithNewClient(
+			@Nonnull final List<String> targets,
+			final int callsPerServer,
+			@Nonnull final Puzzle puzzle) {
+
+		try (ShardedPuzzleSolverClient client =
+				this.clientFactory.apply(targets, callsPerServer)) {
+
+			return client.solvePuzzle(puzzle);
+		}
+	}
+
+	/**
+	 * Diese Methode ermittelt ein optionales ganzzahliges Argument.
+	 *
+	 * @param args die Argumente
+	 * @param index der Index des Arguments
+	 * @param defaultValue der Wert, falls das Argument fehlt
+	 * @return der ermittelte Wert
+	 */
+	private int extractInt(
+			@Nonnull final String[] args,
+			final int index,
+			final int defaultValue) {
+
+		if (args.length > index) {
+			return Integer.parseInt(args[index]);
+		}
+
+		return defaultValue;
+	}
+}
@@ -0,0 +1,243 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen Ringpuffer fester Größe für die Übergabe von Elementen an einen
+ * Hintergrund-Thread bereit.
+ *
+ * <p>
+ *     Ist der Puffer voll, wird nach dem festgelegten {@link OverflowPolicy Verfahren} verfahren.
+ *     Standardmäßig verdrängt ein neues Element das älteste. Das Einstellen blockiert dann nie,
+ *     sodass ein langsamer Verbraucher den Erzeuger nicht ausbremst. Die Anzahl der verworfenen
+ *     Elemente wird gezählt.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Als Speicher dient eine {@link ArrayBlockingQueue}, die intern bereits
+ *     als Ringpuffer über einem Feld arbeitet und das blockierende Warten des Verbrauchers
+ *     bereitstellt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ *
+ * @param <E> der Typ der Elemente
+ */
+public class RingBuffer<E> {
+
+	/**
+	 * Diese Konstante enthält den Abstand in Millisekunden, in dem wartende Threads prüfen, ob
+	 * der Puffer geschlossen wurde.
+	 */
+	private static final long CLOSED_CHECK_MILLIS = 100;
+
+	/**
+	 * Dieses Feld muss den Speicher der Elemente enthalten.
+	 */
+	@Nonnull
+	private final ArrayBlockingQueue<E> elements;
+
+	/**
+	 * Dieses Feld muss die Kapazität enthalten.
+	 */
+	private final int capacity;
+
+	/**
+	 * Dieses Feld muss das Verfahren für einen vollen Puffer enthalten.
+	 */
+	@Nonnull
+	private final OverflowPolicy overflowPolicy;
+
+	/**
+	 * Dieses Feld muss die Anzahl der verworfenen Elemente enthalten.
+	 */
+	@Nonnull
+	private final LongAdder droppedCount = new LongAdder();
+
+	/**
+	 * Dieses Feld zeigt an, ob der Puffer geschlossen wurde.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * Dieser Konstruktor legt die Kapazität fest. Ist der Puffer voll, wird das älteste Element
+	 * verdrängt.
+	 *
+	 * @param capacity die Anzahl der Elemente, die der Puffer höchstens enthält
+	 * @throws IllegalArgumentException falls die Kapazität kleiner als 1 ist
+	 */
+	public RingBuffer(final int capacity) {
+		this(capacity, OverflowPolicy.DROP_OLDEST);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die Kapazität und das Verfahren für einen vollen Puffer fest.
+	 *
+	 * @param capacity die Anzahl der Elemente, die der Puffer höchstens enthält
+	 * @param overflowPolicy das Verfahren für einen vollen Puffer
+	 * @throws IllegalArgumentException falls die Kapazität kleiner als 1 ist
+	 */
+	public RingBuffer(final int capacity, @Nonnull final OverflowPolicy overflowPolicy) {
+		this.elements = new ArrayBlockingQueue<>(capacity);
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Diese Methode stellt ein Element ein und behandelt einen vollen Puffer nach dem festgelegten
+	 * Verfahren.
+	 *
+	 * <p>
+	 *     Bei {@link OverflowPolicy#BLOCK} wartet der aufrufende Thread, bis Platz frei wird. Wird
+	 *     der Puffer dabei geschlossen oder der Thread unterbrochen, wird das Element verworfen.
+	 * </p>
+	 *
+	 * @param element das einzustellende Element
+	 */
+	public void offer(@Nonnull final E element) {
+		switch (this.overflowPolicy) {
+			case DROP_NEWEST:
+				this.offerOrDrop(element);
+				break;
+			case BLOCK:
+				this.offerBlocking(element);
+				break;
+			default:
+				this.offerDroppingOldest(element);
+				break;
+		}
+	}
+
+	/**
+	 * Diese Methode stellt ein Element ein und verdrängt dabei gegebenenfalls das älteste.
+	 *
+	 * @param element das einzustellende Element
+	 */
+	private void offerDroppingOldest(@Nonnull final E element) {
+		while (!this.elements.offer(element)) {
+			if (this.elements.poll() != null) {
+				this.droppedCount.increment();
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode stellt ein Element ein oder verwirft es, falls der Puffer voll ist.
+	 *
+	 * @param element das einzustellende Element
+	 */
+	private void offerOrDrop(@Nonnull final E element) {
+		if (!this.elements.offer(element)) {
+			this.droppedCount.increment();
+		}
+	}
+
+	/**
+	 * Diese Methode stellt ein Element ein und wartet dabei, bis Platz frei wird.
+	 *
+	 * <p>
+	 *     Der Abschluss wird in kurzen Abständen geprüft, damit kein Thread auf einen Puffer
+	 *     wartet, der nicht mehr geleert wird.
+	 * </p>
+	 *
+	 * @param element das einzustellende Element
+	 */
+	private void offerBlocking(@Nonnull final E element) {
+		try {
+			while (!this.closed) {
+				if (this.elements.offer(element, CLOSED_CHECK_MILLIS, TimeUnit.MILLISECONDS)) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		this.droppedCount.increment();
+	}
+
+	/**
+	 * Diese Methode schließt den Puffer, sodass wartende und künftige Aufrufe von
+	 * {@link #offer(Object)} bei vollem Puffer nicht mehr warten.
+	 */
+	public void close() {
+		this.closed = true;
+	}
+
+	/**
+	 * Diese Methode entnimmt das älteste Element und wartet dabei höchstens die angegebene Zeit.
+	 *
+	 * @param timeout die maximale Wartezeit
+	 * @param unit die Einheit der Wartezeit
+	 * @return das entnommene Element oder {@code null}, falls keines eingestellt wurde
+	 * @throws InterruptedException falls der Thread beim Warten unterbrochen wurde
+	 */
+	@CheckForNull
+	public E poll(final long timeout, @Nonnull final TimeUnit unit) throws InterruptedException {
+		return this.elements.poll(timeout, unit);
+	}
+
+	/**
+	 * Diese Methode entnimmt alle vorhandenen Elemente ohne zu warten.
+	 *
+	 * @param target die Sammlung, der die Elemente in ihrer Reihenfolge hinzugefügt werden
+	 * @param maxElements die maximale Anzahl der zu entnehmenden Elemente
+	 * @return die Anzahl der entnommenen Elemente
+	 */
+	public int drainTo(@Nonnull final Collection<? super E> target, final int maxElements) {
+		return this.elements.drainTo(target, maxElements);
+	}
+
+	/**
+	 * Diese Methode zeigt an, ob der Puffer leer ist.
+	 *
+	 * @return {@code true}, falls kein Element eingestellt ist, sonst {@code false}
+	 */
+	public boolean isEmpty() {
+		return this.elements.isEmpty();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der eingestellten Elemente zurück.
+	 *
+	 * @return die Anzahl
+	 */
+	public int size() {
+		return this.elements.size();
+	}
+
+	/**
+	 * Diese Methode gibt die Kapazität zurück.
+	 *
+	 * @return die Anzahl der Elemente, die der Puffer höchstens enthält
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Diese Methode gibt das Verfahren für einen vollen Puffer zurück.
+	 *
+	 * @return das Verfahren
+	 */
+	@Nonnull
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der verworfenen Elemente zurück.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.sum();
+	}
+}
@@ -0,0 +1,617 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen {@link SolverProgressLogger} bereit, der die Meldungen gepuffert in
+ * eine Datei schreibt und diese bei Erreichen einer Größe rotiert.
+ *
+ * <p>
+ *     Die Meldungen werden über eine Warteschlange an einen Hintergrund-Thread übergeben, der sie
+ *     über einen großen Puffer in die Datei schreibt. Geschrieben wird erst, wenn der Puffer voll
+ *     ist oder keine Meldungen mehr vorliegen. Überschreitet die Datei die festgelegte Größe, wird
+ *     sie nach {@code <Datei>.<n>} umbenannt und neu begonnen. Ein eigener Thread komprimiert die
+ *     umbenannte Datei anschließend nach {@code <Datei>.<n>.gz}, sodass das Schreiben dabei nicht
+ *     stockt. Die Nummerierung setzt nach den bereits vorhandenen rotierten Dateien fort, damit
+ *     nach einem Neustart keine Archive überschrieben werden. Rotierte Dateien, deren
+ *     Komprimierung etwa durch einen Abbruch nicht abgeschlossen wurde, werden beim Öffnen
+ *     erneut zum Komprimieren übergeben.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Die Warteschlange ist eine sperrfreie {@link ConcurrentLinkedQueue}
+ *     mit mehreren schreibenden und einem lesenden Thread. Ihre Länge wird in einem
+ *     {@link AtomicInteger} mitgezählt. Findet der Hintergrund-Thread keine Meldung vor, parkt er
+ *     per {@link LockSupport}. Der Aufrufer, der die erste Meldung in die leere Warteschlange
+ *     stellt, weckt ihn wieder. Die aufrufenden Threads nehmen dabei keine Sperre.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Im Gegensatz zur Ausgabe per MQTT gehen keine Meldungen verloren,
+ *     solange die Ausgabe nicht geschlossen ist. Liegen mehr als die festgelegte Anzahl an
+ *     Meldungen in der Warteschlange, parken die aufrufenden Threads in kurzen Abständen, bis der
+ *     Hintergrund-Thread aufgeholt hat. Da Anzahl und Warteschlange nicht gemeinsam geändert
+ *     werden, kann die Anzahl um die Anzahl gleichzeitig schreibender Threads überschritten
+ *     werden.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: {@link #close()} wartet auf das Schreiben und das Komprimieren jeweils
+ *     höchstens {@link #DEFAULT_CLOSE_TIMEOUT_MILLIS} Millisekunden, da die Ausgabe auch beim
+ *     Umschalten und beim Herunterfahren geschlossen wird. Danach laufen beide auf ihren
+ *     Daemon-Threads weiter. Wird die Komprimierung dabei abgebrochen, holt der nächste Start sie
+ *     nach.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RollingFileSolverProgressLogger implements SolverProgressLogger {
+
+	/**
+	 * Diese Konstante enthält die Standardgröße in Bytes, ab der eine Datei rotiert wird.
+	 */
+	public static final long DEFAULT_MAX_FILE_SIZE = 256L * 1024 * 1024;
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Meldungen, die höchstens in der
+	 * Warteschlange liegen.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 65_536;
+
+	/**
+	 * Diese Konstante enthält die Standardwartezeit von {@link #close()} je Schritt in
+	 * Millisekunden.
+	 */
+	public static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Diese Konstante enthält die Größe des Schreibpuffers in Bytes.
+	 */
+	private static final int BUFFER_SIZE = 1024 * 1024;
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit des Hintergrund-Threads bei leerer
+	 * Warteschlange in Nanosekunden, nach der geprüft wird, ob die Ausgabe geschlossen wurde.
+	 */
+	private static final long POLL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Diese Konstante enthält die Wartezeit der aufrufenden Threads bei voller Warteschlange in
+	 * Nanosekunden.
+	 */
+	private static final long FULL_QUEUE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	/**
+	 * Diese Konstante enthält die Endung komprimierter Dateien.
+	 */
+	@Nonnull
+	private static final String COMPRESSED_SUFFIX = ".gz";
+
+	/**
+	 * Diese Konstante enthält den Zeilenumbruch als Bytes.
+	 */
+	@Nonnull
+	private static final byte[] LINE_SEPARATOR =
+			System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Dieses Feld muss den Pfad der zu schreibenden Datei enthalten.
+	 */
+	@Nonnull
+	private final Path file;
+
+	/**
+	 * Dieses Feld muss die Größe in Bytes enthalten, ab der die Datei rotiert wird.
+	 */
+	private final long maxFileSize;
+
+	/**
+	 * Dieses Feld muss die Warteschlange der noch zu schreibenden Meldungen enthalten.
+	 */
+	@Nonnull
+	private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Dieses Feld muss die Anzahl der Meldungen in der Warteschlange enthalten.
+	 */
+	@Nonnull
+	private final AtomicInteger queuedCount = new AtomicInteger();
+
+	/**
+	 * Dieses Feld muss die Anzahl der Meldungen enthalten, ab der die aufrufenden Threads warten.
+	 */
+	private final int queueCapacity;
+
+	/**
+	 * Dieses Feld muss die Wartezeit von {@link #close()} je Schritt in Millisekunden enthalten.
+	 */
+	private final long closeTimeoutMillis;
+
+	/**
+	 * Dieses Feld muss den Hintergrund-Thread für das Schreiben enthalten.
+	 */
+	@Nonnull
+	private final Thread writerThread;
+
+	/**
+	 * Dieses Feld muss den Executor für das Komprimieren der rotierten Dateien enthalten.
+	 */
+	@Nonnull
+	private final ExecutorService compressionExecutor;
+
+	/**
+	 * Dieses Feld enthält den Ausgabedatenstrom der aktuellen Datei.
+	 */
+	@Nonnull
+	private OutputStream out;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der in die aktuelle Datei geschriebenen Bytes.
+	 */
+	private long fileSize;
+
+	/**
+	 * Dieses Feld enthält die laufende Nummer der zuletzt rotierten Datei.
+	 */
+	private volatile int rolledCount;
+
+	/**
+	 * Dieses Feld zeigt an, ob die Ausgabe geschlossen wurde.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * Dieses Feld enthält den Fehler, mit dem das Schreiben abgebrochen wurde.
+	 */
+	@CheckForNull
+	private volatile IOException failure;
+
+	/**
+	 * Dieses Feld enthält den Fehler, mit dem das Komprimieren einer Datei fehlgeschlagen ist.
+	 */
+	@CheckForNull
+	private volatile IOException compressionFailure;
+
+	/**
+	 * Dieser Konstruktor legt die Datei und die Größe für die Rotation fest.
+	 *
+	 * @param file der Pfad der zu schreibenden Datei
+	 * @param maxFileSize die Größe in Bytes, ab der die Datei rotiert wird
+	 * @throws UncheckedIOException falls die Datei nicht geöffnet werden kann
+	 */
+	public RollingFileSolverProgressLogger(@Nonnull final Path file, final long maxFileSize) {
+		this(
+				file,
+				maxFileSize,
+				DEFAULT_QUEUE_CAPACITY,
+				DEFAULT_CLOSE_TIMEOUT_MILLIS,
+				Thread::new);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param file der Pfad der zu schreibenden Datei
+	 * @param maxFileSize die Größe in Bytes, ab der die Datei rotiert wird
+	 * @param queueCapacity die Anzahl der Meldungen, ab der die aufrufenden Threads warten
+	 * @param closeTimeoutMillis die Wartezeit von {@link #close()} je Schritt in Millisekunden
+	 * @param threadFactory die Fabrikmethode für die Hintergrund-Threads
+	 * @throws IllegalArgumentException falls eine Größe kleiner als 1 ist
+	 * @throws UncheckedIOException falls die Datei nicht geöffnet werden kann
+	 */
+	protected RollingFileSolverProgressLogger(
+			@Nonnull final Path file,
+			final long maxFileSize,
+			final int queueCapacity,
+			final long closeTimeoutMillis,
+			@Nonnull final Function<Runnable, Thread> threadFactory) {
+
+		List<Path> rolledFiles;
+
+		if (maxFileSize < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Sizes must be positive!");
+		}
+
+		this.file = file;
+		this.maxFileSize = maxFileSize;
+		this.queueCapacity = queueCapacity;
+		this.closeTimeoutMillis = closeTimeoutMillis;
+		rolledFiles = findRolledFiles(file);
+		this.rolledCount = rolledFiles.stream()
+				.mapToInt(this::parseRolledIndex)
+				.max()
+				.orElse(0);
+		this.out = openFile(file);
+		this.compressionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = threadFactory.apply(runnable);
+
+			thread.setDaemon(true);
+			return thread;
+		});
+		rolledFiles.stream()
+				.filter(rolledFile -> !isCompressed(rolledFile))
+				.forEach(this::submitCompression);
+		this.writerThread = threadFactory.apply(this::writeRepeatedly);
+		this.writerThread.setDaemon(true);
+		this.writerThread.start();
+	}
+
+	/**
+	 * Diese Methode ermittelt die bereits vorhandenen rotierten Dateien.
+	 *
+	 * <p>
+	 *     Berücksichtigt werden sowohl komprimierte als auch noch nicht komprimierte rotierte
+	 *     Dateien, etwa nach einem Abbruch während des Komprimierens.
+	 * </p>
+	 *
+	 * @param file der Pfad der zu schreibenden Datei
+	 * @return die Pfade der gefundenen rotierten Dateien
+	 * @throws UncheckedIOException falls das Verzeichnis nicht gelesen werden kann
+	 */
+	@Nonnull
+	private static List<Path> findRolledFiles(@Nonnull final Path file) {
+		Path directory = file.toAbsolutePath().getParent();
+		String prefix = file.getFileName() + ".";
+		List<Path> result = new ArrayList<>();
+
+		if (directory == null || !Files.isDirectory(directory)) {
+			return result;
+		}
+
+		try (DirectoryStream<Path> siblings = Files.newDirectoryStream(directory, prefix + "*")) {
+			for (Path sibling : siblings) {
+				if (parseRolledIndex(sibling.getFileName().toString(), prefix) > 0) {
+					result.add(sibling);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode liest die laufende Nummer aus dem Pfad einer rotierten Datei.
+	 *
+	 * @param rolledFile der Pfad der rotierten Datei
+	 * @return die gelesene Nummer
+	 */
+	private int parseRolledIndex(@Nonnull final Path rolledFile) {
+		return parseRolledIndex(
+				rolledFile.getFileName().toString(),
+				this.file.getFileName() + ".");
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine rotierte Datei bereits komprimiert ist.
+	 *
+	 * @param rolledFile der Pfad der rotierten Datei
+	 * @return {@code true}, falls die Datei komprimiert ist
+	 */
+	private static boolean isCompressed(@Nonnull final Path rolledFile) {
+		return rolledFile.getFileName().toString().endsWith(COMPRESSED_SUFFIX);
+	}
+
+	/**
+	 * Diese Methode liest die laufende Nummer aus dem Namen einer rotierten Datei.
+	 *
+	 * @param fileName der Name der zu untersuchenden Datei
+	 * @param prefix der Name der zu schreibenden Datei gefolgt von einem Punkt
+	 * @return die gelesene Nummer oder 0, falls es sich nicht um eine rotierte Datei handelt
+	 */
+	private static int parseRolledIndex(
+			@Nonnull final String fileName,
+			@Nonnull final String prefix) {
+
+		String index = fileName.substring(prefix.length());
+
+		if (index.endsWith(COMPRESSED_SUFFIX)) {
+			index = index.substring(0, index.length() - COMPRESSED_SUFFIX.length());
+		}
+
+		if (index.isEmpty()
+				|| index.length() >= String.valueOf(Integer.MAX_VALUE).length()
+				|| !index.chars().allMatch(Character::isDigit)) {
+			return 0;
+		}
+
+		return Integer.parseInt(index);
+	}
+
+	/**
+	 * Diese Methode öffnet eine Datei zum Schreiben und leert sie dabei.
+	 *
+	 * @param file der Pfad der Datei
+	 * @return der gepufferte Ausgabedatenstrom
+	 * @throws UncheckedIOException falls die Datei nicht geöffnet werden kann
+	 */
+	@Nonnull
+	private static OutputStream openFile(@Nonnull final Path file) {
+		try {
+			return new BufferedOutputStream(new FileOutputStream(file.toFile()), BUFFER_SIZE);
+		} catch (FileNotFoundException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Diese Methode stellt eine Meldung in die Warteschlange.
+	 *
+	 * <p>
+	 *     Ist die Warteschlange voll, wartet der aufrufende Thread. Nach einem Schreibfehler, dem
+	 *     Schließen oder einer Unterbrechung des wartenden Threads wird die Meldung verworfen. Ein
+	 *     Schreibfehler wird beim Schließen geworfen.
+	 * </p>
+	 *
+	 * @param message die Meldung
+	 */
+	@Override
+	public void log(@Nonnull final String message) {
+		while (this.queuedCount.get() >= this.queueCapacity && this.isWriting()) {
+			LockSupport.parkNanos(this, FULL_QUEUE_PARK_NANOS);
+
+			if (Thread.currentThread().isInterrupted()) {
+				return;
+			}
+		}
+
+		if (!this.isWriting()) {
+			return;
+		}
+
+		this.queue.add(message);
+
+		if (this.queuedCount.getAndIncrement() == 0) {
+			LockSupport.unpark(this.writerThread);
+		}
+	}
+
+	/**
+	 * Diese Methode zeigt an, ob der Hintergrund-Thread noch Meldungen entgegennimmt.
+	 *
+	 * @return {@code true}, falls weder geschlossen noch ein Fehler aufgetreten ist
+	 */
+	private boolean isWriting() {
+		return !this.closed && this.failure == null;
+	}
+
+	/**
+	 * Diese Methode schreibt die Meldungen aus der Warteschlange, bis die Ausgabe geschlossen und
+	 * die Warteschlange geleert wurde, und schließt anschließend die Datei.
+	 */
+	private void writeRepeatedly() {
+		try {
+			while (!this.closed || !this.queue.isEmpty()) {
+				this.writeNext();
+			}
+		} catch (IOException e) {
+			this.failure = e;
+		} finally {
+			this.closeFile();
+		}
+	}
+
+	/**
+	 * Diese Methode schließt die aktuelle Datei und merkt sich einen dabei auftretenden Fehler,
+	 * sofern noch keiner aufgetreten ist.
+	 */
+	private void closeFile() {
+		try {
+			this.out.close();
+		} catch (IOException e) {
+			if (this.failure == null) {
+				this.failure = e;
+			}
+		}
+	}
+
+	/**
+	 * Diese Methode schreibt die nächste Meldung.
+	 *
+	 * <p>
+	 *     Liegt keine Meldung vor, wird der Puffer in die Datei geschrieben und der Thread bis zur
+	 *     nächsten Meldung geparkt.
+	 * </p>
+	 *
+	 * @throws IOException falls nicht geschrieben werden kann
+	 */
+	private void writeNext() throws IOException {
+		String message = this.queue.poll();
+		byte[] bytes;
+
+		if (message == null) {
+			this.out.flush();
+			this.awaitMessage();
+			return;
+		}
+
+		this.queuedCount.decrementAndGet();
+		bytes = message.getBytes(StandardCharsets.UTF_8);
+
+		if (this.fileSize > 0
+				&& this.fileSize + bytes.length + LINE_SEPARATOR.length > this.maxFileSize) {
+			this.roll();
+		}
+
+		this.out.write(bytes);
+		this.out.write(LINE_SEPARATOR);
+		this.fileSize += bytes.length + LINE_SEPARATOR.length;
+	}
+
+	/**
+	 * Diese Methode parkt den Hintergrund-Thread, bis eine Meldung eingestellt wird, die Ausgabe
+	 * geschlossen wird oder die Wartezeit abläuft.
+	 *
+	 * <p>
+	 *     Wird der Thread unterbrochen, gilt die Ausgabe als geschlossen.
+	 * </p>
+	 */
+	private void awaitMessage() {
+		if (this.queuedCount.get() == 0 && !this.closed) {
+			LockSupport.parkNanos(this, POLL_TIMEOUT_NANOS);
+		}
+
+		if (Thread.currentThread().isInterrupted()) {
+			this.closed = true;
+		}
+	}
+
+	/**
+	 * Diese Methode benennt die aktuelle Datei nach {@code <Datei>.<n>} um, beginnt sie neu und
+	 * übergibt die umbenannte Datei zum Komprimieren.
+	 *
+	 * @throws IOException falls nicht umbenannt oder geschrieben werden kann
+	 */
+	private void roll() throws IOException {
+		int index = this.rolledCount + 1;
+		Path segment = this.getRolledSegment(index);
+
+		this.out.close();
+		Files.move(this.file, segment, StandardCopyOption.REPLACE_EXISTING);
+		this.rolledCount = index;
+		this.out = openFile(this.file);
+		this.fileSize = 0;
+		this.submitCompression(segment);
+	}
+
+	/**
+	 * Diese Methode übergibt eine rotierte Datei zum Komprimieren nach
+	 * {@code <Datei>.<n>.gz}.
+	 *
+	 * @param segment der Pfad der rotierten, noch nicht komprimierten Datei
+	 */
+	private void submitCompression(@Nonnull final Path segment) {
+		Path target = segment.resolveSibling(segment.getFileName() + COMPRESSED_SUFFIX);
+
+		this.compressionExecutor.execute(() -> this.compress(segment, target));
+	}
+
+	/**
+	 * Diese Methode komprimiert eine rotierte Datei und löscht anschließend das Original.
+	 *
+	 * <p>
+	 *     Ein Fehler wird beim Schließen geworfen. Das Schreiben läuft dennoch weiter.
+	 * </p>
+	 *
+	 * @param segment der Pfad der rotierten Datei
+	 * @param target der Pfad der komprimierten Datei
+	 */
+	private void compress(@Nonnull final Path segment, @Nonnull final Path target) {
+		try {
+			try (InputStream in = Files.newInputStream(segment);
+					OutputStream compressed = new GZIPOutputStream(
+							Files.newOutputStream(target),
+							BUFFER_SIZE)) {
+
+				in.transferTo(compressed);
+			}
+
+			Files.delete(segment);
+		} catch (IOException e) {
+			this.compressionFailure = e;
+		}
+	}
+
+	/**
+	 * Diese Methode gibt den Pfad einer rotierten, noch nicht komprimierten Datei zurück.
+	 *
+	 * @param index die laufende Nummer der rotierten Datei beginnend bei 1
+	 * @return der Pfad
+	 */
+	@Nonnull
+	private Path getRolledSegment(final int index) {
+		return this.file.resolveSibling(this.file.getFileName() + "." + index);
+	}
+
+	/**
+	 * Diese Methode gibt den Pfad einer rotierten Datei zurück.
+	 *
+	 * @param index die laufende Nummer der rotierten Datei beginnend bei 1
+	 * @return der Pfad
+	 */
+	@Nonnull
+	public Path getRolledFile(final int index) {
+		return this.file.resolveSibling(
+				this.file.getFileName() + "." + index + COMPRESSED_SUFFIX);
+	}
+
+	/**
+	 * Diese Methode gibt die laufende Nummer der zuletzt rotierten Datei zurück.
+	 *
+	 * <p>
+	 *     Die Nummer schließt die beim Öffnen bereits vorhandenen rotierten Dateien ein.
+	 * </p>
+	 *
+	 * @return die Nummer oder 0, falls noch keine Datei rotiert wurde
+	 */
+	public int getRolledCount() {
+		return this.rolledCount;
+	}
+
+	/**
+	 * Diese Methode schreibt die verbliebenen Meldungen, schließt anschließend die Datei und
+	 * wartet, bis alle rotierten Dateien komprimiert sind.
+	 *
+	 * <p>
+	 *     Auf das Schreiben und das Komprimieren wird jeweils höchstens die festgelegte Wartezeit
+	 *     gewartet. Was danach noch aussteht, erledigen die Daemon-Threads im Hintergrund.
+	 * </p>
+	 *
+	 * @throws UncheckedIOException falls beim Schreiben oder Komprimieren ein Fehler aufgetreten
+	 * ist
+	 */
+	@Override
+	public void close() {
+		IOException writeFailure;
+
+		this.closed = true;
+		LockSupport.unpark(this.writerThread);
+
+		try {
+			this.writerThread.join(this.closeTimeoutMillis);
+			this.compressionExecutor.shutdown();
+			this.compressionExecutor.awaitTermination(
+					this.closeTimeoutMillis,
+					TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		writeFailure = this.failure;
+
+		if (writeFailure == null) {
+			writeFailure = this.compressionFailure;
+		}
+
+		if (writeFailure != null) {
+			throw new UncheckedIOException(writeFailure);
+		}
+	}
+}
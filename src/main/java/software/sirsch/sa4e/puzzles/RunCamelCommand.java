@@ -3,11 +3,18 @@ package software.sirsch.sa4e.puzzles;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
@@ -17,14 +24,25 @@ import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.LoggingLevel;
 import org.apache.camel.Message;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
-import org.apache.camel.model.dataformat.JsonLibrary;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.support.SynchronizationAdapter;
 
 /**
  * Diese Klasse stellt das Kommando zum Betreiben von Camel bereit.
  *
+ * <p>
+ *     Der gRPC-Aufruf der Route zum Lösen erfolgt asynchron. Der MQTT-Consumer-Thread ist damit
+ *     frei, sobald die Anfrage gesendet ist, und die Antwort wird über den Exchange, zu dem sie
+ *     gehört, weiterverarbeitet. Die Anzahl gleichzeitig laufender Lösungen ist durch
+ *     {@link #maxInFlight} begrenzt. Ist die Grenze erreicht, wartet der Consumer, bis eine Lösung
+ *     abgeschlossen ist, sodass weitere Nachrichten beim Broker verbleiben.
+ * </p>
+ *
  * @author sirsch
  * @since 25.01.2023
  */
@@ -35,6 +53,127 @@ public class RunCamelCommand implements Command {
 	 */
 	public static final String COMMAND_NAME = "run-camel";
 
+	/**
+	 * Diese Konstante enthält die Standardanzahl gleichzeitig laufender Lösungen.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Consumer der SEDA-Stufe.
+	 */
+	public static final int DEFAULT_CONCURRENT_CONSUMERS = 4;
+
+	/**
+	 * Diese Konstante enthält die Standardkapazität der Warteschlange der SEDA-Stufe.
+	 */
+	public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+	/**
+	 * Diese Konstante enthält die Standardwartezeit des Resequencers auf fehlende Nachrichten in
+	 * Millisekunden.
+	 */
+	public static final int DEFAULT_RESEQUENCE_TIMEOUT = 5000;
+
+	/**
+	 * Diese Konstante enthält die ID der Route, die Rätsel von MQTT liest.
+	 */
+	public static final String RECEIVE_ROUTE_ID = "receivePuzzles";
+
+	/**
+	 * Diese Konstante enthält die ID der Route, die Rätsel löst und die Lösungen an MQTT sendet.
+	 */
+	public static final String SOLVE_ROUTE_ID = "solvePuzzles";
+
+	/**
+	 * Diese Konstante enthält die Beschreibung der Argumente.
+	 */
+	private static final String USAGE = "usage: run-camel <mqttBrokerUrl> <grpcServer> "
+			+ "<?generatePuzzleProfile|-> <?maxInFlight> <?concurrentConsumers> "
+			+ "<?queueSize> <?ordered|unordered> <?shareGroup> <?deduplicationFile> "
+			+ "<?resequenceTimeout> <?nodeId>";
+
+	/**
+	 * Diese Konstante enthält den Schlüssel für den Header, der die laufende Nummer der
+	 * eingegangenen Nachricht enthält.
+	 */
+	private static final String SEQUENCE_NUMBER_HEADER
+			= RunCamelCommand.class.getName() + ".SEQUENCE_NUMBER_HEADER";
+
+	/**
+	 * Diese Konstante enthält den Schlüssel für den Header, der den Schlüssel zum Erkennen
+	 * doppelter Rätsel enthält.
+	 */
+	private static final String DEDUPLICATION_KEY_HEADER
+			= RunCamelCommand.class.getName() + ".DEDUPLICATION_KEY_HEADER";
+
+	/**
+	 * Diese Konstante enthält den Schlüssel für den Header, der die zu geringe erreichte Rate der
+	 * generierten Rätsel enthält.
+	 */
+	private static final String ACHIEVED_RATE_HEADER
+			= RunCamelCommand.class.getName() + ".ACHIEVED_RATE_HEADER";
+
+	/**
+	 * Diese Konstante enthält den Namen des Arguments für geordnete Ausgabe.
+	 */
+	private static final String ORDERED_ARGUMENT = "ordered";
+
+	/**
+	 * Diese Konstante enthält den Namen des Arguments für ungeordnete Ausgabe.
+	 */
+	private static final String UNORDERED_ARGUMENT = "unordered";
+
+	/**
+	 * Diese Konstante enthält den Wert, mit dem ein optionales Argument ausgelassen wird.
+	 */
+	private static final String SKIP_ARGUMENT = "-";
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für das Profil der zu generierenden Rätsel.
+	 */
+	private static final int GENERATE_PUZZLE_PROFILE_INDEX = 3;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Anzahl gleichzeitig laufender
+	 * Lösungen.
+	 */
+	private static final int MAX_IN_FLIGHT_INDEX = 4;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Anzahl der Consumer.
+	 */
+	private static final int CONCURRENT_CONSUMERS_INDEX = 5;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Kapazität der Warteschlange.
+	 */
+	private static final int QUEUE_SIZE_INDEX = 6;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Reihenfolge der Ausgabe.
+	 */
+	private static final int ORDERED_INDEX = 7;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Gruppe des Shared-Subscriptions.
+	 */
+	private static final int SHARE_GROUP_INDEX = 8;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Datei der erkannten Rätsel.
+	 */
+	private static final int DEDUPLICATION_FILE_INDEX = 9;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Wartezeit des Resequencers.
+	 */
+	private static final int RESEQUENCE_TIMEOUT_INDEX = 10;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Knotennummer der Rätsel-IDs.
+	 */
+	private static final int NODE_ID_INDEX = 11;
+
 	/**
 	 * Diese Konstante enthält den Schlüssel für den Header, der die ursprüngliche Anfrage enthält.
 	 */
@@ -60,10 +199,87 @@ public class RunCamelCommand implements Command {
 	private String grpcServer;
 
 	/**
-	 * Dieses Feld kann die Anzahl der Stellen enthalten, falls Rätsel generiert werden sollen.
+	 * Dieses Feld kann das Profil der zu generierenden Rätsel enthalten, falls Rätsel generiert
+	 * werden sollen.
+	 */
+	@CheckForNull
+	private PuzzleLoadProfile loadProfile;
+
+	/**
+	 * Dieses Feld kann den Token-Bucket enthalten, der die Rate der generierten Rätsel begrenzt.
+	 */
+	@CheckForNull
+	private TokenBucket generatorTokenBucket;
+
+	/**
+	 * Dieses Feld kann die Messung der erreichten Rate der generierten Rätsel enthalten.
 	 */
 	@CheckForNull
-	private Integer numberOfDigits;
+	private RateMonitor generatorRateMonitor;
+
+	/**
+	 * Dieses Feld soll die maximale Anzahl gleichzeitig laufender Lösungen enthalten.
+	 */
+	private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+	/**
+	 * Dieses Feld soll die Erlaubnisse für gleichzeitig laufende Lösungen enthalten.
+	 */
+	@CheckForNull
+	private Semaphore inFlightPermits;
+
+	/**
+	 * Dieses Feld soll die Anzahl der Consumer der SEDA-Stufe enthalten.
+	 */
+	private int concurrentConsumers = DEFAULT_CONCURRENT_CONSUMERS;
+
+	/**
+	 * Dieses Feld soll die Kapazität der Warteschlange der SEDA-Stufe enthalten.
+	 */
+	private int queueSize = DEFAULT_QUEUE_SIZE;
+
+	/**
+	 * Dieses Feld soll angeben, ob die Lösungen in der Eingangsreihenfolge der Rätsel gesendet
+	 * werden.
+	 */
+	private boolean ordered;
+
+	/**
+	 * Dieses Feld soll die Wartezeit des Resequencers auf fehlende Nachrichten in Millisekunden
+	 * enthalten.
+	 */
+	private int resequenceTimeout = DEFAULT_RESEQUENCE_TIMEOUT;
+
+	/**
+	 * Dieses Feld kann den Namen der Gruppe für ein MQTT-5-Shared-Subscription enthalten.
+	 */
+	@CheckForNull
+	private String shareGroup;
+
+	/**
+	 * Dieses Feld soll das Repository der bereits eingegangenen Rätsel enthalten.
+	 */
+	@CheckForNull
+	private ExpiringIdempotentRepository deduplicationRepository;
+
+	/**
+	 * Dieses Feld enthält den Zähler für die laufende Nummer eingegangener Rätsel.
+	 */
+	@Nonnull
+	private final AtomicLong sequenceNumber = new AtomicLong();
+
+	/**
+	 * Dieses Feld enthält den Konverter vom Austauschdatenformat in das Protobuf-Format.
+	 */
+	@Nonnull
+	private final Common2ProtobufConverter common2ProtobufConverter =
+			new Common2ProtobufConverter();
+
+	/**
+	 * Dieses Feld enthält das JSON-Format der ausgetauschten Nachrichten.
+	 */
+	@Nonnull
+	private final CommonJsonCodec jsonCodec = new CommonJsonCodec();
 
 	/**
 	 * Dieses Feld enthält die Server-ID.
@@ -71,6 +287,12 @@ public class RunCamelCommand implements Command {
 	@Nonnull
 	private final String serverId = "sirsch " + UUID.randomUUID();
 
+	/**
+	 * Dieses Feld soll den Generator für die IDs erzeugter Rätsel enthalten.
+	 */
+	@CheckForNull
+	private SnowflakeIdGenerator idGenerator;
+
 	/**
 	 * Diese Methode führt das Kommando aus.
 	 *
@@ -82,11 +304,52 @@ public class RunCamelCommand implements Command {
 	 */
 	@Override
 	public void execute(@Nonnull final String... args) {
+		this.parseArguments(args);
+		this.runCamel();
+	}
+
+	/**
+	 * Diese Methode übernimmt die Argumente in die Felder.
+	 *
+	 * @param args die Argumente
+	 * @throws IllegalArgumentException falls ein Argument ungültig ist oder ein erforderliches
+	 * Argument fehlt
+	 */
+	protected void parseArguments(@Nonnull final String... args) {
 		this.mqttBrokerUrl = this.extractMqttBrokerUrl(args);
 		this.grpcServer = this.extractGrpcServer(args);
-		this.numberOfDigits = this.extractGeneratePuzzleNumberOfDigits(args);
+		this.loadProfile = this.extractGeneratePuzzleProfile(args);
+		this.maxInFlight = this.extractPositiveInt(
+				args,
+				MAX_IN_FLIGHT_INDEX,
+				DEFAULT_MAX_IN_FLIGHT);
+		this.inFlightPermits = new Semaphore(this.maxInFlight);
+		this.concurrentConsumers = this.extractPositiveInt(
+				args,
+				CONCURRENT_CONSUMERS_INDEX,
+				DEFAULT_CONCURRENT_CONSUMERS);
+		this.queueSize = this.extractPositiveInt(args, QUEUE_SIZE_INDEX, DEFAULT_QUEUE_SIZE);
+		this.ordered = this.extractOrdered(args);
+		this.shareGroup = this.extractOptional(args, SHARE_GROUP_INDEX);
+		this.deduplicationRepository = new ExpiringIdempotentRepository(
+				ExpiringIdempotentRepository.DEFAULT_CAPACITY,
+				ExpiringIdempotentRepository.DEFAULT_TIME_TO_LIVE,
+				this.extractDeduplicationFile(args));
+		this.resequenceTimeout = this.extractPositiveInt(
+				args,
+				RESEQUENCE_TIMEOUT_INDEX,
+				DEFAULT_RESEQUENCE_TIMEOUT);
+		this.idGenerator = new SnowflakeIdGenerator(this.extractNodeId(args));
+	}
 
-		this.runCamel();
+	/**
+	 * Diese Methode gibt den Generator für die IDs erzeugter Rätsel zurück.
+	 *
+	 * @return der Generator oder {@code null}, falls die Argumente noch nicht übernommen wurden
+	 */
+	@CheckForNull
+	protected SnowflakeIdGenerator getIdGenerator() {
+		return this.idGenerator;
 	}
 
 	/**
@@ -98,8 +361,7 @@ public class RunCamelCommand implements Command {
 	@Nonnull
 	private String extractMqttBrokerUrl(@Nonnull final String[] args) {
 		if (args.length <= 1) {
-			throw new IllegalArgumentException("usage: "
-					+ "run-camel <mqttBrokerUrl> <grpcServer> <?generatePuzzleNumberOfDigits>");
+			throw new IllegalArgumentException(USAGE);
 		}
 
 		return args[1];
@@ -114,28 +376,150 @@ public class RunCamelCommand implements Command {
 	@Nonnull
 	private String extractGrpcServer(@Nonnull final String[] args) {
 		if (args.length <= 2) {
-			throw new IllegalArgumentException("usage: "
-					+ "run-camel <mqttBrokerUrl> <grpcServer> <?generatePuzzleNumberOfDigits>");
+			throw new IllegalArgumentException(USAGE);
 		}
 
 		return args[2];
 	}
 
 	/**
-	 * Diese Methode ermittelt den gRPC-Server.
+	 * Diese Methode ermittelt das Profil der zu generierenden Rätsel.
 	 *
 	 * @param args die zu übergebenen Argumente
-	 * @return der ermittelte Server
+	 * @return das ermittelte Profil oder {@code null}, falls keine Rätsel generiert werden sollen
 	 */
-	@Nonnull
-	private Integer extractGeneratePuzzleNumberOfDigits(@Nonnull final String[] args) {
-		final int index = 3;
+	@CheckForNull
+	private PuzzleLoadProfile extractGeneratePuzzleProfile(@Nonnull final String[] args) {
+		String argument = this.extractOptional(args, GENERATE_PUZZLE_PROFILE_INDEX);
+
+		if (argument == null) {
+			return null;
+		}
+
+		return PuzzleLoadProfile.parse(argument);
+	}
+
+	/**
+	 * Diese Methode ermittelt ein optionales Argument.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @param index der Index des Arguments
+	 * @return das Argument oder {@code null}, falls es fehlt oder ausgelassen wurde
+	 */
+	@CheckForNull
+	private String extractOptional(@Nonnull final String[] args, final int index) {
+		if (args.length <= index || SKIP_ARGUMENT.equals(args[index])) {
+			return null;
+		}
+
+		return args[index];
+	}
+
+	/**
+	 * Diese Methode ermittelt ein optionales positives ganzzahliges Argument.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @param index der Index des Arguments
+	 * @param defaultValue der Wert, falls das Argument fehlt oder ausgelassen wurde
+	 * @return der ermittelte Wert
+	 * @throws IllegalArgumentException falls der Wert kleiner als 1 ist
+	 */
+	private int extractPositiveInt(
+			@Nonnull final String[] args,
+			final int index,
+			final int defaultValue) {
+
+		String argument = this.extractOptional(args, index);
+		int result;
+
+		if (argument == null) {
+			return defaultValue;
+		}
+
+		result = Integer.parseInt(argument);
 
-		if (args.length <= index) {
+		if (result < 1) {
+			throw new IllegalArgumentException(USAGE);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode ermittelt die Datei, in der die bereits eingegangenen Rätsel gesichert werden.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @return die Datei oder {@code null}, falls die Rätsel nur im Speicher gehalten werden
+	 */
+	@CheckForNull
+	private Path extractDeduplicationFile(@Nonnull final String[] args) {
+		String argument = this.extractOptional(args, DEDUPLICATION_FILE_INDEX);
+
+		if (argument == null) {
 			return null;
 		}
 
-		return Integer.valueOf(args[index]);
+		return Paths.get(argument);
+	}
+
+	/**
+	 * Diese Methode ermittelt die Knotennummer der Rätsel-IDs.
+	 *
+	 * <p>
+	 *     Fehlt das Argument, wird die Knotennummer aus der zufälligen Server-ID abgeleitet. Da
+	 *     zwei Instanzen dabei dieselbe Nummer erhalten und damit gleiche Rätsel-IDs erzeugen
+	 *     können, wird in diesem Fall gewarnt, sofern Rätsel generiert werden.
+	 * </p>
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @return die ermittelte Knotennummer
+	 * @throws IllegalArgumentException falls die Knotennummer keine Zahl ist oder außerhalb des
+	 * Bereichs liegt
+	 */
+	private int extractNodeId(@Nonnull final String[] args) {
+		String argument = this.extractOptional(args, NODE_ID_INDEX);
+		int result;
+
+		if (argument != null) {
+			result = Integer.parseInt(argument);
+
+			if (result < 0 || result > SnowflakeIdGenerator.MAX_NODE_ID) {
+				throw new IllegalArgumentException(USAGE);
+			}
+
+			return result;
+		}
+
+		result = SnowflakeIdGenerator.deriveNodeId(this.serverId);
+
+		if (this.loadProfile != null) {
+			System.err.println("Warning: No nodeId given, using " + result + " derived from the "
+					+ "server ID. Instances with the same nodeId generate colliding puzzle IDs.");
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode ermittelt, ob die Lösungen in der Eingangsreihenfolge gesendet werden sollen.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @return {@code true} für geordnete Ausgabe, sonst {@code false}
+	 * @throws IllegalArgumentException falls das Argument weder {@code ordered} noch
+	 * {@code unordered} ist
+	 */
+	private boolean extractOrdered(@Nonnull final String[] args) {
+		String argument = this.extractOptional(args, ORDERED_INDEX);
+
+		if (argument == null || UNORDERED_ARGUMENT.equals(argument)) {
+			return false;
+		}
+
+		if (ORDERED_ARGUMENT.equals(argument)) {
+			return true;
+		}
+
+		throw new IllegalArgumentException(USAGE);
 	}
 
 	/**
@@ -145,8 +529,10 @@ public class RunCamelCommand implements Command {
 		try (CamelContext camel = new DefaultCamelContext()) {
 			camel.addRoutes(this.createDefaultRouteBuilder());
 
-			if (this.numberOfDigits != null) {
-				camel.addRoutes(this.createGeneratorRouteBuilder());
+			if (this.loadProfile != null) {
+				this.generatorTokenBucket = this.loadProfile.createTokenBucket();
+				this.generatorRateMonitor = this.loadProfile.createRateMonitor();
+				camel.addRoutes(this.createGeneratorRouteBuilder(this.loadProfile));
 			}
 
 			camel.start();
@@ -161,43 +547,186 @@ public class RunCamelCommand implements Command {
 	 * Diese Methode erzeugt die Camel-Route, für das Laden von Rätseln von MQTT 'Zahlenraetsel',
 	 * Lösen per gRPC-Service und Übertragen der Löusung an MQTT 'Loesung'.
 	 *
+	 * <p>
+	 *     Die Route besteht aus zwei Teilen: Der MQTT-Consumer liest die Rätsel ein, verwirft
+	 *     bereits eingegangene Rätsel, nummeriert die übrigen und legt sie in eine begrenzte
+	 *     SEDA-Warteschlange. Ist diese voll, wartet der
+	 *     Consumer. Die SEDA-Stufe verarbeitet die Rätsel mit {@link #concurrentConsumers}
+	 *     Threads. Bei geordneter Ausgabe werden die Antworten anhand der laufenden Nummer mit
+	 *     einem Stream-Resequencer in die Eingangsreihenfolge gebracht, bevor unlösbare Rätsel
+	 *     herausgefiltert werden.
+	 * </p>
+	 *
+	 * <p>
+	 *     Damit der Resequencer nicht auf Nummern wartet, die nie eintreffen, erreicht jedes
+	 *     nummerierte Rätsel den Resequencer: Schlägt die Lösung fehl oder liefert der
+	 *     gRPC-Aufruf keine Antwort, wird das Rätsel als unlösbar weitergereicht und erst vom
+	 *     Filter verworfen. Die Wartezeit {@link #resequenceTimeout} greift daher nur, wenn eine
+	 *     Lösung länger dauert, sowie beim ersten Rätsel nach dem Start, dessen Vorgänger der
+	 *     Resequencer nicht kennt.
+	 * </p>
+	 *
+	 * <p>
+	 *     Doppelte Rätsel, etwa durch erneute Zustellung bei MQTT-QoS oder wiederholte
+	 *     Rätsel-IDs, erkennt ein Idempotent Consumer anhand von Server-ID, Rätsel-ID und einem
+	 *     Hash des Inhalts. Die SEDA-Stufe übernimmt beim Einreihen die On-Completions des
+	 *     Exchanges, sodass der Idempotent Consumer den Schlüssel entfernt, falls der Exchange in
+	 *     der SEDA-Stufe fehlschlägt. Fehler beim Lösen fängt jedoch der {@code doCatch}-Zweig
+	 *     ab, womit der Exchange nicht fehlschlägt. Dieser entfernt den Schlüssel daher selbst,
+	 *     sodass eine erneute Zustellung gelöst wird.
+	 * </p>
+	 *
 	 * @return der erzeugt {@link RouteBuilder}
 	 */
 	@Nonnull
-	private RouteBuilder createDefaultRouteBuilder() {
+	protected RouteBuilder createDefaultRouteBuilder() {
 		return new RouteBuilder() {
 			@Override
 			public void configure() {
-				from(createMqttUri("Zahlenraetsel"))
-						.unmarshal().json(JsonLibrary.Jackson, CommonSolvePuzzleRequest.class)
-						.process(RunCamelCommand.this::convertCommonFormat2Protobuf)
-						.to(createGrpcSolvePuzzleUri())
-						.filter(RunCamelCommand.this::isSolutionFound)
+				ProcessorDefinition<?> solved;
+
+				from(createMqttConsumerUri("Zahlenraetsel"))
+						.routeId(RECEIVE_ROUTE_ID)
+						.process(RunCamelCommand.this::decodeRequest)
+						.process(RunCamelCommand.this::assignDeduplicationKey)
+						.idempotentConsumer(
+								header(DEDUPLICATION_KEY_HEADER),
+								RunCamelCommand.this.deduplicationRepository)
+						.process(RunCamelCommand.this::assignSequenceNumber)
+						.to(createSedaUri());
+
+				solved = from(createSedaUri())
+						.routeId(SOLVE_ROUTE_ID)
+						.doTry()
+							.process(RunCamelCommand.this::convertCommonFormat2Protobuf)
+							.process(RunCamelCommand.this::acquireInFlightPermit)
+							.to(createGrpcSolvePuzzleUri())
+							.process(RunCamelCommand.this::extractGrpcResponse)
+						.doCatch(Exception.class)
+							.log(LoggingLevel.WARN, "Solving puzzle failed: ${exception.message}")
+							.process(RunCamelCommand.this::handleSolveFailure)
+						.end();
+
+				if (RunCamelCommand.this.ordered) {
+					solved = solved.resequence(header(SEQUENCE_NUMBER_HEADER))
+							.stream()
+							.capacity(RunCamelCommand.this.queueSize)
+							.timeout(RunCamelCommand.this.resequenceTimeout);
+				}
+
+				solved.filter(RunCamelCommand.this::isSolutionFound)
 						.process(RunCamelCommand.this::mergeResult)
-						.marshal().json(JsonLibrary.Jackson, true)
+						.process(RunCamelCommand.this::encodeResponse)
 						.to(createMqttUri("Loesung"));
 			}
 		};
 	}
 
 	/**
-	 * Diese Methode erzeugt die Camel-Route, die jede Minute ein Puzzle erzeugt und an MQTT sendet.
+	 * Diese Methode erzeugt die Camel-Route, die entsprechend eines Profils Rätsel erzeugt und an
+	 * MQTT sendet.
+	 *
+	 * <p>
+	 *     Der Timer fragt regelmäßig einen Token-Bucket ab. Für die erhaltenen Marken wird eine
+	 *     Liste von Rätseln erzeugt. Der Splitter sendet jedes Rätsel einzeln und synchron auf
+	 *     dem Timer-Thread an MQTT. Ohne Angabe einer Rate im Profil entspricht das dem
+	 *     bisherigen Verhalten von einem Rätsel je Minute.
+	 * </p>
 	 *
+	 * <p>
+	 *     Da jedes Senden auf die Bestätigung des Brokers wartet, begrenzt dessen Antwortzeit die
+	 *     erreichbare Rate. Nach jedem Burst wird daher die erreichte Rate gemessen und eine
+	 *     Warnung protokolliert, wenn sie die Rate des Profils deutlich unterschreitet.
+	 * </p>
+	 *
+	 * @param profile das zu verwendende Profil
 	 * @return der erzeugt {@link RouteBuilder}
 	 */
 	@Nonnull
-	private RouteBuilder createGeneratorRouteBuilder() {
+	private RouteBuilder createGeneratorRouteBuilder(@Nonnull final PuzzleLoadProfile profile) {
 		return new RouteBuilder() {
 			@Override
 			public void configure() {
-				from("timer:puzzleGenerator?period=60000")
-						.process(RunCamelCommand.this::generatePuzzle)
-						.marshal().json(JsonLibrary.Jackson, true)
-						.to(createMqttUri("Zahlenraetsel"));
+				from("timer:puzzleGenerator?period=" + profile.getTickPeriod())
+						.process(RunCamelCommand.this::generatePuzzles)
+						.split(body()).streaming()
+							.process(RunCamelCommand.this::encodeRequest)
+							.to(createMqttUri("Zahlenraetsel"))
+						.end()
+						.process(RunCamelCommand.this::checkGenerationRate)
+						.filter(header(ACHIEVED_RATE_HEADER).isNotNull())
+							.log(LoggingLevel.WARN, "Generated only ${header["
+									+ ACHIEVED_RATE_HEADER + "]} of " + profile.getRate()
+									+ " puzzles per second, publishing to MQTT is too slow");
 			}
 		};
 	}
 
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der die erreichte Rate der generierten
+	 * Rätsel misst.
+	 *
+	 * <p>
+	 *     Der Body enthält nach dem Splitter wieder die Liste der gesendeten Rätsel. Unterschreitet
+	 *     die Rate die des Profils deutlich, wird sie im Header {@link #ACHIEVED_RATE_HEADER}
+	 *     abgelegt.
+	 * </p>
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void checkGenerationRate(@Nonnull final Exchange exchange) {
+		Objects.requireNonNull(this.generatorRateMonitor)
+				.record(exchange.getIn().getBody(List.class).size())
+				.ifPresent(rate -> exchange.getMessage().setHeader(
+						ACHIEVED_RATE_HEADER,
+						String.format(Locale.ROOT, "%.2f", rate)));
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der den Schlüssel zum Erkennen doppelter
+	 * Rätsel ermittelt.
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void assignDeduplicationKey(@Nonnull final Exchange exchange) {
+		CommonSolvePuzzleRequest request = exchange.getIn().getBody(CommonSolvePuzzleRequest.class);
+
+		exchange.getMessage().setHeader(
+				DEDUPLICATION_KEY_HEADER,
+				request.getServerId() + "|" + request.getRaetselId() + "|" + Integer.toHexString(
+						Objects.hash(request.getRow1(), request.getRow2(), request.getRow3())));
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der ein Rätsel, dessen Lösung
+	 * fehlgeschlagen ist, als unlösbar weiterreicht.
+	 *
+	 * <p>
+	 *     Der Schlüssel zum Erkennen doppelter Rätsel wird entfernt, sodass eine erneute
+	 *     Zustellung gelöst wird. Der Idempotent Consumer entfernt ihn hier nicht selbst, da der
+	 *     {@code doCatch}-Zweig den Fehler behandelt und der Exchange daher nicht fehlschlägt.
+	 * </p>
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void handleSolveFailure(@Nonnull final Exchange exchange) {
+		Objects.requireNonNull(this.deduplicationRepository).remove(
+				exchange.getIn().getHeader(DEDUPLICATION_KEY_HEADER, String.class));
+		exchange.getMessage().setBody(SolvePuzzleResponse.getDefaultInstance());
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der eingegangenen Rätseln eine laufende
+	 * Nummer zuweist.
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void assignSequenceNumber(@Nonnull final Exchange exchange) {
+		exchange.getMessage().setHeader(
+				SEQUENCE_NUMBER_HEADER,
+				this.sequenceNumber.getAndIncrement());
+	}
+
 	/**
 	 * Diese Methode stellt einen Camel-Prozessor zur Konvertierung von Austauschdatenformat in das
 	 * lokale Protobuf-Format bereit.
@@ -234,8 +763,56 @@ public class RunCamelCommand implements Command {
 	private Puzzles.SolvePuzzleRequest convertCommonFormat2Protobuf(
 			@Nonnull final CommonSolvePuzzleRequest request) {
 
-		return new Puzzle2ProtobufConverter().createSolvePuzzleRequest(
-				new Common2PuzzleConverter().createPuzzle(request));
+		return this.common2ProtobufConverter.createSolvePuzzleRequest(request);
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der die Anzahl gleichzeitig laufender
+	 * Lösungen begrenzt.
+	 *
+	 * <p>
+	 *     Die Erlaubnis wird beim Abschluss des Exchanges zurückgegeben, unabhängig davon, ob eine
+	 *     Lösung gefunden, der Exchange gefiltert oder ein Fehler aufgetreten ist.
+	 * </p>
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 * @throws InterruptedException falls der Thread beim Warten unterbrochen wird
+	 */
+	private void acquireInFlightPermit(@Nonnull final Exchange exchange)
+			throws InterruptedException {
+
+		Semaphore permits = this.inFlightPermits;
+
+		permits.acquire();
+		exchange.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+
+			@Override
+			public void onDone(final Exchange completedExchange) {
+				permits.release();
+			}
+		});
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor bereit, der die Antwort des asynchronen
+	 * gRPC-Aufrufs entpackt.
+	 *
+	 * <p>
+	 *     Im asynchronen Modus liefert die gRPC-Komponente die Antworten als Liste. Für den
+	 *     unären Aufruf enthält diese genau eine {@link SolvePuzzleResponse}. Ist die Liste leer,
+	 *     wird das Rätsel als unlösbar weitergereicht.
+	 * </p>
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void extractGrpcResponse(@Nonnull final Exchange exchange) {
+		List<?> responses = exchange.getIn().getBody(List.class);
+
+		if (responses == null || responses.isEmpty()) {
+			exchange.getMessage().setBody(SolvePuzzleResponse.getDefaultInstance());
+		} else {
+			exchange.getMessage().setBody(responses.get(0));
+		}
 	}
 
 	/**
@@ -322,27 +899,74 @@ public class RunCamelCommand implements Command {
 	}
 
 	/**
-	 * Diese Methode stellt einen Camel-Prozessor zur Erzeugung eines Puzzles bereit.
+	 * Diese Methode stellt einen Camel-Prozessor zum Lesen einer JSON-kodierten Lösungsanfrage
+	 * bereit.
 	 *
 	 * @param exchange das zu verwendende Austauschobjekt
 	 */
-	private void generatePuzzle(@Nonnull final Exchange exchange) {
-		exchange.getMessage().setBody(this.generatePuzzle());
+	private void decodeRequest(@Nonnull final Exchange exchange) {
+		exchange.getMessage().setBody(
+				this.jsonCodec.readRequest(exchange.getMessage().getBody(byte[].class)));
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor zum Schreiben einer Lösungsanfrage als
+	 * kompaktes JSON bereit.
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void encodeRequest(@Nonnull final Exchange exchange) {
+		exchange.getMessage().setBody(this.jsonCodec.writeRequest(
+				exchange.getMessage().getBody(CommonSolvePuzzleRequest.class)));
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor zum Schreiben einer Lösung als kompaktes JSON
+	 * bereit.
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void encodeResponse(@Nonnull final Exchange exchange) {
+		exchange.getMessage().setBody(this.jsonCodec.writeResponse(
+				exchange.getMessage().getBody(CommonSolvePuzzleResponse.class)));
+	}
+
+	/**
+	 * Diese Methode stellt einen Camel-Prozessor zur Erzeugung eines Bursts von Puzzles bereit.
+	 *
+	 * <p>
+	 *     Es werden so viele Puzzles erzeugt, wie der Token-Bucket erlaubt, höchstens jedoch ein
+	 *     Burst. Der Body enthält die Puzzles als Liste, die leer sein kann.
+	 * </p>
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private void generatePuzzles(@Nonnull final Exchange exchange) {
+		PuzzleLoadProfile profile = Objects.requireNonNull(this.loadProfile);
+		int count = Objects.requireNonNull(this.generatorTokenBucket)
+				.tryAcquireUpTo(profile.getBurst());
+
+		exchange.getMessage().setBody(Stream.generate(() -> this.generatePuzzle(profile))
+				.limit(count)
+				.collect(Collectors.toList()));
 	}
 
 	/**
 	 * Diese Methode erzeugt ein neues Puzzle und verpackt es in einen
 	 * {@link CommonSolvePuzzleRequest}.
 	 *
+	 * @param profile das Profil, nach dem die Anzahl der Stellen gewählt wird
 	 * @return die erzeugte Instanz
 	 */
-	private CommonSolvePuzzleRequest generatePuzzle() {
+	@Nonnull
+	private CommonSolvePuzzleRequest generatePuzzle(@Nonnull final PuzzleLoadProfile profile) {
 		CommonSolvePuzzleRequest request =
 				new Puzzle2CommonConverter().createCommonSolvePuzzleRequest(
-						new PuzzleGenerator().generate(this.numberOfDigits));
+						new PuzzleGenerator().generate(
+								profile.nextNumberOfDigits(ThreadLocalRandom.current())));
 
 		request.setServerId(this.serverId);
-		request.setRaetselId((long) new Random().nextInt(Byte.MAX_VALUE));
+		request.setRaetselId(Objects.requireNonNull(this.idGenerator).nextId());
 		return request;
 	}
 
@@ -357,6 +981,37 @@ public class RunCamelCommand implements Command {
 		return "paho-mqtt5:" + topic + "?brokerUrl=" + this.mqttBrokerUrl;
 	}
 
+	/**
+	 * Diese Methode erzeugte die Camel-URI für den MQTT-Endpoint, von dem Rätsel gelesen werden.
+	 *
+	 * <p>
+	 *     Ist {@link #shareGroup} gesetzt, wird ein MQTT-5-Shared-Subscription verwendet, sodass
+	 *     der Broker die Nachrichten des Topics auf alle Instanzen der Gruppe verteilt.
+	 * </p>
+	 *
+	 * @param topic das zu verwendende Topic
+	 * @return die erzeugte Camel-URI
+	 */
+	@Nonnull
+	private String createMqttConsumerUri(@Nonnull final String topic) {
+		if (this.shareGroup == null) {
+			return this.createMqttUri(topic);
+		}
+
+		return this.createMqttUri("$share/" + this.shareGroup + "/" + topic);
+	}
+
+	/**
+	 * Diese Methode erzeugte die Camel-URI für die SEDA-Stufe.
+	 *
+	 * @return die erzeugte Camel-URI
+	 */
+	@Nonnull
+	private String createSedaUri() {
+		return "seda:zahlenraetsel?size=" + this.queueSize
+				+ "&blockWhenFull=true&concurrentConsumers=" + this.concurrentConsumers;
+	}
+
 	/**
 	 * Diese Methode erzeugte die Camel-URI für den gRPC-Endpoint.
 	 *
@@ -366,7 +1021,7 @@ public class RunCamelCommand implements Command {
 	private String createGrpcSolvePuzzleUri() {
 		return "grpc://" + this.grpcServer
 				+ "/software.sirsch.sa4e.puzzles.protobuf.PuzzleSolver"
-				+ "?method=solvePuzzle&synchronous=true";
+				+ "?method=solvePuzzle&synchronous=false";
 	}
 
 	/**
@@ -17,12 +17,38 @@ public class RunServerCommand implements Command {
 	 */
 	public static final String COMMAND_NAME = "run-server";
 
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Anzahl der Threads.
+	 */
+	private static final int THREAD_COUNT_INDEX = 3;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Kapazität der Warteschlange.
+	 */
+	private static final int QUEUE_CAPACITY_INDEX = 4;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für die Kapazität des Caches.
+	 */
+	private static final int CACHE_CAPACITY_INDEX = 5;
+
+	/**
+	 * Diese Konstante enthält den Index des Arguments für den Port der Kennzahlen.
+	 */
+	private static final int METRICS_PORT_INDEX = 6;
+
 	/**
 	 * Dieses Feld muss die Fabrik für {@link PuzzleSolverServer} enthalten.
 	 */
 	@Nonnull
 	private final PuzzleSolverServerFactory puzzleSolverServerFactory;
 
+	/**
+	 * Dieses Feld muss die Fabrik für {@link PuzzleSolver} enthalten.
+	 */
+	@Nonnull
+	private final PuzzleSolverFactory puzzleSolverFactory;
+
 	/**
 	 * Dieses Feld muss den {@link PrintStream} für die Ausgabe enthalten.
 	 */
@@ -33,20 +59,23 @@ public class RunServerCommand implements Command {
 	 * Dieser Konstruktor nimmt die interne Initialisierung vor.
 	 */
 	public RunServerCommand() {
-		this(PuzzleSolverServer::new, System.out);
+		this(PuzzleSolverServer::new, PuzzleSolverFactory.getSingletonInstance(), System.out);
 	}
 
 	/**
 	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
 	 *
 	 * @param puzzleSolverServerFactory die zu setzende Fabrik für {@link PuzzleSolverServer}
+	 * @param puzzleSolverFactory die zu setzende Fabrik für {@link PuzzleSolver}
 	 * @param out der zu setzende {@link PrintStream} für die Ausgabe
 	 */
 	protected RunServerCommand(
 			@Nonnull final PuzzleSolverServerFactory puzzleSolverServerFactory,
+			@Nonnull final PuzzleSolverFactory puzzleSolverFactory,
 			@Nonnull final PrintStream out) {
 
 		this.puzzleSolverServerFactory = puzzleSolverServerFactory;
+		this.puzzleSolverFactory = puzzleSolverFactory;
 		this.out = out;
 	}
 
@@ -54,14 +83,33 @@ public class RunServerCommand implements Command {
 	 * Diese Methode führt das Kommando aus.
 	 *
 	 * <p>
-	 *     Dabei wird als Argument der Dateiname für die Ausgabedatei erwartet.
+	 *     Dabei wird als Argument der Port erwartet. Optional können das Verfahren zum Lösen der
+	 *     Rätsel, die Anzahl der Threads zum Lösen, die Kapazität der Warteschlange, die
+	 *     Kapazität des Caches für die Lösungen und der lokale Port für die Kennzahlen angegeben
+	 *     werden. Ohne Angabe werden {@link SolverExecutor#DEFAULT_THREAD_COUNT},
+	 *     {@link SolverExecutor#DEFAULT_QUEUE_CAPACITY} und {@link SolutionCache#DEFAULT_CAPACITY}
+	 *     verwendet und die Kennzahlen nicht per HTTP bereitgestellt.
 	 * </p>
 	 *
 	 * @param args die Argumente
 	 */
 	@Override
 	public void execute(@Nonnull final String... args) {
-		this.runServer(this.extractPort(args));
+		Integer port = this.extractPort(args);
+
+		this.selectEngine(args);
+		this.runServer(
+				port,
+				this.extractInt(args, THREAD_COUNT_INDEX, SolverExecutor.DEFAULT_THREAD_COUNT),
+				this.extractInt(
+						args,
+						QUEUE_CAPACITY_INDEX,
+						SolverExecutor.DEFAULT_QUEUE_CAPACITY),
+				this.extractInt(args, CACHE_CAPACITY_INDEX, SolutionCache.DEFAULT_CAPACITY),
+				this.extractInt(
+						args,
+						METRICS_PORT_INDEX,
+						PuzzleSolverServer.METRICS_DISABLED));
 	}
 
 	/**
@@ -73,20 +121,66 @@ public class RunServerCommand implements Command {
 	@Nonnull
 	private Integer extractPort(@Nonnull final String[] args) {
 		if (args.length < 2) {
-			throw new IllegalArgumentException("usage: run-server <port>");
+			throw new IllegalArgumentException(
+					"usage: run-server <port> <?engine> <?threads> <?queue-capacity>"
+							+ " <?cache-size> <?metrics-port>");
 		}
 
 		return Integer.valueOf(args[1]);
 	}
 
+	/**
+	 * Diese Methode ermittelt ein optionales ganzzahliges Argument.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 * @param index der Index des Arguments
+	 * @param defaultValue der Wert, falls das Argument fehlt
+	 * @return der ermittelte Wert
+	 */
+	private int extractInt(
+			@Nonnull final String[] args,
+			final int index,
+			final int defaultValue) {
+
+		if (args.length > index) {
+			return Integer.parseInt(args[index]);
+		}
+
+		return defaultValue;
+	}
+
+	/**
+	 * Diese Methode legt das Verfahren zum Lösen der Rätsel fest, falls das Argument vorhanden
+	 * ist.
+	 *
+	 * @param args die zu übergebenen Argumente
+	 */
+	private void selectEngine(@Nonnull final String[] args) {
+		if (args.length > 2) {
+			this.puzzleSolverFactory.setEngine(SolverEngine.fromName(args[2]));
+		}
+	}
+
 	/**
 	 * Diese Methode erzeugt und startet einen {@link PuzzleSolverServer}.
 	 *
 	 * @param port die zu verwendende Portnummer
+	 * @param threadCount die Anzahl der Threads zum Lösen der Rätsel
+	 * @param queueCapacity die Kapazität der Warteschlange
+	 * @param cacheCapacity die Kapazität des Caches
+	 * @param metricsPort der Port für die Kennzahlen
 	 */
-	private void runServer(@Nonnull final Integer port) {
+	private void runServer(
+			@Nonnull final Integer port,
+			final int threadCount,
+			final int queueCapacity,
+			final int cacheCapacity,
+			final int metricsPort) {
+
 		this.out.println("Starting server...");
-		this.puzzleSolverServerFactory.create(port).run();
+		this.puzzleSolverServerFactory
+				.create(port, threadCount, queueCapacity, cacheCapacity, metricsPort)
+				.run();
 		this.out.println("Server stopped!");
 	}
 }
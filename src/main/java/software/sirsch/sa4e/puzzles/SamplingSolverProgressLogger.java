@@ -0,0 +1,444 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen {@link SolverProgressLogger} bereit, der den Fortschritt nur in
+ * Abständen an einen anderen {@link SolverProgressLogger} weitergibt.
+ *
+ * <p>
+ *     Anstatt jede geprüfte Belegung auszugeben, wird nach jeweils einer festen Anzahl von
+ *     Belegungen oder nach Ablauf einer festen Zeit ein zusammenfassender Eintrag erzeugt. Er
+ *     enthält die Anzahl der bisher geprüften Belegungen, die aktuelle Rate und das Präfix der
+ *     zuletzt geprüften Belegung. Lösungen werden stets vollständig weitergegeben.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Die Einträge werden über einen {@link RingBuffer} an einen
+ *     Hintergrund-Thread übergeben, der sie formatiert und ausgibt. Die suchenden Threads
+ *     erzeugen daher keine Zeichenketten und warten nie auf die Ausgabe. Kommt die Ausgabe nicht
+ *     nach, gehen die ältesten Einträge verloren. Lösungen und Nachrichten über
+ *     {@link #log(String)} werden dagegen über eine unbegrenzte Warteschlange übergeben und nie
+ *     verworfen, da sie selten sind und nicht durch spätere Einträge ersetzt werden.
+ * </p>
+ *
+ * <p>
+ *     Die Belegungen werden in einem {@link LongAdder} gezählt, damit parallel suchende Threads
+ *     nicht um einen gemeinsamen Zähler konkurrieren. Ob ein Eintrag fällig ist, prüft jeder
+ *     Thread nur nach jeweils {@link #TIME_CHECK_INTERVAL} eigenen Belegungen, bei kleinerem
+ *     Abstand der Einträge entsprechend öfter. Erst dann werden die Zähler summiert und die Zeit
+ *     abgefragt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SamplingSolverProgressLogger implements SolverProgressLogger {
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Belegungen zwischen zwei Einträgen.
+	 */
+	public static final long DEFAULT_CANDIDATE_INTERVAL = 1_000_000;
+
+	/**
+	 * Diese Konstante enthält die Standardzeit zwischen zwei Einträgen in Millisekunden.
+	 */
+	public static final long DEFAULT_TIME_INTERVAL_MILLIS = 1000;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Belegungen, nach denen jeweils die Zeit abgefragt
+	 * wird.
+	 */
+	public static final int TIME_CHECK_INTERVAL = 1024;
+
+	/**
+	 * Diese Konstante enthält die Kapazität des Puffers.
+	 */
+	private static final int BUFFER_CAPACITY = 64;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Stellen des ausgegebenen Präfixes.
+	 */
+	private static final int PREFIX_LENGTH = 3;
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit des Hintergrund-Threads in Millisekunden.
+	 */
+	private static final long POLL_TIMEOUT_MILLIS = 100;
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit beim Schließen in Millisekunden.
+	 */
+	private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nanosekunden je Sekunde.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+	/**
+	 * Dieses Feld muss den {@link SolverProgressLogger} für die Ausgabe enthalten.
+	 */
+	@Nonnull
+	private final SolverProgressLogger delegate;
+
+	/**
+	 * Dieses Feld muss die Anzahl der Belegungen zwischen zwei Einträgen enthalten.
+	 */
+	private final long candidateInterval;
+
+	/**
+	 * Dieses Feld muss die Zeit zwischen zwei Einträgen in Nanosekunden enthalten.
+	 */
+	private final long timeIntervalNanos;
+
+	/**
+	 * Dieses Feld muss die Abfrage der aktuellen Zeit in Nanosekunden enthalten.
+	 */
+	@Nonnull
+	private final LongSupplier clock;
+
+	/**
+	 * Dieses Feld muss den Puffer für die noch auszugebenden Einträge enthalten.
+	 */
+	@Nonnull
+	private final RingBuffer<Consumer<SolverProgressLogger>> buffer =
+			new RingBuffer<>(BUFFER_CAPACITY);
+
+	/**
+	 * Dieses Feld muss die Warteschlange für die noch auszugebenden Lösungen und Nachrichten
+	 * enthalten, die nicht verworfen werden.
+	 */
+	@Nonnull
+	private final Queue<Consumer<SolverProgressLogger>> lossless =
+			new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Dieses Feld muss die Anzahl der geprüften Belegungen enthalten.
+	 */
+	@Nonnull
+	private final LongAdder candidateCount = new LongAdder();
+
+	/**
+	 * Dieses Feld muss je Thread die Anzahl der Belegungen seit dessen letzter Prüfung enthalten.
+	 */
+	@Nonnull
+	private final ThreadLocal<int[]> uncheckedCount = ThreadLocal.withInitial(() -> new int[1]);
+
+	/**
+	 * Dieses Feld muss die Anzahl der Belegungen enthalten, nach denen ein Thread prüft, ob ein
+	 * Eintrag fällig ist.
+	 */
+	private final int checkInterval;
+
+	/**
+	 * Dieses Feld muss den Hintergrund-Thread für die Ausgabe enthalten.
+	 */
+	@Nonnull
+	private final Thread drainThread;
+
+	/**
+	 * Dieses Feld enthält den Zeitpunkt, ab dem der nächste Eintrag fällig ist.
+	 */
+	private volatile long nextReportTime;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der Belegungen, ab der der nächste Eintrag fällig ist.
+	 */
+	private volatile long nextReportCount;
+
+	/**
+	 * Dieses Feld enthält die Anzahl der Belegungen beim letzten Eintrag.
+	 */
+	private long lastReportCount;
+
+	/**
+	 * Dieses Feld enthält den Zeitpunkt des letzten Eintrags.
+	 */
+	private long lastReportTime;
+
+	/**
+	 * Dieses Feld zeigt an, ob die Ausgabe geschlossen wurde.
+	 */
+	private volatile boolean closed;
+
+	/**
+	 * Dieser Konstruktor legt die Ausgabe und die Abstände der Einträge fest.
+	 *
+	 * @param delegate der {@link SolverProgressLogger} für die Ausgabe
+	 * @param candidateInterval die Anzahl der Belegungen zwischen zwei Einträgen
+	 * @param timeIntervalMillis die Zeit zwischen zwei Einträgen in Millisekunden
+	 */
+	public SamplingSolverProgressLogger(
+			@Nonnull final SolverProgressLogger delegate,
+			final long candidateInterval,
+			final long timeIntervalMillis) {
+
+		this(delegate, candidateInterval, timeIntervalMillis, System::nanoTime, Thread::new);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param delegate der zu setzende {@link SolverProgressLogger} für die Ausgabe
+	 * @param candidateInterval die Anzahl der Belegungen zwischen zwei Einträgen
+	 * @param timeIntervalMillis die Zeit zwischen zwei Einträgen in Millisekunden
+	 * @param clock die zu setzende Abfrage der aktuellen Zeit in Nanosekunden
+	 * @param threadFactory die Fabrikmethode für den Hintergrund-Thread
+	 * @throws IllegalArgumentException falls ein Abstand kleiner als 1 ist
+	 */
+	protected SamplingSolverProgressLogger(
+			@Nonnull final SolverProgressLogger delegate,
+			final long candidateInterval,
+			final long timeIntervalMillis,
+			@Nonnull final LongSupplier clock,
+			@Nonnull final Function<Runnable, Thread> threadFactory) {
+
+		if (candidateInterval < 1 || timeIntervalMillis < 1) {
+			throw new IllegalArgumentException("Progress intervals must be positive!");
+		}
+
+		this.delegate = delegate;
+		this.candidateInterval = candidateInterval;
+		this.checkInterval = (int) Math.min(candidateInterval, TIME_CHECK_INTERVAL);
+		this.nextReportCount = candidateInterval;
+		this.timeIntervalNanos = TimeUnit.MILLISECONDS.toNanos(timeIntervalMillis);
+		this.clock = clock;
+		this.lastReportTime = clock.getAsLong();
+		this.nextReportTime = this.lastReportTime + this.timeIntervalNanos;
+		this.drainThread = threadFactory.apply(this::drain);
+		this.drainThread.setDaemon(true);
+		this.drainThread.start();
+	}
+
+	/**
+	 * Diese Methode zählt die Belegung und stellt gegebenenfalls einen Eintrag in den Puffer.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte der Symbole in der Reihenfolge von {@code symbols}
+	 * @param isSolution {@code true}, falls es sich um eine Lösung handelt, sonst {@code false}
+	 */
+	@Override
+	public void logPermutation(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] values,
+			final boolean isSolution) {
+
+		int[] unchecked = this.uncheckedCount.get();
+
+		this.candidateCount.increment();
+
+		if (isSolution) {
+			int[] solution = values.clone();
+
+			this.offerLossless(target -> target.logPermutation(symbols, solution, true));
+		} else if (++unchecked[0] >= this.checkInterval) {
+			unchecked[0] = 0;
+			this.reportProgressIfDue(symbols, values);
+		}
+	}
+
+	/**
+	 * Diese Methode stellt einen Eintrag über den Fortschritt in den Puffer, falls die Anzahl
+	 * der Belegungen oder die Zeit für einen Eintrag erreicht ist.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte der zuletzt geprüften Belegung
+	 */
+	private void reportProgressIfDue(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] values) {
+
+		long count = this.candidateCount.sum();
+
+		if (count >= this.nextReportCount
+				|| this.clock.getAsLong() - this.nextReportTime >= 0) {
+
+			this.reportProgress(symbols, values, count);
+		}
+	}
+
+	/**
+	 * Diese Methode stellt einen Eintrag über den Fortschritt in den Puffer, sofern nicht ein
+	 * anderer Thread ihn bereits erzeugt hat.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte der zuletzt geprüften Belegung
+	 * @param count die Anzahl der bisher geprüften Belegungen
+	 */
+	private void reportProgress(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] values,
+			final long count) {
+
+		int[] prefix = Arrays.copyOf(values, Math.min(PREFIX_LENGTH, values.length));
+		double rate;
+
+		synchronized (this) {
+			long now = this.clock.getAsLong();
+			long elapsed;
+
+			if (count < this.nextReportCount && now - this.nextReportTime < 0) {
+				return;
+			}
+
+			elapsed = Math.max(now - this.lastReportTime, 1);
+			rate = (count - this.lastReportCount) * NANOS_PER_SECOND / elapsed;
+			this.lastReportCount = count;
+			this.lastReportTime = now;
+			this.nextReportTime = now + this.timeIntervalNanos;
+			this.nextReportCount = (count / this.candidateInterval + 1) * this.candidateInterval;
+		}
+
+		this.buffer.offer(target -> target.log(formatProgress(symbols, prefix, count, rate)));
+	}
+
+	/**
+	 * Diese Methode formatiert einen Eintrag über den Fortschritt.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param prefix die ersten Werte der zuletzt geprüften Belegung
+	 * @param count die Anzahl der bisher geprüften Belegungen
+	 * @param rate die Anzahl der Belegungen je Sekunde seit dem letzten Eintrag
+	 * @return der formatierte Eintrag
+	 */
+	@Nonnull
+	private static String formatProgress(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] prefix,
+			final long count,
+			final double rate) {
+
+		StringBuilder stringBuilder = new StringBuilder("Checked ")
+				.append(count)
+				.append(" candidates (")
+				.append(Math.round(rate))
+				.append("/s), current prefix");
+
+		for (int index = 0; index < prefix.length; index++) {
+			stringBuilder
+					.append(' ')
+					.appendCodePoint(symbols.get(index).getIconCodePoint())
+					.append(':')
+					.append(prefix[index]);
+		}
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Diese Methode stellt eine Nachricht in die Warteschlange, die nicht verworfen wird.
+	 *
+	 * @param message die Nachricht
+	 */
+	@Override
+	public void log(@Nonnull final String message) {
+		this.offerLossless(target -> target.log(message));
+	}
+
+	/**
+	 * Diese Methode stellt einen Eintrag in die Warteschlange, die nicht verworfen wird, und
+	 * weckt den Hintergrund-Thread.
+	 *
+	 * <p>
+	 *     Zum Wecken wird ein leerer Eintrag in den Puffer gestellt. Wird dieser verworfen, geht
+	 *     der eigentliche Eintrag dennoch nicht verloren, da der Hintergrund-Thread die
+	 *     Warteschlange vor jedem Eintrag aus dem Puffer leert.
+	 * </p>
+	 *
+	 * @param entry der Eintrag
+	 */
+	private void offerLossless(@Nonnull final Consumer<SolverProgressLogger> entry) {
+		this.lossless.offer(entry);
+		this.buffer.offer(target -> { });
+	}
+
+	/**
+	 * Diese Methode gibt die Einträge aus dem Puffer sowie die Lösungen und Nachrichten aus, bis
+	 * die Ausgabe geschlossen und beide geleert wurden.
+	 *
+	 * <p>
+	 *     Für jede Lösung und Nachricht wird zusätzlich ein leerer Eintrag in den Puffer
+	 *     gestellt, der den Hintergrund-Thread weckt.
+	 * </p>
+	 */
+	private void drain() {
+		try {
+			while (!this.closed || !this.buffer.isEmpty() || !this.lossless.isEmpty()) {
+				Consumer<SolverProgressLogger> entry = this.buffer.poll(
+						POLL_TIMEOUT_MILLIS,
+						TimeUnit.MILLISECONDS);
+
+				this.drainLossless();
+
+				if (entry != null) {
+					entry.accept(this.delegate);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Diese Methode gibt alle wartenden Lösungen und Nachrichten aus.
+	 */
+	private void drainLossless() {
+		Consumer<SolverProgressLogger> entry = this.lossless.poll();
+
+		while (entry != null) {
+			entry.accept(this.delegate);
+			entry = this.lossless.poll();
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die verbliebenen Einträge aus und schließt anschließend die Ausgabe.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+
+		try {
+			this.drainThread.join(CLOSE_TIMEOUT_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		this.delegate.close();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der geprüften Belegungen zurück.
+	 *
+	 * @return die Anzahl
+	 */
+	public long getCandidateCount() {
+		return this.candidateCount.sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Einträge zurück, die wegen eines vollen Puffers verworfen
+	 * wurden.
+	 *
+	 * <p>
+	 *     Mitgezählt werden die leeren Einträge zum Wecken des Hintergrund-Threads. Lösungen und
+	 *     Nachrichten gehen dabei nicht verloren.
+	 * </p>
+	 *
+	 * @return die Anzahl
+	 */
+	public long getDroppedCount() {
+		return this.buffer.getDroppedCount();
+	}
+}
@@ -0,0 +1,29 @@
+package software.sirsch.sa4e.puzzles;
+
+/**
+ * Diese Aufzählung beschreibt die Arten von Suchen, deren Dauer und Ergebnis in den
+ * {@link SolverMetrics} getrennt erfasst werden.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public enum SearchMode {
+
+	/**
+	 * Diese Art beschreibt die Suche nach einer Lösung mit
+	 * {@link PuzzleSolver#solvePuzzle(Puzzle, PrefixRange, java.util.function.BooleanSupplier)}.
+	 */
+	FIRST_SOLUTION,
+
+	/**
+	 * Diese Art beschreibt die Aufzählung der Lösungen mit
+	 * {@link PuzzleSolver#findAllSolutions(Puzzle, java.util.function.BooleanSupplier)}.
+	 */
+	ALL_SOLUTIONS,
+
+	/**
+	 * Diese Art beschreibt das Zählen der Lösungen mit
+	 * {@link PuzzleSolver#countSolutions(Puzzle, long, java.util.function.BooleanSupplier)}.
+	 */
+	COUNT_SOLUTIONS
+}
@@ -0,0 +1,496 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc;
+import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc.PuzzleSolverFutureStub;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.ManagedChannel;
+
+/**
+ * Diese Klasse stellt einen gRPC-Client bereit, der die Suche nach der Lösung eines Rätsels auf
+ * mehrere Server verteilt.
+ *
+ * <p>
+ *     Der Suchraum wird mit {@link PrefixRange#split(int, int)} in Teilräume zerlegt, die als
+ *     Teilanfragen mit den Feldern {@code prefix_length}, {@code prefix_rank_begin} und
+ *     {@code prefix_rank_end} an die Server gesendet werden. Je Server sind höchstens
+ *     {@link #callsPerServer} Teilanfragen gleichzeitig offen. Sobald eine Teilanfrage
+ *     beantwortet ist, erhält derselbe Server den nächsten Teilraum, sodass schnellere Server
+ *     mehr Teilräume übernehmen. Meldet ein Server eine Lösung, werden alle übrigen Teilanfragen
+ *     abgebrochen, woraufhin die Server ihre Suchen beenden.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Es werden {@value #RANGES_PER_CALL}-mal so viele Teilräume gebildet,
+ *     wie Teilanfragen gleichzeitig offen sein können. Da die Lösung an beliebiger Stelle des
+ *     Suchraums liegen kann, verkürzen kleinere Teilräume die Wartezeit auf den Server, der sie
+ *     findet, während die Anzahl der Aufrufe gering bleibt.
+ * </p>
+ *
+ * <p>
+ *     Schlägt eine Teilanfrage fehl, etwa weil ein Server nicht erreichbar oder ausgelastet ist,
+ *     wird ihr Teilraum erneut vorne eingereiht und sofort an einen anderen Server mit freiem
+ *     Platz gesendet, auch wenn dieser zuvor keinen Teilraum mehr erhalten hat. Der ablehnende
+ *     Server übernimmt mit seinem frei gewordenen Platz einen anderen Teilraum. Jeder Teilraum
+ *     wird höchstens einmal je Server versucht, sodass ein ausgefallener Server jeden Teilraum
+ *     höchstens einmal ablehnt. Die Suche schlägt erst fehl, wenn alle Server einen Teilraum
+ *     abgelehnt haben.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ShardedPuzzleSolverClient implements Closeable {
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Teilanfragen, die je Server gleichzeitig
+	 * offen sind.
+	 */
+	public static final int DEFAULT_CALLS_PER_SERVER = 1;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Teilräume je gleichzeitig offener Teilanfrage.
+	 */
+	public static final int RANGES_PER_CALL = 4;
+
+	/**
+	 * Dieses Feld muss die Channels zu den Servern enthalten.
+	 */
+	@Nonnull
+	private final List<ManagedChannel> channels;
+
+	/**
+	 * Dieses Feld muss die Stubs der Server enthalten.
+	 */
+	@Nonnull
+	private final List<PuzzleSolverFutureStub> stubs;
+
+	/**
+	 * Dieses Feld muss den {@link Puzzle2ProtobufConverter} enthalten.
+	 */
+	@Nonnull
+	private final Puzzle2ProtobufConverter puzzle2ProtobufConverter;
+
+	/**
+	 * Dieses Feld muss die Anzahl der Teilanfragen enthalten, die je Server gleichzeitig offen
+	 * sind.
+	 */
+	private final int callsPerServer;
+
+	/**
+	 * Dieser Konstruktor initialisiert je Server einen Channel.
+	 *
+	 * @param targets die Adressen der Server in der Form {@code host:port}
+	 * @param callsPerServer die Anzahl der Teilanfragen, die je Server gleichzeitig offen sind
+	 */
+	public ShardedPuzzleSolverClient(
+			@Nonnull final List<String> targets,
+			final int callsPerServer) {
+
+		this(
+				targets.stream()
+						.map(target -> Grpc.newChannelBuilder(
+								target,
+								InsecureChannelCredentials.create()).build())
+						.collect(Collectors.toList()),
+				new Puzzle2ProtobufConverter(),
+				callsPerServer);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param channels die zu setzenden Channels
+	 * @param puzzle2ProtobufConverter der zu setzende Converter
+	 * @param callsPerServer die Anzahl der Teilanfragen, die je Server gleichzeitig offen sind
+	 * @throws IllegalArgumentException falls keine Channels übergeben werden oder
+	 * {@code callsPerServer} kleiner als 1 ist
+	 */
+	protected ShardedPuzzleSolverClient(
+			@Nonnull final List<ManagedChannel> channels,
+			@Nonnull final Puzzle2ProtobufConverter puzzle2ProtobufConverter,
+			final int callsPerServer) {
+
+		if (channels.isEmpty() || callsPerServer < 1) {
+			throw new IllegalArgumentException("At least one server and call are required!");
+		}
+
+		this.channels = List.copyOf(channels);
+		this.stubs = channels.stream()
+				.map(PuzzleSolverGrpc::newFutureStub)
+				.collect(Collectors.toList());
+		this.puzzle2ProtobufConverter = puzzle2ProtobufConverter;
+		this.callsPerServer = callsPerServer;
+	}
+
+	/**
+	 * Diese Methode löst ein Rätsel, indem es dessen Suchraum auf die Server verteilt.
+	 *
+	 * @param puzzle das zu lösende Puzzle
+	 * @return die ermittelte Zuordnung von Symbol-ID zu Ziffernwert
+	 * @throws RuntimeException falls das Rätsel keine Lösung hat oder eine Teilanfrage
+	 * fehlschlägt
+	 */
+	@Nonnull
+	public Map<Integer, Integer> solvePuzzle(@Nonnull final Puzzle puzzle) {
+		ShardedSearch search = new ShardedSearch(
+				this.puzzle2ProtobufConverter.createSolvePuzzleRequest(puzzle),
+				PrefixRange.split(
+						puzzle.getSymbols().size(),
+						this.stubs.size() * this.callsPerServer * RANGES_PER_CALL));
+		SolvePuzzleResponse response = search.run();
+
+		if (!response.getSolutionFound()) {
+			throw new RuntimeException("Puzzle has no solution!");
+		}
+
+		return response.getSymbolIdToDigitMap();
+	}
+
+	@Override
+	public void close() {
+		try {
+			for (ManagedChannel channel : this.channels) {
+				channel.shutdownNow();
+			}
+
+			for (ManagedChannel channel : this.channels) {
+				channel.awaitTermination(1, TimeUnit.MINUTES);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Diese Klasse führt eine verteilte Suche durch.
+	 *
+	 * <p>
+	 *     Die Verteilung der Teilräume auf die freien Plätze der Server erfolgt unter der Sperre
+	 *     der Suche. Die Methode {@link #dispatch()} wird nach jeder beendeten Teilanfrage
+	 *     aufgerufen und belegt jeden freien Platz mit einem Teilraum, den der jeweilige Server
+	 *     noch nicht abgelehnt hat.
+	 * </p>
+	 */
+	private final class ShardedSearch {
+
+		/**
+		 * Dieses Feld muss die Anfrage für das gesamte Rätsel enthalten.
+		 */
+		@Nonnull
+		private final SolvePuzzleRequest request;
+
+		/**
+		 * Dieses Feld muss die noch nicht versendeten Teilräume enthalten.
+		 */
+		@Nonnull
+		private final Deque<Attempt> ranges = new ArrayDeque<>();
+
+		/**
+		 * Dieses Feld muss je Server die Anzahl der freien Plätze für Teilanfragen enthalten.
+		 */
+		@Nonnull
+		private final int[] freeSlots;
+
+		/**
+		 * Dieses Feld muss die offenen Teilanfragen enthalten.
+		 */
+		@Nonnull
+		private final Set<ListenableFuture<SolvePuzzleResponse>> calls =
+				ConcurrentHashMap.newKeySet();
+
+		/**
+		 * Dieses Feld muss das Ergebnis der Suche enthalten.
+		 */
+		@Nonnull
+		private final CompletableFuture<SolvePuzzleResponse> result = new CompletableFuture<>();
+
+		/**
+		 * Dieses Feld enthält die Anzahl der noch nicht beantworteten Teilräume.
+		 */
+		private int pendingCount;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der offenen Teilanfragen.
+		 */
+		private int activeCount;
+
+		/**
+		 * Dieses Feld enthält den Fehler der zuletzt fehlgeschlagenen Teilanfrage.
+		 */
+		@CheckForNull
+		private Throwable lastFailure;
+
+		/**
+		 * Dieser Konstruktor legt die Anfrage und die Teilräume fest.
+		 *
+		 * @param request die Anfrage für das gesamte Rätsel
+		 * @param ranges die zu durchsuchenden Teilräume
+		 */
+		private ShardedSearch(
+				@Nonnull final SolvePuzzleRequest request,
+				@Nonnull final List<PrefixRange> ranges) {
+
+			this.request = request;
+			ranges.forEach(range -> this.ranges.add(new Attempt(range)));
+			this.pendingCount = ranges.size();
+			this.freeSlots = new int[ShardedPuzzleSolverClient.this.stubs.size()];
+			Arrays.fill(this.freeSlots, ShardedPuzzleSolverClient.this.callsPerServer);
+		}
+
+		/**
+		 * Diese Methode versendet die ersten Teilanfragen und wartet auf das Ergebnis.
+		 *
+		 * @return die Antwort mit der gefundenen Lösung oder eine Antwort ohne Lösung, falls
+		 * kein Teilraum eine Lösung enthält
+		 * @throws RuntimeException falls ein Teilraum von keinem Server durchsucht werden kann
+		 */
+		@Nonnull
+		private SolvePuzzleResponse run() {
+			try {
+				synchronized (this) {
+					this.dispatch();
+				}
+
+				return this.result.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException(e);
+			} catch (ExecutionException e) {
+				throw new RuntimeException(e.getCause());
+			} finally {
+				this.cancelCalls();
+			}
+		}
+
+		/**
+		 * Diese Methode belegt die freien Plätze aller Server mit Teilräumen, die der jeweilige
+		 * Server noch nicht abgelehnt hat, sofern die Suche noch nicht beendet ist.
+		 *
+		 * <p>
+		 *     Sie muss unter der Sperre der Suche aufgerufen werden.
+		 * </p>
+		 */
+		private void dispatch() {
+			boolean sent = true;
+
+			while (sent && !this.result.isDone()) {
+				sent = false;
+
+				for (int index = 0; index < this.freeSlots.length; index++) {
+					if (this.freeSlots[index] > 0) {
+						sent |= this.sendNext(index);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Diese Methode sendet den ersten Teilraum, den der Server noch nicht abgelehnt hat, an
+		 * diesen.
+		 *
+		 * @param index der Index des Servers
+		 * @return {@code true}, falls ein Teilraum gesendet wurde
+		 */
+		private boolean sendNext(final int index) {
+			PuzzleSolverFutureStub stub = ShardedPuzzleSolverClient.this.stubs.get(index);
+			Iterator<Attempt> iterator = this.ranges.iterator();
+			Attempt attempt;
+
+			while (iterator.hasNext()) {
+				attempt = iterator.next();
+
+				if (!attempt.refusedBy.contains(stub)) {
+					iterator.remove();
+					this.send(index, attempt);
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/**
+		 * Diese Methode sendet einen Teilraum an einen Server und belegt dabei einen seiner
+		 * Plätze.
+		 *
+		 * @param index der Index des Servers
+		 * @param attempt der zu durchsuchende Teilraum
+		 */
+		private void send(final int index, @Nonnull final Attempt attempt) {
+			PrefixRange range = attempt.range;
+			ListenableFuture<SolvePuzzleResponse> call;
+
+			this.freeSlots[index]--;
+			this.activeCount++;
+			call = ShardedPuzzleSolverClient.this.stubs.get(index).solvePuzzle(
+					this.request.toBuilder()
+							.setPrefixLength(range.getPrefixLength())
+							.setPrefixRankBegin(range.getBeginRank())
+							.setPrefixRankEnd(range.getEndRank())
+							.build());
+			this.calls.add(call);
+
+			Futures.addCallback(call, new FutureCallback<>() {
+
+				@Override
+				public void onSuccess(final SolvePuzzleResponse response) {
+					ShardedSearch.this.calls.remove(call);
+					ShardedSearch.this.handleResponse(index, response);
+				}
+
+				@Override
+				public void onFailure(@Nonnull final Throwable throwable) {
+					ShardedSearch.this.calls.remove(call);
+					ShardedSearch.this.handleFailure(
+							index,
+							attempt,
+							throwable,
+							call.isCancelled());
+				}
+			}, MoreExecutors.directExecutor());
+		}
+
+		/**
+		 * Diese Methode wertet die Antwort auf eine Teilanfrage aus und belegt den frei
+		 * gewordenen Platz neu.
+		 *
+		 * @param index der Index des antwortenden Servers
+		 * @param response die Antwort
+		 */
+		private synchronized void handleResponse(
+				final int index,
+				@Nonnull final SolvePuzzleResponse response) {
+
+			this.releaseSlot(index);
+
+			if (response.getSolutionFound()) {
+				this.result.complete(response);
+			} else if (--this.pendingCount == 0) {
+				this.result.complete(response);
+			}
+
+			this.dispatchOrFail();
+		}
+
+		/**
+		 * Diese Methode reiht einen fehlgeschlagenen Teilraum erneut ein und versendet ihn sofort
+		 * an einen anderen Server mit freiem Platz, oder beendet die Suche mit dem Fehler, falls
+		 * ihn alle Server abgelehnt haben. Der ablehnende Server übernimmt mit dem frei
+		 * gewordenen Platz einen anderen Teilraum.
+		 *
+		 * @param index der Index des ablehnenden Servers
+		 * @param attempt der fehlgeschlagene Teilraum
+		 * @param throwable der Fehler
+		 * @param cancelled ob die Teilanfrage abgebrochen wurde
+		 */
+		private synchronized void handleFailure(
+				final int index,
+				@Nonnull final Attempt attempt,
+				@Nonnull final Throwable throwable,
+				final boolean cancelled) {
+
+			this.releaseSlot(index);
+
+			if (cancelled) {
+				return;
+			}
+
+			attempt.refusedBy.add(ShardedPuzzleSolverClient.this.stubs.get(index));
+
+			if (attempt.refusedBy.size() >= this.freeSlots.length) {
+				this.result.completeExceptionally(throwable);
+			} else {
+				this.lastFailure = throwable;
+				this.ranges.addFirst(attempt);
+			}
+
+			this.dispatchOrFail();
+		}
+
+		/**
+		 * Diese Methode gibt einen Platz eines Servers frei.
+		 *
+		 * @param index der Index des Servers
+		 */
+		private void releaseSlot(final int index) {
+			this.freeSlots[index]++;
+			this.activeCount--;
+		}
+
+		/**
+		 * Diese Methode belegt die freien Plätze neu und beendet die Suche mit dem letzten Fehler,
+		 * falls danach keine Teilanfrage mehr offen ist, die Suche aber nicht beendet wurde.
+		 */
+		private void dispatchOrFail() {
+			this.dispatch();
+
+			if (this.activeCount == 0 && !this.result.isDone()) {
+				this.result.completeExceptionally(Objects.requireNonNullElseGet(
+						this.lastFailure,
+						() -> new IllegalStateException("No server accepts the ranges!")));
+			}
+		}
+
+		/**
+		 * Diese Methode bricht alle offenen Teilanfragen ab.
+		 */
+		private void cancelCalls() {
+			this.calls.forEach(call -> call.cancel(true));
+		}
+	}
+
+	/**
+	 * Diese Klasse beschreibt einen Teilraum samt der Server, die ihn abgelehnt haben.
+	 */
+	private static final class Attempt {
+
+		/**
+		 * Dieses Feld muss den Teilraum enthalten.
+		 */
+		@Nonnull
+		private final PrefixRange range;
+
+		/**
+		 * Dieses Feld muss die Stubs der Server enthalten, die den Teilraum abgelehnt haben.
+		 */
+		@Nonnull
+		private final Set<PuzzleSolverFutureStub> refusedBy = new HashSet<>();
+
+		/**
+		 * Dieser Konstruktor legt den Teilraum fest.
+		 *
+		 * @param range der Teilraum
+		 */
+		private Attempt(@Nonnull final PrefixRange range) {
+			this.range = range;
+		}
+	}
+}
@@ -0,0 +1,209 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse erzeugt streng monoton steigende, knotenweit eindeutige IDs nach dem
+ * Snowflake-Verfahren.
+ *
+ * <p>
+ *     Eine ID setzt sich aus {@value #TIMESTAMP_BITS} Bit für die Sekunden seit
+ *     {@link #EPOCH}, {@value #NODE_BITS} Bit für die Knotennummer und {@value #SEQUENCE_BITS}
+ *     Bit für eine laufende Nummer innerhalb der Sekunde zusammen. Verschiedene Knoten erzeugen
+ *     somit keine gleichen IDs, sofern ihre Knotennummern verschieden sind.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Die IDs umfassen insgesamt nur {@value #ID_BITS} Bit und sind damit
+ *     höchstens {@link #MAX_ID}. Sie werden im gemeinsamen JSON-Format als {@code raetsel_id}
+ *     ausgetauscht, wo Teilnehmer in JavaScript oder mit {@code double} Zahlen nur bis
+ *     2<sup>53</sup> exakt darstellen. Der Zeitstempel reicht damit etwa 136 Jahre, je Knoten
+ *     und Sekunde sind 2048 IDs vorgesehen.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Sind in einer Sekunde alle laufenden Nummern vergeben oder läuft die
+ *     Uhr zurück, wartet der Generator nicht, sondern rechnet mit der auf die letzte verwendete
+ *     Sekunde folgenden weiter. Die IDs bleiben dadurch eindeutig und monoton,
+ *     der enthaltene Zeitstempel eilt bei anhaltender Überlast der Uhr jedoch voraus, bis diese
+ *     ihn wieder einholt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SnowflakeIdGenerator {
+
+	/**
+	 * Diese Konstante enthält den Bezugszeitpunkt der Zeitstempel (01.01.2023 UTC) in
+	 * Millisekunden.
+	 */
+	public static final long EPOCH = 1_672_531_200_000L;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits für den Zeitstempel.
+	 */
+	public static final int TIMESTAMP_BITS = 32;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits für die Knotennummer.
+	 */
+	public static final int NODE_BITS = 10;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits für die laufende Nummer.
+	 */
+	public static final int SEQUENCE_BITS = 11;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Bits einer ID.
+	 */
+	public static final int ID_BITS = TIMESTAMP_BITS + NODE_BITS + SEQUENCE_BITS;
+
+	/**
+	 * Diese Konstante enthält die größte ID.
+	 */
+	public static final long MAX_ID = (1L << ID_BITS) - 1;
+
+	/**
+	 * Diese Konstante enthält die größte zulässige Knotennummer.
+	 */
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+	/**
+	 * Diese Konstante enthält die größte laufende Nummer.
+	 */
+	private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+	/**
+	 * Diese Konstante enthält die größte Sekunde relativ zu {@link #EPOCH}.
+	 */
+	private static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Millisekunden je Sekunde.
+	 */
+	private static final long MILLIS_PER_SECOND = 1000;
+
+	/**
+	 * Dieses Feld muss die Knotennummer enthalten.
+	 */
+	private final int nodeId;
+
+	/**
+	 * Dieses Feld muss die Uhr in Millisekunden enthalten.
+	 */
+	@Nonnull
+	private final LongSupplier clock;
+
+	/**
+	 * Dieses Feld enthält die zuletzt verwendete Sekunde relativ zu {@link #EPOCH}.
+	 */
+	private long lastTimestamp = -1;
+
+	/**
+	 * Dieses Feld enthält die zuletzt vergebene laufende Nummer.
+	 */
+	private long sequence;
+
+	/**
+	 * Dieser Konstruktor legt die Knotennummer fest.
+	 *
+	 * @param nodeId die Knotennummer von 0 bis {@value #MAX_NODE_ID}
+	 */
+	public SnowflakeIdGenerator(final int nodeId) {
+		this(nodeId, System::currentTimeMillis);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param nodeId die Knotennummer von 0 bis {@value #MAX_NODE_ID}
+	 * @param clock die zu setzende Uhr in Millisekunden
+	 * @throws IllegalArgumentException falls die Knotennummer außerhalb des Bereichs liegt
+	 */
+	protected SnowflakeIdGenerator(final int nodeId, @Nonnull final LongSupplier clock) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+		}
+
+		this.nodeId = nodeId;
+		this.clock = clock;
+	}
+
+	/**
+	 * Diese Methode leitet eine Knotennummer aus einem Namen, etwa der Server-ID, ab.
+	 *
+	 * <p>
+	 *     Zwei Knoten erhalten dabei mit einer Wahrscheinlichkeit von 1 zu
+	 *     {@code MAX_NODE_ID + 1} dieselbe Nummer. Wo das nicht genügt, sind die Nummern
+	 *     ausdrücklich zu vergeben.
+	 * </p>
+	 *
+	 * @param name der Name des Knotens
+	 * @return die abgeleitete Knotennummer
+	 */
+	public static int deriveNodeId(@Nonnull final String name) {
+		return name.hashCode() & MAX_NODE_ID;
+	}
+
+	/**
+	 * Diese Methode gibt die Knotennummer zurück.
+	 *
+	 * @return die Knotennummer
+	 */
+	public int getNodeId() {
+		return this.nodeId;
+	}
+
+	/**
+	 * Diese Methode erzeugt die nächste ID.
+	 *
+	 * @return die erzeugte ID
+	 * @throws IllegalStateException falls der Zeitstempel nicht mehr in {@value #TIMESTAMP_BITS}
+	 * Bit passt
+	 */
+	public synchronized long nextId() {
+		long timestamp = (this.clock.getAsLong() - EPOCH) / MILLIS_PER_SECOND;
+
+		if (timestamp > this.lastTimestamp) {
+			this.lastTimestamp = timestamp;
+			this.sequence = 0;
+		} else if (this.sequence < MAX_SEQUENCE) {
+			this.sequence++;
+		} else {
+			this.lastTimestamp++;
+			this.sequence = 0;
+		}
+
+		if (this.lastTimestamp > MAX_TIMESTAMP) {
+			throw new IllegalStateException("Timestamp exceeds " + TIMESTAMP_BITS + " bits!");
+		}
+
+		return this.lastTimestamp << (NODE_BITS + SEQUENCE_BITS)
+				| (long) this.nodeId << SEQUENCE_BITS
+				| this.sequence;
+	}
+
+	/**
+	 * Diese Methode ermittelt den Zeitpunkt, der in einer ID enthalten ist.
+	 *
+	 * @param id die zu untersuchende ID
+	 * @return der auf volle Sekunden abgerundete Zeitpunkt in Millisekunden seit 01.01.1970 UTC
+	 */
+	public static long extractTimestamp(final long id) {
+		return (id >>> (NODE_BITS + SEQUENCE_BITS)) * MILLIS_PER_SECOND + EPOCH;
+	}
+
+	/**
+	 * Diese Methode ermittelt die Knotennummer, die in einer ID enthalten ist.
+	 *
+	 * @param id die zu untersuchende ID
+	 * @return die Knotennummer
+	 */
+	public static int extractNodeId(final long id) {
+		return (int) (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+	}
+}
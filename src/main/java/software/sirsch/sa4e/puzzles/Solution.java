@@ -0,0 +1,100 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse bildet die Lösung eines Zahlenrätsels als Zuordnung von Symbol-Id zu Ziffer ab.
+ *
+ * <p>
+ *     Im Gegensatz zu den gebundenen Werten der {@link Symbol}e ist eine Lösung unveränderlich und
+ *     von dem Rätsel, aus dem sie hervorgegangen ist, unabhängig. Sie kann daher gefahrlos zwischen
+ *     Threads geteilt und zwischengespeichert werden.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public final class Solution {
+
+	/**
+	 * Dieses Feld muss die Zuordnung von Symbol-Id zu Ziffer in der Reihenfolge der Symbole
+	 * enthalten.
+	 */
+	@Nonnull
+	private final Map<Integer, Integer> symbolIdToDigit;
+
+	/**
+	 * Dieser Konstruktor übernimmt die Zuordnung von Symbol-Id zu Ziffer.
+	 *
+	 * @param symbolIdToDigit die zu übernehmende Zuordnung
+	 */
+	public Solution(@Nonnull final Map<Integer, Integer> symbolIdToDigit) {
+		this.symbolIdToDigit = Collections.unmodifiableMap(new LinkedHashMap<>(symbolIdToDigit));
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Lösung aus den Symbolen eines Rätsels und deren Werten.
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte in der Reihenfolge der Symbole
+	 * @return die erzeugte Lösung
+	 */
+	@Nonnull
+	public static Solution of(@Nonnull final List<Symbol> symbols, @Nonnull final int[] values) {
+		Map<Integer, Integer> symbolIdToDigit = new LinkedHashMap<>();
+
+		for (int index = 0; index < symbols.size(); index++) {
+			symbolIdToDigit.put(symbols.get(index).getId(), values[index]);
+		}
+
+		return new Solution(symbolIdToDigit);
+	}
+
+	/**
+	 * Diese Methode gibt die Zuordnung von Symbol-Id zu Ziffer zurück.
+	 *
+	 * @return die Zuordnung als unveränderliche Map
+	 */
+	@Nonnull
+	public Map<Integer, Integer> getSymbolIdToDigit() {
+		return this.symbolIdToDigit;
+	}
+
+	/**
+	 * Diese Methode gibt die Ziffer eines Symbols zurück.
+	 *
+	 * @param symbolId die Id des Symbols
+	 * @return die zugeordnete Ziffer
+	 * @throws IllegalArgumentException falls die Lösung kein Symbol mit dieser Id enthält
+	 */
+	public int getDigit(final int symbolId) {
+		Integer result = this.symbolIdToDigit.get(symbolId);
+
+		if (result == null) {
+			throw new IllegalArgumentException("Symbol " + symbolId + " is not part of solution!");
+		}
+
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object other) {
+		return other instanceof Solution
+				&& this.symbolIdToDigit.equals(((Solution) other).symbolIdToDigit);
+	}
+
+	@Override
+	public int hashCode() {
+		return this.symbolIdToDigit.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "Solution" + this.symbolIdToDigit;
+	}
+}
@@ -0,0 +1,387 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import javax.annotation.CheckForNull;
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen größenbeschränkten Cache für die Lösungen von Rätseln bereit.
+ *
+ * <p>
+ *     Als Schlüssel dient die {@link CanonicalPuzzle kanonische Form} des Rätsels, sodass auch
+ *     ein erneut erzeugtes Rätsel mit anderen Symbol-Ids gefunden wird. Die zwischengespeicherte
+ *     Lösung wird bei einem Treffer auf die Symbol-Ids des anfragenden Rätsels übertragen. Dass
+ *     ein Rätsel keine Lösung hat, wird ebenfalls zwischengespeichert.
+ * </p>
+ *
+ * <p>
+ *     Ist die Kapazität erreicht, wird der am längsten nicht verwendete Eintrag verdrängt.
+ *     Treffer, Fehlschläge und Verdrängungen werden gezählt.
+ * </p>
+ *
+ * <p>
+ *     Während ein Rätsel gelöst wird, ist der Cache nicht gesperrt. Gleichzeitige Anfragen für
+ *     dasselbe Rätsel werden jedoch zusammengefasst: Nur die erste Anfrage löst das Rätsel, die
+ *     übrigen warten auf deren Ergebnis und zählen als Treffer. Schlägt das Lösen fehl, etwa weil
+ *     der erste Aufruf abgebrochen wurde, versuchen es die wartenden Anfragen selbst erneut.
+ *     Wartende Anfragen fragen dabei in kurzen Abständen ihren eigenen Abbruch ab, sodass ein
+ *     abgebrochener Aufruf nicht bis zum Ende der fremden Suche blockiert.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolutionCache {
+
+	/**
+	 * Diese Konstante enthält die Standardkapazität.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * Diese Konstante enthält die anfängliche Größe der Hash-Tabelle.
+	 */
+	private static final int INITIAL_TABLE_SIZE = 16;
+
+	/**
+	 * Diese Konstante enthält den Ladefaktor der Hash-Tabelle.
+	 */
+	private static final float LOAD_FACTOR = 0.75f;
+
+	/**
+	 * Diese Konstante enthält den Abstand in Millisekunden, in dem wartende Anfragen ihren Abbruch
+	 * abfragen.
+	 */
+	private static final long CANCELLATION_POLL_MILLIS = 100;
+
+	/**
+	 * Dieses Feld muss die Kapazität enthalten.
+	 */
+	private final int capacity;
+
+	/**
+	 * Dieses Feld muss die zwischengespeicherten Ziffern je kanonischer Form in der Reihenfolge
+	 * der letzten Verwendung enthalten.
+	 */
+	@Nonnull
+	private final Map<CanonicalPuzzle, Optional<int[]>> entries;
+
+	/**
+	 * Dieses Feld muss die Ergebnisse der Rätsel enthalten, die gerade gelöst werden.
+	 */
+	@Nonnull
+	private final ConcurrentMap<CanonicalPuzzle, CompletableFuture<Optional<int[]>>> inFlight =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * Dieses Feld muss die Anzahl der Treffer enthalten.
+	 */
+	@Nonnull
+	private final LongAdder hitCount = new LongAdder();
+
+	/**
+	 * Dieses Feld muss die Anzahl der Fehlschläge enthalten.
+	 */
+	@Nonnull
+	private final LongAdder missCount = new LongAdder();
+
+	/**
+	 * Dieses Feld muss die Anzahl der Verdrängungen enthalten.
+	 */
+	@Nonnull
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * Dieser Konstruktor erzeugt einen Cache mit {@link #DEFAULT_CAPACITY}.
+	 */
+	public SolutionCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Dieser Konstruktor legt die Kapazität fest.
+	 *
+	 * @param capacity die maximale Anzahl der Einträge, wobei {@code 0} den Cache deaktiviert
+	 */
+	public SolutionCache(final int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must not be negative!");
+		}
+
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(INITIAL_TABLE_SIZE, LOAD_FACTOR, true) {
+
+			/**
+			 * Diese Konstante enthält die Serialisierungsversion.
+			 */
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+					final Map.Entry<CanonicalPuzzle, Optional<int[]>> eldest) {
+
+				return SolutionCache.this.isOverCapacity(this.size());
+			}
+		};
+	}
+
+	/**
+	 * Diese Methode prüft, ob die Kapazität überschritten ist, und zählt in diesem Fall eine
+	 * Verdrängung.
+	 *
+	 * @param size die aktuelle Anzahl der Einträge
+	 * @return {@code true}, falls der älteste Eintrag verdrängt werden soll, sonst {@code false}
+	 */
+	private boolean isOverCapacity(final int size) {
+		if (size > this.capacity) {
+			this.evictionCount.increment();
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Diese Methode gibt die Lösung eines Rätsels aus dem Cache zurück oder ermittelt sie, ohne
+	 * dass die Anfrage abgebrochen werden kann.
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 * @param solver die Funktion zum Lösen des Rätsels bei einem Fehlschlag
+	 * @return die Lösung mit den Symbol-Ids von {@code puzzle} oder {@link Optional#empty()},
+	 * falls das Rätsel keine Lösung hat
+	 */
+	@Nonnull
+	public Optional<Solution> solve(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final Function<Puzzle, Optional<Solution>> solver) {
+
+		return this.solve(puzzle, () -> false, solver);
+	}
+
+	/**
+	 * Diese Methode gibt die Lösung eines Rätsels aus dem Cache zurück oder ermittelt sie.
+	 *
+	 * <p>
+	 *     Wirft {@code solver} eine Exception, wird nichts zwischengespeichert. Wird dasselbe
+	 *     Rätsel bereits von einer anderen Anfrage gelöst, wird auf deren Ergebnis gewartet,
+	 *     bis der Abbruch dieser Anfrage angezeigt wird.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 * @param cancelled die Abfrage des Abbruchs dieser Anfrage
+	 * @param solver die Funktion zum Lösen des Rätsels bei einem Fehlschlag
+	 * @return die Lösung mit den Symbol-Ids von {@code puzzle} oder {@link Optional#empty()},
+	 * falls das Rätsel keine Lösung hat
+	 * @throws CancellationException falls die Anfrage beim Warten abgebrochen wurde
+	 */
+	@Nonnull
+	public Optional<Solution> solve(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final BooleanSupplier cancelled,
+			@Nonnull final Function<Puzzle, Optional<Solution>> solver) {
+
+		CanonicalPuzzle canonicalPuzzle = new CanonicalPuzzle(puzzle);
+		Optional<int[]> cached = this.get(canonicalPuzzle);
+		CompletableFuture<Optional<int[]>> ownFuture;
+		CompletableFuture<Optional<int[]>> future;
+
+		if (cached != null) {
+			this.hitCount.increment();
+			return cached.map(canonicalPuzzle::createSolution);
+		}
+
+		ownFuture = new CompletableFuture<>();
+		future = this.inFlight.computeIfAbsent(canonicalPuzzle, ignore -> ownFuture);
+
+		if (future != ownFuture) {
+			return this.await(puzzle, canonicalPuzzle, future, cancelled, solver);
+		}
+
+		try {
+			return this.solveNow(puzzle, canonicalPuzzle, ownFuture, solver);
+		} finally {
+			this.inFlight.remove(canonicalPuzzle, ownFuture);
+			ownFuture.completeExceptionally(new IllegalStateException("Solving failed!"));
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die zwischengespeicherten Ziffern einer kanonischen Form zurück.
+	 *
+	 * @param canonicalPuzzle die kanonische Form des Rätsels
+	 * @return die zwischengespeicherten Ziffern oder {@code null}, falls kein Eintrag existiert
+	 */
+	@CheckForNull
+	private Optional<int[]> get(@Nonnull final CanonicalPuzzle canonicalPuzzle) {
+		synchronized (this.entries) {
+			return this.entries.get(canonicalPuzzle);
+		}
+	}
+
+	/**
+	 * Diese Methode wartet auf das Ergebnis einer anderen Anfrage für dasselbe Rätsel.
+	 *
+	 * <p>
+	 *     Der Abbruch dieser Anfrage wird in kurzen Abständen abgefragt. Die andere Anfrage
+	 *     wird davon nicht berührt.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 * @param canonicalPuzzle die kanonische Form des Rätsels
+	 * @param future das Ergebnis der anderen Anfrage
+	 * @param cancelled die Abfrage des Abbruchs dieser Anfrage
+	 * @param solver die Funktion zum Lösen des Rätsels, falls die andere Anfrage fehlschlägt
+	 * @return die Lösung mit den Symbol-Ids von {@code puzzle}
+	 * @throws CancellationException falls diese Anfrage abgebrochen oder der wartende Thread
+	 * unterbrochen wurde
+	 */
+	@Nonnull
+	private Optional<Solution> await(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final CanonicalPuzzle canonicalPuzzle,
+			@Nonnull final CompletableFuture<Optional<int[]>> future,
+			@Nonnull final BooleanSupplier cancelled,
+			@Nonnull final Function<Puzzle, Optional<Solution>> solver) {
+
+		Optional<int[]> digits = null;
+
+		while (digits == null) {
+			if (cancelled.getAsBoolean()) {
+				throw new CancellationException("Search was cancelled!");
+			}
+
+			try {
+				digits = future.get(CANCELLATION_POLL_MILLIS, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				continue;
+			} catch (ExecutionException e) {
+				return this.solve(puzzle, cancelled, solver);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Search was interrupted!");
+			}
+		}
+
+		this.hitCount.increment();
+		return digits.map(canonicalPuzzle::createSolution);
+	}
+
+	/**
+	 * Diese Methode löst ein Rätsel, speichert das Ergebnis und übergibt es an die wartenden
+	 * Anfragen.
+	 *
+	 * <p>
+	 *     Da eine andere Anfrage das Rätsel zwischen der Abfrage des Caches und der Anmeldung
+	 *     gerade fertig gelöst haben kann, wird der Cache zuvor erneut abgefragt.
+	 * </p>
+	 *
+	 * @param puzzle das zu lösende Rätsel
+	 * @param canonicalPuzzle die kanonische Form des Rätsels
+	 * @param future das Ergebnis für die wartenden Anfragen, das bei einem Fehlschlag vom
+	 * Aufrufer abgeschlossen wird
+	 * @param solver die Funktion zum Lösen des Rätsels
+	 * @return die Lösung mit den Symbol-Ids von {@code puzzle}
+	 */
+	@Nonnull
+	private Optional<Solution> solveNow(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final CanonicalPuzzle canonicalPuzzle,
+			@Nonnull final CompletableFuture<Optional<int[]>> future,
+			@Nonnull final Function<Puzzle, Optional<Solution>> solver) {
+
+		Optional<int[]> digits = this.get(canonicalPuzzle);
+		Optional<Solution> result;
+
+		if (digits != null) {
+			this.hitCount.increment();
+			future.complete(digits);
+			return digits.map(canonicalPuzzle::createSolution);
+		}
+
+		this.missCount.increment();
+		result = solver.apply(puzzle);
+		digits = result.map(canonicalPuzzle::toCanonicalDigits);
+		this.put(canonicalPuzzle, digits);
+		future.complete(digits);
+		return result;
+	}
+
+	/**
+	 * Diese Methode speichert die Ziffern einer kanonischen Form, sofern der Cache aktiviert ist.
+	 *
+	 * @param canonicalPuzzle die kanonische Form des Rätsels
+	 * @param digits die zu speichernden Ziffern
+	 */
+	private void put(
+			@Nonnull final CanonicalPuzzle canonicalPuzzle,
+			@Nonnull final Optional<int[]> digits) {
+
+		if (this.capacity == 0) {
+			return;
+		}
+
+		synchronized (this.entries) {
+			this.entries.put(canonicalPuzzle, digits);
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die Kapazität zurück.
+	 *
+	 * @return die maximale Anzahl der Einträge
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Einträge zurück.
+	 *
+	 * @return die aktuelle Anzahl der Einträge
+	 */
+	public int getSize() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Treffer zurück.
+	 *
+	 * @return die Anzahl der Treffer
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Fehlschläge zurück.
+	 *
+	 * @return die Anzahl der Fehlschläge
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Verdrängungen zurück.
+	 *
+	 * @return die Anzahl der Verdrängungen
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+}
@@ -6,6 +6,7 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 
 import javax.annotation.Nonnull;
 
@@ -157,24 +158,25 @@ public class SolvePuzzleCommand implements Command {
 			return;
 		}
 
-		this.printSolution(this.puzzleSolverFactory.create(delay).solvePuzzle(puzzle));
+		this.printSolution(puzzle, this.puzzleSolverFactory.create(delay).solvePuzzle(puzzle));
 	}
 
 	/**
 	 * Diese Methode gibt das Ergebnis des Lösungsversuchs aus.
 	 *
-	 * <p>
-	 *     Eine leere Liste bedeutet, dass das Rätsel keine Lösung hat.
-	 * </p>
-	 *
-	 * @param solution das Ergebnis
+	 * @param puzzle das gelöste Puzzle
+	 * @param solution das Ergebnis oder {@link Optional#empty()}, falls das Rätsel keine Lösung
+	 * hat
 	 */
-	private void printSolution(@Nonnull final List<Symbol> solution) {
+	private void printSolution(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final Optional<Solution> solution) {
+
 		if (solution.isEmpty()) {
 			this.out.println("No solution found!");
 		} else {
 			this.out.println("Solution found:");
-			this.printSymbols(solution);
+			this.printSymbols(puzzle.getSymbols(), solution.get());
 		}
 	}
 
@@ -182,10 +184,14 @@ public class SolvePuzzleCommand implements Command {
 	 * Diese Methode gibt die Symbole und deren Werte aus.
 	 *
 	 * @param symbols die Liste der auszugebenden Symbole
+	 * @param solution die Lösung mit den Werten der Symbole
 	 */
-	private void printSymbols(@Nonnull final List<Symbol> symbols) {
+	private void printSymbols(
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final Solution solution) {
+
 		symbols.forEach(symbol -> this.out.println("Symbol "
 				+ Character.toString(symbol.getIconCodePoint()) + " ID: " + symbol.getId()
-				+ ", digit value: " + symbol.getBoundValue()));
+				+ ", digit value: " + solution.getDigit(symbol.getId())));
 	}
 }
@@ -0,0 +1,75 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Locale;
+import java.util.function.IntFunction;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Aufzählung beschreibt die verfügbaren Verfahren zum Lösen von Rätseln.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public enum SolverEngine {
+
+	/**
+	 * Dieses Verfahren prüft alle Permutationen der Ziffern.
+	 */
+	BRUTE_FORCE(PuzzleSolver::new),
+
+	/**
+	 * Dieses Verfahren belegt die Symbole spaltenweise und verwirft widersprüchliche
+	 * Teilbelegungen frühzeitig.
+	 */
+	COLUMNWISE(ColumnwisePuzzleSolver::new),
+
+	/**
+	 * Dieses Verfahren prüft alle Permutationen der Ziffern parallel in einem Fork-Join-Pool,
+	 * dessen Größe {@link PuzzleSolver#setParallelism(int)} festlegt.
+	 */
+	PARALLEL(ParallelPuzzleSolver::new);
+
+	/**
+	 * Dieses Feld muss die Fabrikmethode für den {@link PuzzleSolver} enthalten.
+	 */
+	@Nonnull
+	private final IntFunction<PuzzleSolver> puzzleSolverFactory;
+
+	/**
+	 * Dieser Konstruktor legt die Fabrikmethode für den {@link PuzzleSolver} fest.
+	 *
+	 * @param puzzleSolverFactory die Fabrikmethode, die das Delay in Millisekunden erwartet
+	 */
+	SolverEngine(@Nonnull final IntFunction<PuzzleSolver> puzzleSolverFactory) {
+		this.puzzleSolverFactory = puzzleSolverFactory;
+	}
+
+	/**
+	 * Diese Methode erzeugt einen neuen {@link PuzzleSolver} für dieses Verfahren.
+	 *
+	 * @param delay das zu verwendende Delay in Millisekunden
+	 * @return die erzeugte Instanz
+	 */
+	@Nonnull
+	public PuzzleSolver createPuzzleSolver(final int delay) {
+		return this.puzzleSolverFactory.apply(delay);
+	}
+
+	/**
+	 * Diese Methode ermittelt ein Verfahren anhand seines Namens.
+	 *
+	 * <p>
+	 *     Groß- und Kleinschreibung werden nicht unterschieden, Bindestriche dürfen anstelle von
+	 *     Unterstrichen verwendet werden (z. B. {@code brute-force}).
+	 * </p>
+	 *
+	 * @param name der Name des Verfahrens
+	 * @return das ermittelte Verfahren
+	 * @throws IllegalArgumentException falls kein Verfahren mit diesem Namen existiert
+	 */
+	@Nonnull
+	public static SolverEngine fromName(@Nonnull final String name) {
+		return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+	}
+}
@@ -0,0 +1,169 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt den Pool bereit, auf dem der Server die Rätsel löst.
+ *
+ * <p>
+ *     Der Pool besitzt eine feste Anzahl von Threads und eine begrenzte Warteschlange. Ist die
+ *     Warteschlange voll, wird eine Aufgabe mit einer
+ *     {@link java.util.concurrent.RejectedExecutionException} zurückgewiesen, statt weitere
+ *     Threads zu erzeugen. So bleibt die Anzahl der gleichzeitig laufenden Suchen auch unter Last
+ *     auf die Anzahl der Prozessorkerne begrenzt.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolverExecutor implements Executor {
+
+	/**
+	 * Diese Konstante enthält die Standardanzahl der Threads, die der Anzahl der Prozessorkerne
+	 * entspricht.
+	 */
+	public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+	/**
+	 * Diese Konstante enthält die Standardkapazität der Warteschlange.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+	/**
+	 * Dieses Feld muss den {@link ThreadPoolExecutor} enthalten.
+	 */
+	@Nonnull
+	private final ThreadPoolExecutor threadPoolExecutor;
+
+	/**
+	 * Dieser Konstruktor erzeugt einen Pool mit den Standardwerten.
+	 */
+	public SolverExecutor() {
+		this(DEFAULT_THREAD_COUNT, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Dieser Konstruktor erzeugt einen Pool mit der übergebenen Größe.
+	 *
+	 * @param threadCount die Anzahl der Threads
+	 * @param queueCapacity die Kapazität der Warteschlange
+	 */
+	public SolverExecutor(final int threadCount, final int queueCapacity) {
+		this(createThreadPoolExecutor(threadCount, queueCapacity));
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param threadPoolExecutor der zu setzende {@link ThreadPoolExecutor}
+	 */
+	protected SolverExecutor(@Nonnull final ThreadPoolExecutor threadPoolExecutor) {
+		this.threadPoolExecutor = threadPoolExecutor;
+	}
+
+	/**
+	 * Diese Methode erzeugt den {@link ThreadPoolExecutor}.
+	 *
+	 * @param threadCount die Anzahl der Threads
+	 * @param queueCapacity die Kapazität der Warteschlange
+	 * @return der erzeugte {@link ThreadPoolExecutor}
+	 */
+	@Nonnull
+	private static ThreadPoolExecutor createThreadPoolExecutor(
+			final int threadCount,
+			final int queueCapacity) {
+
+		AtomicInteger threadNumber = new AtomicInteger();
+
+		return new ThreadPoolExecutor(
+				threadCount,
+				threadCount,
+				0,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> createThread(runnable, threadNumber.incrementAndGet()),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Thread des Pools.
+	 *
+	 * <p>
+	 *     Die Threads werden als Daemon erzeugt, damit sie das Beenden der Anwendung nicht
+	 *     verhindern.
+	 * </p>
+	 *
+	 * @param runnable die auszuführende Aufgabe
+	 * @param number die laufende Nummer des Threads
+	 * @return der erzeugte Thread
+	 */
+	@Nonnull
+	private static Thread createThread(@Nonnull final Runnable runnable, final int number) {
+		Thread result = new Thread(runnable, "puzzle-solver-" + number);
+
+		result.setDaemon(true);
+		return result;
+	}
+
+	/**
+	 * Diese Methode übergibt eine Aufgabe an den Pool.
+	 *
+	 * @param command die auszuführende Aufgabe
+	 * @throws java.util.concurrent.RejectedExecutionException falls die Warteschlange voll ist
+	 * oder der Pool beendet wurde
+	 */
+	@Override
+	public void execute(@Nonnull final Runnable command) {
+		this.threadPoolExecutor.execute(command);
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Threads zurück.
+	 *
+	 * @return die Anzahl der Threads
+	 */
+	public int getThreadCount() {
+		return this.threadPoolExecutor.getMaximumPoolSize();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der gerade laufenden Aufgaben zurück.
+	 *
+	 * @return die ungefähre Anzahl der laufenden Aufgaben
+	 */
+	public int getActiveCount() {
+		return this.threadPoolExecutor.getActiveCount();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der wartenden Aufgaben zurück.
+	 *
+	 * @return die aktuelle Länge der Warteschlange
+	 */
+	public int getQueueDepth() {
+		return this.threadPoolExecutor.getQueue().size();
+	}
+
+	/**
+	 * Diese Methode gibt die Kapazität der Warteschlange zurück.
+	 *
+	 * @return die Kapazität der Warteschlange
+	 */
+	public int getQueueCapacity() {
+		return this.threadPoolExecutor.getQueue().size()
+				+ this.threadPoolExecutor.getQueue().remainingCapacity();
+	}
+
+	/**
+	 * Diese Methode beendet den Pool, nachdem alle übergebenen Aufgaben erledigt sind.
+	 */
+	public void shutdown() {
+		this.threadPoolExecutor.shutdown();
+	}
+}
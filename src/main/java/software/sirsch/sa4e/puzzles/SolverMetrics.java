@@ -0,0 +1,267 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse sammelt Kennzahlen über die Suche nach Lösungen.
+ *
+ * <p>
+ *     Erfasst werden die Anzahl der geprüften Belegungen, die Größe des vollständigen Suchraums,
+ *     die Widersprüche je {@link Addition}, sowie Dauer und Ergebnis jeder Suche. Aus dem
+ *     Verhältnis von geprüften Belegungen zum Suchraum ergibt sich, wie viel der Suchraum durch
+ *     das Verfahren und durch vorzeitiges Beenden ausgespart wurde.
+ * </p>
+ *
+ * <p>
+ *     Belegungen und Suchraum werden je {@link SolverEngine} erfasst, da die Verfahren unter
+ *     einer geprüften Belegung Unterschiedliches verstehen: Die spaltenweise Suche verwirft
+ *     widersprüchliche Teilbelegungen bereits im {@link ColumnwiseAssignmentIterator} und prüft
+ *     nur vollständige Belegungen, die alle Spalten erfüllen. Dauer und Ergebnis werden je
+ *     {@link SearchMode} erfasst, da das Aufzählen aller Lösungen stets den gesamten Suchraum
+ *     durchläuft.
+ * </p>
+ *
+ * <p>
+ *     Designentscheidung: Alle Zähler sind {@link LongAdder}, weil die Belegungen von den
+ *     parallelen Verfahren aus vielen Threads gleichzeitig gezählt werden. Im Gegensatz zu
+ *     {@link SolverProgressLogger#logPermutation(java.util.List, int[], boolean)} entstehen je
+ *     Belegung weder Objekte noch Zeichenketten.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolverMetrics {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Additionen eines Rätsels.
+	 *
+	 * <p>
+	 *     Die Additionen sind wie in {@link Puzzle#getAdditions()} angeordnet: zuerst die drei
+	 *     Zeilen, danach die drei Spalten.
+	 * </p>
+	 */
+	public static final int ADDITION_COUNT = 6;
+
+	/**
+	 * Dieses Feld muss die Anzahl der geprüften Belegungen je Verfahren enthalten.
+	 */
+	@Nonnull
+	private final LongAdder[] candidateCounts = createCounters(SolverEngine.values().length);
+
+	/**
+	 * Dieses Feld muss die Summe der Größen der Suchräume aller Suchen je Verfahren enthalten.
+	 */
+	@Nonnull
+	private final LongAdder[] searchSpaceSizes = createCounters(SolverEngine.values().length);
+
+	/**
+	 * Dieses Feld muss die Anzahl der Widersprüche je Addition enthalten.
+	 */
+	@Nonnull
+	private final LongAdder[] contradictionCounts = createCounters(ADDITION_COUNT);
+
+	/**
+	 * Dieses Feld muss die Anzahl der Suchen je Art enthalten, die eine Lösung gefunden haben.
+	 */
+	@Nonnull
+	private final LongAdder[] solvedCounts = createCounters(SearchMode.values().length);
+
+	/**
+	 * Dieses Feld muss die Anzahl der Suchen je Art enthalten, die keine Lösung gefunden haben.
+	 */
+	@Nonnull
+	private final LongAdder[] unsolvedCounts = createCounters(SearchMode.values().length);
+
+	/**
+	 * Dieses Feld muss die Anzahl der abgebrochenen Suchen je Art enthalten.
+	 */
+	@Nonnull
+	private final LongAdder[] cancelledCounts = createCounters(SearchMode.values().length);
+
+	/**
+	 * Dieses Feld muss die Histogramme der Dauer der Suchen je Art enthalten.
+	 */
+	@Nonnull
+	private final LatencyHistogram[] solveDurations =
+			new LatencyHistogram[SearchMode.values().length];
+
+	/**
+	 * Dieser Konstruktor erzeugt eine Instanz ohne erfasste Werte.
+	 */
+	public SolverMetrics() {
+		for (int index = 0; index < this.solveDurations.length; index++) {
+			this.solveDurations[index] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Reihe von Zählern.
+	 *
+	 * @param count die Anzahl der Zähler
+	 * @return die erzeugten Zähler
+	 */
+	@Nonnull
+	private static LongAdder[] createCounters(final int count) {
+		LongAdder[] result = new LongAdder[count];
+
+		for (int index = 0; index < count; index++) {
+			result[index] = new LongAdder();
+		}
+
+		return result;
+	}
+
+	/**
+	 * Diese Methode erfasst den Beginn einer auf einen Teilraum beschränkten Suche.
+	 *
+	 * @param engine das Verfahren, das die Belegungen des Teilraums erzeugt
+	 * @param symbolCount die Anzahl der Symbole des Rätsels
+	 * @param range der durchsuchte Teilraum
+	 */
+	public void recordSearch(
+			@Nonnull final SolverEngine engine,
+			final int symbolCount,
+			@Nonnull final PrefixRange range) {
+
+		this.searchSpaceSizes[engine.ordinal()].add(range.getCandidateCount(symbolCount));
+	}
+
+	/**
+	 * Diese Methode erfasst eine geprüfte Belegung.
+	 *
+	 * @param engine das Verfahren, das die Belegung erzeugt hat
+	 * @param contradiction der Index der ersten nicht erfüllten Addition oder
+	 * {@link CompiledPuzzle#NO_CONTRADICTION}, falls die Belegung eine Lösung ist
+	 */
+	public void recordCandidate(@Nonnull final SolverEngine engine, final int contradiction) {
+		this.candidateCounts[engine.ordinal()].increment();
+
+		if (contradiction >= 0 && contradiction < ADDITION_COUNT) {
+			this.contradictionCounts[contradiction].increment();
+		}
+	}
+
+	/**
+	 * Diese Methode erfasst eine beendete Suche.
+	 *
+	 * @param mode die Art der Suche
+	 * @param durationNanos die Dauer der Suche in Nanosekunden
+	 * @param solutionFound ob mindestens eine Lösung gefunden wurde
+	 */
+	public void recordSolve(
+			@Nonnull final SearchMode mode,
+			final long durationNanos,
+			final boolean solutionFound) {
+
+		this.solveDurations[mode.ordinal()].record(durationNanos);
+
+		if (solutionFound) {
+			this.solvedCounts[mode.ordinal()].increment();
+		} else {
+			this.unsolvedCounts[mode.ordinal()].increment();
+		}
+	}
+
+	/**
+	 * Diese Methode erfasst eine abgebrochene Suche.
+	 *
+	 * @param mode die Art der Suche
+	 * @param durationNanos die Dauer bis zum Abbruch in Nanosekunden
+	 */
+	public void recordCancelled(@Nonnull final SearchMode mode, final long durationNanos) {
+		this.solveDurations[mode.ordinal()].record(durationNanos);
+		this.cancelledCounts[mode.ordinal()].increment();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der von einem Verfahren geprüften Belegungen zurück.
+	 *
+	 * @param engine das Verfahren
+	 * @return die Anzahl
+	 */
+	public long getCandidateCount(@Nonnull final SolverEngine engine) {
+		return this.candidateCounts[engine.ordinal()].sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Summe der Größen der Suchräume aller Suchen eines Verfahrens zurück.
+	 *
+	 * @param engine das Verfahren
+	 * @return die Anzahl der Belegungen, die ohne Einschränkung zu prüfen wären
+	 */
+	public long getSearchSpaceSize(@Nonnull final SolverEngine engine) {
+		return this.searchSpaceSizes[engine.ordinal()].sum();
+	}
+
+	/**
+	 * Diese Methode gibt den Anteil des Suchraums eines Verfahrens zurück, der nicht geprüft
+	 * werden musste.
+	 *
+	 * @param engine das Verfahren
+	 * @return der Anteil zwischen 0 und 1 oder 0, falls noch keine Suche erfasst wurde
+	 */
+	public double getPruningRatio(@Nonnull final SolverEngine engine) {
+		long size = this.getSearchSpaceSize(engine);
+
+		if (size == 0) {
+			return 0;
+		}
+
+		return Math.max(0, 1 - (double) this.getCandidateCount(engine) / size);
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Widersprüche einer Addition zurück.
+	 *
+	 * @param addition der Index der Addition in {@link Puzzle#getAdditions()}
+	 * @return die Anzahl der Belegungen, die an dieser Addition zuerst gescheitert sind
+	 */
+	public long getContradictionCount(final int addition) {
+		return this.contradictionCounts[addition].sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Suchen einer Art zurück, die eine Lösung gefunden haben.
+	 *
+	 * @param mode die Art der Suche
+	 * @return die Anzahl
+	 */
+	public long getSolvedCount(@Nonnull final SearchMode mode) {
+		return this.solvedCounts[mode.ordinal()].sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der Suchen einer Art zurück, die keine Lösung gefunden
+	 * haben.
+	 *
+	 * @param mode die Art der Suche
+	 * @return die Anzahl
+	 */
+	public long getUnsolvedCount(@Nonnull final SearchMode mode) {
+		return this.unsolvedCounts[mode.ordinal()].sum();
+	}
+
+	/**
+	 * Diese Methode gibt die Anzahl der abgebrochenen Suchen einer Art zurück.
+	 *
+	 * @param mode die Art der Suche
+	 * @return die Anzahl
+	 */
+	public long getCancelledCount(@Nonnull final SearchMode mode) {
+		return this.cancelledCounts[mode.ordinal()].sum();
+	}
+
+	/**
+	 * Diese Methode gibt das Histogramm der Dauer der Suchen einer Art zurück.
+	 *
+	 * @param mode die Art der Suche
+	 * @return das Histogramm
+	 */
+	@Nonnull
+	public LatencyHistogram getSolveDurations(@Nonnull final SearchMode mode) {
+		return this.solveDurations[mode.ordinal()];
+	}
+}
@@ -16,20 +16,30 @@ public interface SolverProgressLogger {
 	/**
 	 * Diese Methode zeichnet auf, ob eine Permutation eine Lösung des Rätsels darstellt.
 	 *
-	 * @param permutation die zu betrachtete Permutation
+	 * <p>
+	 *     Die Werte werden getrennt von den Symbolen übergeben, da die Suche die Symbole nicht
+	 *     verändert. Das Feld der Werte wird von der Suche wiederverwendet und darf daher nicht
+	 *     über den Aufruf hinaus referenziert werden.
+	 * </p>
+	 *
+	 * @param symbols die Symbole des Rätsels
+	 * @param values die Werte der Symbole in der Reihenfolge von {@code symbols}
 	 * @param isSolution {@code true}, falls es sich um eine Lösung handelt, sonst {@code false}
 	 */
 	default void logPermutation(
-			@Nonnull final List<Symbol> permutation,
+			@Nonnull final List<Symbol> symbols,
+			@Nonnull final int[] values,
 			final boolean isSolution) {
 
 		StringBuilder stringBuilder = new StringBuilder("Permutation ");
 
-		permutation.forEach(symbol -> stringBuilder
-				.appendCodePoint(symbol.getIconCodePoint())
-				.append(':')
-				.append(symbol.getBoundValue())
-				.append(' '));
+		for (int index = 0; index < symbols.size(); index++) {
+			stringBuilder
+					.appendCodePoint(symbols.get(index).getIconCodePoint())
+					.append(':')
+					.append(values[index])
+					.append(' ');
+		}
 
 		stringBuilder.append("is ");
 
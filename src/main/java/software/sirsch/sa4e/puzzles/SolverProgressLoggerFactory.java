@@ -1,10 +1,10 @@
 package software.sirsch.sa4e.puzzles;
 
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
-import java.io.PrintStream;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import javax.annotation.Nonnull;
 
@@ -16,30 +16,59 @@ import javax.annotation.Nonnull;
  */
 public class SolverProgressLoggerFactory {
 
+	/**
+	 * Diese Konstante enthält die Größe des Schreibpuffers für Aufzeichnungen in Bytes.
+	 */
+	private static final int TRACE_BUFFER_SIZE = 1024 * 1024;
+
 	/**
 	 * Diese Methode gibt einen {@link SolverProgressLogger} für die Ausgabe nach {@link System#out}
 	 * zurück.
 	 *
+	 * <p>
+	 *     Beim Schließen des Loggers wird {@link System#out} nur geleert, nicht geschlossen.
+	 * </p>
+	 *
 	 * @return die erzeugte Instanz
 	 */
 	@Nonnull
 	public SolverProgressLogger createStdoutLogger() {
-		return new PrintStreamSolverProgressLogger(System.out);
+		return new PrintStreamSolverProgressLogger(System.out, false);
 	}
 
 	/**
 	 * Diese Methode erzeugt einen {@link SolverProgressLogger} für die Ausgabe in eine Datei.
 	 *
+	 * <p>
+	 *     Die Datei wird gepuffert im Hintergrund geschrieben und ab
+	 *     {@link RollingFileSolverProgressLogger#DEFAULT_MAX_FILE_SIZE} Bytes komprimiert
+	 *     rotiert.
+	 * </p>
+	 *
 	 * @param filename der Name der zu schreibenden Datei
 	 * @return die erzeugte Instanz
+	 * @throws UncheckedIOException falls die Datei nicht geöffnet werden kann
 	 */
 	@Nonnull
 	public SolverProgressLogger createFileLogger(@Nonnull final String filename) {
+		return new RollingFileSolverProgressLogger(
+				Path.of(filename),
+				RollingFileSolverProgressLogger.DEFAULT_MAX_FILE_SIZE);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen {@link SolverProgressLogger} für die binäre Aufzeichnung in
+	 * eine Datei.
+	 *
+	 * @param filename der Name der zu schreibenden Datei
+	 * @return die erzeugte Instanz
+	 * @throws UncheckedIOException falls die Datei nicht geöffnet werden kann
+	 */
+	@Nonnull
+	public SolverProgressLogger createTraceLogger(@Nonnull final String filename) {
 		try {
-			return new PrintStreamSolverProgressLogger(new PrintStream(
-					new FileOutputStream(filename),
-					true,
-					StandardCharsets.UTF_8));
+			return new BinaryTraceSolverProgressLogger(
+					new BufferedOutputStream(new FileOutputStream(filename), TRACE_BUFFER_SIZE));
 		} catch (FileNotFoundException e) {
 			throw new UncheckedIOException(e);
 		}
@@ -50,10 +79,32 @@ public class SolverProgressLoggerFactory {
 	 * einen MQTT-Server.
 	 *
 	 * @param serverURI die URI des zu verwendenden Servers
+	 * @param overflowPolicy das Verfahren, falls der Server zu langsam ist
 	 * @return die erzeugte Instanz
 	 */
 	@Nonnull
-	public SolverProgressLogger createMqttLogger(@Nonnull final String serverURI) {
-		return new MqttSolverProgressLogger(serverURI);
+	public SolverProgressLogger createMqttLogger(
+			@Nonnull final String serverURI,
+			@Nonnull final OverflowPolicy overflowPolicy) {
+
+		return new MqttSolverProgressLogger(serverURI, overflowPolicy);
+	}
+
+	/**
+	 * Diese Methode erzeugt einen {@link SolverProgressLogger}, der den Fortschritt nur in
+	 * Abständen an einen anderen {@link SolverProgressLogger} weitergibt.
+	 *
+	 * @param delegate der {@link SolverProgressLogger} für die Ausgabe
+	 * @param candidateInterval die Anzahl der Belegungen zwischen zwei Einträgen
+	 * @param timeIntervalMillis die Zeit zwischen zwei Einträgen in Millisekunden
+	 * @return die erzeugte Instanz
+	 */
+	@Nonnull
+	public SolverProgressLogger createSampledLogger(
+			@Nonnull final SolverProgressLogger delegate,
+			final long candidateInterval,
+			final long timeIntervalMillis) {
+
+		return new SamplingSolverProgressLogger(delegate, candidateInterval, timeIntervalMillis);
 	}
 }
@@ -0,0 +1,137 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.function.LongSupplier;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Diese Klasse stellt einen Token-Bucket zur Begrenzung einer Rate bereit.
+ *
+ * <p>
+ *     Der Eimer füllt sich gleichmäßig mit der angegebenen Rate bis zu seiner Kapazität. Jede
+ *     Aktion verbraucht eine Marke. Über längere Zeit werden daher höchstens so viele Aktionen
+ *     ausgeführt, wie die Rate erlaubt, während kurzfristige Verzögerungen des Aufrufers bis zur
+ *     Kapazität nachgeholt werden.
+ * </p>
+ *
+ * <p>
+ *     Der Eimer blockiert nicht. Der Aufrufer fragt regelmäßig mit
+ *     {@link #tryAcquireUpTo(int)} ab, wie viele Aktionen er ausführen darf.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class TokenBucket {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Nanosekunden je Sekunde.
+	 */
+	private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+	/**
+	 * Dieses Feld muss die Kapazität in Marken enthalten.
+	 */
+	private final double capacity;
+
+	/**
+	 * Dieses Feld muss die Rate in Marken je Sekunde enthalten.
+	 */
+	private final double ratePerSecond;
+
+	/**
+	 * Dieses Feld muss die Uhr in Nanosekunden enthalten.
+	 */
+	@Nonnull
+	private final LongSupplier nanoClock;
+
+	/**
+	 * Dieses Feld enthält die verfügbaren Marken.
+	 */
+	private double tokens;
+
+	/**
+	 * Dieses Feld enthält den Zeitpunkt des letzten Auffüllens in Nanosekunden.
+	 */
+	private long lastRefill;
+
+	/**
+	 * Dieser Konstruktor legt Kapazität, Rate und die anfangs verfügbaren Marken fest.
+	 *
+	 * @param capacity die Kapazität in Marken
+	 * @param ratePerSecond die Rate in Marken je Sekunde
+	 * @param initialTokens die anfangs verfügbaren Marken
+	 */
+	public TokenBucket(
+			final double capacity,
+			final double ratePerSecond,
+			final double initialTokens) {
+
+		this(capacity, ratePerSecond, initialTokens, System::nanoTime);
+	}
+
+	/**
+	 * Dieser Konstruktor erlaubt das Einschleusen von Objekten zum Testen.
+	 *
+	 * @param capacity die Kapazität in Marken
+	 * @param ratePerSecond die Rate in Marken je Sekunde
+	 * @param initialTokens die anfangs verfügbaren Marken
+	 * @param nanoClock die zu setzende Uhr in Nanosekunden
+	 * @throws IllegalArgumentException falls Kapazität oder Rate nicht positiv sind oder die
+	 * anfangs verfügbaren Marken außerhalb der Kapazität liegen
+	 */
+	protected TokenBucket(
+			final double capacity,
+			final double ratePerSecond,
+			final double initialTokens,
+			@Nonnull final LongSupplier nanoClock) {
+
+		if (!(capacity > 0) || !(ratePerSecond > 0)) {
+			throw new IllegalArgumentException("capacity and ratePerSecond must be positive!");
+		}
+
+		if (initialTokens < 0 || initialTokens > capacity) {
+			throw new IllegalArgumentException("initialTokens must be between 0 and capacity!");
+		}
+
+		this.capacity = capacity;
+		this.ratePerSecond = ratePerSecond;
+		this.nanoClock = nanoClock;
+		this.tokens = initialTokens;
+		this.lastRefill = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Diese Methode entnimmt so viele ganze Marken wie verfügbar, höchstens jedoch die angegebene
+	 * Anzahl.
+	 *
+	 * @param maxTokens die höchstens zu entnehmende Anzahl
+	 * @return die entnommene Anzahl zwischen 0 und {@code maxTokens}
+	 */
+	public synchronized int tryAcquireUpTo(final int maxTokens) {
+		int acquired;
+
+		this.refill();
+		acquired = (int) Math.min(maxTokens, Math.floor(this.tokens));
+
+		if (acquired <= 0) {
+			return 0;
+		}
+
+		this.tokens -= acquired;
+		return acquired;
+	}
+
+	/**
+	 * Diese Methode füllt den Eimer entsprechend der seit dem letzten Auffüllen vergangenen Zeit
+	 * auf.
+	 */
+	private void refill() {
+		long now = this.nanoClock.getAsLong();
+
+		this.tokens = Math.min(
+				this.capacity,
+				this.tokens + (now - this.lastRefill) * this.ratePerSecond / NANOS_PER_SECOND);
+		this.lastRefill = now;
+	}
+}
@@ -46,6 +46,68 @@ public final class PuzzleSolverGrpc {
     return getSolvePuzzleMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest,
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> getEnumerateSolutionsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "EnumerateSolutions",
+      requestType = software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.class,
+      responseType = software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest,
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> getEnumerateSolutionsMethod() {
+    io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> getEnumerateSolutionsMethod;
+    if ((getEnumerateSolutionsMethod = PuzzleSolverGrpc.getEnumerateSolutionsMethod) == null) {
+      synchronized (PuzzleSolverGrpc.class) {
+        if ((getEnumerateSolutionsMethod = PuzzleSolverGrpc.getEnumerateSolutionsMethod) == null) {
+          PuzzleSolverGrpc.getEnumerateSolutionsMethod = getEnumerateSolutionsMethod =
+              io.grpc.MethodDescriptor.<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "EnumerateSolutions"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new PuzzleSolverMethodDescriptorSupplier("EnumerateSolutions"))
+              .build();
+        }
+      }
+    }
+    return getEnumerateSolutionsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest,
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse> getSolvePuzzlesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "SolvePuzzles",
+      requestType = software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.class,
+      responseType = software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+  public static io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest,
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse> getSolvePuzzlesMethod() {
+    io.grpc.MethodDescriptor<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse> getSolvePuzzlesMethod;
+    if ((getSolvePuzzlesMethod = PuzzleSolverGrpc.getSolvePuzzlesMethod) == null) {
+      synchronized (PuzzleSolverGrpc.class) {
+        if ((getSolvePuzzlesMethod = PuzzleSolverGrpc.getSolvePuzzlesMethod) == null) {
+          PuzzleSolverGrpc.getSolvePuzzlesMethod = getSolvePuzzlesMethod =
+              io.grpc.MethodDescriptor.<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.BIDI_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "SolvePuzzles"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.getDefaultInstance()))
+              .setSchemaDescriptor(new PuzzleSolverMethodDescriptorSupplier("SolvePuzzles"))
+              .build();
+        }
+      }
+    }
+    return getSolvePuzzlesMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -101,6 +163,20 @@ public final class PuzzleSolverGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSolvePuzzleMethod(), responseObserver);
     }
 
+    /**
+     */
+    public void enumerateSolutions(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest request,
+        io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getEnumerateSolutionsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest> solvePuzzles(
+        io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getSolvePuzzlesMethod(), responseObserver);
+    }
+
     @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
       return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
           .addMethod(
@@ -110,6 +186,20 @@ public final class PuzzleSolverGrpc {
                 software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest,
                 software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse>(
                   this, METHODID_SOLVE_PUZZLE)))
+          .addMethod(
+            getEnumerateSolutionsMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest,
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse>(
+                  this, METHODID_ENUMERATE_SOLUTIONS)))
+          .addMethod(
+            getSolvePuzzlesMethod(),
+            io.grpc.stub.ServerCalls.asyncBidiStreamingCall(
+              new MethodHandlers<
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest,
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse>(
+                  this, METHODID_SOLVE_PUZZLES)))
           .build();
     }
   }
@@ -135,6 +225,22 @@ public final class PuzzleSolverGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getSolvePuzzleMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void enumerateSolutions(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest request,
+        io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getEnumerateSolutionsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest> solvePuzzles(
+        io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncBidiStreamingCall(
+          getChannel().newCall(getSolvePuzzlesMethod(), getCallOptions()), responseObserver);
+    }
   }
 
   /**
@@ -157,6 +263,14 @@ public final class PuzzleSolverGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getSolvePuzzleMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public java.util.Iterator<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse> enumerateSolutions(
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getEnumerateSolutionsMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -183,6 +297,8 @@ public final class PuzzleSolverGrpc {
   }
 
   private static final int METHODID_SOLVE_PUZZLE = 0;
+  private static final int METHODID_ENUMERATE_SOLUTIONS = 1;
+  private static final int METHODID_SOLVE_PUZZLES = 2;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -205,6 +321,10 @@ public final class PuzzleSolverGrpc {
           serviceImpl.solvePuzzle((software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest) request,
               (io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse>) responseObserver);
           break;
+        case METHODID_ENUMERATE_SOLUTIONS:
+          serviceImpl.enumerateSolutions((software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest) request,
+              (io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -215,6 +335,9 @@ public final class PuzzleSolverGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_SOLVE_PUZZLES:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.solvePuzzles(
+              (io.grpc.stub.StreamObserver<software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -267,6 +390,8 @@ public final class PuzzleSolverGrpc {
           serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
               .setSchemaDescriptor(new PuzzleSolverFileDescriptorSupplier())
               .addMethod(getSolvePuzzleMethod())
+              .addMethod(getEnumerateSolutionsMethod())
+              .addMethod(getSolvePuzzlesMethod())
               .build();
         }
       }
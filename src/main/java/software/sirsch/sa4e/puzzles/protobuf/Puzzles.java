@@ -14,6 +14,114 @@ public final class Puzzles {
     registerAllExtensions(
         (com.google.protobuf.ExtensionRegistryLite) registry);
   }
+  /**
+   * Protobuf enum {@code software.sirsch.sa4e.puzzles.protobuf.EnumerationMode}
+   */
+  public enum EnumerationMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>ALL_SOLUTIONS = 0;</code>
+     */
+    ALL_SOLUTIONS(0),
+    /**
+     * <code>COUNT_ONLY = 1;</code>
+     */
+    COUNT_ONLY(1),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>ALL_SOLUTIONS = 0;</code>
+     */
+    public static final int ALL_SOLUTIONS_VALUE = 0;
+    /**
+     * <code>COUNT_ONLY = 1;</code>
+     */
+    public static final int COUNT_ONLY_VALUE = 1;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static EnumerationMode valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static EnumerationMode forNumber(int value) {
+      switch (value) {
+        case 0: return ALL_SOLUTIONS;
+        case 1: return COUNT_ONLY;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<EnumerationMode>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EnumerationMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EnumerationMode>() {
+            public EnumerationMode findValueByNumber(int number) {
+              return EnumerationMode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final EnumerationMode[] VALUES = values();
+
+    public static EnumerationMode valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private EnumerationMode(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:software.sirsch.sa4e.puzzles.protobuf.EnumerationMode)
+  }
+
   public interface SolvePuzzleRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest)
       com.google.protobuf.MessageOrBuilder {
@@ -65,6 +173,30 @@ public final class Puzzles {
      */
     software.sirsch.sa4e.puzzles.protobuf.Puzzles.CellOrBuilder getCellsOrBuilder(
         int index);
+
+    /**
+     * <pre>
+     * Optionally restricts the search to the assignments whose first prefix_length digits have a
+     * lexicographic rank in [prefix_rank_begin, prefix_rank_end). With prefix_length = 0 the whole
+     * search space is searched. Used by a coordinator to shard one puzzle across several servers.
+     * </pre>
+     *
+     * <code>uint32 prefix_length = 3;</code>
+     * @return The prefixLength.
+     */
+    int getPrefixLength();
+
+    /**
+     * <code>uint64 prefix_rank_begin = 4;</code>
+     * @return The prefixRankBegin.
+     */
+    long getPrefixRankBegin();
+
+    /**
+     * <code>uint64 prefix_rank_end = 5;</code>
+     * @return The prefixRankEnd.
+     */
+    long getPrefixRankEnd();
   }
   /**
    * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest}
@@ -188,6 +320,45 @@ public final class Puzzles {
       return cells_.get(index);
     }
 
+    public static final int PREFIX_LENGTH_FIELD_NUMBER = 3;
+    private int prefixLength_;
+    /**
+     * <pre>
+     * Optionally restricts the search to the assignments whose first prefix_length digits have a
+     * lexicographic rank in [prefix_rank_begin, prefix_rank_end). With prefix_length = 0 the whole
+     * search space is searched. Used by a coordinator to shard one puzzle across several servers.
+     * </pre>
+     *
+     * <code>uint32 prefix_length = 3;</code>
+     * @return The prefixLength.
+     */
+    @java.lang.Override
+    public int getPrefixLength() {
+      return prefixLength_;
+    }
+
+    public static final int PREFIX_RANK_BEGIN_FIELD_NUMBER = 4;
+    private long prefixRankBegin_;
+    /**
+     * <code>uint64 prefix_rank_begin = 4;</code>
+     * @return The prefixRankBegin.
+     */
+    @java.lang.Override
+    public long getPrefixRankBegin() {
+      return prefixRankBegin_;
+    }
+
+    public static final int PREFIX_RANK_END_FIELD_NUMBER = 5;
+    private long prefixRankEnd_;
+    /**
+     * <code>uint64 prefix_rank_end = 5;</code>
+     * @return The prefixRankEnd.
+     */
+    @java.lang.Override
+    public long getPrefixRankEnd() {
+      return prefixRankEnd_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -208,6 +379,15 @@ public final class Puzzles {
       for (int i = 0; i < cells_.size(); i++) {
         output.writeMessage(2, cells_.get(i));
       }
+      if (prefixLength_ != 0) {
+        output.writeUInt32(3, prefixLength_);
+      }
+      if (prefixRankBegin_ != 0L) {
+        output.writeUInt64(4, prefixRankBegin_);
+      }
+      if (prefixRankEnd_ != 0L) {
+        output.writeUInt64(5, prefixRankEnd_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -225,6 +405,18 @@ public final class Puzzles {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(2, cells_.get(i));
       }
+      if (prefixLength_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, prefixLength_);
+      }
+      if (prefixRankBegin_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, prefixRankBegin_);
+      }
+      if (prefixRankEnd_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, prefixRankEnd_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -244,6 +436,12 @@ public final class Puzzles {
           .equals(other.getSymbolsList())) return false;
       if (!getCellsList()
           .equals(other.getCellsList())) return false;
+      if (getPrefixLength()
+          != other.getPrefixLength()) return false;
+      if (getPrefixRankBegin()
+          != other.getPrefixRankBegin()) return false;
+      if (getPrefixRankEnd()
+          != other.getPrefixRankEnd()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -263,6 +461,14 @@ public final class Puzzles {
         hash = (37 * hash) + CELLS_FIELD_NUMBER;
         hash = (53 * hash) + getCellsList().hashCode();
       }
+      hash = (37 * hash) + PREFIX_LENGTH_FIELD_NUMBER;
+      hash = (53 * hash) + getPrefixLength();
+      hash = (37 * hash) + PREFIX_RANK_BEGIN_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPrefixRankBegin());
+      hash = (37 * hash) + PREFIX_RANK_END_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getPrefixRankEnd());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -405,6 +611,12 @@ public final class Puzzles {
           cellsBuilder_.clear();
         }
         bitField0_ = (bitField0_ & ~0x00000002);
+        prefixLength_ = 0;
+
+        prefixRankBegin_ = 0L;
+
+        prefixRankEnd_ = 0L;
+
         return this;
       }
 
@@ -450,6 +662,9 @@ public final class Puzzles {
         } else {
           result.cells_ = cellsBuilder_.build();
         }
+        result.prefixLength_ = prefixLength_;
+        result.prefixRankBegin_ = prefixRankBegin_;
+        result.prefixRankEnd_ = prefixRankEnd_;
         onBuilt();
         return result;
       }
@@ -550,6 +765,15 @@ public final class Puzzles {
             }
           }
         }
+        if (other.getPrefixLength() != 0) {
+          setPrefixLength(other.getPrefixLength());
+        }
+        if (other.getPrefixRankBegin() != 0L) {
+          setPrefixRankBegin(other.getPrefixRankBegin());
+        }
+        if (other.getPrefixRankEnd() != 0L) {
+          setPrefixRankEnd(other.getPrefixRankEnd());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -602,6 +826,21 @@ public final class Puzzles {
                 }
                 break;
               } // case 18
+              case 24: {
+                prefixLength_ = input.readUInt32();
+
+                break;
+              } // case 24
+              case 32: {
+                prefixRankBegin_ = input.readUInt64();
+
+                break;
+              } // case 32
+              case 40: {
+                prefixRankEnd_ = input.readUInt64();
+
+                break;
+              } // case 40
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1098,6 +1337,117 @@ public final class Puzzles {
         }
         return cellsBuilder_;
       }
+
+      private int prefixLength_ ;
+      /**
+       * <pre>
+       * Optionally restricts the search to the assignments whose first prefix_length digits have a
+       * lexicographic rank in [prefix_rank_begin, prefix_rank_end). With prefix_length = 0 the whole
+       * search space is searched. Used by a coordinator to shard one puzzle across several servers.
+       * </pre>
+       *
+       * <code>uint32 prefix_length = 3;</code>
+       * @return The prefixLength.
+       */
+      @java.lang.Override
+      public int getPrefixLength() {
+        return prefixLength_;
+      }
+      /**
+       * <pre>
+       * Optionally restricts the search to the assignments whose first prefix_length digits have a
+       * lexicographic rank in [prefix_rank_begin, prefix_rank_end). With prefix_length = 0 the whole
+       * search space is searched. Used by a coordinator to shard one puzzle across several servers.
+       * </pre>
+       *
+       * <code>uint32 prefix_length = 3;</code>
+       * @param value The prefixLength to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixLength(int value) {
+        
+        prefixLength_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * Optionally restricts the search to the assignments whose first prefix_length digits have a
+       * lexicographic rank in [prefix_rank_begin, prefix_rank_end). With prefix_length = 0 the whole
+       * search space is searched. Used by a coordinator to shard one puzzle across several servers.
+       * </pre>
+       *
+       * <code>uint32 prefix_length = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefixLength() {
+        
+        prefixLength_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long prefixRankBegin_ ;
+      /**
+       * <code>uint64 prefix_rank_begin = 4;</code>
+       * @return The prefixRankBegin.
+       */
+      @java.lang.Override
+      public long getPrefixRankBegin() {
+        return prefixRankBegin_;
+      }
+      /**
+       * <code>uint64 prefix_rank_begin = 4;</code>
+       * @param value The prefixRankBegin to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixRankBegin(long value) {
+        
+        prefixRankBegin_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 prefix_rank_begin = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefixRankBegin() {
+        
+        prefixRankBegin_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long prefixRankEnd_ ;
+      /**
+       * <code>uint64 prefix_rank_end = 5;</code>
+       * @return The prefixRankEnd.
+       */
+      @java.lang.Override
+      public long getPrefixRankEnd() {
+        return prefixRankEnd_;
+      }
+      /**
+       * <code>uint64 prefix_rank_end = 5;</code>
+       * @param value The prefixRankEnd to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPrefixRankEnd(long value) {
+        
+        prefixRankEnd_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 prefix_rank_end = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPrefixRankEnd() {
+        
+        prefixRankEnd_ = 0L;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -3398,95 +3748,3523 @@ public final class Puzzles {
 
   }
 
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_fieldAccessorTable;
-  private static final com.google.protobuf.Descriptors.Descriptor
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor;
-  private static final 
-    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_fieldAccessorTable;
+  public interface EnumerateSolutionsRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest)
+      com.google.protobuf.MessageOrBuilder {
 
-  public static com.google.protobuf.Descriptors.FileDescriptor
-      getDescriptor() {
-    return descriptor;
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     * @return Whether the puzzle field is set.
+     */
+    boolean hasPuzzle();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     * @return The puzzle.
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder();
+
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    int getModeValue();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+     * @return The mode.
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode getMode();
+
+    /**
+     * <pre>
+     * maximum number of solutions to search for, 0 means unlimited
+     * </pre>
+     *
+     * <code>uint64 limit = 3;</code>
+     * @return The limit.
+     */
+    long getLimit();
   }
-  private static  com.google.protobuf.Descriptors.FileDescriptor
-      descriptor;
-  static {
-    java.lang.String[] descriptorData = {
-      "\nFsrc/main/resources/software/sirsch/sa4" +
-      "e/puzzles/protobuf/Puzzles.proto\022%softwa" +
-      "re.sirsch.sa4e.puzzles.protobuf\"\220\001\n\022Solv" +
-      "ePuzzleRequest\022>\n\007symbols\030\001 \003(\0132-.softwa" +
-      "re.sirsch.sa4e.puzzles.protobuf.Symbol\022:" +
-      "\n\005cells\030\002 \003(\0132+.software.sirsch.sa4e.puz" +
-      "zles.protobuf.Cell\"U\n\006Symbol\022\n\n\002id\030\001 \001(\r" +
-      "\022\030\n\013description\030\002 \001(\tH\000\210\001\001\022\025\n\riconCodePo" +
-      "int\030\003 \001(\rB\016\n\014_description\"A\n\004Cell\022\013\n\003row" +
-      "\030\001 \001(\r\022\016\n\006column\030\002 \001(\r\022\034\n\024number_as_symb" +
-      "ol_ids\030\003 \003(\r\"\322\001\n\023SolvePuzzleResponse\022k\n\022" +
-      "symbol_id_to_digit\030\001 \003(\0132O.software.sirs" +
-      "ch.sa4e.puzzles.protobuf.SolvePuzzleResp" +
-      "onse.SymbolIdToDigitEntry\022\026\n\016solution_fo" +
-      "und\030\002 \001(\010\0326\n\024SymbolIdToDigitEntry\022\013\n\003key" +
-      "\030\001 \001(\r\022\r\n\005value\030\002 \001(\r:\0028\0012\227\001\n\014PuzzleSolv" +
-      "er\022\206\001\n\013SolvePuzzle\0229.software.sirsch.sa4" +
-      "e.puzzles.protobuf.SolvePuzzleRequest\032:." +
-      "software.sirsch.sa4e.puzzles.protobuf.So" +
-      "lvePuzzleResponse\"\000b\006proto3"
-    };
-    descriptor = com.google.protobuf.Descriptors.FileDescriptor
-      .internalBuildGeneratedFileFrom(descriptorData,
-        new com.google.protobuf.Descriptors.FileDescriptor[] {
-        });
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor =
-      getDescriptor().getMessageTypes().get(0);
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor,
-        new java.lang.String[] { "Symbols", "Cells", });
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor =
-      getDescriptor().getMessageTypes().get(1);
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor,
-        new java.lang.String[] { "Id", "Description", "IconCodePoint", "Description", });
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor =
-      getDescriptor().getMessageTypes().get(2);
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor,
-        new java.lang.String[] { "Row", "Column", "NumberAsSymbolIds", });
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor =
-      getDescriptor().getMessageTypes().get(3);
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor,
-        new java.lang.String[] { "SymbolIdToDigit", "SolutionFound", });
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor =
-      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor.getNestedTypes().get(0);
-    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_fieldAccessorTable = new
-      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
-        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor,
-        new java.lang.String[] { "Key", "Value", });
+  /**
+   * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest}
+   */
+  public static final class EnumerateSolutionsRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest)
+      EnumerateSolutionsRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EnumerateSolutionsRequest.newBuilder() to construct.
+    private EnumerateSolutionsRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EnumerateSolutionsRequest() {
+      mode_ = 0;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EnumerateSolutionsRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.Builder.class);
+    }
+
+    public static final int PUZZLE_FIELD_NUMBER = 1;
+    private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest puzzle_;
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     * @return Whether the puzzle field is set.
+     */
+    @java.lang.Override
+    public boolean hasPuzzle() {
+      return puzzle_ != null;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     * @return The puzzle.
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle() {
+      return puzzle_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder() {
+      return getPuzzle();
+    }
+
+    public static final int MODE_FIELD_NUMBER = 2;
+    private int mode_;
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+     * @return The enum numeric value on the wire for mode.
+     */
+    @java.lang.Override public int getModeValue() {
+      return mode_;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+     * @return The mode.
+     */
+    @java.lang.Override public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode getMode() {
+      @SuppressWarnings("deprecation")
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode result = software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.valueOf(mode_);
+      return result == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.UNRECOGNIZED : result;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private long limit_;
+    /**
+     * <pre>
+     * maximum number of solutions to search for, 0 means unlimited
+     * </pre>
+     *
+     * <code>uint64 limit = 3;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public long getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (puzzle_ != null) {
+        output.writeMessage(1, getPuzzle());
+      }
+      if (mode_ != software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.ALL_SOLUTIONS.getNumber()) {
+        output.writeEnum(2, mode_);
+      }
+      if (limit_ != 0L) {
+        output.writeUInt64(3, limit_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (puzzle_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getPuzzle());
+      }
+      if (mode_ != software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.ALL_SOLUTIONS.getNumber()) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeEnumSize(2, mode_);
+      }
+      if (limit_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, limit_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest)) {
+        return super.equals(obj);
+      }
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest other = (software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest) obj;
+
+      if (hasPuzzle() != other.hasPuzzle()) return false;
+      if (hasPuzzle()) {
+        if (!getPuzzle()
+            .equals(other.getPuzzle())) return false;
+      }
+      if (mode_ != other.mode_) return false;
+      if (getLimit()
+          != other.getLimit()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPuzzle()) {
+        hash = (37 * hash) + PUZZLE_FIELD_NUMBER;
+        hash = (53 * hash) + getPuzzle().hashCode();
+      }
+      hash = (37 * hash) + MODE_FIELD_NUMBER;
+      hash = (53 * hash) + mode_;
+      hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLimit());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest)
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.Builder.class);
+      }
+
+      // Construct using software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (puzzleBuilder_ == null) {
+          puzzle_ = null;
+        } else {
+          puzzle_ = null;
+          puzzleBuilder_ = null;
+        }
+        mode_ = 0;
+
+        limit_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest getDefaultInstanceForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest build() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest buildPartial() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest result = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest(this);
+        if (puzzleBuilder_ == null) {
+          result.puzzle_ = puzzle_;
+        } else {
+          result.puzzle_ = puzzleBuilder_.build();
+        }
+        result.mode_ = mode_;
+        result.limit_ = limit_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest) {
+          return mergeFrom((software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest other) {
+        if (other == software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest.getDefaultInstance()) return this;
+        if (other.hasPuzzle()) {
+          mergePuzzle(other.getPuzzle());
+        }
+        if (other.mode_ != 0) {
+          setModeValue(other.getModeValue());
+        }
+        if (other.getLimit() != 0L) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                input.readMessage(
+                    getPuzzleFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 10
+              case 16: {
+                mode_ = input.readEnum();
+
+                break;
+              } // case 16
+              case 24: {
+                limit_ = input.readUInt64();
+
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest puzzle_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder> puzzleBuilder_;
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       * @return Whether the puzzle field is set.
+       */
+      public boolean hasPuzzle() {
+        return puzzleBuilder_ != null || puzzle_ != null;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       * @return The puzzle.
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle() {
+        if (puzzleBuilder_ == null) {
+          return puzzle_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+        } else {
+          return puzzleBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public Builder setPuzzle(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest value) {
+        if (puzzleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          puzzle_ = value;
+          onChanged();
+        } else {
+          puzzleBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public Builder setPuzzle(
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder builderForValue) {
+        if (puzzleBuilder_ == null) {
+          puzzle_ = builderForValue.build();
+          onChanged();
+        } else {
+          puzzleBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public Builder mergePuzzle(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest value) {
+        if (puzzleBuilder_ == null) {
+          if (puzzle_ != null) {
+            puzzle_ =
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.newBuilder(puzzle_).mergeFrom(value).buildPartial();
+          } else {
+            puzzle_ = value;
+          }
+          onChanged();
+        } else {
+          puzzleBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public Builder clearPuzzle() {
+        if (puzzleBuilder_ == null) {
+          puzzle_ = null;
+          onChanged();
+        } else {
+          puzzle_ = null;
+          puzzleBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder getPuzzleBuilder() {
+        
+        onChanged();
+        return getPuzzleFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder() {
+        if (puzzleBuilder_ != null) {
+          return puzzleBuilder_.getMessageOrBuilder();
+        } else {
+          return puzzle_ == null ?
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder> 
+          getPuzzleFieldBuilder() {
+        if (puzzleBuilder_ == null) {
+          puzzleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder>(
+                  getPuzzle(),
+                  getParentForChildren(),
+                  isClean());
+          puzzle_ = null;
+        }
+        return puzzleBuilder_;
+      }
+
+      private int mode_ = 0;
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+       * @return The enum numeric value on the wire for mode.
+       */
+      @java.lang.Override public int getModeValue() {
+        return mode_;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+       * @param value The enum numeric value on the wire for mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModeValue(int value) {
+        
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+       * @return The mode.
+       */
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode getMode() {
+        @SuppressWarnings("deprecation")
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode result = software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.valueOf(mode_);
+        return result == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode.UNRECOGNIZED : result;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+       * @param value The mode to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMode(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        
+        mode_ = value.getNumber();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.EnumerationMode mode = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMode() {
+        
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long limit_ ;
+      /**
+       * <pre>
+       * maximum number of solutions to search for, 0 means unlimited
+       * </pre>
+       *
+       * <code>uint64 limit = 3;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public long getLimit() {
+        return limit_;
+      }
+      /**
+       * <pre>
+       * maximum number of solutions to search for, 0 means unlimited
+       * </pre>
+       *
+       * <code>uint64 limit = 3;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(long value) {
+        
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * maximum number of solutions to search for, 0 means unlimited
+       * </pre>
+       *
+       * <code>uint64 limit = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        
+        limit_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsRequest)
+    private static final software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest();
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EnumerateSolutionsRequest>
+        PARSER = new com.google.protobuf.AbstractParser<EnumerateSolutionsRequest>() {
+      @java.lang.Override
+      public EnumerateSolutionsRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<EnumerateSolutionsRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EnumerateSolutionsRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EnumerateSolutionsResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    int getSymbolIdToDigitCount();
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    boolean containsSymbolIdToDigit(
+        int key);
+    /**
+     * Use {@link #getSymbolIdToDigitMap()} instead.
+     */
+    @java.lang.Deprecated
+    java.util.Map<java.lang.Integer, java.lang.Integer>
+    getSymbolIdToDigit();
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    java.util.Map<java.lang.Integer, java.lang.Integer>
+    getSymbolIdToDigitMap();
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+
+    int getSymbolIdToDigitOrDefault(
+        int key,
+        int defaultValue);
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+
+    int getSymbolIdToDigitOrThrow(
+        int key);
+
+    /**
+     * <code>uint64 solution_count = 2;</code>
+     * @return The solutionCount.
+     */
+    long getSolutionCount();
+
+    /**
+     * <code>bool completed = 3;</code>
+     * @return The completed.
+     */
+    boolean getCompleted();
+  }
+  /**
+   * <pre>
+   * In mode ALL_SOLUTIONS one message per solution is sent. The stream is always terminated by a
+   * message with completed = true that carries the number of solutions found.
+   * </pre>
+   *
+   * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse}
+   */
+  public static final class EnumerateSolutionsResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse)
+      EnumerateSolutionsResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EnumerateSolutionsResponse.newBuilder() to construct.
+    private EnumerateSolutionsResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EnumerateSolutionsResponse() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EnumerateSolutionsResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    @java.lang.Override
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 1:
+          return internalGetSymbolIdToDigit();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.Builder.class);
+    }
+
+    public static final int SYMBOL_ID_TO_DIGIT_FIELD_NUMBER = 1;
+    private static final class SymbolIdToDigitDefaultEntryHolder {
+      static final com.google.protobuf.MapEntry<
+          java.lang.Integer, java.lang.Integer> defaultEntry =
+              com.google.protobuf.MapEntry
+              .<java.lang.Integer, java.lang.Integer>newDefaultInstance(
+                  software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_descriptor, 
+                  com.google.protobuf.WireFormat.FieldType.UINT32,
+                  0,
+                  com.google.protobuf.WireFormat.FieldType.UINT32,
+                  0);
+    }
+    private com.google.protobuf.MapField<
+        java.lang.Integer, java.lang.Integer> symbolIdToDigit_;
+    private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+    internalGetSymbolIdToDigit() {
+      if (symbolIdToDigit_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            SymbolIdToDigitDefaultEntryHolder.defaultEntry);
+      }
+      return symbolIdToDigit_;
+    }
+
+    public int getSymbolIdToDigitCount() {
+      return internalGetSymbolIdToDigit().getMap().size();
+    }
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsSymbolIdToDigit(
+        int key) {
+      
+      return internalGetSymbolIdToDigit().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getSymbolIdToDigitMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getSymbolIdToDigit() {
+      return getSymbolIdToDigitMap();
+    }
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.Integer, java.lang.Integer> getSymbolIdToDigitMap() {
+      return internalGetSymbolIdToDigit().getMap();
+    }
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    @java.lang.Override
+
+    public int getSymbolIdToDigitOrDefault(
+        int key,
+        int defaultValue) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetSymbolIdToDigit().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+     */
+    @java.lang.Override
+
+    public int getSymbolIdToDigitOrThrow(
+        int key) {
+      
+      java.util.Map<java.lang.Integer, java.lang.Integer> map =
+          internalGetSymbolIdToDigit().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public static final int SOLUTION_COUNT_FIELD_NUMBER = 2;
+    private long solutionCount_;
+    /**
+     * <code>uint64 solution_count = 2;</code>
+     * @return The solutionCount.
+     */
+    @java.lang.Override
+    public long getSolutionCount() {
+      return solutionCount_;
+    }
+
+    public static final int COMPLETED_FIELD_NUMBER = 3;
+    private boolean completed_;
+    /**
+     * <code>bool completed = 3;</code>
+     * @return The completed.
+     */
+    @java.lang.Override
+    public boolean getCompleted() {
+      return completed_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      com.google.protobuf.GeneratedMessageV3
+        .serializeIntegerMapTo(
+          output,
+          internalGetSymbolIdToDigit(),
+          SymbolIdToDigitDefaultEntryHolder.defaultEntry,
+          1);
+      if (solutionCount_ != 0L) {
+        output.writeUInt64(2, solutionCount_);
+      }
+      if (completed_ != false) {
+        output.writeBool(3, completed_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (java.util.Map.Entry<java.lang.Integer, java.lang.Integer> entry
+           : internalGetSymbolIdToDigit().getMap().entrySet()) {
+        com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+        symbolIdToDigit__ = SymbolIdToDigitDefaultEntryHolder.defaultEntry.newBuilderForType()
+            .setKey(entry.getKey())
+            .setValue(entry.getValue())
+            .build();
+        size += com.google.protobuf.CodedOutputStream
+            .computeMessageSize(1, symbolIdToDigit__);
+      }
+      if (solutionCount_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, solutionCount_);
+      }
+      if (completed_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(3, completed_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse)) {
+        return super.equals(obj);
+      }
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse other = (software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse) obj;
+
+      if (!internalGetSymbolIdToDigit().equals(
+          other.internalGetSymbolIdToDigit())) return false;
+      if (getSolutionCount()
+          != other.getSolutionCount()) return false;
+      if (getCompleted()
+          != other.getCompleted()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (!internalGetSymbolIdToDigit().getMap().isEmpty()) {
+        hash = (37 * hash) + SYMBOL_ID_TO_DIGIT_FIELD_NUMBER;
+        hash = (53 * hash) + internalGetSymbolIdToDigit().hashCode();
+      }
+      hash = (37 * hash) + SOLUTION_COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSolutionCount());
+      hash = (37 * hash) + COMPLETED_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getCompleted());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * In mode ALL_SOLUTIONS one message per solution is sent. The stream is always terminated by a
+     * message with completed = true that carries the number of solutions found.
+     * </pre>
+     *
+     * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse)
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor;
+      }
+
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetSymbolIdToDigit();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @SuppressWarnings({"rawtypes"})
+      protected com.google.protobuf.MapField internalGetMutableMapField(
+          int number) {
+        switch (number) {
+          case 1:
+            return internalGetMutableSymbolIdToDigit();
+          default:
+            throw new RuntimeException(
+                "Invalid map field number: " + number);
+        }
+      }
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.Builder.class);
+      }
+
+      // Construct using software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        internalGetMutableSymbolIdToDigit().clear();
+        solutionCount_ = 0L;
+
+        completed_ = false;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse getDefaultInstanceForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse build() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse buildPartial() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse result = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse(this);
+        int from_bitField0_ = bitField0_;
+        result.symbolIdToDigit_ = internalGetSymbolIdToDigit();
+        result.symbolIdToDigit_.makeImmutable();
+        result.solutionCount_ = solutionCount_;
+        result.completed_ = completed_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse) {
+          return mergeFrom((software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse other) {
+        if (other == software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse.getDefaultInstance()) return this;
+        internalGetMutableSymbolIdToDigit().mergeFrom(
+            other.internalGetSymbolIdToDigit());
+        if (other.getSolutionCount() != 0L) {
+          setSolutionCount(other.getSolutionCount());
+        }
+        if (other.getCompleted() != false) {
+          setCompleted(other.getCompleted());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.google.protobuf.MapEntry<java.lang.Integer, java.lang.Integer>
+                symbolIdToDigit__ = input.readMessage(
+                    SymbolIdToDigitDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+                internalGetMutableSymbolIdToDigit().getMutableMap().put(
+                    symbolIdToDigit__.getKey(), symbolIdToDigit__.getValue());
+                break;
+              } // case 10
+              case 16: {
+                solutionCount_ = input.readUInt64();
+
+                break;
+              } // case 16
+              case 24: {
+                completed_ = input.readBool();
+
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.MapField<
+          java.lang.Integer, java.lang.Integer> symbolIdToDigit_;
+      private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+      internalGetSymbolIdToDigit() {
+        if (symbolIdToDigit_ == null) {
+          return com.google.protobuf.MapField.emptyMapField(
+              SymbolIdToDigitDefaultEntryHolder.defaultEntry);
+        }
+        return symbolIdToDigit_;
+      }
+      private com.google.protobuf.MapField<java.lang.Integer, java.lang.Integer>
+      internalGetMutableSymbolIdToDigit() {
+        onChanged();;
+        if (symbolIdToDigit_ == null) {
+          symbolIdToDigit_ = com.google.protobuf.MapField.newMapField(
+              SymbolIdToDigitDefaultEntryHolder.defaultEntry);
+        }
+        if (!symbolIdToDigit_.isMutable()) {
+          symbolIdToDigit_ = symbolIdToDigit_.copy();
+        }
+        return symbolIdToDigit_;
+      }
+
+      public int getSymbolIdToDigitCount() {
+        return internalGetSymbolIdToDigit().getMap().size();
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+
+      @java.lang.Override
+      public boolean containsSymbolIdToDigit(
+          int key) {
+        
+        return internalGetSymbolIdToDigit().getMap().containsKey(key);
+      }
+      /**
+       * Use {@link #getSymbolIdToDigitMap()} instead.
+       */
+      @java.lang.Override
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Integer, java.lang.Integer> getSymbolIdToDigit() {
+        return getSymbolIdToDigitMap();
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+      @java.lang.Override
+
+      public java.util.Map<java.lang.Integer, java.lang.Integer> getSymbolIdToDigitMap() {
+        return internalGetSymbolIdToDigit().getMap();
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+      @java.lang.Override
+
+      public int getSymbolIdToDigitOrDefault(
+          int key,
+          int defaultValue) {
+        
+        java.util.Map<java.lang.Integer, java.lang.Integer> map =
+            internalGetSymbolIdToDigit().getMap();
+        return map.containsKey(key) ? map.get(key) : defaultValue;
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+      @java.lang.Override
+
+      public int getSymbolIdToDigitOrThrow(
+          int key) {
+        
+        java.util.Map<java.lang.Integer, java.lang.Integer> map =
+            internalGetSymbolIdToDigit().getMap();
+        if (!map.containsKey(key)) {
+          throw new java.lang.IllegalArgumentException();
+        }
+        return map.get(key);
+      }
+
+      public Builder clearSymbolIdToDigit() {
+        internalGetMutableSymbolIdToDigit().getMutableMap()
+            .clear();
+        return this;
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+
+      public Builder removeSymbolIdToDigit(
+          int key) {
+        
+        internalGetMutableSymbolIdToDigit().getMutableMap()
+            .remove(key);
+        return this;
+      }
+      /**
+       * Use alternate mutation accessors instead.
+       */
+      @java.lang.Deprecated
+      public java.util.Map<java.lang.Integer, java.lang.Integer>
+      getMutableSymbolIdToDigit() {
+        return internalGetMutableSymbolIdToDigit().getMutableMap();
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+      public Builder putSymbolIdToDigit(
+          int key,
+          int value) {
+        
+        
+        internalGetMutableSymbolIdToDigit().getMutableMap()
+            .put(key, value);
+        return this;
+      }
+      /**
+       * <code>map&lt;uint32, uint32&gt; symbol_id_to_digit = 1;</code>
+       */
+
+      public Builder putAllSymbolIdToDigit(
+          java.util.Map<java.lang.Integer, java.lang.Integer> values) {
+        internalGetMutableSymbolIdToDigit().getMutableMap()
+            .putAll(values);
+        return this;
+      }
+
+      private long solutionCount_ ;
+      /**
+       * <code>uint64 solution_count = 2;</code>
+       * @return The solutionCount.
+       */
+      @java.lang.Override
+      public long getSolutionCount() {
+        return solutionCount_;
+      }
+      /**
+       * <code>uint64 solution_count = 2;</code>
+       * @param value The solutionCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSolutionCount(long value) {
+        
+        solutionCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint64 solution_count = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSolutionCount() {
+        
+        solutionCount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean completed_ ;
+      /**
+       * <code>bool completed = 3;</code>
+       * @return The completed.
+       */
+      @java.lang.Override
+      public boolean getCompleted() {
+        return completed_;
+      }
+      /**
+       * <code>bool completed = 3;</code>
+       * @param value The completed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCompleted(boolean value) {
+        
+        completed_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool completed = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCompleted() {
+        
+        completed_ = false;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:software.sirsch.sa4e.puzzles.protobuf.EnumerateSolutionsResponse)
+    private static final software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse();
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<EnumerateSolutionsResponse>
+        PARSER = new com.google.protobuf.AbstractParser<EnumerateSolutionsResponse>() {
+      @java.lang.Override
+      public EnumerateSolutionsResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<EnumerateSolutionsResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<EnumerateSolutionsResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SolvePuzzlesRequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The requestId.
+     */
+    java.lang.String getRequestId();
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The bytes for requestId.
+     */
+    com.google.protobuf.ByteString
+        getRequestIdBytes();
+
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     * @return Whether the puzzle field is set.
+     */
+    boolean hasPuzzle();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     * @return The puzzle.
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder();
+  }
+  /**
+   * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest}
+   */
+  public static final class SolvePuzzlesRequest extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest)
+      SolvePuzzlesRequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SolvePuzzlesRequest.newBuilder() to construct.
+    private SolvePuzzlesRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SolvePuzzlesRequest() {
+      requestId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SolvePuzzlesRequest();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.Builder.class);
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object requestId_;
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The bytes for requestId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PUZZLE_FIELD_NUMBER = 2;
+    private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest puzzle_;
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     * @return Whether the puzzle field is set.
+     */
+    @java.lang.Override
+    public boolean hasPuzzle() {
+      return puzzle_ != null;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     * @return The puzzle.
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle() {
+      return puzzle_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder() {
+      return getPuzzle();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+      }
+      if (puzzle_ != null) {
+        output.writeMessage(2, getPuzzle());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+      }
+      if (puzzle_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getPuzzle());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest)) {
+        return super.equals(obj);
+      }
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest other = (software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest) obj;
+
+      if (!getRequestId()
+          .equals(other.getRequestId())) return false;
+      if (hasPuzzle() != other.hasPuzzle()) return false;
+      if (hasPuzzle()) {
+        if (!getPuzzle()
+            .equals(other.getPuzzle())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestId().hashCode();
+      if (hasPuzzle()) {
+        hash = (37 * hash) + PUZZLE_FIELD_NUMBER;
+        hash = (53 * hash) + getPuzzle().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest)
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.Builder.class);
+      }
+
+      // Construct using software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        requestId_ = "";
+
+        if (puzzleBuilder_ == null) {
+          puzzle_ = null;
+        } else {
+          puzzle_ = null;
+          puzzleBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest getDefaultInstanceForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest build() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest buildPartial() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest result = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest(this);
+        result.requestId_ = requestId_;
+        if (puzzleBuilder_ == null) {
+          result.puzzle_ = puzzle_;
+        } else {
+          result.puzzle_ = puzzleBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest) {
+          return mergeFrom((software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest other) {
+        if (other == software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest.getDefaultInstance()) return this;
+        if (!other.getRequestId().isEmpty()) {
+          requestId_ = other.requestId_;
+          onChanged();
+        }
+        if (other.hasPuzzle()) {
+          mergePuzzle(other.getPuzzle());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                requestId_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getPuzzleFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object requestId_ = "";
+      /**
+       * <code>string request_id = 1;</code>
+       * @return The requestId.
+       */
+      public java.lang.String getRequestId() {
+        java.lang.Object ref = requestId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          requestId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @return The bytes for requestId.
+       */
+      public com.google.protobuf.ByteString
+          getRequestIdBytes() {
+        java.lang.Object ref = requestId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          requestId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = getDefaultInstance().getRequestId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @param value The bytes for requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest puzzle_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder> puzzleBuilder_;
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       * @return Whether the puzzle field is set.
+       */
+      public boolean hasPuzzle() {
+        return puzzleBuilder_ != null || puzzle_ != null;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       * @return The puzzle.
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest getPuzzle() {
+        if (puzzleBuilder_ == null) {
+          return puzzle_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+        } else {
+          return puzzleBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public Builder setPuzzle(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest value) {
+        if (puzzleBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          puzzle_ = value;
+          onChanged();
+        } else {
+          puzzleBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public Builder setPuzzle(
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder builderForValue) {
+        if (puzzleBuilder_ == null) {
+          puzzle_ = builderForValue.build();
+          onChanged();
+        } else {
+          puzzleBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public Builder mergePuzzle(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest value) {
+        if (puzzleBuilder_ == null) {
+          if (puzzle_ != null) {
+            puzzle_ =
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.newBuilder(puzzle_).mergeFrom(value).buildPartial();
+          } else {
+            puzzle_ = value;
+          }
+          onChanged();
+        } else {
+          puzzleBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public Builder clearPuzzle() {
+        if (puzzleBuilder_ == null) {
+          puzzle_ = null;
+          onChanged();
+        } else {
+          puzzle_ = null;
+          puzzleBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder getPuzzleBuilder() {
+        
+        onChanged();
+        return getPuzzleFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder getPuzzleOrBuilder() {
+        if (puzzleBuilder_ != null) {
+          return puzzleBuilder_.getMessageOrBuilder();
+        } else {
+          return puzzle_ == null ?
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.getDefaultInstance() : puzzle_;
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleRequest puzzle = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder> 
+          getPuzzleFieldBuilder() {
+        if (puzzleBuilder_ == null) {
+          puzzleBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequestOrBuilder>(
+                  getPuzzle(),
+                  getParentForChildren(),
+                  isClean());
+          puzzle_ = null;
+        }
+        return puzzleBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest)
+    }
+
+    // @@protoc_insertion_point(class_scope:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesRequest)
+    private static final software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest();
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SolvePuzzlesRequest>
+        PARSER = new com.google.protobuf.AbstractParser<SolvePuzzlesRequest>() {
+      @java.lang.Override
+      public SolvePuzzlesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SolvePuzzlesRequest> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SolvePuzzlesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SolvePuzzlesResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The requestId.
+     */
+    java.lang.String getRequestId();
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The bytes for requestId.
+     */
+    com.google.protobuf.ByteString
+        getRequestIdBytes();
+
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     * @return Whether the response field is set.
+     */
+    boolean hasResponse();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     * @return The response.
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse getResponse();
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     */
+    software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder getResponseOrBuilder();
+
+    /**
+     * <pre>
+     * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+     * </pre>
+     *
+     * <code>string error_message = 3;</code>
+     * @return The errorMessage.
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <pre>
+     * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+     * </pre>
+     *
+     * <code>string error_message = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+  }
+  /**
+   * <pre>
+   * Responses are sent in the order in which the puzzles are solved, not in the order of the requests.
+   * </pre>
+   *
+   * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse}
+   */
+  public static final class SolvePuzzlesResponse extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse)
+      SolvePuzzlesResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SolvePuzzlesResponse.newBuilder() to construct.
+    private SolvePuzzlesResponse(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SolvePuzzlesResponse() {
+      requestId_ = "";
+      errorMessage_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SolvePuzzlesResponse();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.Builder.class);
+    }
+
+    public static final int REQUEST_ID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object requestId_;
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The requestId.
+     */
+    @java.lang.Override
+    public java.lang.String getRequestId() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        requestId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string request_id = 1;</code>
+     * @return The bytes for requestId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getRequestIdBytes() {
+      java.lang.Object ref = requestId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        requestId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESPONSE_FIELD_NUMBER = 2;
+    private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse response_;
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     * @return Whether the response field is set.
+     */
+    @java.lang.Override
+    public boolean hasResponse() {
+      return response_ != null;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     * @return The response.
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse getResponse() {
+      return response_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.getDefaultInstance() : response_;
+    }
+    /**
+     * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+     */
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder getResponseOrBuilder() {
+      return getResponse();
+    }
+
+    public static final int ERROR_MESSAGE_FIELD_NUMBER = 3;
+    private volatile java.lang.Object errorMessage_;
+    /**
+     * <pre>
+     * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+     * </pre>
+     *
+     * <code>string error_message = 3;</code>
+     * @return The errorMessage.
+     */
+    @java.lang.Override
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        errorMessage_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+     * </pre>
+     *
+     * <code>string error_message = 3;</code>
+     * @return The bytes for errorMessage.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, requestId_);
+      }
+      if (response_ != null) {
+        output.writeMessage(2, getResponse());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, errorMessage_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(requestId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, requestId_);
+      }
+      if (response_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getResponse());
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(errorMessage_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, errorMessage_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse)) {
+        return super.equals(obj);
+      }
+      software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse other = (software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse) obj;
+
+      if (!getRequestId()
+          .equals(other.getRequestId())) return false;
+      if (hasResponse() != other.hasResponse()) return false;
+      if (hasResponse()) {
+        if (!getResponse()
+            .equals(other.getResponse())) return false;
+      }
+      if (!getErrorMessage()
+          .equals(other.getErrorMessage())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REQUEST_ID_FIELD_NUMBER;
+      hash = (53 * hash) + getRequestId().hashCode();
+      if (hasResponse()) {
+        hash = (37 * hash) + RESPONSE_FIELD_NUMBER;
+        hash = (53 * hash) + getResponse().hashCode();
+      }
+      hash = (37 * hash) + ERROR_MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getErrorMessage().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * Responses are sent in the order in which the puzzles are solved, not in the order of the requests.
+     * </pre>
+     *
+     * Protobuf type {@code software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse)
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.class, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.Builder.class);
+      }
+
+      // Construct using software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        requestId_ = "";
+
+        if (responseBuilder_ == null) {
+          response_ = null;
+        } else {
+          response_ = null;
+          responseBuilder_ = null;
+        }
+        errorMessage_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse getDefaultInstanceForType() {
+        return software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse build() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse buildPartial() {
+        software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse result = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse(this);
+        result.requestId_ = requestId_;
+        if (responseBuilder_ == null) {
+          result.response_ = response_;
+        } else {
+          result.response_ = responseBuilder_.build();
+        }
+        result.errorMessage_ = errorMessage_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse) {
+          return mergeFrom((software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse other) {
+        if (other == software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse.getDefaultInstance()) return this;
+        if (!other.getRequestId().isEmpty()) {
+          requestId_ = other.requestId_;
+          onChanged();
+        }
+        if (other.hasResponse()) {
+          mergeResponse(other.getResponse());
+        }
+        if (!other.getErrorMessage().isEmpty()) {
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                requestId_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                input.readMessage(
+                    getResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+
+                break;
+              } // case 18
+              case 26: {
+                errorMessage_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object requestId_ = "";
+      /**
+       * <code>string request_id = 1;</code>
+       * @return The requestId.
+       */
+      public java.lang.String getRequestId() {
+        java.lang.Object ref = requestId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          requestId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @return The bytes for requestId.
+       */
+      public com.google.protobuf.ByteString
+          getRequestIdBytes() {
+        java.lang.Object ref = requestId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          requestId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @param value The requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestId() {
+        
+        requestId_ = getDefaultInstance().getRequestId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string request_id = 1;</code>
+       * @param value The bytes for requestId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        requestId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse response_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder> responseBuilder_;
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       * @return Whether the response field is set.
+       */
+      public boolean hasResponse() {
+        return responseBuilder_ != null || response_ != null;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       * @return The response.
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse getResponse() {
+        if (responseBuilder_ == null) {
+          return response_ == null ? software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.getDefaultInstance() : response_;
+        } else {
+          return responseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public Builder setResponse(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse value) {
+        if (responseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          response_ = value;
+          onChanged();
+        } else {
+          responseBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public Builder setResponse(
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.Builder builderForValue) {
+        if (responseBuilder_ == null) {
+          response_ = builderForValue.build();
+          onChanged();
+        } else {
+          responseBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public Builder mergeResponse(software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse value) {
+        if (responseBuilder_ == null) {
+          if (response_ != null) {
+            response_ =
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.newBuilder(response_).mergeFrom(value).buildPartial();
+          } else {
+            response_ = value;
+          }
+          onChanged();
+        } else {
+          responseBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public Builder clearResponse() {
+        if (responseBuilder_ == null) {
+          response_ = null;
+          onChanged();
+        } else {
+          response_ = null;
+          responseBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.Builder getResponseBuilder() {
+        
+        onChanged();
+        return getResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder getResponseOrBuilder() {
+        if (responseBuilder_ != null) {
+          return responseBuilder_.getMessageOrBuilder();
+        } else {
+          return response_ == null ?
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.getDefaultInstance() : response_;
+        }
+      }
+      /**
+       * <code>.software.sirsch.sa4e.puzzles.protobuf.SolvePuzzleResponse response = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder> 
+          getResponseFieldBuilder() {
+        if (responseBuilder_ == null) {
+          responseBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse.Builder, software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponseOrBuilder>(
+                  getResponse(),
+                  getParentForChildren(),
+                  isClean());
+          response_ = null;
+        }
+        return responseBuilder_;
+      }
+
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <pre>
+       * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+       * </pre>
+       *
+       * <code>string error_message = 3;</code>
+       * @return The errorMessage.
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          errorMessage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+       * </pre>
+       *
+       * <code>string error_message = 3;</code>
+       * @return The bytes for errorMessage.
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+       * </pre>
+       *
+       * <code>string error_message = 3;</code>
+       * @param value The errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+       * </pre>
+       *
+       * <code>string error_message = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearErrorMessage() {
+        
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * set if the puzzle could not be solved, e.g. because it is invalid or the server is overloaded
+       * </pre>
+       *
+       * <code>string error_message = 3;</code>
+       * @param value The bytes for errorMessage to set.
+       * @return This builder for chaining.
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse)
+    }
+
+    // @@protoc_insertion_point(class_scope:software.sirsch.sa4e.puzzles.protobuf.SolvePuzzlesResponse)
+    private static final software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse();
+    }
+
+    public static software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SolvePuzzlesResponse>
+        PARSER = new com.google.protobuf.AbstractParser<SolvePuzzlesResponse>() {
+      @java.lang.Override
+      public SolvePuzzlesResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SolvePuzzlesResponse> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SolvePuzzlesResponse> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\nFsrc/main/resources/software/sirsch/sa4" +
+      "e/puzzles/protobuf/Puzzles.proto\022%softwa" +
+      "re.sirsch.sa4e.puzzles.protobuf\"\333\001\n\022Solv" +
+      "ePuzzleRequest\022>\n\007symbols\030\001 \003(\0132-.softwa" +
+      "re.sirsch.sa4e.puzzles.protobuf.Symbol\022:" +
+      "\n\005cells\030\002 \003(\0132+.software.sirsch.sa4e.puz" +
+      "zles.protobuf.Cell\022\025\n\rprefix_length\030\003 \001(" +
+      "\r\022\031\n\021prefix_rank_begin\030\004 \001(\004\022\027\n\017prefix_r" +
+      "ank_end\030\005 \001(\004\"U\n\006Symbol\022\n\n\002id\030\001 \001(\r\022\030\n\013d" +
+      "escription\030\002 \001(\tH\000\210\001\001\022\025\n\riconCodePoint\030\003" +
+      " \001(\rB\016\n\014_description\"A\n\004Cell\022\013\n\003row\030\001 \001(" +
+      "\r\022\016\n\006column\030\002 \001(\r\022\034\n\024number_as_symbol_id" +
+      "s\030\003 \003(\r\"\322\001\n\023SolvePuzzleResponse\022k\n\022symbo" +
+      "l_id_to_digit\030\001 \003(\0132O.software.sirsch.sa" +
+      "4e.puzzles.protobuf.SolvePuzzleResponse." +
+      "SymbolIdToDigitEntry\022\026\n\016solution_found\030\002" +
+      " \001(\010\0326\n\024SymbolIdToDigitEntry\022\013\n\003key\030\001 \001(" +
+      "\r\022\r\n\005value\030\002 \001(\r:\0028\001\"\273\001\n\031EnumerateSoluti" +
+      "onsRequest\022I\n\006puzzle\030\001 \001(\01329.software.si" +
+      "rsch.sa4e.puzzles.protobuf.SolvePuzzleRe" +
+      "quest\022D\n\004mode\030\002 \001(\01626.software.sirsch.sa" +
+      "4e.puzzles.protobuf.EnumerationMode\022\r\n\005l" +
+      "imit\030\003 \001(\004\"\363\001\n\032EnumerateSolutionsRespons" +
+      "e\022r\n\022symbol_id_to_digit\030\001 \003(\0132V.software" +
+      ".sirsch.sa4e.puzzles.protobuf.EnumerateS" +
+      "olutionsResponse.SymbolIdToDigitEntry\022\026\n" +
+      "\016solution_count\030\002 \001(\004\022\021\n\tcompleted\030\003 \001(\010" +
+      "\0326\n\024SymbolIdToDigitEntry\022\013\n\003key\030\001 \001(\r\022\r\n" +
+      "\005value\030\002 \001(\r:\0028\001\"t\n\023SolvePuzzlesRequest\022" +
+      "\022\n\nrequest_id\030\001 \001(\t\022I\n\006puzzle\030\002 \001(\01329.so" +
+      "ftware.sirsch.sa4e.puzzles.protobuf.Solv" +
+      "ePuzzleRequest\"\217\001\n\024SolvePuzzlesResponse\022" +
+      "\022\n\nrequest_id\030\001 \001(\t\022L\n\010response\030\002 \001(\0132:." +
+      "software.sirsch.sa4e.puzzles.protobuf.So" +
+      "lvePuzzleResponse\022\025\n\rerror_message\030\003 \001(\t" +
+      "*4\n\017EnumerationMode\022\021\n\rALL_SOLUTIONS\020\000\022\016" +
+      "\n\nCOUNT_ONLY\020\0012\307\003\n\014PuzzleSolver\022\206\001\n\013Solv" +
+      "ePuzzle\0229.software.sirsch.sa4e.puzzles.p" +
+      "rotobuf.SolvePuzzleRequest\032:.software.si" +
+      "rsch.sa4e.puzzles.protobuf.SolvePuzzleRe" +
+      "sponse\"\000\022\235\001\n\022EnumerateSolutions\022@.softwa" +
+      "re.sirsch.sa4e.puzzles.protobuf.Enumerat" +
+      "eSolutionsRequest\032A.software.sirsch.sa4e" +
+      ".puzzles.protobuf.EnumerateSolutionsResp" +
+      "onse\"\0000\001\022\215\001\n\014SolvePuzzles\022:.software.sir" +
+      "sch.sa4e.puzzles.protobuf.SolvePuzzlesRe" +
+      "quest\032;.software.sirsch.sa4e.puzzles.pro" +
+      "tobuf.SolvePuzzlesResponse\"\000(\0010\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleRequest_descriptor,
+        new java.lang.String[] { "Symbols", "Cells", "PrefixLength", "PrefixRankBegin", "PrefixRankEnd", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_Symbol_descriptor,
+        new java.lang.String[] { "Id", "Description", "IconCodePoint", "Description", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_Cell_descriptor,
+        new java.lang.String[] { "Row", "Column", "NumberAsSymbolIds", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor,
+        new java.lang.String[] { "SymbolIdToDigit", "SolutionFound", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor =
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_descriptor.getNestedTypes().get(0);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzleResponse_SymbolIdToDigitEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsRequest_descriptor,
+        new java.lang.String[] { "Puzzle", "Mode", "Limit", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor,
+        new java.lang.String[] { "SymbolIdToDigit", "SolutionCount", "Completed", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_descriptor =
+      internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_descriptor.getNestedTypes().get(0);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_EnumerateSolutionsResponse_SymbolIdToDigitEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesRequest_descriptor,
+        new java.lang.String[] { "RequestId", "Puzzle", });
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_software_sirsch_sa4e_puzzles_protobuf_SolvePuzzlesResponse_descriptor,
+        new java.lang.String[] { "RequestId", "Response", "ErrorMessage", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,116 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Diese Klasse stellt Tests für {@link BinaryTraceDecoder} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class BinaryTraceDecoderTest {
+
+	/**
+	 * Dieses Feld soll den Mock für das Ziel der Einträge enthalten.
+	 */
+	private SolverProgressLogger target;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private BinaryTraceDecoder objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.target = mock(SolverProgressLogger.class);
+
+		this.objectUnderTest = new BinaryTraceDecoder();
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceDecoder#decode(java.io.InputStream,
+	 * SolverProgressLogger)} mit einer Aufzeichnung von {@link BinaryTraceSolverProgressLogger}.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testDecode() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		BinaryTraceSolverProgressLogger writer = new BinaryTraceSolverProgressLogger(out);
+		List<Symbol> symbols = List.of(new Symbol(3, null, 'A'), new Symbol(7, null, 'B'));
+		List<String> lines = new ArrayList<>();
+
+		writer.logPermutation(symbols, new int[] {9, 8}, false);
+		writer.logPermutation(symbols, new int[] {1, 2}, false);
+		writer.log("message");
+		writer.logPermutation(symbols, new int[] {4, 5}, true);
+		writer.close();
+
+		this.objectUnderTest.decode(new ByteArrayInputStream(out.toByteArray()), lines::add);
+
+		assertThat(lines, contains(
+				"Permutation A:9 B:8 is not a solution.",
+				"Permutation A:1 B:2 is not a solution.",
+				"message",
+				"Permutation A:4 B:5 is a solution."));
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceDecoder#decode(java.io.InputStream,
+	 * SolverProgressLogger)} mit einem falschen Kopf.
+	 */
+	@Test
+	public void testDecodeInvalidHeader() {
+		assertThrows(
+				IOException.class,
+				() -> this.objectUnderTest.decode(
+						new ByteArrayInputStream(new byte[] {'P', 'K', 3, 4, 1}),
+						this.target));
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceDecoder#decode(java.io.InputStream,
+	 * SolverProgressLogger)} mit einem Block ohne vorherige Symbole.
+	 */
+	@Test
+	public void testDecodeBlockWithoutSymbols() {
+		byte[] trace = {'P', 'Z', 'T', 'R', 1, BinaryTraceSolverProgressLogger.TAG_BLOCK, 1, 0};
+
+		assertThrows(
+				IOException.class,
+				() -> this.objectUnderTest.decode(new ByteArrayInputStream(trace), this.target));
+		verify(this.target, never()).logPermutation(any(), any(), anyBoolean());
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceDecoder#decode(java.io.InputStream,
+	 * SolverProgressLogger)} mit einer abgeschnittenen Aufzeichnung.
+	 */
+	@Test
+	public void testDecodeTruncated() {
+		byte[] trace = {'P', 'Z', 'T', 'R', 1, BinaryTraceSolverProgressLogger.TAG_MESSAGE, 5, 'a'};
+
+		assertThrows(
+				IOException.class,
+				() -> this.objectUnderTest.decode(new ByteArrayInputStream(trace), this.target));
+	}
+}
@@ -0,0 +1,277 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Diese Klasse stellt Tests für {@link BinaryTraceSolverProgressLogger} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class BinaryTraceSolverProgressLoggerTest {
+
+	/**
+	 * Dieses Feld soll die Ausgabe enthalten.
+	 */
+	private ByteArrayOutputStream out;
+
+	/**
+	 * Dieses Feld soll die Symbole zum Testen enthalten.
+	 */
+	private List<Symbol> symbols;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private BinaryTraceSolverProgressLogger objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.out = new ByteArrayOutputStream();
+		this.symbols = List.of(new Symbol(0, null, 'A'), new Symbol(1, null, 'B'));
+
+		this.objectUnderTest = new BinaryTraceSolverProgressLogger(this.out);
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor.
+	 */
+	@Test
+	public void testConstructor() {
+		assertArrayEquals(new byte[] {'P', 'Z', 'T', 'R', 1}, this.out.toByteArray());
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} und {@link BinaryTraceSolverProgressLogger#close()}.
+	 */
+	@Test
+	public void testLogPermutation() {
+		this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 2}, false);
+		this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 3}, true);
+		this.objectUnderTest.close();
+
+		assertArrayEquals(
+				new byte[] {
+						'P', 'Z', 'T', 'R', 1,
+						BinaryTraceSolverProgressLogger.TAG_SYMBOLS, 2, 0, 'A', 1, 'B',
+						BinaryTraceSolverProgressLogger.TAG_BLOCK, 2,
+						/* zigzag(0x24) = 0x48 */
+						0x48,
+						/* zigzag(0x27 - 0x24) = 6 */
+						6},
+				this.out.toByteArray());
+	}
+
+	/**
+	 * Diese Methode prüft, dass ein unvollständiger Block ohne Schließen regelmäßig geschrieben
+	 * wird.
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogPermutationFlushedPeriodically() throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+
+		this.out = new ByteArrayOutputStream();
+		this.objectUnderTest = new BinaryTraceSolverProgressLogger(this.out, 10, Thread::new);
+		this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 2}, false);
+
+		while (this.out.size() < 14 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		assertArrayEquals(
+				new byte[] {
+						'P', 'Z', 'T', 'R', 1,
+						BinaryTraceSolverProgressLogger.TAG_SYMBOLS, 2, 0, 'A', 1, 'B',
+						BinaryTraceSolverProgressLogger.TAG_BLOCK, 1, 0x48},
+				this.out.toByteArray());
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} aus mehreren Threads.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogPermutationConcurrent() throws Exception {
+		List<Thread> threads = new ArrayList<>();
+		LongAdder permutations = new LongAdder();
+		LongAdder solutions = new LongAdder();
+
+		for (int thread = 0; thread < 4; thread++) {
+			threads.add(new Thread(() -> {
+				for (int permutation = 0; permutation < 10_000; permutation++) {
+					this.objectUnderTest.logPermutation(
+							this.symbols,
+							new int[] {permutation % 10, permutation / 10 % 10},
+							permutation % 100 == 0);
+				}
+			}));
+		}
+
+		threads.forEach(Thread::start);
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		this.objectUnderTest.close();
+		new BinaryTraceDecoder().decode(
+				new ByteArrayInputStream(this.out.toByteArray()),
+				new SolverProgressLogger() {
+
+					@Override
+					public void logPermutation(
+							final List<Symbol> symbols,
+							final int[] values,
+							final boolean isSolution) {
+
+						permutations.increment();
+
+						if (isSolution) {
+							solutions.increment();
+						}
+					}
+
+					@Override
+					public void log(final String message) {
+					}
+				});
+
+		assertEquals(40_000, permutations.sum());
+		assertEquals(400, solutions.sum());
+	}
+
+	/**
+	 * Diese Methode prüft, dass nach dem Schließen nichts mehr geschrieben wird.
+	 */
+	@Test
+	public void testLogPermutationAfterClose() {
+		int size;
+
+		this.objectUnderTest.close();
+		size = this.out.size();
+		this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 2}, false);
+		this.objectUnderTest.log("test");
+		this.objectUnderTest.close();
+
+		assertEquals(size, this.out.size());
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceSolverProgressLogger#pack(int[], int, boolean)}.
+	 */
+	@Test
+	public void testPack() {
+		assertEquals(0x24, BinaryTraceSolverProgressLogger.pack(new int[] {1, 2}, 2, false));
+		assertEquals(0x27, BinaryTraceSolverProgressLogger.pack(new int[] {1, 3, 9}, 2, true));
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceSolverProgressLogger#log(String)}.
+	 */
+	@Test
+	public void testLog() {
+		byte[] result;
+
+		this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 2}, false);
+		this.objectUnderTest.log("test");
+		result = this.out.toByteArray();
+
+		assertEquals(BinaryTraceSolverProgressLogger.TAG_BLOCK, result[11]);
+		assertEquals(BinaryTraceSolverProgressLogger.TAG_MESSAGE, result[14]);
+		assertEquals(4, result[15]);
+		assertEquals(
+				"test",
+				new String(result, 16, 4, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft, dass unveränderte Symbole nicht erneut geschrieben werden und die
+	 * Aufzeichnung deutlich kleiner als die Textform ist.
+	 */
+	@Test
+	public void testCompactness() {
+		List<Symbol> tenSymbols = new ArrayList<>();
+		int[] values = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+		SolverProgressLogger textLogger;
+		StringBuilder text = new StringBuilder();
+
+		for (int index = 0; index < values.length; index++) {
+			tenSymbols.add(new Symbol(index, null, 0x1F600 + index));
+		}
+
+		textLogger = text::append;
+
+		for (int permutation = 0; permutation < 10_000; permutation++) {
+			values[9] = permutation % 10;
+			values[8] = permutation / 10 % 10;
+			this.objectUnderTest.logPermutation(List.copyOf(tenSymbols), values, false);
+			textLogger.logPermutation(tenSymbols, values, false);
+		}
+
+		this.objectUnderTest.close();
+
+		assertTrue(this.out.size() * 10 < text.toString().getBytes(StandardCharsets.UTF_8).length);
+	}
+
+	/**
+	 * Diese Methode prüft {@link BinaryTraceSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} mit zu vielen Symbolen.
+	 */
+	@Test
+	public void testLogPermutationTooManySymbols() {
+		List<Symbol> manySymbols = new ArrayList<>();
+
+		for (int index = 0; index <= BinaryTraceSolverProgressLogger.MAX_SYMBOL_COUNT; index++) {
+			manySymbols.add(new Symbol(index, null, 'A' + index));
+		}
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.logPermutation(manySymbols, new int[16], false));
+	}
+
+	/**
+	 * Diese Methode prüft die Behandlung von Ausnahmen beim Schreiben.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testExceptionTranslation() throws IOException {
+		OutputStream failingOut = mock(OutputStream.class);
+
+		doThrow(new IOException("test")).when(failingOut).write(any(byte[].class));
+		doThrow(new IOException("test")).when(failingOut).write(anyInt());
+
+		assertThrows(
+				UncheckedIOException.class,
+				() -> new BinaryTraceSolverProgressLogger(failingOut));
+	}
+}
@@ -0,0 +1,168 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link CancellableSpliterator} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CancellableSpliteratorTest {
+
+	/**
+	 * Dieses Feld soll das Abbruchkennzeichen enthalten.
+	 */
+	private AtomicBoolean cancelled;
+
+	/**
+	 * Dieses Feld soll die Anzahl der Abfragen des Abbruchkennzeichens enthalten.
+	 */
+	private AtomicInteger checkCount;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private CancellableSpliterator<Integer> objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		List<Integer> elements = IntStream.range(0, CancellableSpliterator.CHECK_INTERVAL * 2)
+				.boxed()
+				.collect(Collectors.toList());
+
+		this.cancelled = new AtomicBoolean();
+		this.checkCount = new AtomicInteger();
+
+		this.objectUnderTest = new CancellableSpliterator<>(
+				elements.spliterator(),
+				() -> {
+					this.checkCount.incrementAndGet();
+					return this.cancelled.get();
+				});
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#tryAdvance(java.util.function.Consumer)}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass das Abbruchkennzeichen beim ersten Element und
+	 *     danach nur jedes {@link CancellableSpliterator#CHECK_INTERVAL}-te Mal abgefragt wird.
+	 * </p>
+	 */
+	@Test
+	public void testTryAdvance() {
+		AtomicInteger elementCount = new AtomicInteger();
+
+		this.objectUnderTest.forEachRemaining(element -> elementCount.incrementAndGet());
+
+		assertEquals(CancellableSpliterator.CHECK_INTERVAL * 2, elementCount.get());
+		assertEquals(3, this.checkCount.get());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#tryAdvance(java.util.function.Consumer)},
+	 * wenn die Traversierung abgebrochen wird.
+	 */
+	@Test
+	public void testTryAdvanceCancelled() {
+		AtomicInteger elementCount = new AtomicInteger();
+
+		this.objectUnderTest.tryAdvance(element -> this.cancelled.set(true));
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.forEachRemaining(
+						element -> elementCount.incrementAndGet()));
+		assertEquals(CancellableSpliterator.CHECK_INTERVAL - 1, elementCount.get());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#tryAdvance(java.util.function.Consumer)},
+	 * wenn die Traversierung vor dem ersten Element abgebrochen wurde.
+	 */
+	@Test
+	public void testTryAdvanceCancelledBeforeStart() {
+		this.cancelled.set(true);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.tryAdvance(element -> { }));
+	}
+
+	/**
+	 * Diese Methode prüft, dass ein abgeteilter Spliterator bei einem Abbruch das gemeinsame
+	 * Stoppkennzeichen setzt.
+	 */
+	@Test
+	public void testTryAdvanceCancelledSetsStopFlag() {
+		AtomicBoolean stopFlag = new AtomicBoolean();
+		Spliterator<Integer> split;
+
+		this.objectUnderTest = new CancellableSpliterator<>(
+				List.of(1, 2, 3, 4).spliterator(),
+				this.cancelled::get,
+				stopFlag);
+		split = this.objectUnderTest.trySplit();
+		this.cancelled.set(true);
+
+		assertThrows(CancellationException.class, () -> split.tryAdvance(element -> { }));
+		assertTrue(stopFlag.get());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#trySplit()}.
+	 */
+	@Test
+	public void testTrySplit() {
+		Spliterator<Integer> result;
+
+		result = this.objectUnderTest.trySplit();
+
+		assertTrue(result instanceof CancellableSpliterator);
+		assertEquals(CancellableSpliterator.CHECK_INTERVAL, result.estimateSize());
+		assertEquals(CancellableSpliterator.CHECK_INTERVAL, this.objectUnderTest.estimateSize());
+		this.cancelled.set(true);
+		assertThrows(CancellationException.class, () -> result.tryAdvance(element -> { }));
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#trySplit()}, wenn der umhüllte
+	 * Spliterator nicht geteilt werden kann.
+	 */
+	@Test
+	public void testTrySplitNotPossible() {
+		this.objectUnderTest = new CancellableSpliterator<>(
+				List.of(1).spliterator(),
+				this.cancelled::get);
+
+		assertNull(this.objectUnderTest.trySplit());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CancellableSpliterator#characteristics()}.
+	 */
+	@Test
+	public void testCharacteristics() {
+		assertEquals(
+				List.of(1).spliterator().characteristics(),
+				this.objectUnderTest.characteristics());
+	}
+}
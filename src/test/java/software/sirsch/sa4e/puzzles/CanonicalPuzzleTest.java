@@ -0,0 +1,119 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Diese Klasse stellt Tests für {@link CanonicalPuzzle} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CanonicalPuzzleTest {
+
+	/**
+	 * Diese Methode prüft {@link CanonicalPuzzle#equals(Object)} und
+	 * {@link CanonicalPuzzle#hashCode()} für Rätsel, die sich nur in ihren Symbolen
+	 * unterscheiden.
+	 */
+	@Test
+	public void testEqualsSameStructure() {
+		CanonicalPuzzle first = new CanonicalPuzzle(createPuzzle(false, 1, 2, 3));
+		CanonicalPuzzle second = new CanonicalPuzzle(createPuzzle(true, 10, 20, 30));
+
+		assertEquals(first, second);
+		assertEquals(first.hashCode(), second.hashCode());
+		assertEquals(first.toString(), second.toString());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CanonicalPuzzle#equals(Object)} für Rätsel mit
+	 * unterschiedlicher Struktur.
+	 */
+	@Test
+	public void testEqualsDifferentStructure() {
+		CanonicalPuzzle first = new CanonicalPuzzle(new PuzzleGenerator().generate(1, 1, 1, 1));
+		CanonicalPuzzle second = new CanonicalPuzzle(new PuzzleGenerator().generate(1, 2, 3, 4));
+
+		assertNotEquals(first, second);
+		assertNotEquals(first, null);
+	}
+
+	/**
+	 * Diese Methode prüft {@link CanonicalPuzzle#toCanonicalDigits(Solution)} und
+	 * {@link CanonicalPuzzle#createSolution(int[])}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die Lösung über die Struktur auf die Symbole
+	 *     eines Rätsels mit anderen Ids und anderer Reihenfolge der Symbole übertragen wird.
+	 * </p>
+	 */
+	@Test
+	public void testRemapSolution() {
+		Puzzle first = createPuzzle(false, 1, 2, 3);
+		Puzzle second = createPuzzle(true, 10, 20, 30);
+		int[] canonicalDigits;
+		Solution result;
+
+		canonicalDigits = new CanonicalPuzzle(first)
+				.toCanonicalDigits(new Solution(Map.of(1, 1, 2, 2, 3, 4)));
+		result = new CanonicalPuzzle(second).createSolution(canonicalDigits);
+
+		assertArrayEquals(new int[] {1, 2, 4}, canonicalDigits);
+		assertEquals(new Solution(Map.of(10, 1, 20, 2, 30, 4)), result);
+		assertEquals(List.of(30, 20, 10), List.copyOf(result.getSymbolIdToDigit().keySet()));
+	}
+
+	/**
+	 * Diese Methode erzeugt ein Rätsel mit der Struktur von {@code 1 + 1 = 2} in allen Zeilen
+	 * und Spalten außer der letzten, in der {@code 2 + 2 = 4} gilt.
+	 *
+	 * @param reverseSymbolOrder ob die Symbole in umgekehrter Reihenfolge angelegt werden
+	 * @param oneId die Id des Symbols für die Ziffer 1
+	 * @param twoId die Id des Symbols für die Ziffer 2
+	 * @param fourId die Id des Symbols für die Ziffer 4
+	 * @return das erzeugte Rätsel
+	 */
+	@Nonnull
+	private static Puzzle createPuzzle(
+			final boolean reverseSymbolOrder,
+			final int oneId,
+			final int twoId,
+			final int fourId) {
+
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol one;
+		Symbol two;
+		Symbol four;
+
+		if (reverseSymbolOrder) {
+			four = puzzleBuilder.findOrCreateSymbol(fourId, null, 0);
+			two = puzzleBuilder.findOrCreateSymbol(twoId, null, 0);
+			one = puzzleBuilder.findOrCreateSymbol(oneId, null, 0);
+		} else {
+			one = puzzleBuilder.findOrCreateSymbol(oneId, null, 0);
+			two = puzzleBuilder.findOrCreateSymbol(twoId, null, 0);
+			four = puzzleBuilder.findOrCreateSymbol(fourId, null, 0);
+		}
+
+		puzzleBuilder.withCell(new Cell(0, 0, singletonList(one)));
+		puzzleBuilder.withCell(new Cell(0, 1, singletonList(one)));
+		puzzleBuilder.withCell(new Cell(0, 2, singletonList(two)));
+		puzzleBuilder.withCell(new Cell(1, 0, singletonList(one)));
+		puzzleBuilder.withCell(new Cell(1, 1, singletonList(one)));
+		puzzleBuilder.withCell(new Cell(1, 2, singletonList(two)));
+		puzzleBuilder.withCell(new Cell(2, 0, singletonList(two)));
+		puzzleBuilder.withCell(new Cell(2, 1, singletonList(two)));
+		puzzleBuilder.withCell(new Cell(2, 2, singletonList(four)));
+		return puzzleBuilder.build();
+	}
+}
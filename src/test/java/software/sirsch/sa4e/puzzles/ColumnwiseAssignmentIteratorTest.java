@@ -0,0 +1,108 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link ColumnwiseAssignmentIterator} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ColumnwiseAssignmentIteratorTest {
+
+	/**
+	 * Diese Methode prüft, dass alle Lösungen eines Rätsels mit mehreren Lösungen geliefert werden.
+	 */
+	@Test
+	public void testMultipleSolutions() {
+		ColumnwiseAssignmentIterator objectUnderTest = new ColumnwiseAssignmentIterator(
+				new PuzzleGenerator().generate(1, 1, 1, 1));
+		List<int[]> result = new ArrayList<>();
+
+		objectUnderTest.forEachRemaining(values -> result.add(values.clone()));
+
+		assertEquals(2, result.size());
+		assertArrayEquals(new int[] {1, 2, 4}, result.get(0));
+		assertArrayEquals(new int[] {2, 4, 8}, result.get(1));
+		assertFalse(objectUnderTest.hasNext());
+		assertThrows(NoSuchElementException.class, objectUnderTest::next);
+	}
+
+	/**
+	 * Diese Methode prüft, dass bei mehrstelligen Zahlen mit Überträgen die eindeutige Lösung
+	 * geliefert wird.
+	 */
+	@Test
+	public void testSolutionWithCarry() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		ColumnwiseAssignmentIterator objectUnderTest = new ColumnwiseAssignmentIterator(puzzle);
+		int[] result;
+
+		assertTrue(objectUnderTest.hasNext());
+		assertTrue(objectUnderTest.hasNext());
+		result = objectUnderTest.next();
+
+		assertArrayEquals(new int[] {2, 1, 4, 3, 6, 8, 7, 5, 0, 9}, result);
+		assertTrue(new CompiledPuzzle(puzzle).isSolution(result));
+		assertFalse(objectUnderTest.hasNext());
+	}
+
+	/**
+	 * Diese Methode prüft, dass bei einem Rätsel ohne Lösung keine Belegung geliefert wird.
+	 */
+	@Test
+	public void testNoSolution() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
+		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
+		ColumnwiseAssignmentIterator objectUnderTest;
+
+		puzzleBuilder.withCell(new Cell(0, 0, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 1, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 2, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(1, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 2, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 2, singletonList(symbol1)));
+		objectUnderTest = new ColumnwiseAssignmentIterator(puzzleBuilder.build());
+
+		assertFalse(objectUnderTest.hasNext());
+	}
+
+	/**
+	 * Diese Methode prüft, dass Symbole, die in keiner Zelle vorkommen, ebenfalls mit
+	 * unterschiedlichen Ziffern belegt werden.
+	 */
+	@Test
+	public void testUnusedSymbol() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol unused = puzzleBuilder.findOrCreateSymbol(0, null, 0);
+		Symbol symbol = puzzleBuilder.findOrCreateSymbol(1, null, 0);
+		ColumnwiseAssignmentIterator objectUnderTest;
+
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 3; column++) {
+				puzzleBuilder.withCell(new Cell(row, column, singletonList(symbol)));
+			}
+		}
+
+		objectUnderTest = new ColumnwiseAssignmentIterator(puzzleBuilder.build());
+
+		assertArrayEquals(new int[] {1, 0}, objectUnderTest.next());
+		assertArrayEquals(new int[] {2, 0}, objectUnderTest.next());
+		assertFalse(unused.isValueBound());
+	}
+}
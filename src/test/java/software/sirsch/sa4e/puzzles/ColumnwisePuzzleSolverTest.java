@@ -0,0 +1,210 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Diese Klasse stellt Tests für {@link ColumnwisePuzzleSolver} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ColumnwisePuzzleSolverTest {
+
+	/**
+	 * Dieses Feld soll den {@link SolverProgressLoggerMock} enthalten.
+	 */
+	private SolverProgressLoggerMock solverProgressLoggerMock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private ColumnwisePuzzleSolver objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.solverProgressLoggerMock = new SolverProgressLoggerMock();
+
+		this.objectUnderTest = new ColumnwisePuzzleSolver(0);
+
+		this.objectUnderTest.setSolverProgressLogger(this.solverProgressLoggerMock);
+	}
+
+	/**
+	 * Diese Methode prüft {@link ColumnwisePuzzleSolver#solvePuzzle(Puzzle)}, wenn das Puzzle
+	 * mindestens eine Lösung hat.
+	 */
+	@Test
+	public void testSolvePuzzleWithSolution() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(result.isPresent());
+		assertTrue(puzzle.isSolution(this.collectValues(puzzle, result.get())));
+		assertEquals(0, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(1, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft, dass {@link ColumnwisePuzzleSolver} die Suche im gesamten Suchraum
+	 * unter {@link SolverEngine#COLUMNWISE} und in einem Teilraum mit Präfix unter
+	 * {@link SolverEngine#BRUTE_FORCE} in den {@link SolverMetrics} erfasst.
+	 */
+	@Test
+	public void testSolvePuzzleWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		SolverMetrics solverMetrics = new SolverMetrics();
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+
+		this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertEquals(1, solverMetrics.getCandidateCount(SolverEngine.COLUMNWISE));
+		assertEquals(
+				PrefixRange.FULL.getCandidateCount(puzzle.getSymbols().size()),
+				solverMetrics.getSearchSpaceSize(SolverEngine.COLUMNWISE));
+		assertEquals(0, solverMetrics.getSearchSpaceSize(SolverEngine.BRUTE_FORCE));
+
+		this.objectUnderTest.solvePuzzle(puzzle, new PrefixRange(1, 0, 1), () -> false);
+
+		assertEquals(1, solverMetrics.getCandidateCount(SolverEngine.COLUMNWISE));
+		assertTrue(solverMetrics.getCandidateCount(SolverEngine.BRUTE_FORCE) > 0);
+		assertEquals(
+				new PrefixRange(1, 0, 1).getCandidateCount(puzzle.getSymbols().size()),
+				solverMetrics.getSearchSpaceSize(SolverEngine.BRUTE_FORCE));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ColumnwisePuzzleSolver#solvePuzzle(Puzzle)} mit einem Rätsel mit
+	 * mehrstelligen Ergebnissen und Überträgen.
+	 */
+	@Test
+	public void testSolvePuzzleWithCarry() {
+		Puzzle puzzle = new PuzzleGenerator().generate(987, 654, 321, 99);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(result.isPresent());
+		assertTrue(puzzle.isSolution(this.collectValues(puzzle, result.get())));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ColumnwisePuzzleSolver#solvePuzzle(Puzzle)}, wenn das Puzzle
+	 * keine Lösung hat.
+	 */
+	@Test
+	public void testSolvePuzzleWithoutSolution() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
+		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
+		Optional<Solution> result;
+
+		puzzleBuilder.withCell(new Cell(0, 0, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 1, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 2, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(1, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 2, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 2, singletonList(symbol1)));
+
+		result = this.objectUnderTest.solvePuzzle(puzzleBuilder.build());
+
+		assertEquals(Optional.empty(), result);
+		assertEquals(0, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(0, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode sammelt die Werte der Symbole aus einer Lösung auf.
+	 *
+	 * @param puzzle das gelöste Rätsel
+	 * @param solution die zu untersuchende Lösung
+	 * @return die Liste der Werte in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 */
+	@Nonnull
+	private List<Byte> collectValues(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final Solution solution) {
+
+
+		return puzzle.getSymbols().stream()
+				.map(symbol -> (byte) solution.getDigit(symbol.getId()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Für das Zählen der Aufrufe auf {@link SolverProgressLogger} wird ein programmierter Mock
+	 * benötigt, weil der Mockito-Mock eine schlechte Performance aufweist.
+	 */
+	private static class SolverProgressLoggerMock implements SolverProgressLogger {
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == true}.
+		 */
+		private int solutionCount = 0;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == false}.
+		 */
+		private int notSolutionCount = 0;
+
+		/**
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == true} zurück.
+		 *
+		 * @return die ermittelte Anzahl
+		 */
+		public int getSolutionCount() {
+			return this.solutionCount;
+		}
+
+		/**
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == false} zurück.
+		 *
+		 * @return die ermittelte Anzahl
+		 */
+		public int getNotSolutionCount() {
+			return this.notSolutionCount;
+		}
+
+		@Override
+		public void logPermutation(
+				@Nonnull final List<Symbol> symbols,
+				@Nonnull final int[] values,
+				final boolean isSolution) {
+
+			if (isSolution) {
+				this.solutionCount++;
+			} else {
+				this.notSolutionCount++;
+			}
+		}
+
+		@Override
+		public void log(@Nonnull final String message) {
+			fail("Invocation not expected!");
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link Common2ProtobufConverter} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class Common2ProtobufConverterTest {
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private Common2ProtobufConverter objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new Common2ProtobufConverter();
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link Common2ProtobufConverter#createSolvePuzzleRequest(CommonSolvePuzzleRequest)}.
+	 */
+	@Test
+	public void testCreateSolvePuzzleRequest() {
+		Puzzles.SolvePuzzleRequest result;
+
+		result = this.objectUnderTest.createSolvePuzzleRequest(createRequest(
+				List.of("AB", "AB", "BC"),
+				List.of("AB", "AB", "BC"),
+				List.of("BC", "BC", "CD")));
+
+		assertEquals(List.of((int) 'B', (int) 'A', (int) 'C', (int) 'D'), result.getSymbolsList()
+				.stream()
+				.map(Puzzles.Symbol::getId)
+				.collect(Collectors.toList()));
+		assertEquals("Character 'B'", result.getSymbols(0).getDescription());
+		assertEquals('B', result.getSymbols(0).getIconCodePoint());
+		assertEquals(9, result.getCellsCount());
+		assertEquals(1, result.getCells(5).getRow());
+		assertEquals(2, result.getCells(5).getColumn());
+		assertEquals(List.of((int) 'D', (int) 'C'), result.getCells(8).getNumberAsSymbolIdsList());
+	}
+
+	/**
+	 * Diese Methode prüft, ob das Ergebnis der Konvertierung über {@link Puzzle} entspricht.
+	 */
+	@Test
+	public void testCreateSolvePuzzleRequestMatchesPuzzleConversion() {
+		for (int index = 0; index < 20; index++) {
+			CommonSolvePuzzleRequest request =
+					new Puzzle2CommonConverter().createCommonSolvePuzzleRequest(
+							new PuzzleGenerator().generate(1 + index % 4));
+			Puzzles.SolvePuzzleRequest expected =
+					new Puzzle2ProtobufConverter().createSolvePuzzleRequest(
+							new Common2PuzzleConverter().createPuzzle(request));
+			Puzzles.SolvePuzzleRequest result =
+					this.objectUnderTest.createSolvePuzzleRequest(request);
+
+			assertEquals(expected.getSymbolsList(), result.getSymbolsList());
+			assertEquals(
+					new HashSet<>(expected.getCellsList()),
+					new HashSet<>(result.getCellsList()));
+		}
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung unvollständiger Rätsel.
+	 */
+	@Test
+	public void testCreateSolvePuzzleRequestMissingCell() {
+		CommonSolvePuzzleRequest request = createRequest(
+				List.of("A", "A", "B"),
+				List.of("A", "A"),
+				null);
+
+		assertEquals(
+				"Cell at row 1 column 2 has not been provided!",
+				assertThrows(
+						IllegalArgumentException.class,
+						() -> this.objectUnderTest.createSolvePuzzleRequest(request))
+						.getMessage());
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung zu vieler Spalten.
+	 */
+	@Test
+	public void testCreateSolvePuzzleRequestInvalidColumn() {
+		CommonSolvePuzzleRequest request = createRequest(
+				List.of("A", "A", "B", "C"),
+				List.of("A", "A", "B"),
+				List.of("A", "A", "B"));
+
+		assertEquals(
+				"Invalid column number!",
+				assertThrows(
+						IllegalArgumentException.class,
+						() -> this.objectUnderTest.createSolvePuzzleRequest(request))
+						.getMessage());
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung zu vieler Symbole.
+	 */
+	@Test
+	public void testCreateSolvePuzzleRequestTooManySymbols() {
+		CommonSolvePuzzleRequest request = createRequest(
+				List.of("ABCD", "EFGH", "IJKL"),
+				List.of("A", "A", "B"),
+				List.of("A", "A", "B"));
+
+		assertEquals(
+				"Max symbol count (10) exceeded!",
+				assertThrows(
+						IllegalArgumentException.class,
+						() -> this.objectUnderTest.createSolvePuzzleRequest(request))
+						.getMessage());
+	}
+
+	/**
+	 * Diese Methode erzeugt eine Anfrage.
+	 *
+	 * @param row1 die erste Zeile
+	 * @param row2 die zweite Zeile
+	 * @param row3 die dritte Zeile
+	 * @return die erzeugte Anfrage
+	 */
+	private static CommonSolvePuzzleRequest createRequest(
+			final List<String> row1,
+			final List<String> row2,
+			final List<String> row3) {
+
+		CommonSolvePuzzleRequest request = new CommonSolvePuzzleRequest();
+
+		request.setRow1(row1);
+		request.setRow2(row2);
+		request.setRow3(row3);
+		return request;
+	}
+}
@@ -0,0 +1,117 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link CommonJsonCodec} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CommonJsonCodecTest {
+
+	/**
+	 * Dieses Feld enthält eine Json einer Anfrage zum Testen.
+	 */
+	private static final String REQUEST_JSON = "{\"row1\":[\"abc\",\"cdf\",\"eff\"],"
+			+ "\"row2\":[\"ccc\",\"jjj\",\"abc\"],\"row3\":[\"aca\",\"jac\",\"cba\"],"
+			+ "\"server_id\":\"Steve Jobs\",\"raetsel_id\":42}";
+
+	/**
+	 * Dieses Feld enthält eine Json einer Lösung zum Testen.
+	 */
+	private static final String RESPONSE_JSON = "{\"row1\":[123,456,789],\"row2\":[444,333,222],"
+			+ "\"row3\":[23,211,763],\"time\":2.3444,\"server_id\":\"Elon Musk\",\"raetsel_id\":42}";
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private CommonJsonCodec objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new CommonJsonCodec();
+	}
+
+	/**
+	 * Diese Methode prüft das Lesen einer Anfrage.
+	 */
+	@Test
+	public void testReadRequest() {
+		CommonSolvePuzzleRequest result;
+
+		result = this.objectUnderTest.readRequest(REQUEST_JSON.getBytes(StandardCharsets.UTF_8));
+
+		assertEquals("Steve Jobs", result.getServerId());
+		assertEquals(42L, result.getRaetselId());
+		assertEquals(List.of("abc", "cdf", "eff"), result.getRow1());
+		assertEquals(List.of("ccc", "jjj", "abc"), result.getRow2());
+		assertEquals(List.of("aca", "jac", "cba"), result.getRow3());
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine Anfrage als kompaktes JSON geschrieben wird.
+	 */
+	@Test
+	public void testWriteRequest() {
+		byte[] result;
+
+		result = this.objectUnderTest.writeRequest(this.objectUnderTest.readRequest(
+				REQUEST_JSON.getBytes(StandardCharsets.UTF_8)));
+
+		assertEquals(REQUEST_JSON, new String(result, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine Lösung als kompaktes JSON geschrieben und wieder gelesen wird.
+	 */
+	@Test
+	public void testWriteReadResponse() {
+		CommonSolvePuzzleResponse response = new CommonSolvePuzzleResponse();
+		CommonSolvePuzzleResponse result;
+		byte[] json;
+
+		response.setServerId("Elon Musk");
+		response.setRaetselId(42L);
+		response.setRow1(List.of(123, 456, 789));
+		response.setRow2(List.of(444, 333, 222));
+		response.setRow3(List.of(23, 211, 763));
+		response.setTime(2.3444);
+
+		json = this.objectUnderTest.writeResponse(response);
+		result = this.objectUnderTest.readResponse(json);
+
+		assertEquals(RESPONSE_JSON, new String(json, StandardCharsets.UTF_8));
+		assertEquals("Elon Musk", result.getServerId());
+		assertEquals(42L, result.getRaetselId());
+		assertEquals(List.of(23, 211, 763), result.getRow3());
+		assertEquals(2.3444, result.getTime(), 0.0001);
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung ungültiger und leerer Nachrichten.
+	 */
+	@Test
+	public void testReadRequestInvalid() {
+		assertThrows(
+				UncheckedIOException.class,
+				() -> this.objectUnderTest.readRequest("{\"row1\":".getBytes(StandardCharsets.UTF_8)));
+		assertThrows(
+				UncheckedIOException.class,
+				() -> this.objectUnderTest.readRequest(new byte[0]));
+		assertThrows(
+				UncheckedIOException.class,
+				() -> this.objectUnderTest.readRequest("null".getBytes(StandardCharsets.UTF_8)));
+	}
+}
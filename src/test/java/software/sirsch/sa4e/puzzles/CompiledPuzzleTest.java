@@ -0,0 +1,143 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link CompiledPuzzle} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class CompiledPuzzleTest {
+
+	/**
+	 * Dieses Feld soll das zugrundeliegende Rätsel enthalten.
+	 */
+	private Puzzle puzzle;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private CompiledPuzzle objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+
+		this.objectUnderTest = new CompiledPuzzle(this.puzzle);
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#getSymbolCount()}.
+	 */
+	@Test
+	public void testGetSymbolCount() {
+		assertEquals(10, this.objectUnderTest.getSymbolCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#isSolution(int[])} mit einer Lösung.
+	 */
+	@Test
+	public void testIsSolution() {
+		assertTrue(this.objectUnderTest.isSolution(new int[] {2, 1, 4, 3, 6, 8, 7, 5, 0, 9}));
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#isSolution(int[])} mit einem Widerspruch.
+	 */
+	@Test
+	public void testIsSolutionWithContradiction() {
+		assertFalse(this.objectUnderTest.isSolution(new int[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}));
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#isSolution(int[])}, wenn nicht genügend Werte
+	 * übergeben werden.
+	 */
+	@Test
+	public void testIsSolutionWithTooFewValues() {
+		assertFalse(this.objectUnderTest.isSolution(new int[] {2, 1, 4}));
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#findContradiction(int[])}.
+	 *
+	 * <p>
+	 *     Im Rätsel {@code 1 + 1 = 2} und {@code 2 + 2 = 4} scheitert die Belegung mit 5 statt 4
+	 *     zuerst an der dritten Zeile.
+	 * </p>
+	 */
+	@Test
+	public void testFindContradiction() {
+		this.objectUnderTest = new CompiledPuzzle(new PuzzleGenerator().generate(1, 1, 1, 1));
+
+		assertEquals(
+				CompiledPuzzle.NO_CONTRADICTION,
+				this.objectUnderTest.findContradiction(new int[] {1, 2, 4}));
+		assertEquals(2, this.objectUnderTest.findContradiction(new int[] {1, 2, 5}));
+		assertEquals(0, this.objectUnderTest.findContradiction(new int[] {1, 3, 4}));
+	}
+
+	/**
+	 * Diese Methode prüft, dass die kompilierte Form mit {@link Puzzle#isSolution(List)}
+	 * übereinstimmt, auch wenn Zellen mehr als neun Stellen haben.
+	 */
+	@Test
+	public void testIsSolutionWithLongCells() {
+		Puzzle longPuzzle = new PuzzleGenerator().generate(1000000000, 1, 1, 1);
+		CompiledPuzzle longCompiledPuzzle = new CompiledPuzzle(longPuzzle);
+		DigitPermutationIterator candidates = new DigitPermutationIterator(
+				longCompiledPuzzle.getSymbolCount());
+		int solutionCount = 0;
+
+		while (candidates.hasNext()) {
+			int[] values = candidates.next();
+			boolean expected = longPuzzle.isSolution(Arrays.stream(values)
+					.mapToObj(value -> (byte) value)
+					.collect(Collectors.toList()));
+
+			assertEquals(expected, longCompiledPuzzle.isSolution(values));
+
+			if (expected) {
+				solutionCount++;
+			}
+		}
+
+		assertTrue(solutionCount > 0);
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#getSymbols()}.
+	 */
+	@Test
+	public void testGetSymbols() {
+		assertEquals(this.puzzle.getSymbols(), this.objectUnderTest.getSymbols());
+	}
+
+	/**
+	 * Diese Methode prüft {@link CompiledPuzzle#createSolution(int[])}.
+	 */
+	@Test
+	public void testCreateSolution() {
+		Solution result;
+
+		result = this.objectUnderTest.createSolution(new int[] {2, 1, 4, 3, 6, 8, 7, 5, 0, 9});
+
+		assertEquals(2, result.getDigit(1));
+		assertEquals(9, result.getDigit(10));
+		assertFalse(this.puzzle.getSymbols().get(0).isValueBound());
+	}
+}
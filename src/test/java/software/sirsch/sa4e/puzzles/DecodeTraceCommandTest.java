@@ -0,0 +1,126 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link DecodeTraceCommand} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class DecodeTraceCommandTest {
+
+	/**
+	 * Diese Konstante enthält den Zeilenumbruch.
+	 */
+	private static final String EOL = System.lineSeparator();
+
+	/**
+	 * Dieses Feld soll das temporäre Verzeichnis zum Testen enthalten.
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Dieses Feld soll die Ausgabe enthalten.
+	 */
+	private ByteArrayOutputStream out;
+
+	/**
+	 * Dieses Feld soll den Namen der Aufzeichnung enthalten.
+	 */
+	private String filename;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private DecodeTraceCommand objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@BeforeEach
+	public void setUp() throws IOException {
+		List<Symbol> symbols = List.of(new Symbol(0, null, 'A'), new Symbol(1, null, 'B'));
+		BinaryTraceSolverProgressLogger writer;
+
+		this.filename = this.tempDir.resolve("test.trace").toString();
+		writer = new BinaryTraceSolverProgressLogger(new FileOutputStream(this.filename));
+		writer.logPermutation(symbols, new int[] {1, 2}, false);
+		writer.logPermutation(symbols, new int[] {2, 1}, true);
+		writer.log("done");
+		writer.close();
+		this.out = new ByteArrayOutputStream();
+
+		this.objectUnderTest = new DecodeTraceCommand(
+				new PrintStream(this.out, true, StandardCharsets.UTF_8),
+				new BinaryTraceDecoder());
+	}
+
+	/**
+	 * Diese Methode prüft {@link DecodeTraceCommand#execute(String[])} im Modus
+	 * {@value DecodeTraceCommand#MODE_TEXT}.
+	 */
+	@Test
+	public void testExecuteText() {
+		this.objectUnderTest.execute(new String[] {"decode-trace", this.filename});
+
+		assertEquals(
+				"Permutation A:1 B:2 is not a solution." + EOL
+						+ "Permutation A:2 B:1 is a solution." + EOL
+						+ "done" + EOL,
+				this.out.toString(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft {@link DecodeTraceCommand#execute(String[])} im Modus
+	 * {@value DecodeTraceCommand#MODE_SUMMARY}.
+	 */
+	@Test
+	public void testExecuteSummary() {
+		this.objectUnderTest.execute(new String[] {"decode-trace", this.filename, "summary"});
+
+		assertEquals(
+				"Permutation A:2 B:1 is a solution." + EOL
+						+ "Symbol tables: 1" + EOL
+						+ "Permutations: 2" + EOL
+						+ "Solutions: 1" + EOL
+						+ "Messages: 1" + EOL,
+				this.out.toString(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft {@link DecodeTraceCommand#execute(String[])} mit ungültigen
+	 * Argumenten.
+	 */
+	@Test
+	public void testExecuteInvalidArguments() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.execute(new String[] {"decode-trace"}));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.execute(
+						new String[] {"decode-trace", this.filename, "unknown"}));
+		assertThrows(
+				UncheckedIOException.class,
+				() -> this.objectUnderTest.execute(
+						new String[] {"decode-trace", this.filename + ".missing"}));
+	}
+}
@@ -0,0 +1,146 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link DigitPermutationIterator} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class DigitPermutationIteratorTest {
+
+	/**
+	 * Diese Methode prüft die Reihenfolge der gelieferten Belegungen.
+	 */
+	@Test
+	public void testNext() {
+		DigitPermutationIterator objectUnderTest = new DigitPermutationIterator(2);
+
+		assertArrayEquals(new int[] {0, 1}, objectUnderTest.next());
+		assertArrayEquals(new int[] {0, 2}, objectUnderTest.next());
+
+		for (int i = 0; i < 7; i++) {
+			objectUnderTest.next();
+		}
+
+		assertArrayEquals(new int[] {1, 0}, objectUnderTest.next());
+		assertArrayEquals(new int[] {1, 2}, objectUnderTest.next());
+	}
+
+	/**
+	 * Diese Methode prüft, dass jede Belegung genau einmal geliefert wird.
+	 */
+	@Test
+	public void testCount() {
+		DigitPermutationIterator objectUnderTest = new DigitPermutationIterator(6);
+		Set<List<Integer>> seen = new HashSet<>();
+		int count = 0;
+
+		while (objectUnderTest.hasNext()) {
+			List<Integer> permutation = Arrays.stream(objectUnderTest.next())
+					.boxed()
+					.collect(Collectors.toList());
+
+			assertEquals(6, new HashSet<>(permutation).size());
+			seen.add(permutation);
+			count++;
+		}
+
+		assertEquals(151200, count);
+		assertEquals(151200, seen.size());
+		assertThrows(NoSuchElementException.class, objectUnderTest::next);
+	}
+
+	/**
+	 * Diese Methode prüft die Randfälle ohne Stellen und mit zehn Stellen.
+	 */
+	@Test
+	public void testBoundaries() {
+		DigitPermutationIterator empty = new DigitPermutationIterator(0);
+		DigitPermutationIterator full = new DigitPermutationIterator(10);
+		int count = 0;
+
+		assertTrue(empty.hasNext());
+		assertArrayEquals(new int[0], empty.next());
+		assertFalse(empty.hasNext());
+
+		while (full.hasNext()) {
+			full.next();
+			count++;
+		}
+
+		assertEquals(3628800, count);
+	}
+
+	/**
+	 * Diese Methode prüft, dass mehr als zehn Stellen keine Belegung ergeben.
+	 */
+	@Test
+	public void testTooManyPositions() {
+		assertFalse(new DigitPermutationIterator(11).hasNext());
+		assertThrows(IllegalArgumentException.class, () -> new DigitPermutationIterator(-1));
+	}
+
+	/**
+	 * Diese Methode prüft die Beschränkung auf einen Bereich von Präfixen.
+	 */
+	@Test
+	public void testPrefixRange() {
+		List<List<Integer>> result = collect(
+				new DigitPermutationIterator(3, new PrefixRange(2, 9, 11)));
+
+		assertEquals(16, result.size());
+		assertEquals(List.of(1, 0, 2), result.get(0));
+		assertEquals(List.of(1, 0, 9), result.get(7));
+		assertEquals(List.of(1, 2, 0), result.get(8));
+		assertEquals(List.of(1, 2, 9), result.get(15));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new DigitPermutationIterator(1, new PrefixRange(2, 0, 1)));
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Bereiche einer Aufteilung zusammen genau die Belegungen des
+	 * gesamten Suchraums in derselben Reihenfolge liefern.
+	 */
+	@Test
+	public void testPrefixRangesCoverSearchSpace() {
+		List<List<Integer>> result = new ArrayList<>();
+
+		for (PrefixRange range : PrefixRange.split(4, 7)) {
+			result.addAll(collect(new DigitPermutationIterator(4, range)));
+		}
+
+		assertEquals(collect(new DigitPermutationIterator(4)), result);
+	}
+
+	/**
+	 * Diese Methode sammelt die Belegungen eines Iterators.
+	 *
+	 * @param iterator der zu durchlaufende Iterator
+	 * @return die Belegungen als Listen
+	 */
+	private static List<List<Integer>> collect(final DigitPermutationIterator iterator) {
+		List<List<Integer>> result = new ArrayList<>();
+
+		iterator.forEachRemaining(values -> result.add(Arrays.stream(values)
+				.boxed()
+				.collect(Collectors.toList())));
+		return result;
+	}
+}
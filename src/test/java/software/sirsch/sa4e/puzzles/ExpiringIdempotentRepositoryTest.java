@@ -0,0 +1,192 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link ExpiringIdempotentRepository} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ExpiringIdempotentRepositoryTest {
+
+	/**
+	 * Dieses Feld soll das temporäre Verzeichnis enthalten.
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Dieses Feld soll die Uhr in Millisekunden enthalten.
+	 */
+	private AtomicLong clock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private ExpiringIdempotentRepository objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.clock = new AtomicLong(1000);
+		this.objectUnderTest = new ExpiringIdempotentRepository(3, 100, null, this.clock::get);
+	}
+
+	/**
+	 * Diese Methode prüft {@link ExpiringIdempotentRepository#add(String)} und
+	 * {@link ExpiringIdempotentRepository#contains(String)}.
+	 */
+	@Test
+	public void testAddAndContains() {
+		assertTrue(this.objectUnderTest.add("a"));
+		assertFalse(this.objectUnderTest.add("a"));
+		assertTrue(this.objectUnderTest.contains("a"));
+		assertFalse(this.objectUnderTest.contains("b"));
+		assertTrue(this.objectUnderTest.confirm("a"));
+	}
+
+	/**
+	 * Diese Methode prüft, dass Einträge nach ihrer Gültigkeit verfallen.
+	 */
+	@Test
+	public void testExpiry() {
+		this.objectUnderTest.add("a");
+		this.clock.addAndGet(50);
+		this.objectUnderTest.add("b");
+		this.clock.addAndGet(50);
+
+		assertFalse(this.objectUnderTest.contains("a"));
+		assertTrue(this.objectUnderTest.contains("b"));
+		assertTrue(this.objectUnderTest.add("a"));
+	}
+
+	/**
+	 * Diese Methode prüft, dass bei erreichter Kapazität der älteste Eintrag verdrängt wird.
+	 */
+	@Test
+	public void testCapacity() {
+		this.objectUnderTest.add("a");
+		this.objectUnderTest.add("b");
+		this.objectUnderTest.add("c");
+		this.objectUnderTest.add("d");
+
+		assertFalse(this.objectUnderTest.contains("a"));
+		assertTrue(this.objectUnderTest.contains("b"));
+		assertTrue(this.objectUnderTest.contains("d"));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ExpiringIdempotentRepository#remove(String)} und
+	 * {@link ExpiringIdempotentRepository#clear()}.
+	 */
+	@Test
+	public void testRemoveAndClear() {
+		this.objectUnderTest.add("a");
+		this.objectUnderTest.add("b");
+
+		assertTrue(this.objectUnderTest.remove("a"));
+		assertFalse(this.objectUnderTest.remove("a"));
+		assertFalse(this.objectUnderTest.contains("a"));
+
+		this.objectUnderTest.clear();
+
+		assertFalse(this.objectUnderTest.contains("b"));
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Einträge mit einer Datei einen Neustart überdauern.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testFile() throws IOException {
+		Path file = this.tempDir.resolve("dedup.txt");
+
+		this.objectUnderTest = new ExpiringIdempotentRepository(3, 100, file, this.clock::get);
+		this.objectUnderTest.start();
+		this.objectUnderTest.add("a");
+		this.clock.addAndGet(60);
+		this.objectUnderTest.add("b");
+		this.objectUnderTest.add("c");
+		this.objectUnderTest.remove("c");
+		this.objectUnderTest.add("d");
+		this.objectUnderTest.stop();
+
+		assertEquals(
+				List.of("1000\ta", "1060\tb", "1060\td"),
+				Files.readAllLines(file, StandardCharsets.UTF_8));
+
+		this.clock.addAndGet(50);
+		Files.writeString(
+				file,
+				"broken\n1060\n",
+				StandardCharsets.UTF_8,
+				StandardOpenOption.APPEND);
+		this.objectUnderTest = new ExpiringIdempotentRepository(3, 100, file, this.clock::get);
+		this.objectUnderTest.start();
+
+		assertFalse(this.objectUnderTest.contains("a"));
+		assertTrue(this.objectUnderTest.contains("b"));
+		assertFalse(this.objectUnderTest.add("d"));
+		assertEquals(
+				List.of("1060\tb", "1060\td"),
+				Files.readAllLines(file, StandardCharsets.UTF_8));
+
+		this.objectUnderTest.stop();
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Datei neu geschrieben wird, sobald sie doppelt so viele
+	 * Zeilen wie die Kapazität enthält.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testFileCompaction() throws IOException {
+		Path file = this.tempDir.resolve("dedup.txt");
+
+		this.objectUnderTest = new ExpiringIdempotentRepository(2, 100, file, this.clock::get);
+		this.objectUnderTest.start();
+
+		for (String key : List.of("a", "b", "c", "d", "e")) {
+			this.objectUnderTest.add(key);
+		}
+
+		this.objectUnderTest.stop();
+
+		assertEquals(
+				List.of("1000\td", "1000\te"),
+				Files.readAllLines(file, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor mit ungültigen Argumenten.
+	 */
+	@Test
+	public void testConstructorInvalid() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new ExpiringIdempotentRepository(0, 100, null));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new ExpiringIdempotentRepository(1, 0, null));
+	}
+}
@@ -0,0 +1,85 @@
+package software.sirsch.sa4e.puzzles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Diese Klasse stellt Tests für {@link LatencyHistogram} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private LatencyHistogram objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new LatencyHistogram();
+	}
+
+	/**
+	 * Diese Methode prüft {@link LatencyHistogram#record(long)} und
+	 * {@link LatencyHistogram#getCumulativeCount(int)}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass ein Wert genau auf der Obergrenze in die Klasse
+	 *     mit dieser Obergrenze fällt.
+	 * </p>
+	 */
+	@Test
+	public void testRecord() {
+		this.objectUnderTest.record(-5);
+		this.objectUnderTest.record(1024);
+		this.objectUnderTest.record(1025);
+		this.objectUnderTest.record(4096);
+		this.objectUnderTest.record(1L << 50);
+
+		assertEquals(2, this.objectUnderTest.getCumulativeCount(0));
+		assertEquals(3, this.objectUnderTest.getCumulativeCount(1));
+		assertEquals(4, this.objectUnderTest.getCumulativeCount(2));
+		assertEquals(
+				4,
+				this.objectUnderTest.getCumulativeCount(LatencyHistogram.BUCKET_COUNT - 1));
+		assertEquals(5, this.objectUnderTest.getCount());
+		assertEquals(1024 + 1025 + 4096 + (1L << 50), this.objectUnderTest.getTotalNanos());
+	}
+
+	/**
+	 * Diese Methode prüft {@link LatencyHistogram#getUpperBoundNanos(int)}.
+	 */
+	@Test
+	public void testGetUpperBoundNanos() {
+		assertEquals(1024, LatencyHistogram.getUpperBoundNanos(0));
+		assertEquals(2048, LatencyHistogram.getUpperBoundNanos(1));
+		assertEquals(1L << 41, LatencyHistogram.getUpperBoundNanos(31));
+	}
+
+	/**
+	 * Diese Methode prüft {@link LatencyHistogram#getValueAtPercentile(double)}.
+	 */
+	@Test
+	public void testGetValueAtPercentile() {
+		assertEquals(0, this.objectUnderTest.getValueAtPercentile(50));
+
+		for (int index = 0; index < 9; index++) {
+			this.objectUnderTest.record(1000);
+		}
+
+		this.objectUnderTest.record(1_000_000);
+
+		assertEquals(1024, this.objectUnderTest.getValueAtPercentile(0));
+		assertEquals(1024, this.objectUnderTest.getValueAtPercentile(90));
+		assertEquals(1L << 20, this.objectUnderTest.getValueAtPercentile(99));
+		this.objectUnderTest.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, this.objectUnderTest.getValueAtPercentile(100));
+	}
+}
@@ -0,0 +1,29 @@
+package software.sirsch.sa4e.puzzles;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link LoadBalancingStrategy} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class LoadBalancingStrategyTest {
+
+	/**
+	 * Diese Methode prüft {@link LoadBalancingStrategy#fromName(String)}.
+	 */
+	@Test
+	public void testFromName() {
+		assertEquals(LoadBalancingStrategy.ROUND_ROBIN, LoadBalancingStrategy.fromName("round-robin"));
+		assertEquals(
+				LoadBalancingStrategy.LEAST_OUTSTANDING,
+				LoadBalancingStrategy.fromName(" Least_Outstanding "));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> LoadBalancingStrategy.fromName("random"));
+	}
+}
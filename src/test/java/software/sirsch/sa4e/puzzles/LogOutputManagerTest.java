@@ -27,6 +27,7 @@ import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -76,6 +77,12 @@ public class LogOutputManagerTest {
 	 */
 	private Function<Runnable, Thread> threadFactory;
 
+	/**
+	 * Dieses Feld soll den Mock für den {@link Consumer} zum Hinzufügen von Shutdown-Hooks
+	 * enthalten.
+	 */
+	private Consumer<Thread> shutdownHookAdder;
+
 	/**
 	 * Dieses Feld soll das zu testende Objekt enthalten.
 	 */
@@ -93,6 +100,7 @@ public class LogOutputManagerTest {
 		this.solverProgressLoggerFactory = mock(SolverProgressLoggerFactory.class);
 		this.updateActionFactory = mock(Function.class);
 		this.backgroundThread = mock(Thread.class);
+		this.shutdownHookAdder = mock(Consumer.class);
 		when(this.threadFactory.apply(notNull())).thenReturn(this.backgroundThread);
 
 		this.objectUnderTest = new LogOutputManager(
@@ -101,12 +109,13 @@ public class LogOutputManagerTest {
 				this.consoleWriter,
 				this.solverProgressLoggerFactory,
 				this.updateActionFactory,
-				this.threadFactory);
+				this.threadFactory,
+				this.shutdownHookAdder);
 	}
 
 	/**
 	 * Diese Methode prüft {@link LogOutputManager#LogOutputManager(PuzzleSolverFactory,
-	 * BufferedReader, PrintWriter, SolverProgressLoggerFactory, Function, Function)}.
+	 * BufferedReader, PrintWriter, SolverProgressLoggerFactory, Function, Function, Consumer)}.
 	 *
 	 * @throws IOException wird in diesem Testfall nicht erwartet
 	 */
@@ -122,6 +131,7 @@ public class LogOutputManagerTest {
 		assertNotNull(runnableArgumentCaptor.getValue());
 		verifyNoInteractions(this.consoleReader);
 		verifyNoInteractions(this.consoleWriter);
+		verifyNoInteractions(this.shutdownHookAdder);
 		runnableArgumentCaptor.getValue().run();
 		verify(this.consoleWriter).println(argThatStartsWith("Select log output"));
 	}
@@ -141,9 +151,76 @@ public class LogOutputManagerTest {
 	 */
 	@Test
 	public void testInit() {
+		Thread shutdownHook = mock(Thread.class);
+		ArgumentCaptor<Runnable> runnableArgumentCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+		when(this.threadFactory.apply(notNull())).thenReturn(shutdownHook);
+
 		this.objectUnderTest.init();
 
+		verify(this.threadFactory, times(2)).apply(runnableArgumentCaptor.capture());
+		verify(this.shutdownHookAdder).accept(shutdownHook);
 		verify(this.backgroundThread).start();
+		assertDoesNotThrow(runnableArgumentCaptor.getValue()::run);
+	}
+
+	/**
+	 * Diese Methode prüft, dass {@link LogOutputManager#showPromptRepeatedly()} die ersetzte
+	 * Ausgabe schließt, nachdem die neue Ausgabe gesetzt wurde.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyClosesReplacedOutput() throws IOException {
+		SolverProgressLogger stdoutLogger = mock(SolverProgressLogger.class);
+		SolverProgressLogger fileLogger = mock(SolverProgressLogger.class);
+		Consumer<PuzzleSolver> stdoutUpdateAction = mock(Consumer.class);
+		Consumer<PuzzleSolver> fileUpdateAction = mock(Consumer.class);
+		Consumer<PuzzleSolver> noneUpdateAction = mock(Consumer.class);
+		InOrder orderVerifier = inOrder(this.puzzleSolverFactory, stdoutLogger, fileLogger);
+
+		when(this.consoleReader.readLine())
+				.thenReturn("stdout", "file=test.file", "none", null);
+		when(this.solverProgressLoggerFactory.createStdoutLogger()).thenReturn(stdoutLogger);
+		when(this.solverProgressLoggerFactory.createFileLogger("test.file"))
+				.thenReturn(fileLogger);
+		when(this.updateActionFactory.apply(stdoutLogger)).thenReturn(stdoutUpdateAction);
+		when(this.updateActionFactory.apply(fileLogger)).thenReturn(fileUpdateAction);
+		when(this.updateActionFactory.apply(null)).thenReturn(noneUpdateAction);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		orderVerifier.verify(this.puzzleSolverFactory).updateAction(stdoutUpdateAction);
+		orderVerifier.verify(this.puzzleSolverFactory).updateAction(fileUpdateAction);
+		orderVerifier.verify(stdoutLogger).close();
+		orderVerifier.verify(this.puzzleSolverFactory).updateAction(noneUpdateAction);
+		orderVerifier.verify(fileLogger).close();
+	}
+
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#close()}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die aktuelle Ausgabe nur einmal geschlossen wird.
+	 * </p>
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testClose() throws IOException {
+		SolverProgressLogger mqttLogger = mock(SolverProgressLogger.class);
+
+		when(this.consoleReader.readLine()).thenReturn("mqtt=tcp://test.uri:1883", (String) null);
+		when(this.solverProgressLoggerFactory.createMqttLogger(
+				"tcp://test.uri:1883",
+				OverflowPolicy.DROP_OLDEST))
+				.thenReturn(mqttLogger);
+		this.objectUnderTest.showPromptRepeatedly();
+
+		this.objectUnderTest.close();
+		this.objectUnderTest.close();
+
+		verify(mqttLogger).close();
 	}
 
 	/**
@@ -231,6 +308,27 @@ public class LogOutputManagerTest {
 		orderVerifier.verify(this.consoleReader).readLine();
 	}
 
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit binärer
+	 * Aufzeichnung.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyTrace() throws IOException {
+		SolverProgressLogger traceLogger = mock(SolverProgressLogger.class);
+		Consumer<PuzzleSolver> traceUpdateAction = mock(Consumer.class);
+
+		when(this.consoleReader.readLine()).thenReturn("trace=test.trace", (String) null);
+		when(this.solverProgressLoggerFactory.createTraceLogger("test.trace"))
+				.thenReturn(traceLogger);
+		when(this.updateActionFactory.apply(traceLogger)).thenReturn(traceUpdateAction);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		verify(this.puzzleSolverFactory).updateAction(traceUpdateAction);
+	}
+
 	/**
 	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit Ausgabe nach MQTT.
 	 *
@@ -246,7 +344,9 @@ public class LogOutputManagerTest {
 		Consumer<PuzzleSolver> mqttUpdateAction = mock(Consumer.class);
 
 		when(this.consoleReader.readLine()).thenReturn("mqtt=tcp://test.uri:1883", (String) null);
-		when(this.solverProgressLoggerFactory.createMqttLogger("tcp://test.uri:1883"))
+		when(this.solverProgressLoggerFactory.createMqttLogger(
+				"tcp://test.uri:1883",
+				OverflowPolicy.DROP_OLDEST))
 				.thenReturn(mqttLogger);
 		when(this.updateActionFactory.apply(mqttLogger)).thenReturn(mqttUpdateAction);
 
@@ -259,6 +359,47 @@ public class LogOutputManagerTest {
 		orderVerifier.verify(this.consoleReader).readLine();
 	}
 
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit Ausgabe nach MQTT
+	 * und angegebenem Verfahren für einen vollen Puffer.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyMqttOverflowPolicy() throws IOException {
+		SolverProgressLogger mqttLogger = mock(SolverProgressLogger.class);
+		Consumer<PuzzleSolver> mqttUpdateAction = mock(Consumer.class);
+
+		when(this.consoleReader.readLine())
+				.thenReturn("mqtt=tcp://test.uri:1883,drop-newest", (String) null);
+		when(this.solverProgressLoggerFactory.createMqttLogger(
+				"tcp://test.uri:1883",
+				OverflowPolicy.DROP_NEWEST))
+				.thenReturn(mqttLogger);
+		when(this.updateActionFactory.apply(mqttLogger)).thenReturn(mqttUpdateAction);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		verify(this.puzzleSolverFactory).updateAction(mqttUpdateAction);
+	}
+
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit Ausgabe nach MQTT
+	 * und ungültigem Verfahren für einen vollen Puffer.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyMqttInvalidOverflowPolicy() throws IOException {
+		when(this.consoleReader.readLine())
+				.thenReturn("mqtt=tcp://test.uri:1883,invalid", (String) null);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		verify(this.consoleWriter).println("Invalid overflow policy!");
+		verifyNoInteractions(this.solverProgressLoggerFactory);
+	}
+
 	/**
 	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit ungültiger Eingabe.
 	 *
@@ -289,6 +430,64 @@ public class LogOutputManagerTest {
 		orderVerifier.verify(this.consoleReader).readLine();
 	}
 
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit Ausgabe des
+	 * Fortschritts in Abständen.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyProgress() throws IOException {
+		InOrder orderVerifier = inOrder(
+				this.consoleReader,
+				this.consoleWriter,
+				this.puzzleSolverFactory);
+		SolverProgressLogger stdoutLogger = mock(SolverProgressLogger.class);
+		SolverProgressLogger sampledLogger = mock(SolverProgressLogger.class);
+		Consumer<PuzzleSolver> stdoutUpdateAction = mock(Consumer.class);
+		Consumer<PuzzleSolver> sampledUpdateAction = mock(Consumer.class);
+
+		when(this.consoleReader.readLine())
+				.thenReturn("progress=1000,500", "stdout", "progress=all", "stdout", null);
+		when(this.solverProgressLoggerFactory.createStdoutLogger()).thenReturn(stdoutLogger);
+		when(this.solverProgressLoggerFactory.createSampledLogger(stdoutLogger, 1000, 500))
+				.thenReturn(sampledLogger);
+		when(this.updateActionFactory.apply(sampledLogger)).thenReturn(sampledUpdateAction);
+		when(this.updateActionFactory.apply(stdoutLogger)).thenReturn(stdoutUpdateAction);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Select log output"));
+		orderVerifier.verify(this.consoleReader).readLine();
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Progress mode"));
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Select log output"));
+		orderVerifier.verify(this.consoleReader).readLine();
+		orderVerifier.verify(this.puzzleSolverFactory).updateAction(sampledUpdateAction);
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Select log output"));
+		orderVerifier.verify(this.consoleReader).readLine();
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Progress mode"));
+		orderVerifier.verify(this.consoleWriter).println(argThatStartsWith("Select log output"));
+		orderVerifier.verify(this.consoleReader).readLine();
+		orderVerifier.verify(this.puzzleSolverFactory).updateAction(stdoutUpdateAction);
+	}
+
+	/**
+	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} mit ungültiger Angabe
+	 * für die Ausgabe des Fortschritts.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testShowPromptRepeatedlyInvalidProgress() throws IOException {
+		when(this.consoleReader.readLine())
+				.thenReturn("progress=0,500", "progress=10", "progress=a,b", null);
+
+		this.objectUnderTest.showPromptRepeatedly();
+
+		verify(this.consoleWriter, times(3)).println("Invalid progress mode!");
+		verifyNoInteractions(this.puzzleSolverFactory);
+	}
+
 	/**
 	 * Diese Methode prüft {@link LogOutputManager#showPromptRepeatedly()} wenn eine
 	 * {@link IOException} auftritt.
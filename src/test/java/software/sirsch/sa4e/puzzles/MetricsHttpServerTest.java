@@ -0,0 +1,91 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Diese Klasse stellt Tests für {@link MetricsHttpServer} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class MetricsHttpServerTest {
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private MetricsHttpServer objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new MetricsHttpServer(0, () -> "puzzles_test 1\n");
+		this.objectUnderTest.start();
+	}
+
+	/**
+	 * Diese Methode räumt die Testumgebung nach jedem Testfall auf.
+	 */
+	@AfterEach
+	public void tearDown() {
+		this.objectUnderTest.stop();
+	}
+
+	/**
+	 * Diese Methode prüft das Abrufen der Kennzahlen.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testGet() throws IOException {
+		HttpURLConnection connection = this.openConnection();
+
+		assertEquals(200, connection.getResponseCode());
+		assertEquals(
+				"text/plain; version=0.0.4; charset=utf-8",
+				connection.getHeaderField("Content-Type"));
+
+		try (InputStream inputStream = connection.getInputStream()) {
+			assertEquals(
+					"puzzles_test 1\n",
+					new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	/**
+	 * Diese Methode prüft das Abrufen der Kennzahlen mit einer anderen Methode als GET.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testPost() throws IOException {
+		HttpURLConnection connection = this.openConnection();
+
+		connection.setRequestMethod("POST");
+
+		assertEquals(405, connection.getResponseCode());
+	}
+
+	/**
+	 * Diese Methode öffnet eine Verbindung zum Server.
+	 *
+	 * @return die geöffnete Verbindung
+	 * @throws IOException falls die Verbindung nicht geöffnet werden kann
+	 */
+	private HttpURLConnection openConnection() throws IOException {
+		return (HttpURLConnection) new URL(
+				"http://localhost:" + this.objectUnderTest.getPort() + MetricsHttpServer.PATH)
+				.openConnection();
+	}
+}
@@ -36,5 +36,6 @@ public class MqttSolverProgressLoggerIT {
 		this.objectUnderTest.log("Test 2");
 		Thread.sleep(5000);
 		this.objectUnderTest.log("Test 3");
+		this.objectUnderTest.close();
 	}
 }
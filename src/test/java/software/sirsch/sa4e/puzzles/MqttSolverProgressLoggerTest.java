@@ -1,10 +1,12 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.util.Arrays;
+import java.util.function.Function;
 
 import software.sirsch.sa4e.puzzles.MqttSolverProgressLogger.MqttClientFactory;
 
-import org.eclipse.paho.mqttv5.client.MqttClient;
+import org.eclipse.paho.mqttv5.client.IMqttToken;
+import org.eclipse.paho.mqttv5.client.MqttAsyncClient;
 import org.eclipse.paho.mqttv5.common.MqttException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,14 +15,22 @@ import org.mockito.InOrder;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -34,7 +44,17 @@ public class MqttSolverProgressLoggerTest {
 	/**
 	 * Dieses Feld soll den Mock für den Client enthalten.
 	 */
-	private MqttClient client;
+	private MqttAsyncClient client;
+
+	/**
+	 * Dieses Feld soll den Mock für die Tokens des Clients enthalten.
+	 */
+	private IMqttToken token;
+
+	/**
+	 * Dieses Feld soll den Mock für den Hintergrund-Thread enthalten.
+	 */
+	private Thread publisherThread;
 
 	/**
 	 * Dieses Feld soll das zu testende Objekt enthalten.
@@ -50,13 +70,25 @@ public class MqttSolverProgressLoggerTest {
 	public void setUp() throws MqttException {
 		MqttClientFactory clientFactory = mock(MqttClientFactory.class);
 
-		this.client = mock(MqttClient.class);
+		Function<Runnable, Thread> threadFactory = mock(Function.class);
+
+		this.client = mock(MqttAsyncClient.class);
+		this.token = mock(IMqttToken.class);
+		this.publisherThread = mock(Thread.class);
 		when(clientFactory.create(eq("tcp://test.uri:1883"), anyString()))
 				.thenReturn(this.client);
+		when(this.client.connect()).thenReturn(this.token);
+		when(this.client.publish(anyString(), any())).thenReturn(this.token);
+		when(this.client.disconnect()).thenReturn(this.token);
+		when(threadFactory.apply(notNull())).thenReturn(this.publisherThread);
 
 		this.objectUnderTest = new MqttSolverProgressLogger(
 				"tcp://test.uri:1883",
-				clientFactory);
+				4,
+				2,
+				OverflowPolicy.DROP_OLDEST,
+				clientFactory,
+				threadFactory);
 	}
 
 	/**
@@ -65,11 +97,13 @@ public class MqttSolverProgressLoggerTest {
 	@Test
 	public void testConstructor() {
 		assertDoesNotThrow(() -> new MqttSolverProgressLogger("tcp://dummy:1883"));
+		verify(this.publisherThread).start();
 	}
 
 	/**
 	 * Diese Methode prüft die Behandlung von Ausnahmen bei
-	 * {@link MqttSolverProgressLogger#MqttSolverProgressLogger(String, MqttClientFactory)}.
+	 * {@link MqttSolverProgressLogger#MqttSolverProgressLogger(String, int, int, OverflowPolicy,
+	 * MqttClientFactory, Function)}.
 	 *
 	 * @throws MqttException wird in diesem Testfall nicht erwartet
 	 */
@@ -83,70 +117,151 @@ public class MqttSolverProgressLoggerTest {
 
 		caughtException = assertThrows(
 				RuntimeException.class,
-				() -> new MqttSolverProgressLogger("tcp://test.uri:1883", clientFactory));
+				() -> new MqttSolverProgressLogger(
+						"tcp://test.uri:1883",
+						4,
+						2,
+						OverflowPolicy.DROP_OLDEST,
+						clientFactory,
+						Thread::new));
 
 		assertEquals(mqttException, caughtException.getCause());
 	}
 
 	/**
-	 * Diese Methode prüft {@link MqttSolverProgressLogger#log(String)}, wenn noch keine Verbindung
-	 * besteht.
+	 * Diese Methode prüft {@link MqttSolverProgressLogger#log(String)} und
+	 * {@link MqttSolverProgressLogger#publishNextBatch()}, wenn noch keine Verbindung besteht.
 	 *
-	 * @throws MqttException wird in diesem Testfall nicht erwartet
+	 * @throws Exception wird in diesem Testfall nicht erwartet
 	 */
 	@Test
-	public void testLogNotConnected() throws MqttException {
-		InOrder orderVerifier = inOrder(this.client);
+	public void testLogNotConnected() throws Exception {
+		InOrder orderVerifier = inOrder(this.client, this.token);
 
 		when(this.client.isConnected()).thenReturn(false);
 
 		this.objectUnderTest.log("testMessage");
 
+		verifyNoInteractions(this.client);
+		assertTrue(this.objectUnderTest.publishNextBatch());
+		orderVerifier.verify(this.client).isConnected();
 		orderVerifier.verify(this.client).connect();
+		orderVerifier.verify(this.token).waitForCompletion(anyLong());
 		orderVerifier.verify(this.client).publish(
 				eq("PuzzleSolverStatus"),
 				argThat(message -> message.getQos() == 0
 						&& Arrays.equals(message.getPayload(), "testMessage".getBytes(UTF_8))));
+		orderVerifier.verify(this.token).waitForCompletion(anyLong());
 		orderVerifier.verifyNoMoreInteractions();
 	}
 
 	/**
-	 * Diese Methode prüft {@link MqttSolverProgressLogger#log(String)}, wenn bereits eine
-	 * Verbindung besteht.
+	 * Diese Methode prüft {@link MqttSolverProgressLogger#publishNextBatch()}, wenn bereits eine
+	 * Verbindung besteht und mehrere Meldungen vorliegen.
 	 *
-	 * @throws MqttException wird in diesem Testfall nicht erwartet
+	 * @throws Exception wird in diesem Testfall nicht erwartet
 	 */
 	@Test
-	public void testLogAlreadyConnected() throws MqttException {
+	public void testPublishNextBatch() throws Exception {
 		InOrder orderVerifier = inOrder(this.client);
 
 		when(this.client.isConnected()).thenReturn(true);
 
-		this.objectUnderTest.log("testMessage");
+		this.objectUnderTest.log("first");
+		this.objectUnderTest.log("second");
+		this.objectUnderTest.log("third");
+
+		assertTrue(this.objectUnderTest.publishNextBatch());
+		assertTrue(this.objectUnderTest.publishNextBatch());
+		assertFalse(this.objectUnderTest.publishNextBatch());
 
 		orderVerifier.verify(this.client).publish(
 				eq("PuzzleSolverStatus"),
-				argThat(message -> message.getQos() == 0
-						&& Arrays.equals(message.getPayload(), "testMessage".getBytes(UTF_8))));
-		orderVerifier.verifyNoMoreInteractions();
+				argThat(message -> Arrays.equals(
+						message.getPayload(),
+						"first\nsecond".getBytes(UTF_8))));
+		orderVerifier.verify(this.client).publish(
+				eq("PuzzleSolverStatus"),
+				argThat(message -> Arrays.equals(message.getPayload(), "third".getBytes(UTF_8))));
+		verify(this.client, never()).connect();
+	}
+
+	/**
+	 * Diese Methode prüft {@link MqttSolverProgressLogger#log(String)}, wenn der Puffer voll ist.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogQueueFull() throws Exception {
+		when(this.client.isConnected()).thenReturn(true);
+
+		for (int index = 1; index <= 6; index++) {
+			this.objectUnderTest.log("message" + index);
+		}
+
+		assertTrue(this.objectUnderTest.publishNextBatch());
+
+		assertEquals(2, this.objectUnderTest.getDroppedCount());
+		verify(this.client).publish(
+				eq("PuzzleSolverStatus"),
+				argThat(message -> Arrays.equals(
+						message.getPayload(),
+						"message3\nmessage4".getBytes(UTF_8))));
+	}
+
+	/**
+	 * Diese Methode prüft {@link MqttSolverProgressLogger#publishNextBatch()}, wenn der
+	 * Verbindungsaufbau fehlschlägt.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testPublishNextBatchConnectFailure() throws Exception {
+		when(this.client.isConnected()).thenReturn(false);
+		doThrow(new MqttException(42)).when(this.token).waitForCompletion(anyLong());
+
+		this.objectUnderTest.log("first");
+		assertTrue(this.objectUnderTest.publishNextBatch());
+		this.objectUnderTest.log("second");
+		assertTrue(this.objectUnderTest.publishNextBatch());
+
+		assertEquals(2, this.objectUnderTest.getFailedCount());
+		verify(this.client, times(1)).connect();
+		verify(this.client, never()).publish(anyString(), any());
+	}
+
+	/**
+	 * Diese Methode prüft {@link MqttSolverProgressLogger#close()}.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testClose() throws Exception {
+		InOrder orderVerifier = inOrder(this.client, this.token);
+
+		when(this.client.isConnected()).thenReturn(true);
+
+		this.objectUnderTest.close();
+
+		orderVerifier.verify(this.client).disconnect();
+		orderVerifier.verify(this.token).waitForCompletion(anyLong());
+		orderVerifier.verify(this.client).close();
 	}
 
 	/**
 	 * Diese Methode prüft die Behandlung von Ausnahmen bei
-	 * {@link MqttSolverProgressLogger#log(String)}.
+	 * {@link MqttSolverProgressLogger#close()}.
 	 *
 	 * @throws MqttException wird in diesem Testfall nicht erwartet
 	 */
 	@Test
-	public void testLogExceptionTranslation() throws MqttException {
+	public void testCloseExceptionTranslation() throws MqttException {
 		MqttException mqttException = new MqttException(42);
 		RuntimeException caughtException;
 
-		doThrow(mqttException).when(this.client).publish(anyString(), any());
+		doThrow(mqttException).when(this.client).close();
 
-		caughtException = assertThrows(
-				RuntimeException.class,
-				() -> this.objectUnderTest.log("testMessage"));
+		caughtException = assertThrows(RuntimeException.class, this.objectUnderTest::close);
 
 		assertEquals(mqttException, caughtException.getCause());
 	}
@@ -0,0 +1,26 @@
+package software.sirsch.sa4e.puzzles;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link OverflowPolicy} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class OverflowPolicyTest {
+
+	/**
+	 * Diese Methode prüft {@link OverflowPolicy#fromName(String)}.
+	 */
+	@Test
+	public void testFromName() {
+		assertEquals(OverflowPolicy.DROP_OLDEST, OverflowPolicy.fromName("drop-oldest"));
+		assertEquals(OverflowPolicy.DROP_NEWEST, OverflowPolicy.fromName(" Drop_Newest "));
+		assertEquals(OverflowPolicy.BLOCK, OverflowPolicy.fromName("block"));
+		assertThrows(IllegalArgumentException.class, () -> OverflowPolicy.fromName("random"));
+	}
+}
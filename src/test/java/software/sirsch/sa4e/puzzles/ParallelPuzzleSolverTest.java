@@ -0,0 +1,280 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Diese Klasse stellt Tests für {@link ParallelPuzzleSolver} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ParallelPuzzleSolverTest {
+
+	/**
+	 * Dieses Feld soll den {@link SolverProgressLoggerMock} enthalten.
+	 */
+	private SolverProgressLoggerMock solverProgressLoggerMock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private ParallelPuzzleSolver objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.solverProgressLoggerMock = new SolverProgressLoggerMock();
+
+		this.objectUnderTest = new ParallelPuzzleSolver(0);
+
+		this.objectUnderTest.setSolverProgressLogger(this.solverProgressLoggerMock);
+	}
+
+	/**
+	 * Diese Methode prüft {@link ParallelPuzzleSolver#solvePuzzle(Puzzle)}, wenn das Puzzle
+	 * mindestens eine Lösung hat.
+	 */
+	@Test
+	public void testSolvePuzzleWithSolution() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(result.isPresent());
+		assertTrue(puzzle.isSolution(this.collectValues(puzzle, result.get())));
+		assertTrue(this.solverProgressLoggerMock.getNotSolutionCount() < 3628800);
+		assertEquals(1, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link ParallelPuzzleSolver#solvePuzzle(Puzzle, PrefixRange, java.util.function.BooleanSupplier)}
+	 * mit einem Teilraum, der die Lösung enthält, und einem Teilraum ohne Lösung.
+	 */
+	@Test
+	public void testSolvePuzzleInRange() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle, new PrefixRange(1, 2, 3), () -> false);
+
+		assertTrue(result.isPresent());
+		assertTrue(puzzle.isSolution(this.collectValues(puzzle, result.get())));
+		assertEquals(2, result.get().getDigit(puzzle.getSymbols().get(0).getId()));
+
+		result = this.objectUnderTest.solvePuzzle(puzzle, new PrefixRange(2, 0, 18), () -> false);
+
+		assertEquals(Optional.empty(), result);
+	}
+
+	/**
+	 * Diese Methode prüft, dass {@link ParallelPuzzleSolver} die Suche unter
+	 * {@link SolverEngine#PARALLEL} in den {@link SolverMetrics} erfasst.
+	 */
+	@Test
+	public void testSolvePuzzleWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		SolverMetrics solverMetrics = new SolverMetrics();
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+
+		assertTrue(this.objectUnderTest.solvePuzzle(puzzle).isPresent());
+		assertTrue(solverMetrics.getCandidateCount(SolverEngine.PARALLEL) > 0);
+		assertEquals(0, solverMetrics.getCandidateCount(SolverEngine.BRUTE_FORCE));
+		assertEquals(1, solverMetrics.getSolvedCount(SearchMode.FIRST_SOLUTION));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ParallelPuzzleSolver#solvePuzzle(Puzzle)} ohne Logger mit einem
+	 * Rätsel mit mehrstelligen Ergebnissen und Überträgen.
+	 */
+	@Test
+	public void testSolvePuzzleWithCarryWithoutLogger() {
+		Puzzle puzzle = new PuzzleGenerator().generate(987, 654, 321, 99);
+		Optional<Solution> result;
+
+		this.objectUnderTest.setSolverProgressLogger(null);
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(result.isPresent());
+		assertTrue(puzzle.isSolution(this.collectValues(puzzle, result.get())));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ParallelPuzzleSolver#solvePuzzle(Puzzle)}, wenn das Puzzle
+	 * keine Lösung hat.
+	 */
+	@Test
+	public void testSolvePuzzleWithoutSolution() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
+		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
+		Optional<Solution> result;
+
+		puzzleBuilder.withCell(new Cell(0, 0, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 1, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(0, 2, singletonList(symbol0)));
+		puzzleBuilder.withCell(new Cell(1, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(1, 2, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 0, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 1, singletonList(symbol1)));
+		puzzleBuilder.withCell(new Cell(2, 2, singletonList(symbol1)));
+
+		result = this.objectUnderTest.solvePuzzle(puzzleBuilder.build());
+
+		assertEquals(Optional.empty(), result);
+		assertEquals(90, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(0, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft, dass {@link ParallelPuzzleSolver#findAllSolutions(Puzzle)} trotz
+	 * paralleler Suche alle Lösungen liefert.
+	 */
+	@Test
+	public void testFindAllSolutions() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		Set<Solution> result;
+
+		result = this.objectUnderTest.findAllSolutions(puzzle).collect(Collectors.toSet());
+
+		assertEquals(
+				Set.of(
+						Solution.of(puzzle.getSymbols(), new int[] {1, 2, 4}),
+						Solution.of(puzzle.getSymbols(), new int[] {2, 4, 8})),
+				result);
+		assertEquals(2, this.objectUnderTest.countSolutions(puzzle, Long.MAX_VALUE));
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Suchen nach {@link ParallelPuzzleSolver#setParallelism(int)}
+	 * auf einem eigenen Pool mit der festgelegten Anzahl an Threads laufen.
+	 */
+	@Test
+	public void testSetParallelism() {
+		Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+
+		this.objectUnderTest.setParallelism(2);
+		this.objectUnderTest.setSolverProgressLogger(new SolverProgressLogger() {
+
+			@Override
+			public void logPermutation(
+					@Nonnull final List<Symbol> symbols,
+					@Nonnull final int[] values,
+					final boolean isSolution) {
+
+				pools.add(((ForkJoinWorkerThread) Thread.currentThread()).getPool());
+			}
+
+			@Override
+			public void log(@Nonnull final String message) {
+			}
+		});
+
+		assertTrue(this.objectUnderTest.solvePuzzle(puzzle).isPresent());
+		assertEquals(1, this.objectUnderTest.countSolutions(puzzle, 1));
+		assertEquals(1, pools.size());
+		assertNotSame(ForkJoinPool.commonPool(), pools.iterator().next());
+		assertEquals(2, pools.iterator().next().getParallelism());
+		assertThrows(IllegalArgumentException.class, () -> this.objectUnderTest.setParallelism(0));
+	}
+
+	/**
+	 * Diese Methode sammelt die Werte der Symbole aus einer Lösung auf.
+	 *
+	 * @param puzzle das gelöste Rätsel
+	 * @param solution die zu untersuchende Lösung
+	 * @return die Liste der Werte in der Reihenfolge von {@link Puzzle#getSymbols()}
+	 */
+	@Nonnull
+	private List<Byte> collectValues(
+			@Nonnull final Puzzle puzzle,
+			@Nonnull final Solution solution) {
+
+
+		return puzzle.getSymbols().stream()
+				.map(symbol -> (byte) solution.getDigit(symbol.getId()))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Für das Zählen der Aufrufe auf {@link SolverProgressLogger} wird ein programmierter Mock
+	 * benötigt, weil der Mockito-Mock eine schlechte Performance aufweist.
+	 */
+	private static class SolverProgressLoggerMock implements SolverProgressLogger {
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == true}.
+		 */
+		private int solutionCount = 0;
+
+		/**
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == false}.
+		 */
+		private int notSolutionCount = 0;
+
+		/**
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == true} zurück.
+		 *
+		 * @return die ermittelte Anzahl
+		 */
+		public int getSolutionCount() {
+			return this.solutionCount;
+		}
+
+		/**
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
+		 * {@code isSolution == false} zurück.
+		 *
+		 * @return die ermittelte Anzahl
+		 */
+		public int getNotSolutionCount() {
+			return this.notSolutionCount;
+		}
+
+		@Override
+		public void logPermutation(
+				@Nonnull final List<Symbol> symbols,
+				@Nonnull final int[] values,
+				final boolean isSolution) {
+
+			if (isSolution) {
+				this.solutionCount++;
+			} else {
+				this.notSolutionCount++;
+			}
+		}
+
+		@Override
+		public void log(@Nonnull final String message) {
+			fail("Invocation not expected!");
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link PrefixRangeSpliterator} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PrefixRangeSpliteratorTest {
+
+	/**
+	 * Dieses Feld soll das Abbruchkennzeichen enthalten.
+	 */
+	private AtomicBoolean cancelled;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.cancelled = new AtomicBoolean();
+	}
+
+	/**
+	 * Diese Methode prüft die Belegungen ohne Teilung.
+	 */
+	@Test
+	public void testTryAdvance() {
+		PrefixRangeSpliterator objectUnderTest = new PrefixRangeSpliterator(
+				3, new PrefixRange(1, 2, 4), this.cancelled);
+		List<List<Integer>> result = new ArrayList<>();
+
+		assertEquals(144, objectUnderTest.estimateSize());
+
+		while (objectUnderTest.tryAdvance(values -> result.add(toList(values)))) {
+			assertNull(objectUnderTest.trySplit());
+		}
+
+		assertEquals(144, result.size());
+		assertEquals(List.of(2, 0, 1), result.get(0));
+		assertEquals(List.of(3, 9, 8), result.get(143));
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Teilung den Bereich vollständig und in unveränderter
+	 * Reihenfolge aufteilt, auch wenn dafür das Präfix verlängert werden muss.
+	 */
+	@Test
+	public void testTrySplit() {
+		PrefixRangeSpliterator objectUnderTest = new PrefixRangeSpliterator(
+				4, new PrefixRange(1, 5, 6), this.cancelled);
+		Spliterator<int[]> lower = objectUnderTest.trySplit();
+		List<List<Integer>> result = new ArrayList<>();
+
+		assertNotNull(lower);
+		assertEquals(504, lower.estimateSize() + objectUnderTest.estimateSize());
+		lower.forEachRemaining(values -> result.add(toList(values)));
+		objectUnderTest.forEachRemaining(values -> result.add(toList(values)));
+
+		assertEquals(
+				StreamSupport.stream(new PrefixRangeSpliterator(
+						4, new PrefixRange(1, 5, 6), this.cancelled), false)
+						.map(PrefixRangeSpliteratorTest::toList)
+						.collect(Collectors.toList()),
+				result);
+		assertEquals(504, result.size());
+	}
+
+	/**
+	 * Diese Methode prüft die parallele Verarbeitung und den Abbruch.
+	 */
+	@Test
+	public void testParallelAndCancelled() {
+		PrefixRangeSpliterator objectUnderTest;
+
+		assertEquals(5040, StreamSupport.stream(new PrefixRangeSpliterator(
+				4, PrefixRange.FULL, this.cancelled), true).count());
+
+		this.cancelled.set(true);
+		objectUnderTest = new PrefixRangeSpliterator(4, PrefixRange.FULL, this.cancelled);
+
+		assertNull(objectUnderTest.trySplit());
+		assertFalse(objectUnderTest.tryAdvance(values -> { }));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new PrefixRangeSpliterator(1, new PrefixRange(2, 0, 1), this.cancelled));
+	}
+
+	/**
+	 * Diese Methode prüft die Randfälle des gesamten Suchraums ohne Stellen und mit zu vielen
+	 * Stellen.
+	 */
+	@Test
+	public void testBoundaries() {
+		PrefixRangeSpliterator empty = new PrefixRangeSpliterator(
+				0, PrefixRange.FULL, this.cancelled);
+		PrefixRangeSpliterator tooLarge = new PrefixRangeSpliterator(
+				11, PrefixRange.FULL, this.cancelled);
+
+		assertTrue(empty.tryAdvance(values -> assertEquals(0, values.length)));
+		assertFalse(empty.tryAdvance(values -> { }));
+		assertEquals(0, StreamSupport.stream(tooLarge, true).count());
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new PrefixRangeSpliterator(-1, PrefixRange.FULL, this.cancelled));
+	}
+
+	/**
+	 * Diese Methode wandelt eine Belegung in eine Liste um.
+	 *
+	 * @param values die Belegung
+	 * @return die Liste
+	 */
+	private static List<Integer> toList(final int[] values) {
+		return Arrays.stream(values).boxed().collect(Collectors.toList());
+	}
+}
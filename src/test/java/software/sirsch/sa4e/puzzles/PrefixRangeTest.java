@@ -0,0 +1,118 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link PrefixRange} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PrefixRangeTest {
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#PrefixRange(int, long, long)} mit ungültigen
+	 * Bereichen.
+	 */
+	@Test
+	public void testConstructorInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new PrefixRange(-1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new PrefixRange(11, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new PrefixRange(1, 3, 3));
+		assertThrows(IllegalArgumentException.class, () -> new PrefixRange(1, -1, 3));
+		assertThrows(IllegalArgumentException.class, () -> new PrefixRange(2, 0, 91));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#getPrefixCount(int)}.
+	 */
+	@Test
+	public void testGetPrefixCount() {
+		assertEquals(1, PrefixRange.getPrefixCount(0));
+		assertEquals(10, PrefixRange.getPrefixCount(1));
+		assertEquals(90, PrefixRange.getPrefixCount(2));
+		assertEquals(3_628_800, PrefixRange.getPrefixCount(10));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#split(int, int)}.
+	 */
+	@Test
+	public void testSplit() {
+		assertEquals(List.of(PrefixRange.FULL), PrefixRange.split(6, 1));
+		assertEquals(
+				List.of(
+						new PrefixRange(1, 0, 3),
+						new PrefixRange(1, 3, 6),
+						new PrefixRange(1, 6, 10)),
+				PrefixRange.split(6, 3));
+		assertEquals(12, PrefixRange.split(6, 12).size());
+		assertEquals(2, PrefixRange.split(6, 12).get(0).getPrefixLength());
+		assertEquals(90, PrefixRange.split(6, 12).get(11).getEndRank());
+		assertEquals(1, PrefixRange.split(0, 4).size());
+		assertEquals(10, PrefixRange.split(1, 40).size());
+		assertThrows(IllegalArgumentException.class, () -> PrefixRange.split(6, 0));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#getCandidateCount(int)}.
+	 */
+	@Test
+	public void testGetCandidateCount() {
+		assertEquals(151_200, PrefixRange.FULL.getCandidateCount(6));
+		assertEquals(3 * 15_120, new PrefixRange(1, 0, 3).getCandidateCount(6));
+		assertEquals(5, new PrefixRange(2, 10, 15).getCandidateCount(2));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#lowerPart(long)}, {@link PrefixRange#upperPart(long)}
+	 * und {@link PrefixRange#refine()}.
+	 */
+	@Test
+	public void testPartsAndRefine() {
+		PrefixRange objectUnderTest = new PrefixRange(1, 2, 6);
+
+		assertEquals(new PrefixRange(1, 2, 4), objectUnderTest.lowerPart(4));
+		assertEquals(new PrefixRange(1, 4, 6), objectUnderTest.upperPart(4));
+		assertEquals(new PrefixRange(2, 18, 54), objectUnderTest.refine());
+		assertEquals(
+				objectUnderTest.getCandidateCount(5),
+				objectUnderTest.refine().getCandidateCount(5));
+		assertThrows(IllegalArgumentException.class, () -> objectUnderTest.lowerPart(2));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#getFirstPrefix()}.
+	 */
+	@Test
+	public void testGetFirstPrefix() {
+		assertArrayEquals(new int[0], PrefixRange.FULL.getFirstPrefix());
+		assertArrayEquals(new int[] {7}, new PrefixRange(1, 7, 8).getFirstPrefix());
+		assertArrayEquals(new int[] {0, 1}, new PrefixRange(2, 0, 1).getFirstPrefix());
+		assertArrayEquals(new int[] {1, 0}, new PrefixRange(2, 9, 10).getFirstPrefix());
+		assertArrayEquals(new int[] {1, 2}, new PrefixRange(2, 10, 11).getFirstPrefix());
+		assertArrayEquals(new int[] {9, 8}, new PrefixRange(2, 89, 90).getFirstPrefix());
+		assertArrayEquals(
+				new int[] {9, 8, 7, 6, 5, 4, 3, 2, 1, 0},
+				new PrefixRange(10, 3_628_799, 3_628_800).getFirstPrefix());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrefixRange#equals(Object)} und {@link PrefixRange#hashCode()}.
+	 */
+	@Test
+	public void testEqualsAndHashCode() {
+		assertEquals(new PrefixRange(2, 3, 5), new PrefixRange(2, 3, 5));
+		assertEquals(new PrefixRange(2, 3, 5).hashCode(), new PrefixRange(2, 3, 5).hashCode());
+		assertNotEquals(new PrefixRange(2, 3, 5), new PrefixRange(2, 3, 6));
+		assertNotEquals(new PrefixRange(2, 3, 5), new PrefixRange(1, 3, 5));
+		assertNotEquals(new PrefixRange(2, 3, 5), "PrefixRange");
+	}
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -55,4 +56,18 @@ public class PrintStreamSolverProgressLoggerTest {
 
 		verify(this.out).close();
 	}
+
+	/**
+	 * Diese Methode prüft {@link PrintStreamSolverProgressLogger#close()}, wenn der Datenstrom
+	 * nicht geschlossen werden soll.
+	 */
+	@Test
+	public void testCloseWithoutClosingStream() {
+		this.objectUnderTest = new PrintStreamSolverProgressLogger(this.out, false);
+
+		this.objectUnderTest.close();
+
+		verify(this.out).flush();
+		verify(this.out, never()).close();
+	}
 }
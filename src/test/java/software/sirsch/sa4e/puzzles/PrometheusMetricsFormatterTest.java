@@ -0,0 +1,132 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Diese Klasse stellt Tests für {@link PrometheusMetricsFormatter} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PrometheusMetricsFormatterTest {
+
+	/**
+	 * Dieses Feld soll die {@link SolverMetrics} enthalten.
+	 */
+	private SolverMetrics solverMetrics;
+
+	/**
+	 * Dieses Feld soll den Mock für {@link SolverExecutor} enthalten.
+	 */
+	private SolverExecutor solverExecutor;
+
+	/**
+	 * Dieses Feld soll den {@link SolutionCache} enthalten.
+	 */
+	private SolutionCache solutionCache;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private PrometheusMetricsFormatter objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.solverMetrics = new SolverMetrics();
+		this.solverExecutor = mock(SolverExecutor.class);
+		this.solutionCache = new SolutionCache(8);
+
+		this.objectUnderTest = new PrometheusMetricsFormatter(
+				this.solverMetrics,
+				this.solverExecutor,
+				this.solutionCache);
+	}
+
+	/**
+	 * Diese Methode prüft {@link PrometheusMetricsFormatter#format()}.
+	 */
+	@Test
+	public void testFormat() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		String result;
+
+		this.solverMetrics.recordSearch(SolverEngine.COLUMNWISE, 2, PrefixRange.FULL);
+		this.solverMetrics.recordCandidate(SolverEngine.COLUMNWISE, 4);
+		this.solverMetrics.recordCandidate(
+				SolverEngine.COLUMNWISE,
+				CompiledPuzzle.NO_CONTRADICTION);
+		this.solverMetrics.recordSolve(SearchMode.FIRST_SOLUTION, 1500, true);
+		this.solverMetrics.recordCancelled(SearchMode.FIRST_SOLUTION, 1L << 50);
+		this.solverMetrics.recordSolve(SearchMode.COUNT_SOLUTIONS, 1500, false);
+		this.solutionCache.solve(puzzle, ignore -> Optional.empty());
+		this.solutionCache.solve(puzzle, ignore -> Optional.empty());
+		when(this.solverExecutor.getThreadCount()).thenReturn(4);
+		when(this.solverExecutor.getActiveCount()).thenReturn(3);
+		when(this.solverExecutor.getQueueDepth()).thenReturn(2);
+		when(this.solverExecutor.getQueueCapacity()).thenReturn(16);
+
+		result = this.objectUnderTest.format();
+
+		assertThat(result, containsString(
+				"# HELP puzzles_solver_candidates_total Number of digit assignments checked"));
+		assertThat(result, containsString(
+				"# TYPE puzzles_solver_candidates_total counter\n"
+						+ "puzzles_solver_candidates_total{engine=\"brute_force\"} 0\n"
+						+ "puzzles_solver_candidates_total{engine=\"columnwise\"} 2\n"
+						+ "puzzles_solver_candidates_total{engine=\"parallel\"} 0\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_search_space_total{engine=\"columnwise\"} 90\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_pruning_ratio{engine=\"columnwise\"} 0.9777777777777777\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_pruning_ratio{engine=\"brute_force\"} 0.0\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_contradictions_total{addition=\"row1\"} 0\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_contradictions_total{addition=\"column2\"} 1\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solves_total{mode=\"first_solution\",result=\"found\"} 1\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solves_total{mode=\"first_solution\",result=\"not_found\"} 0\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solves_total{mode=\"first_solution\",result=\"cancelled\"} 1\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solves_total{mode=\"count_solutions\",result=\"not_found\"} 1\n"));
+		assertThat(result, containsString(
+				"# TYPE puzzles_solver_solve_duration_seconds histogram\n"
+						+ "puzzles_solver_solve_duration_seconds_bucket"
+						+ "{mode=\"first_solution\",le=\"1.024E-6\"} 0\n"
+						+ "puzzles_solver_solve_duration_seconds_bucket"
+						+ "{mode=\"first_solution\",le=\"2.048E-6\"} 1\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solve_duration_seconds_bucket"
+						+ "{mode=\"first_solution\",le=\"+Inf\"} 2\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solve_duration_seconds_count{mode=\"first_solution\"} 2\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solve_duration_seconds_count{mode=\"all_solutions\"} 0\n"));
+		assertThat(result, containsString(
+				"puzzles_solver_solve_duration_seconds_count{mode=\"count_solutions\"} 1\n"));
+		assertThat(result, containsString("puzzles_executor_threads 4\n"));
+		assertThat(result, containsString("puzzles_executor_active_threads 3\n"));
+		assertThat(result, containsString("puzzles_executor_queue_depth 2\n"));
+		assertThat(result, containsString("puzzles_executor_queue_capacity 16\n"));
+		assertThat(result, containsString("puzzles_cache_requests_total{result=\"hit\"} 1\n"));
+		assertThat(result, containsString("puzzles_cache_requests_total{result=\"miss\"} 1\n"));
+		assertThat(result, containsString("puzzles_cache_evictions_total 0\n"));
+		assertThat(result, containsString("puzzles_cache_size 1\n"));
+		assertThat(result, endsWith("puzzles_cache_capacity 8\n"));
+	}
+}
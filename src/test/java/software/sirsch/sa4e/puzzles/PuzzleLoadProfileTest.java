@@ -0,0 +1,91 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link PuzzleLoadProfile} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PuzzleLoadProfileTest {
+
+	/**
+	 * Diese Methode prüft, ob eine einzelne Stellenzahl dem bisherigen Verhalten von einem Rätsel
+	 * je Minute entspricht.
+	 */
+	@Test
+	public void testParseNumberOfDigitsOnly() {
+		PuzzleLoadProfile result = PuzzleLoadProfile.parse("3");
+
+		assertEquals(PuzzleLoadProfile.DEFAULT_RATE, result.getRate());
+		assertEquals(1, result.getBurst());
+		assertEquals(30_000L, result.getTickPeriod());
+		assertEquals(600_000L, result.getRateCheckPeriod());
+		assertEquals(3, result.nextNumberOfDigits(new Random()));
+	}
+
+	/**
+	 * Diese Methode prüft das Lesen von Rate und Burst.
+	 */
+	@Test
+	public void testParseRateAndBurst() {
+		PuzzleLoadProfile result = PuzzleLoadProfile.parse("2,3@500/50");
+
+		assertEquals(500d, result.getRate());
+		assertEquals(50, result.getBurst());
+		assertEquals(50L, result.getTickPeriod());
+		assertEquals(10_000L, result.getRateCheckPeriod());
+	}
+
+	/**
+	 * Diese Methode prüft die aus der Rate abgeleitete Größe eines Bursts.
+	 */
+	@Test
+	public void testParseDefaultBurst() {
+		assertEquals(25, PuzzleLoadProfile.parse("3@250").getBurst());
+		assertEquals(1, PuzzleLoadProfile.parse("3@0.5").getBurst());
+		assertEquals(1L, PuzzleLoadProfile.parse("3@100000/1").getTickPeriod());
+	}
+
+	/**
+	 * Diese Methode prüft die Auswahl der Stellenzahl entsprechend der Gewichte.
+	 */
+	@Test
+	public void testNextNumberOfDigits() {
+		PuzzleLoadProfile objectUnderTest = PuzzleLoadProfile.parse("2:1,3:2,4");
+		Random random = new Random() {
+
+			private int next;
+
+			@Override
+			public int nextInt(final int bound) {
+				assertEquals(4, bound);
+				return this.next++;
+			}
+		};
+
+		assertEquals(2, objectUnderTest.nextNumberOfDigits(random));
+		assertEquals(3, objectUnderTest.nextNumberOfDigits(random));
+		assertEquals(3, objectUnderTest.nextNumberOfDigits(random));
+		assertEquals(4, objectUnderTest.nextNumberOfDigits(random));
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung ungültiger Angaben.
+	 */
+	@Test
+	public void testParseInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("x"));
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("0"));
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("3:0"));
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("3@0"));
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("3@x"));
+		assertThrows(IllegalArgumentException.class, () -> PuzzleLoadProfile.parse("3@10/0"));
+	}
+}
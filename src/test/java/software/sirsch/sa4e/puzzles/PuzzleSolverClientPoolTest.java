@@ -0,0 +1,89 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Diese Klasse stellt Tests für {@link PuzzleSolverClientPool} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class PuzzleSolverClientPoolTest {
+
+	/**
+	 * Dieses Feld soll den Mock für die Fabrikmethode der Clients enthalten.
+	 */
+	private Function<List<String>, PuzzleSolverClient> clientFactory;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private PuzzleSolverClientPool objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.clientFactory = mock(Function.class);
+		when(this.clientFactory.apply(any())).thenAnswer(invocation -> mock(PuzzleSolverClient.class));
+
+		this.objectUnderTest = new PuzzleSolverClientPool(this.clientFactory);
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverClientPool#getClient(List)}.
+	 */
+	@Test
+	public void testGetClient() {
+		List<String> targets = new ArrayList<>(List.of("host1:42", "host2:42"));
+		PuzzleSolverClient client = this.objectUnderTest.getClient(targets);
+
+		targets.add("host3:42");
+
+		assertSame(client, this.objectUnderTest.getClient(List.of("host1:42", "host2:42")));
+		assertNotSame(client, this.objectUnderTest.getClient(List.of("host1:42")));
+		verify(this.clientFactory, times(2)).apply(any());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverClientPool#close()}.
+	 */
+	@Test
+	public void testClose() {
+		PuzzleSolverClient client = this.objectUnderTest.getClient(List.of("host1:42"));
+
+		this.objectUnderTest.close();
+
+		verify(client).close();
+		assertNotSame(client, this.objectUnderTest.getClient(List.of("host1:42")));
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverClientPool#PuzzleSolverClientPool(LoadBalancingStrategy)}.
+	 */
+	@Test
+	public void testPublicConstructor() {
+		this.objectUnderTest = new PuzzleSolverClientPool(LoadBalancingStrategy.ROUND_ROBIN);
+
+		assertSame(
+				this.objectUnderTest.getClient(List.of("localhost:12345")),
+				this.objectUnderTest.getClient(List.of("localhost:12345")));
+		assertDoesNotThrow(() -> this.objectUnderTest.close());
+	}
+}
@@ -1,10 +1,15 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
@@ -14,14 +19,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
 
+import io.grpc.BindableService;
 import io.grpc.ManagedChannel;
 import io.grpc.Server;
+import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
 import io.grpc.stub.StreamObserver;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -55,6 +63,16 @@ public class PuzzleSolverClientTest {
 	 */
 	private ManagedChannel channel;
 
+	/**
+	 * Dieses Feld soll weitere Server für die Tests der Lastverteilung enthalten.
+	 */
+	private List<Server> additionalServers;
+
+	/**
+	 * Dieses Feld soll die Channels zu den weiteren Servern enthalten.
+	 */
+	private List<ManagedChannel> additionalChannels;
+
 	/**
 	 * Dieses Feld soll den Mock für {@link Puzzle2ProtobufConverter} enthalten.
 	 */
@@ -82,6 +100,8 @@ public class PuzzleSolverClientTest {
 		this.channel = InProcessChannelBuilder.forName(uniqueName).build();
 		this.puzzle2ProtobufConverter = mock(Puzzle2ProtobufConverter.class);
 		this.inprocServer.start();
+		this.additionalServers = new ArrayList<>();
+		this.additionalChannels = new ArrayList<>();
 
 		this.objectUnderTest = new PuzzleSolverClient(this.channel, this.puzzle2ProtobufConverter);
 	}
@@ -95,6 +115,58 @@ public class PuzzleSolverClientTest {
 	public void tearDown() throws InterruptedException {
 		assertTrue(this.inprocServer.shutdown().awaitTermination(1, TimeUnit.MINUTES));
 		assertTrue(this.channel.shutdownNow().awaitTermination(1, TimeUnit.MINUTES));
+
+		for (ManagedChannel additionalChannel : this.additionalChannels) {
+			assertTrue(additionalChannel.shutdownNow().awaitTermination(1, TimeUnit.MINUTES));
+		}
+
+		for (Server additionalServer : this.additionalServers) {
+			assertTrue(additionalServer.shutdownNow().awaitTermination(1, TimeUnit.MINUTES));
+		}
+	}
+
+	/**
+	 * Diese Methode startet einen weiteren In-Process-Server und öffnet einen Channel zu diesem.
+	 *
+	 * @param service der bereitzustellende Dienst
+	 * @return der geöffnete Channel
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	private ManagedChannel startAdditionalServer(final BindableService service) throws IOException {
+		String uniqueName = InProcessServerBuilder.generateName();
+		ManagedChannel additionalChannel = InProcessChannelBuilder.forName(uniqueName).build();
+
+		this.additionalServers.add(InProcessServerBuilder.forName(uniqueName)
+				.directExecutor()
+				.addService(service)
+				.build()
+				.start());
+		this.additionalChannels.add(additionalChannel);
+		return additionalChannel;
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Dienst, der jede Anfrage sofort ohne Lösung beantwortet und die
+	 * Anzahl der Anfragen zählt.
+	 *
+	 * @param counter der Zähler für die Anfragen
+	 * @return der erzeugte Dienst
+	 */
+	private static BindableService createCountingService(final AtomicInteger counter) {
+		return new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+			@Override
+			public void solvePuzzle(
+					final SolvePuzzleRequest request,
+					final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+				counter.incrementAndGet();
+				responseObserver.onNext(SolvePuzzleResponse.newBuilder()
+						.setSolutionFound(true)
+						.build());
+				responseObserver.onCompleted();
+			}
+		};
 	}
 
 	/**
@@ -186,6 +258,173 @@ public class PuzzleSolverClientTest {
 		assertThrows(RuntimeException.class, () -> this.objectUnderTest.solvePuzzle(puzzle));
 	}
 
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverClient#solvePuzzleAsync(Puzzle)}.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleAsync() throws Exception {
+		Puzzle puzzle = mock(Puzzle.class);
+		SolvePuzzleRequest request = SolvePuzzleRequest.newBuilder()
+				.addSymbols(Puzzles.Symbol.newBuilder()
+						.setId(0)
+						.setDescription("A")
+						.build())
+				.build();
+		SolvePuzzleResponse response = SolvePuzzleResponse.newBuilder()
+				.setSolutionFound(true)
+				.putSymbolIdToDigit(0, 4)
+				.build();
+
+		when(this.puzzle2ProtobufConverter.createSolvePuzzleRequest(puzzle)).thenReturn(request);
+		doAnswer(invocation -> {
+			assertEquals(request, invocation.getArgument(0));
+			invocation.<StreamObserver<SolvePuzzleResponse>>getArgument(1).onNext(response);
+			invocation.<StreamObserver<SolvePuzzleResponse>>getArgument(1).onCompleted();
+			return null;
+		}).when(this.puzzleSolverService).solvePuzzle(notNull(), notNull());
+
+		assertEquals(
+				Map.of(0, 4),
+				this.objectUnderTest.solvePuzzleAsync(puzzle).get(1, TimeUnit.MINUTES));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverClient#solvePuzzleAsync(Puzzle)}, wenn das Rätsel
+	 * keine Lösung hat oder der Aufruf fehlschlägt.
+	 */
+	@Test
+	public void testSolvePuzzleAsyncFailure() {
+		Puzzle puzzle = mock(Puzzle.class);
+		Puzzle failingPuzzle = mock(Puzzle.class);
+		SolvePuzzleRequest request = SolvePuzzleRequest.newBuilder().build();
+		SolvePuzzleRequest failingRequest = SolvePuzzleRequest.newBuilder()
+				.addSymbols(Puzzles.Symbol.newBuilder().setId(0).build())
+				.build();
+
+		when(this.puzzle2ProtobufConverter.createSolvePuzzleRequest(puzzle)).thenReturn(request);
+		when(this.puzzle2ProtobufConverter.createSolvePuzzleRequest(failingPuzzle))
+				.thenReturn(failingRequest);
+		doAnswer(invocation -> {
+			if (failingRequest.equals(invocation.getArgument(0))) {
+				invocation.<StreamObserver<SolvePuzzleResponse>>getArgument(1)
+						.onError(Status.UNAVAILABLE.asRuntimeException());
+			} else {
+				invocation.<StreamObserver<SolvePuzzleResponse>>getArgument(1)
+						.onNext(SolvePuzzleResponse.newBuilder().build());
+				invocation.<StreamObserver<SolvePuzzleResponse>>getArgument(1).onCompleted();
+			}
+
+			return null;
+		}).when(this.puzzleSolverService).solvePuzzle(notNull(), notNull());
+
+		assertEquals(
+				"Puzzle has no solution!",
+				assertThrows(
+						ExecutionException.class,
+						() -> this.objectUnderTest.solvePuzzleAsync(puzzle)
+								.get(1, TimeUnit.MINUTES)).getCause().getMessage());
+		assertTrue(assertThrows(
+				ExecutionException.class,
+				() -> this.objectUnderTest.solvePuzzleAsync(failingPuzzle)
+						.get(1, TimeUnit.MINUTES)).getCause() instanceof StatusRuntimeException);
+	}
+
+	/**
+	 * Diese Methode prüft die Verteilung mit {@link LoadBalancingStrategy#ROUND_ROBIN}.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRoundRobin() throws IOException {
+		AtomicInteger counter1 = new AtomicInteger();
+		AtomicInteger counter2 = new AtomicInteger();
+
+		when(this.puzzle2ProtobufConverter.createSolvePuzzleRequest(any()))
+				.thenReturn(SolvePuzzleRequest.newBuilder().build());
+		this.objectUnderTest = new PuzzleSolverClient(
+				List.of(
+						this.startAdditionalServer(createCountingService(counter1)),
+						this.startAdditionalServer(createCountingService(counter2))),
+				this.puzzle2ProtobufConverter,
+				LoadBalancingStrategy.ROUND_ROBIN);
+
+		for (int index = 0; index < 3; index++) {
+			this.objectUnderTest.solvePuzzle(mock(Puzzle.class));
+		}
+
+		assertEquals(2, counter1.get());
+		assertEquals(1, counter2.get());
+	}
+
+	/**
+	 * Diese Methode prüft die Verteilung mit {@link LoadBalancingStrategy#LEAST_OUTSTANDING}.
+	 *
+	 * <p>
+	 *     Der erste Server beantwortet keine Anfrage, sodass alle weiteren Anfragen an den zweiten
+	 *     Server gehen müssen.
+	 * </p>
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLeastOutstanding() throws Exception {
+		AtomicInteger hangingCounter = new AtomicInteger();
+		AtomicInteger counter = new AtomicInteger();
+		CompletableFuture<Map<Integer, Integer>> hangingResult;
+
+		when(this.puzzle2ProtobufConverter.createSolvePuzzleRequest(any()))
+				.thenReturn(SolvePuzzleRequest.newBuilder().build());
+		this.objectUnderTest = new PuzzleSolverClient(
+				List.of(
+						this.startAdditionalServer(new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+							@Override
+							public void solvePuzzle(
+									final SolvePuzzleRequest request,
+									final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+								hangingCounter.incrementAndGet();
+							}
+						}),
+						this.startAdditionalServer(createCountingService(counter))),
+				this.puzzle2ProtobufConverter,
+				LoadBalancingStrategy.LEAST_OUTSTANDING);
+
+		hangingResult = this.objectUnderTest.solvePuzzleAsync(mock(Puzzle.class));
+
+		for (int index = 0; index < 3; index++) {
+			this.objectUnderTest.solvePuzzleAsync(mock(Puzzle.class)).get(1, TimeUnit.MINUTES);
+		}
+
+		assertEquals(1, hangingCounter.get());
+		assertEquals(3, counter.get());
+		assertFalse(hangingResult.isDone());
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverClient#PuzzleSolverClient(List, LoadBalancingStrategy)}.
+	 */
+	@Test
+	public void testTargetsConstructor() {
+		this.objectUnderTest = new PuzzleSolverClient(
+				List.of("localhost:12345", "localhost:12346"),
+				LoadBalancingStrategy.ROUND_ROBIN);
+
+		assertThrows(
+				StatusRuntimeException.class,
+				() -> this.objectUnderTest.solvePuzzle(mock(Puzzle.class)));
+		assertDoesNotThrow(() -> this.objectUnderTest.close());
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new PuzzleSolverClient(
+						List.of(),
+						this.puzzle2ProtobufConverter,
+						LoadBalancingStrategy.ROUND_ROBIN));
+	}
+
 	/**
 	 * Diese Methode prüft {@link PuzzleSolverClient#close()}.
 	 *
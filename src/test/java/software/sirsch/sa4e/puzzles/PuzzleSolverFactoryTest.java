@@ -5,6 +5,9 @@ import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -94,4 +97,33 @@ public class PuzzleSolverFactoryTest {
 		verify(acton).accept(firstPuzzleSolver);
 		verify(acton).accept(secondPuzzleSolver);
 	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverFactory#create(int, SolverEngine)}.
+	 */
+	@Test
+	public void testCreateWithEngine() {
+		Consumer<PuzzleSolver> action = mock(Consumer.class);
+		PuzzleSolver result;
+
+		this.objectUnderTest.updateAction(action);
+
+		result = this.objectUnderTest.create(0, SolverEngine.COLUMNWISE);
+
+		assertThat(result, instanceOf(ColumnwisePuzzleSolver.class));
+		verify(action).accept(result);
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverFactory#setEngine(SolverEngine)}.
+	 */
+	@Test
+	public void testSetEngine() {
+		assertEquals(PuzzleSolver.class, this.objectUnderTest.create().getClass());
+
+		this.objectUnderTest.setEngine(SolverEngine.COLUMNWISE);
+
+		assertEquals(ColumnwisePuzzleSolver.class, this.objectUnderTest.create().getClass());
+		assertEquals(ColumnwisePuzzleSolver.class, this.objectUnderTest.create(1).getClass());
+	}
 }
@@ -13,6 +13,7 @@ import io.grpc.Server;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -43,6 +44,26 @@ public class PuzzleSolverServerTest {
 	 */
 	private Consumer<Thread> shutdownHookAdder;
 
+	/**
+	 * Dieses Feld soll den Mock für {@link SolverExecutor} enthalten.
+	 */
+	private SolverExecutor solverExecutor;
+
+	/**
+	 * Dieses Feld soll den {@link SolutionCache} enthalten.
+	 */
+	private SolutionCache solutionCache;
+
+	/**
+	 * Dieses Feld soll die {@link SolverMetrics} enthalten.
+	 */
+	private SolverMetrics solverMetrics;
+
+	/**
+	 * Dieses Feld soll den Mock für {@link MetricsHttpServer} enthalten.
+	 */
+	private MetricsHttpServer metricsHttpServer;
+
 	/**
 	 * Dieses Feld soll das zu testende Objekt enthalten.
 	 */
@@ -55,9 +76,19 @@ public class PuzzleSolverServerTest {
 	public void setUp() {
 		this.server = mock(Server.class);
 		this.shutdownHookAdder = mock(Consumer.class);
+		this.solverExecutor = mock(SolverExecutor.class);
+		this.solutionCache = new SolutionCache();
+		this.solverMetrics = new SolverMetrics();
+		this.metricsHttpServer = mock(MetricsHttpServer.class);
 		when(this.server.shutdown()).thenReturn(this.server);
 
-		this.objectUnderTest = new PuzzleSolverServer(this.server, this.shutdownHookAdder);
+		this.objectUnderTest = new PuzzleSolverServer(
+				this.server,
+				this.solverExecutor,
+				this.solutionCache,
+				this.solverMetrics,
+				this.metricsHttpServer,
+				this.shutdownHookAdder);
 	}
 
 	/**
@@ -72,6 +103,34 @@ public class PuzzleSolverServerTest {
 		this.objectUnderTest.stop();
 	}
 
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverServer#PuzzleSolverServer(int, int, int, int, int)}.
+	 */
+	@Test
+	public void testConstructorWithPoolSize() {
+		this.objectUnderTest = new PuzzleSolverServer(0, 2, 5, 7, PuzzleSolverServer.METRICS_DISABLED);
+
+		assertEquals(2, this.objectUnderTest.getSolverExecutor().getThreadCount());
+		assertEquals(5, this.objectUnderTest.getSolverExecutor().getQueueCapacity());
+		assertEquals(0, this.objectUnderTest.getQueueDepth());
+		assertEquals(7, this.objectUnderTest.getSolutionCache().getCapacity());
+		this.objectUnderTest.stop();
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverServer#PuzzleSolverServer(int, int, int, int, int)}
+	 * mit einem Port für die Kennzahlen.
+	 */
+	@Test
+	public void testConstructorWithMetricsPort() {
+		this.objectUnderTest = new PuzzleSolverServer(0, 1, 1, 1, 0);
+
+		this.objectUnderTest.start();
+		this.objectUnderTest.stop();
+
+		assertNotNull(this.objectUnderTest.getSolverMetrics());
+	}
+
 	/**
 	 * Diese Methode prüft {@link PuzzleSolverServer#run()}.
 	 *
@@ -116,6 +175,7 @@ public class PuzzleSolverServerTest {
 		this.objectUnderTest.start();
 
 		verify(this.server).start();
+		verify(this.metricsHttpServer).start();
 	}
 
 	/**
@@ -143,9 +203,13 @@ public class PuzzleSolverServerTest {
 	 */
 	@Test
 	public void testStop() {
+		InOrder orderVerifier = inOrder(this.server, this.metricsHttpServer, this.solverExecutor);
+
 		this.objectUnderTest.stop();
 
-		verify(this.server).shutdown();
+		orderVerifier.verify(this.server).shutdown();
+		orderVerifier.verify(this.metricsHttpServer).stop();
+		orderVerifier.verify(this.solverExecutor).shutdown();
 	}
 
 	/**
@@ -161,6 +225,7 @@ public class PuzzleSolverServerTest {
 		assertDoesNotThrow(() -> this.objectUnderTest.stop());
 
 		assertTrue(Thread.interrupted());
+		verify(this.solverExecutor).shutdown();
 	}
 
 	/**
@@ -189,4 +254,30 @@ public class PuzzleSolverServerTest {
 
 		assertTrue(Thread.interrupted());
 	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverServer#getQueueDepth()}.
+	 */
+	@Test
+	public void testGetQueueDepth() {
+		when(this.solverExecutor.getQueueDepth()).thenReturn(42);
+
+		assertEquals(42, this.objectUnderTest.getQueueDepth());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverServer#getSolutionCache()}.
+	 */
+	@Test
+	public void testGetSolutionCache() {
+		assertSame(this.solutionCache, this.objectUnderTest.getSolutionCache());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverServer#getSolverMetrics()}.
+	 */
+	@Test
+	public void testGetSolverMetrics() {
+		assertSame(this.solverMetrics, this.objectUnderTest.getSolverMetrics());
+	}
 }
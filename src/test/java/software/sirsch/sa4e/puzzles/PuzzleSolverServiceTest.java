@@ -1,20 +1,52 @@
 package software.sirsch.sa4e.puzzles;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import javax.annotation.Nonnull;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.Cell;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerateSolutionsResponse;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.EnumerationMode;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
 import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzlesResponse;
 
 import org.apache.commons.collections4.Factory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -25,6 +57,28 @@ import static org.mockito.Mockito.when;
  */
 public class PuzzleSolverServiceTest {
 
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit auf den Pool in Millisekunden.
+	 */
+	private static final long TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Diese Konstante enthält die Anzahl aller Belegungen von zehn Symbolen.
+	 */
+	private static final long ALL_CANDIDATES = 3628800;
+
+	/**
+	 * Diese Konstante enthält die Anzahl der geprüften Belegungen, nach der der Aufruf
+	 * abgebrochen wird.
+	 */
+	private static final long CANCEL_AFTER_CANDIDATES = 10000;
+
+	/**
+	 * Diese Konstante enthält die Wartezeit in Millisekunden, in der nach einem Abbruch keine
+	 * weiteren Belegungen geprüft werden dürfen.
+	 */
+	private static final long SETTLE_MILLIS = 200;
+
 	/**
 	 * Dieses Feld soll den Mock für die Fabrik für {@link Protobuf2PuzzleConverter} enthalten.
 	 */
@@ -35,6 +89,11 @@ public class PuzzleSolverServiceTest {
 	 */
 	private PuzzleSolver puzzleSolver;
 
+	/**
+	 * Dieses Feld soll die Aufgaben enthalten, die dem Pool zum Lösen übergeben wurden.
+	 */
+	private List<Runnable> solverTasks;
+
 	/**
 	 * Dieses Feld soll das zu testende Objekt enthalten.
 	 */
@@ -47,10 +106,14 @@ public class PuzzleSolverServiceTest {
 	public void setUp() {
 		this.protobuf2PuzzleConverterFactory = mock(Factory.class);
 		this.puzzleSolver = mock(PuzzleSolver.class);
+		this.solverTasks = new ArrayList<>();
 
 		this.objectUnderTest = new PuzzleSolverService(
 				this.protobuf2PuzzleConverterFactory,
-				this.puzzleSolver);
+				this.puzzleSolver,
+				this.solverTasks::add,
+				new SolutionCache(0),
+				2);
 	}
 
 	/**
@@ -58,13 +121,19 @@ public class PuzzleSolverServiceTest {
 	 */
 	@Test
 	public void testDefaultConstructor() {
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		ArgumentCaptor<StatusRuntimeException> exceptionCaptor
+				= ArgumentCaptor.forClass(StatusRuntimeException.class);
+
 		this.objectUnderTest = new PuzzleSolverService();
 
-		assertThrows(
-				IllegalArgumentException.class,
-				() -> this.objectUnderTest.solvePuzzle(
-						SolvePuzzleRequest.getDefaultInstance(),
-						mock(StreamObserver.class)));
+		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+
+		verify(streamObserver, timeout(TIMEOUT_MILLIS)).onError(exceptionCaptor.capture());
+		assertEquals(
+				Status.Code.INVALID_ARGUMENT,
+				exceptionCaptor.getValue().getStatus().getCode());
+		assertTrue(exceptionCaptor.getValue().getCause() instanceof IllegalArgumentException);
 	}
 
 	/**
@@ -75,8 +144,7 @@ public class PuzzleSolverServiceTest {
 	public void testSolvePuzzle() {
 		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
 		Puzzle puzzle = mock(Puzzle.class);
-		Symbol firstSymbol = mock(Symbol.class);
-		Symbol secondSymbol = mock(Symbol.class);
+		Solution solution = new Solution(Map.of(0, 0, 1, 1));
 		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
 		InOrder orderVerifier = inOrder(streamObserver);
 		SolvePuzzleResponse expectedResponse = SolvePuzzleResponse.newBuilder()
@@ -85,16 +153,15 @@ public class PuzzleSolverServiceTest {
 				.putSymbolIdToDigit(1, 1)
 				.build();
 
-		when(firstSymbol.getId()).thenReturn(0);
-		when(firstSymbol.getBoundValue()).thenReturn((byte) 0);
-		when(secondSymbol.getId()).thenReturn(1);
-		when(secondSymbol.getBoundValue()).thenReturn((byte) 1);
 		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter, null);
 		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
 				.thenReturn(puzzle, null);
-		when(this.puzzleSolver.solvePuzzle(puzzle)).thenReturn(List.of(firstSymbol, secondSymbol));
+		when(this.puzzleSolver.solvePuzzle(eq(puzzle), notNull()))
+				.thenReturn(Optional.of(solution));
 
 		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+		verifyNoInteractions(streamObserver, this.puzzleSolver);
+		this.solverTasks.forEach(Runnable::run);
 
 		orderVerifier.verify(streamObserver).onNext(expectedResponse);
 		orderVerifier.verify(streamObserver).onCompleted();
@@ -119,15 +186,87 @@ public class PuzzleSolverServiceTest {
 		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter, null);
 		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
 				.thenReturn(puzzle, null);
-		when(this.puzzleSolver.solvePuzzle(puzzle)).thenReturn(List.of());
+		when(this.puzzleSolver.solvePuzzle(eq(puzzle), notNull()))
+				.thenReturn(Optional.empty());
 
 		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+		verifyNoInteractions(streamObserver, this.puzzleSolver);
+		this.solverTasks.forEach(Runnable::run);
 
 		orderVerifier.verify(streamObserver).onNext(expectedResponse);
 		orderVerifier.verify(streamObserver).onCompleted();
 		orderVerifier.verifyNoMoreInteractions();
 	}
 
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)} mit einer auf
+	 * einen Teilraum beschränkten Anfrage, die am Cache vorbei gelöst wird.
+	 */
+	@Test
+	public void testSolvePuzzleInRange() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle puzzle = mock(Puzzle.class);
+		SolutionCache solutionCache = mock(SolutionCache.class);
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(streamObserver);
+		SolvePuzzleRequest request = SolvePuzzleRequest.newBuilder()
+				.setPrefixLength(1)
+				.setPrefixRankBegin(2)
+				.setPrefixRankEnd(5)
+				.build();
+
+		this.objectUnderTest = new PuzzleSolverService(
+				this.protobuf2PuzzleConverterFactory,
+				this.puzzleSolver,
+				this.solverTasks::add,
+				solutionCache,
+				2);
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(request)).thenReturn(puzzle);
+		when(this.puzzleSolver.solvePuzzle(eq(puzzle), eq(new PrefixRange(1, 2, 5)), notNull()))
+				.thenReturn(Optional.of(new Solution(Map.of(0, 3))));
+
+		this.objectUnderTest.solvePuzzle(request, streamObserver);
+		this.solverTasks.forEach(Runnable::run);
+
+		orderVerifier.verify(streamObserver).onNext(SolvePuzzleResponse.newBuilder()
+				.setSolutionFound(true)
+				.putSymbolIdToDigit(0, 3)
+				.build());
+		orderVerifier.verify(streamObserver).onCompleted();
+		verify(this.puzzleSolver, never()).solvePuzzle(any(), any(BooleanSupplier.class));
+		verifyNoInteractions(solutionCache);
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)} mit einem
+	 * ungültigen Teilraum.
+	 */
+	@Test
+	public void testSolvePuzzleInvalidRange() {
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		ArgumentCaptor<StatusRuntimeException> exceptionCaptor
+				= ArgumentCaptor.forClass(StatusRuntimeException.class);
+
+		this.objectUnderTest.solvePuzzle(
+				SolvePuzzleRequest.newBuilder()
+						.setPrefixLength(1)
+						.setPrefixRankBegin(4)
+						.setPrefixRankEnd(11)
+						.build(),
+				streamObserver);
+		this.solverTasks.forEach(Runnable::run);
+
+		verify(streamObserver).onError(exceptionCaptor.capture());
+		assertEquals(
+				Status.Code.INVALID_ARGUMENT,
+				exceptionCaptor.getValue().getStatus().getCode());
+		assertTrue(exceptionCaptor.getValue().getCause() instanceof IllegalArgumentException);
+		verifyNoInteractions(this.puzzleSolver);
+	}
+
 	/**
 	 * Diese Methode prüft den mehrfachen Aufruf von
 	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)}.
@@ -142,8 +281,7 @@ public class PuzzleSolverServiceTest {
 		Protobuf2PuzzleConverter firstConverter = mock(Protobuf2PuzzleConverter.class);
 		Protobuf2PuzzleConverter secondConverter = mock(Protobuf2PuzzleConverter.class);
 		Puzzle puzzle = mock(Puzzle.class);
-		Symbol firstSymbol = mock(Symbol.class);
-		Symbol secondSymbol = mock(Symbol.class);
+		Solution solution = new Solution(Map.of(0, 0, 1, 1));
 		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
 		InOrder orderVerifier = inOrder(firstConverter, secondConverter, streamObserver);
 		SolvePuzzleResponse expectedResponse = SolvePuzzleResponse.newBuilder()
@@ -152,10 +290,6 @@ public class PuzzleSolverServiceTest {
 				.putSymbolIdToDigit(1, 1)
 				.build();
 
-		when(firstSymbol.getId()).thenReturn(0);
-		when(firstSymbol.getBoundValue()).thenReturn((byte) 0);
-		when(secondSymbol.getId()).thenReturn(1);
-		when(secondSymbol.getBoundValue()).thenReturn((byte) 1);
 		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(
 				firstConverter,
 				secondConverter,
@@ -164,10 +298,12 @@ public class PuzzleSolverServiceTest {
 				.thenReturn(puzzle, null);
 		when(secondConverter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
 				.thenReturn(puzzle, null);
-		when(this.puzzleSolver.solvePuzzle(puzzle)).thenReturn(List.of(firstSymbol, secondSymbol));
+		when(this.puzzleSolver.solvePuzzle(eq(puzzle), notNull()))
+				.thenReturn(Optional.of(solution));
 
 		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
 		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+		this.solverTasks.forEach(Runnable::run);
 
 		orderVerifier.verify(firstConverter).createPuzzle(notNull());
 		orderVerifier.verify(streamObserver).onNext(expectedResponse);
@@ -177,4 +313,479 @@ public class PuzzleSolverServiceTest {
 		orderVerifier.verify(streamObserver).onCompleted();
 		orderVerifier.verifyNoMoreInteractions();
 	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)} mit
+	 * {@link SolutionCache}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass ein Rätsel mit derselben Struktur, aber anderen
+	 *     Symbol-Ids nicht erneut gelöst wird und die Lösung die Symbol-Ids der Anfrage enthält.
+	 * </p>
+	 */
+	@Test
+	public void testSolvePuzzleCached() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle firstPuzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		Puzzle secondPuzzle = new PuzzleGenerator().generate(2, 2, 2, 2);
+		SolutionCache solutionCache = new SolutionCache();
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(streamObserver);
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
+				.thenReturn(firstPuzzle, secondPuzzle);
+		when(this.puzzleSolver.solvePuzzle(eq(firstPuzzle), notNull()))
+				.thenReturn(Optional.of(Solution.of(firstPuzzle.getSymbols(), new int[] {1, 2, 4})));
+		this.objectUnderTest = new PuzzleSolverService(
+				this.protobuf2PuzzleConverterFactory,
+				this.puzzleSolver,
+				Runnable::run,
+				solutionCache,
+				2);
+
+		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+
+		orderVerifier.verify(streamObserver).onNext(this.createResponse(firstPuzzle, 1, 2, 4));
+		orderVerifier.verify(streamObserver).onCompleted();
+		orderVerifier.verify(streamObserver).onNext(this.createResponse(secondPuzzle, 1, 2, 4));
+		orderVerifier.verify(streamObserver).onCompleted();
+		verify(this.puzzleSolver, never()).solvePuzzle(eq(secondPuzzle), any());
+		assertEquals(1, solutionCache.getHitCount());
+		assertEquals(1, solutionCache.getMissCount());
+	}
+
+	/**
+	 * Diese Methode erzeugt die erwartete Antwort für ein gelöstes Rätsel.
+	 *
+	 * @param puzzle das gelöste Rätsel
+	 * @param digits die Ziffern in der Reihenfolge der Symbole
+	 * @return die erzeugte Antwort
+	 */
+	private SolvePuzzleResponse createResponse(final Puzzle puzzle, final int... digits) {
+		SolvePuzzleResponse.Builder result = SolvePuzzleResponse.newBuilder()
+				.setSolutionFound(true);
+
+		for (int index = 0; index < digits.length; index++) {
+			result.putSymbolIdToDigit(puzzle.getSymbols().get(index).getId(), digits[index]);
+		}
+
+		return result.build();
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)}, wenn die
+	 * Warteschlange des Pools voll ist.
+	 */
+	@Test
+	public void testSolvePuzzleRejected() {
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		ArgumentCaptor<StatusRuntimeException> exceptionCaptor
+				= ArgumentCaptor.forClass(StatusRuntimeException.class);
+
+		this.objectUnderTest = new PuzzleSolverService(
+				this.protobuf2PuzzleConverterFactory,
+				this.puzzleSolver,
+				runnable -> {
+					throw new RejectedExecutionException("queue full");
+				},
+				new SolutionCache(),
+				2);
+
+		this.objectUnderTest.solvePuzzle(SolvePuzzleRequest.getDefaultInstance(), streamObserver);
+
+		verify(streamObserver).onError(exceptionCaptor.capture());
+		verifyNoMoreInteractions(streamObserver);
+		assertEquals(
+				Status.Code.RESOURCE_EXHAUSTED,
+				exceptionCaptor.getValue().getStatus().getCode());
+		verifyNoInteractions(this.puzzleSolver);
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)}, wenn der
+	 * Aufruf abgebrochen wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die Suche den {@link Context} des Aufrufs abfragt,
+	 *     auch wenn sie auf einem anderen Thread läuft.
+	 * </p>
+	 */
+	@Test
+	public void testSolvePuzzleCancelled() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle puzzle = mock(Puzzle.class);
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		ArgumentCaptor<StatusRuntimeException> exceptionCaptor
+				= ArgumentCaptor.forClass(StatusRuntimeException.class);
+		Context.CancellableContext context = Context.current().withCancellation();
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance())).thenReturn(puzzle);
+		when(this.puzzleSolver.solvePuzzle(eq(puzzle), notNull())).thenAnswer(invocation -> {
+			BooleanSupplier cancelled = invocation.getArgument(1);
+
+			assertFalse(cancelled.getAsBoolean());
+			context.cancel(null);
+			assertTrue(cancelled.getAsBoolean());
+			assertTrue(Context.ROOT.call(cancelled::getAsBoolean));
+			throw new CancellationException("Search was cancelled!");
+		});
+
+		context.run(() -> this.objectUnderTest.solvePuzzle(
+				SolvePuzzleRequest.getDefaultInstance(),
+				streamObserver));
+		this.solverTasks.forEach(Runnable::run);
+
+		verify(streamObserver).onError(exceptionCaptor.capture());
+		verifyNoMoreInteractions(streamObserver);
+		assertEquals(Status.Code.CANCELLED, exceptionCaptor.getValue().getStatus().getCode());
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#solvePuzzle(SolvePuzzleRequest, StreamObserver)}, wenn der
+	 * Aufruf während einer parallelen Suche abgebrochen wird.
+	 *
+	 * <p>
+	 *     Die Worker-Threads der parallelen Suche sehen nicht den {@link Context} des Aufrufs.
+	 *     Nach dem Abbruch darf die Anzahl der geprüften Belegungen trotzdem nicht weiter steigen.
+	 * </p>
+	 *
+	 * @throws InterruptedException falls das Warten unterbrochen wird
+	 */
+	@Test
+	public void testSolvePuzzleCancelledParallel() throws InterruptedException {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		StreamObserver<SolvePuzzleResponse> streamObserver = mock(StreamObserver.class);
+		ArgumentCaptor<StatusRuntimeException> exceptionCaptor
+				= ArgumentCaptor.forClass(StatusRuntimeException.class);
+		Context.CancellableContext context = Context.current().withCancellation();
+		ParallelPuzzleSolver parallelPuzzleSolver = new ParallelPuzzleSolver(0);
+		LongAdder candidateCount = new LongAdder();
+		long candidateCountAfterCancel;
+
+		parallelPuzzleSolver.setSolverProgressLogger(new SolverProgressLogger() {
+
+			@Override
+			public void logPermutation(
+					@Nonnull final List<Symbol> symbols,
+					@Nonnull final int[] values,
+					final boolean isSolution) {
+
+				candidateCount.increment();
+
+				if (candidateCount.sum() == CANCEL_AFTER_CANDIDATES) {
+					context.cancel(null);
+				}
+			}
+
+			@Override
+			public void log(@Nonnull final String message) {
+			}
+		});
+		this.objectUnderTest = new PuzzleSolverService(
+				this.protobuf2PuzzleConverterFactory,
+				parallelPuzzleSolver,
+				this.solverTasks::add,
+				new SolutionCache(0),
+				2);
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
+				.thenReturn(this.createUnsolvablePuzzle());
+
+		context.run(() -> this.objectUnderTest.solvePuzzle(
+				SolvePuzzleRequest.getDefaultInstance(),
+				streamObserver));
+		this.solverTasks.forEach(Runnable::run);
+		Thread.sleep(SETTLE_MILLIS);
+		candidateCountAfterCancel = candidateCount.sum();
+		Thread.sleep(SETTLE_MILLIS);
+
+		verify(streamObserver).onError(exceptionCaptor.capture());
+		assertEquals(Status.Code.CANCELLED, exceptionCaptor.getValue().getStatus().getCode());
+		assertEquals(candidateCountAfterCancel, candidateCount.sum());
+		assertTrue(candidateCountAfterCancel < ALL_CANDIDATES / 2);
+	}
+
+	/**
+	 * Diese Methode erzeugt ein Rätsel mit zehn Symbolen ohne Lösung, dessen Suche alle
+	 * Belegungen prüfen muss.
+	 *
+	 * @return das erzeugte Rätsel
+	 */
+	@Nonnull
+	private Puzzle createUnsolvablePuzzle() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol[] symbols = new Symbol[10];
+
+		for (int i = 0; i < symbols.length; i++) {
+			symbols[i] = puzzleBuilder.findOrCreateSymbol(i, null, 0);
+		}
+
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(0, 0, List.of(symbols[0])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(0, 1, List.of(symbols[1])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(0, 2, List.of(symbols[0])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(1, 0, List.of(symbols[2])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(1, 1, List.of(symbols[3])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(1, 2, List.of(symbols[2])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(2, 0, List.of(symbols[4])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(2, 1, List.of(symbols[5])));
+		puzzleBuilder.withCell(new software.sirsch.sa4e.puzzles.Cell(
+				2,
+				2,
+				List.of(symbols[6], symbols[7], symbols[8], symbols[9])));
+		return puzzleBuilder.build();
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#enumerateSolutions(EnumerateSolutionsRequest, StreamObserver)}.
+	 */
+	@Test
+	public void testEnumerateSolutions() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle puzzle = mock(Puzzle.class);
+		StreamObserver<EnumerateSolutionsResponse> streamObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(streamObserver);
+		AtomicBoolean closed = new AtomicBoolean();
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter, null);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
+				.thenReturn(puzzle, null);
+		when(this.puzzleSolver.findAllSolutions(eq(puzzle), notNull())).thenReturn(Stream.of(
+				new Solution(Map.of(0, 1)),
+				new Solution(Map.of(0, 2)),
+				new Solution(Map.of(0, 3)))
+				.onClose(() -> closed.set(true)));
+		when(this.puzzleSolver.runSearch(notNull()))
+				.thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+
+		this.objectUnderTest.enumerateSolutions(
+				EnumerateSolutionsRequest.newBuilder()
+						.setPuzzle(SolvePuzzleRequest.getDefaultInstance())
+						.setLimit(2)
+						.build(),
+				streamObserver);
+		this.solverTasks.forEach(Runnable::run);
+
+		orderVerifier.verify(streamObserver).onNext(EnumerateSolutionsResponse.newBuilder()
+				.putSymbolIdToDigit(0, 1)
+				.build());
+		orderVerifier.verify(streamObserver).onNext(EnumerateSolutionsResponse.newBuilder()
+				.putSymbolIdToDigit(0, 2)
+				.build());
+		orderVerifier.verify(streamObserver).onNext(EnumerateSolutionsResponse.newBuilder()
+				.setSolutionCount(2)
+				.setCompleted(true)
+				.build());
+		orderVerifier.verify(streamObserver).onCompleted();
+		orderVerifier.verifyNoMoreInteractions();
+		assertTrue(closed.get());
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link PuzzleSolverService#enumerateSolutions(EnumerateSolutionsRequest, StreamObserver)}
+	 * im Modus {@link EnumerationMode#COUNT_ONLY}.
+	 */
+	@Test
+	public void testEnumerateSolutionsCountOnly() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle puzzle = mock(Puzzle.class);
+		StreamObserver<EnumerateSolutionsResponse> streamObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(streamObserver);
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter, null);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
+				.thenReturn(puzzle, null);
+		when(this.puzzleSolver.countSolutions(eq(puzzle), eq(Long.MAX_VALUE), notNull()))
+				.thenReturn(5L);
+
+		this.objectUnderTest.enumerateSolutions(
+				EnumerateSolutionsRequest.newBuilder()
+						.setPuzzle(SolvePuzzleRequest.getDefaultInstance())
+						.setMode(EnumerationMode.COUNT_ONLY)
+						.build(),
+				streamObserver);
+		this.solverTasks.forEach(Runnable::run);
+
+		orderVerifier.verify(streamObserver).onNext(EnumerateSolutionsResponse.newBuilder()
+				.setSolutionCount(5)
+				.setCompleted(true)
+				.build());
+		orderVerifier.verify(streamObserver).onCompleted();
+		orderVerifier.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverService#solvePuzzles(StreamObserver)}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die Antworten in der Reihenfolge der Fertigstellung
+	 *     gesendet werden und der Antwortstrom erst nach der letzten Antwort beendet wird.
+	 * </p>
+	 */
+	@Test
+	public void testSolvePuzzles() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		Puzzle firstPuzzle = mock(Puzzle.class);
+		Puzzle secondPuzzle = mock(Puzzle.class);
+		SolvePuzzleRequest firstRequest = SolvePuzzleRequest.newBuilder()
+				.addCells(Cell.newBuilder().setRow(1))
+				.build();
+		SolvePuzzleRequest secondRequest = SolvePuzzleRequest.newBuilder()
+				.addCells(Cell.newBuilder().setRow(2))
+				.build();
+		StreamObserver<SolvePuzzlesResponse> responseObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(responseObserver);
+		StreamObserver<SolvePuzzlesRequest> result;
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(firstRequest)).thenReturn(firstPuzzle);
+		when(converter.createPuzzle(secondRequest)).thenReturn(secondPuzzle);
+		when(this.puzzleSolver.solvePuzzle(eq(firstPuzzle), notNull()))
+				.thenReturn(Optional.of(new Solution(Map.of(0, 1))));
+		when(this.puzzleSolver.solvePuzzle(eq(secondPuzzle), notNull()))
+				.thenReturn(Optional.empty());
+
+		result = this.objectUnderTest.solvePuzzles(responseObserver);
+		result.onNext(SolvePuzzlesRequest.newBuilder()
+				.setRequestId("first")
+				.setPuzzle(firstRequest)
+				.build());
+		result.onNext(SolvePuzzlesRequest.newBuilder()
+				.setRequestId("second")
+				.setPuzzle(secondRequest)
+				.build());
+		result.onCompleted();
+
+		verifyNoInteractions(responseObserver);
+		assertEquals(2, this.solverTasks.size());
+
+		this.solverTasks.get(1).run();
+		this.solverTasks.get(0).run();
+
+		orderVerifier.verify(responseObserver).onNext(SolvePuzzlesResponse.newBuilder()
+				.setRequestId("second")
+				.setResponse(SolvePuzzleResponse.newBuilder().setSolutionFound(false))
+				.build());
+		orderVerifier.verify(responseObserver).onNext(SolvePuzzlesResponse.newBuilder()
+				.setRequestId("first")
+				.setResponse(SolvePuzzleResponse.newBuilder()
+						.setSolutionFound(true)
+						.putSymbolIdToDigit(0, 1))
+				.build());
+		orderVerifier.verify(responseObserver).onCompleted();
+		orderVerifier.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverService#solvePuzzles(StreamObserver)}, wenn ein
+	 * Rätsel ungültig ist.
+	 */
+	@Test
+	public void testSolvePuzzlesInvalidPuzzle() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		StreamObserver<SolvePuzzlesResponse> responseObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(responseObserver);
+		StreamObserver<SolvePuzzlesRequest> result;
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(converter.createPuzzle(SolvePuzzleRequest.getDefaultInstance()))
+				.thenThrow(new IllegalArgumentException("invalid"));
+
+		result = this.objectUnderTest.solvePuzzles(responseObserver);
+		result.onNext(SolvePuzzlesRequest.newBuilder().setRequestId("id").build());
+		this.solverTasks.forEach(Runnable::run);
+		result.onCompleted();
+
+		orderVerifier.verify(responseObserver).onNext(SolvePuzzlesResponse.newBuilder()
+				.setRequestId("id")
+				.setErrorMessage("invalid")
+				.build());
+		orderVerifier.verify(responseObserver).onCompleted();
+		orderVerifier.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverService#solvePuzzles(StreamObserver)}, wenn die
+	 * Stapelverarbeitung eine Aufgabe zurückweist.
+	 */
+	@Test
+	public void testSolvePuzzlesRejected() {
+		StreamObserver<SolvePuzzlesResponse> responseObserver = mock(StreamObserver.class);
+		InOrder orderVerifier = inOrder(responseObserver);
+		StreamObserver<SolvePuzzlesRequest> result;
+
+		this.objectUnderTest = new PuzzleSolverService(
+				this.protobuf2PuzzleConverterFactory,
+				this.puzzleSolver,
+				runnable -> {
+					throw new RejectedExecutionException("queue full");
+				},
+				new SolutionCache(),
+				2);
+
+		result = this.objectUnderTest.solvePuzzles(responseObserver);
+		result.onNext(SolvePuzzlesRequest.newBuilder().setRequestId("id").build());
+		result.onCompleted();
+
+		orderVerifier.verify(responseObserver).onNext(SolvePuzzlesResponse.newBuilder()
+				.setRequestId("id")
+				.setErrorMessage("Puzzle rejected: queue full")
+				.build());
+		orderVerifier.verify(responseObserver).onCompleted();
+		orderVerifier.verifyNoMoreInteractions();
+		verifyNoInteractions(this.puzzleSolver);
+	}
+
+	/**
+	 * Diese Methode prüft die Flusskontrolle von
+	 * {@link PuzzleSolverService#solvePuzzles(StreamObserver)}.
+	 */
+	@Test
+	public void testSolvePuzzlesFlowControl() {
+		Protobuf2PuzzleConverter converter = mock(Protobuf2PuzzleConverter.class);
+		ServerCallStreamObserver<SolvePuzzlesResponse> responseObserver
+				= mock(ServerCallStreamObserver.class);
+		InOrder orderVerifier = inOrder(responseObserver);
+		StreamObserver<SolvePuzzlesRequest> result;
+
+		when(this.protobuf2PuzzleConverterFactory.create()).thenReturn(converter);
+		when(this.puzzleSolver.solvePuzzle(any(), notNull())).thenReturn(Optional.empty());
+
+		result = this.objectUnderTest.solvePuzzles(responseObserver);
+
+		orderVerifier.verify(responseObserver).disableAutoRequest();
+		orderVerifier.verify(responseObserver).request(2);
+
+		result.onNext(SolvePuzzlesRequest.newBuilder().setRequestId("id").build());
+		this.solverTasks.forEach(Runnable::run);
+
+		orderVerifier.verify(responseObserver).onNext(notNull());
+		orderVerifier.verify(responseObserver).request(1);
+		orderVerifier.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolverService#solvePuzzles(StreamObserver)}, wenn der
+	 * Client den Aufruf abbricht.
+	 */
+	@Test
+	public void testSolvePuzzlesCancelled() {
+		StreamObserver<SolvePuzzlesResponse> responseObserver = mock(StreamObserver.class);
+		StreamObserver<SolvePuzzlesRequest> result;
+
+		result = this.objectUnderTest.solvePuzzles(responseObserver);
+		result.onNext(SolvePuzzlesRequest.newBuilder().setRequestId("id").build());
+		result.onError(new RuntimeException());
+		this.solverTasks.forEach(Runnable::run);
+
+		verifyNoInteractions(responseObserver, this.puzzleSolver);
+	}
 }
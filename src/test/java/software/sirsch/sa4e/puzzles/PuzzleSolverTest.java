@@ -1,20 +1,24 @@
 package software.sirsch.sa4e.puzzles;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
-import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.allOf;
-import static org.hamcrest.Matchers.contains;
-import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.hasProperty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -54,42 +58,20 @@ public class PuzzleSolverTest {
 	@Test
 	public void testSolvePuzzleWithSolution() {
 		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
-		List<Symbol> result;
+		Optional<Solution> result;
 
 		result = this.objectUnderTest.solvePuzzle(puzzle);
 
-		assertThat(result, contains(
-				allOf(
-						hasProperty("id", equalTo(1)),
-						hasProperty("boundValue", equalTo((byte) 2))),
-				allOf(
-						hasProperty("id", equalTo(2)),
-						hasProperty("boundValue", equalTo((byte) 1))),
-				allOf(
-						hasProperty("id", equalTo(3)),
-						hasProperty("boundValue", equalTo((byte) 4))),
-				allOf(
-						hasProperty("id", equalTo(4)),
-						hasProperty("boundValue", equalTo((byte) 3))),
-				allOf(
-						hasProperty("id", equalTo(5)),
-						hasProperty("boundValue", equalTo((byte) 6))),
-				allOf(
-						hasProperty("id", equalTo(6)),
-						hasProperty("boundValue", equalTo((byte) 8))),
-				allOf(
-						hasProperty("id", equalTo(7)),
-						hasProperty("boundValue", equalTo((byte) 7))),
-				allOf(
-						hasProperty("id", equalTo(8)),
-						hasProperty("boundValue", equalTo((byte) 5))),
-				allOf(
-						hasProperty("id", equalTo(9)),
-						hasProperty("boundValue", equalTo((byte) 0))),
-				allOf(
-						hasProperty("id", equalTo(10)),
-						hasProperty("boundValue", equalTo((byte) 9)))));
-		assertEquals(2185700, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(
+				Optional.of(new Solution(Map.of(
+						1, 2, 2, 1, 3, 4, 4, 3, 5, 6,
+						6, 8, 7, 7, 8, 5, 9, 0, 10, 9))),
+				result);
+		assertEquals(
+				List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+				List.copyOf(result.get().getSymbolIdToDigit().keySet()));
+		puzzle.getSymbols().forEach(symbol -> assertFalse(symbol.isValueBound()));
+		assertEquals(777206, this.solverProgressLoggerMock.getNotSolutionCount());
 		assertEquals(1, this.solverProgressLoggerMock.getSolutionCount());
 	}
 
@@ -103,7 +85,7 @@ public class PuzzleSolverTest {
 		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
 		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
 		Puzzle puzzle;
-		List<Symbol> result;
+		Optional<Solution> result;
 
 		puzzleBuilder.withCell(new Cell(0, 0, singletonList(symbol0)));
 		puzzleBuilder.withCell(new Cell(0, 1, singletonList(symbol0)));
@@ -118,8 +100,8 @@ public class PuzzleSolverTest {
 
 		result = this.objectUnderTest.solvePuzzle(puzzle);
 
-		assertEquals(emptyList(), result);
-		assertEquals(3628800, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(Optional.empty(), result);
+		assertEquals(90, this.solverProgressLoggerMock.getNotSolutionCount());
 		assertEquals(0, this.solverProgressLoggerMock.getSolutionCount());
 	}
 
@@ -133,7 +115,7 @@ public class PuzzleSolverTest {
 		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
 		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
 		Puzzle puzzle;
-		List<Symbol> result;
+		Optional<Solution> result;
 
 		puzzleBuilder.withCell(new Cell(0, 0, singletonList(symbol0)));
 		puzzleBuilder.withCell(new Cell(0, 1, singletonList(symbol0)));
@@ -149,7 +131,278 @@ public class PuzzleSolverTest {
 
 		result = this.objectUnderTest.solvePuzzle(puzzle);
 
-		assertEquals(emptyList(), result);
+		assertEquals(Optional.empty(), result);
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle, PrefixRange, BooleanSupplier)},
+	 * wenn der Teilraum die Lösung enthält.
+	 */
+	@Test
+	public void testSolvePuzzleInRange() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle, new PrefixRange(1, 2, 3), () -> false);
+
+		assertEquals(
+				Optional.of(new Solution(Map.of(
+						1, 2, 2, 1, 3, 4, 4, 3, 5, 6,
+						6, 8, 7, 7, 8, 5, 9, 0, 10, 9))),
+				result);
+		assertEquals(777206 - 2 * 362880, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertEquals(1, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle, PrefixRange, BooleanSupplier)},
+	 * wenn der Teilraum keine Lösung enthält.
+	 */
+	@Test
+	public void testSolvePuzzleInRangeWithoutSolution() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Optional<Solution> result;
+
+		result = this.objectUnderTest.solvePuzzle(puzzle, new PrefixRange(1, 0, 2), () -> false);
+
+		assertEquals(Optional.empty(), result);
+		assertEquals(2 * 362880, this.solverProgressLoggerMock.getNotSolutionCount());
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.solvePuzzle(
+						new PuzzleGenerator().generate(1, 2, 3, 4),
+						new PrefixRange(10, 0, 1),
+						() -> false));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#findAllSolutions(Puzzle)}.
+	 */
+	@Test
+	public void testFindAllSolutions() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		List<Solution> result;
+
+		result = this.objectUnderTest.findAllSolutions(puzzle).collect(Collectors.toList());
+
+		assertEquals(
+				List.of(
+						Solution.of(puzzle.getSymbols(), new int[] {1, 2, 4}),
+						Solution.of(puzzle.getSymbols(), new int[] {2, 4, 8})),
+				result);
+		assertEquals(2, this.solverProgressLoggerMock.getSolutionCount());
+		assertEquals(718, this.solverProgressLoggerMock.getNotSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft, dass {@link PuzzleSolver#findAllSolutions(Puzzle)} die Suche bei
+	 * Begrenzung des Streams vorzeitig beendet.
+	 */
+	@Test
+	public void testFindAllSolutionsWithLimit() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		List<Solution> result;
+
+		result = this.objectUnderTest.findAllSolutions(puzzle)
+				.limit(1)
+				.collect(Collectors.toList());
+
+		assertEquals(List.of(Solution.of(puzzle.getSymbols(), new int[] {1, 2, 4})), result);
+		assertEquals(1, this.solverProgressLoggerMock.getSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#countSolutions(Puzzle, long)}.
+	 */
+	@Test
+	public void testCountSolutions() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+
+		assertEquals(2, this.objectUnderTest.countSolutions(puzzle, Long.MAX_VALUE));
+		assertEquals(1, this.objectUnderTest.countSolutions(puzzle, 1));
+		assertEquals(0, this.objectUnderTest.countSolutions(puzzle, 0));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle, BooleanSupplier)}, wenn die
+	 * Suche abgebrochen wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die Suche spätestens nach
+	 *     {@link CancellableSpliterator#CHECK_INTERVAL} weiteren Belegungen endet.
+	 * </p>
+	 */
+	@Test
+	public void testSolvePuzzleCancelled() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		AtomicBoolean cancelled = new AtomicBoolean();
+		SolverProgressLoggerMock counter = new SolverProgressLoggerMock() {
+
+			@Override
+			public void logPermutation(
+					@Nonnull final List<Symbol> symbols,
+					@Nonnull final int[] values,
+					final boolean isSolution) {
+
+				super.logPermutation(symbols, values, isSolution);
+				cancelled.set(true);
+			}
+		};
+
+		this.objectUnderTest.setSolverProgressLogger(counter);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.solvePuzzle(puzzle, cancelled::get));
+		assertTrue(counter.getNotSolutionCount() <= CancellableSpliterator.CHECK_INTERVAL);
+		puzzle.getSymbols().forEach(symbol -> assertFalse(symbol.isValueBound()));
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle)} mit {@link SolverMetrics}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass jede geprüfte Belegung außer der Lösung als
+	 *     Widerspruch einer Addition gezählt wird.
+	 * </p>
+	 */
+	@Test
+	public void testSolvePuzzleWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		SolverMetrics solverMetrics = new SolverMetrics();
+		long contradictionCount = 0;
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+
+		assertTrue(this.objectUnderTest.solvePuzzle(puzzle).isPresent());
+
+		for (int addition = 0; addition < SolverMetrics.ADDITION_COUNT; addition++) {
+			contradictionCount += solverMetrics.getContradictionCount(addition);
+		}
+
+		assertEquals(this.solverProgressLoggerMock.getNotSolutionCount(), contradictionCount);
+		assertEquals(
+				contradictionCount + 1,
+				solverMetrics.getCandidateCount(SolverEngine.BRUTE_FORCE));
+		assertEquals(10 * 9 * 8, solverMetrics.getSearchSpaceSize(SolverEngine.BRUTE_FORCE));
+		assertEquals(1, solverMetrics.getSolvedCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(0, solverMetrics.getUnsolvedCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(1, solverMetrics.getSolveDurations(SearchMode.FIRST_SOLUTION).getCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle, BooleanSupplier)} mit
+	 * {@link SolverMetrics}, wenn die Suche abgebrochen wird.
+	 */
+	@Test
+	public void testSolvePuzzleCancelledWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		SolverMetrics solverMetrics = new SolverMetrics();
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.solvePuzzle(puzzle, () -> true));
+		assertEquals(1, solverMetrics.getCancelledCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(0, solverMetrics.getSolvedCount(SearchMode.FIRST_SOLUTION)
+				+ solverMetrics.getUnsolvedCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(1, solverMetrics.getSolveDurations(SearchMode.FIRST_SOLUTION).getCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#countSolutions(Puzzle, long)} mit
+	 * {@link SolverMetrics}.
+	 */
+	@Test
+	public void testCountSolutionsWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		SolverMetrics solverMetrics = new SolverMetrics();
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+
+		this.objectUnderTest.countSolutions(puzzle, Long.MAX_VALUE);
+		this.objectUnderTest.countSolutions(puzzle, 0);
+
+		assertEquals(10 * 9 * 8, solverMetrics.getCandidateCount(SolverEngine.BRUTE_FORCE));
+		assertEquals(2 * 10 * 9 * 8, solverMetrics.getSearchSpaceSize(SolverEngine.BRUTE_FORCE));
+		assertEquals(1, solverMetrics.getSolvedCount(SearchMode.COUNT_SOLUTIONS));
+		assertEquals(1, solverMetrics.getUnsolvedCount(SearchMode.COUNT_SOLUTIONS));
+		assertEquals(2, solverMetrics.getSolveDurations(SearchMode.COUNT_SOLUTIONS).getCount());
+		assertEquals(0, solverMetrics.getSolveDurations(SearchMode.FIRST_SOLUTION).getCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#findAllSolutions(Puzzle, BooleanSupplier)} mit
+	 * {@link SolverMetrics}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass Dauer und Ergebnis erst beim Schließen des
+	 *     Streams erfasst werden.
+	 * </p>
+	 */
+	@Test
+	public void testFindAllSolutionsWithMetrics() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		SolverMetrics solverMetrics = new SolverMetrics();
+		AtomicBoolean cancelled = new AtomicBoolean();
+		Stream<Solution> solutions;
+
+		this.objectUnderTest.setSolverMetrics(solverMetrics);
+		solutions = this.objectUnderTest.findAllSolutions(puzzle, cancelled::get);
+
+		assertEquals(2, solutions.count());
+		assertEquals(0, solverMetrics.getSolveDurations(SearchMode.ALL_SOLUTIONS).getCount());
+
+		solutions.close();
+
+		assertEquals(1, solverMetrics.getSolvedCount(SearchMode.ALL_SOLUTIONS));
+
+		try (Stream<Solution> cancelledSolutions = this.objectUnderTest.findAllSolutions(
+				puzzle,
+				cancelled::get)) {
+
+			cancelled.set(true);
+			assertThrows(CancellationException.class, cancelledSolutions::count);
+		}
+
+		assertEquals(1, solverMetrics.getCancelledCount(SearchMode.ALL_SOLUTIONS));
+		assertEquals(2, solverMetrics.getSolveDurations(SearchMode.ALL_SOLUTIONS).getCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#solvePuzzle(Puzzle, BooleanSupplier)} mit Delay,
+	 * wenn die Suche bereits abgebrochen wurde.
+	 */
+	@Test
+	public void testSolvePuzzleCancelledWithDelay() {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+
+		this.objectUnderTest = new PuzzleSolver(1);
+		this.objectUnderTest.setSolverProgressLogger(this.solverProgressLoggerMock);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.solvePuzzle(puzzle, () -> true));
+		assertEquals(0, this.solverProgressLoggerMock.getNotSolutionCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link PuzzleSolver#findAllSolutions(Puzzle, BooleanSupplier)} und
+	 * {@link PuzzleSolver#countSolutions(Puzzle, long, BooleanSupplier)}, wenn die Suche
+	 * abgebrochen wurde.
+	 */
+	@Test
+	public void testFindAndCountSolutionsCancelled() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.findAllSolutions(puzzle, () -> true).count());
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.countSolutions(puzzle, Long.MAX_VALUE, () -> true));
+		assertEquals(0, this.solverProgressLoggerMock.getNotSolutionCount());
 	}
 
 	/**
@@ -159,19 +412,19 @@ public class PuzzleSolverTest {
 	private static class SolverProgressLoggerMock implements SolverProgressLogger {
 
 		/**
-		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, boolean)} mit
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
 		 * {@code isSolution == true}.
 		 */
 		private int solutionCount = 0;
 
 		/**
-		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, boolean)} mit
+		 * Dieses Feld enthält die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
 		 * {@code isSolution == false}.
 		 */
 		private int notSolutionCount = 0;
 
 		/**
-		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, boolean)} mit
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
 		 * {@code isSolution == true} zurück.
 		 *
 		 * @return die ermittelte Anzahl
@@ -181,7 +434,7 @@ public class PuzzleSolverTest {
 		}
 
 		/**
-		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, boolean)} mit
+		 * Diese Methode gibt die Anzahl der Aufrufe von {@link #logPermutation(List, int[], boolean)} mit
 		 * {@code isSolution == false} zurück.
 		 *
 		 * @return die ermittelte Anzahl
@@ -191,7 +444,11 @@ public class PuzzleSolverTest {
 		}
 
 		@Override
-		public void logPermutation(@Nonnull List<Symbol> permutation, boolean isSolution) {
+		public void logPermutation(
+				@Nonnull final List<Symbol> symbols,
+				@Nonnull final int[] values,
+				final boolean isSolution) {
+
 			if (isSolution) {
 				this.solutionCount++;
 			} else {
@@ -76,6 +76,19 @@ public class PuzzleTest {
 		assertThrows(UnsupportedOperationException.class, () -> result.clear());
 	}
 
+	/**
+	 * Diese Methode prüft {@link Puzzle#getAdditions()}.
+	 */
+	@Test
+	public void testGetAdditions() {
+		List<Addition> result;
+
+		result = this.objectUnderTest.getAdditions();
+
+		assertEquals(List.of(this.firstAddition, this.secondAddition), result);
+		assertThrows(UnsupportedOperationException.class, () -> result.clear());
+	}
+
 	/**
 	 * Diese Methode prüft {@link Puzzle#isSolution(List)}, wenn nicht genügend Werte übergeben
 	 * wurden.
@@ -0,0 +1,84 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link RateMonitor} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RateMonitorTest {
+
+	/**
+	 * Dieses Feld soll die Uhr in Nanosekunden enthalten.
+	 */
+	private AtomicLong nanoClock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private RateMonitor objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.nanoClock = new AtomicLong(123_456_789L);
+		this.objectUnderTest = new RateMonitor(90, 1_000_000_000L, this.nanoClock::get);
+	}
+
+	/**
+	 * Diese Methode prüft, ob innerhalb eines Messfensters nichts gemeldet wird.
+	 */
+	@Test
+	public void testRecordWithinWindow() {
+		this.nanoClock.addAndGet(999_999_999L);
+
+		assertEquals(OptionalDouble.empty(), this.objectUnderTest.record(1));
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine ausreichende Rate nicht gemeldet wird.
+	 */
+	@Test
+	public void testRecordSufficientRate() {
+		this.objectUnderTest.record(50);
+		this.nanoClock.addAndGet(1_000_000_000L);
+
+		assertEquals(OptionalDouble.empty(), this.objectUnderTest.record(40));
+	}
+
+	/**
+	 * Diese Methode prüft, ob eine zu geringe Rate gemeldet und danach ein neues Messfenster
+	 * begonnen wird.
+	 */
+	@Test
+	public void testRecordInsufficientRate() {
+		this.objectUnderTest.record(50);
+		this.nanoClock.addAndGet(2_000_000_000L);
+
+		assertEquals(OptionalDouble.of(30d), this.objectUnderTest.record(10));
+
+		this.nanoClock.addAndGet(1_000_000_000L);
+
+		assertEquals(OptionalDouble.empty(), this.objectUnderTest.record(100));
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor mit ungültigen Werten.
+	 */
+	@Test
+	public void testConstructorInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new RateMonitor(0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new RateMonitor(1, 0));
+	}
+}
@@ -3,14 +3,21 @@ package software.sirsch.sa4e.puzzles;
 import java.io.PrintStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.apache.commons.collections4.Factory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,9 +54,14 @@ public class RequestSolvePuzzleCommandTest {
 	private PuzzleSolverClient puzzleSolverClient;
 
 	/**
-	 * Dieses Feld soll den Mock für {@link PuzzleSolverClientFactory} enthalten.
+	 * Dieses Feld soll den Mock für {@link PuzzleSolverClientPool} enthalten.
 	 */
-	private PuzzleSolverClientFactory puzzleSolverClientFactory;
+	private PuzzleSolverClientPool puzzleSolverClientPool;
+
+	/**
+	 * Dieses Feld soll den Mock für die Fabrik für {@link PuzzleSolverClientPool} enthalten.
+	 */
+	private Function<LoadBalancingStrategy, PuzzleSolverClientPool> puzzleSolverClientPoolFactory;
 
 	/**
 	 * Dieses Feld soll das zu testende Objekt enthalten.
@@ -66,16 +78,19 @@ public class RequestSolvePuzzleCommandTest {
 		this.puzzleGenerator = mock(PuzzleGenerator.class);
 		this.puzzleGeneratorFactory = mock(Factory.class);
 		this.puzzleSolverClient = mock(PuzzleSolverClient.class);
-		this.puzzleSolverClientFactory = mock(PuzzleSolverClientFactory.class);
+		this.puzzleSolverClientPool = mock(PuzzleSolverClientPool.class);
+		this.puzzleSolverClientPoolFactory = mock(Function.class);
+		when(this.puzzleSolverClientPoolFactory.apply(LoadBalancingStrategy.LEAST_OUTSTANDING))
+				.thenReturn(this.puzzleSolverClientPool);
 		when(this.puzzleGeneratorFactory.create()).thenReturn(this.puzzleGenerator);
-		when(this.puzzleSolverClientFactory.create("testhost", 42))
+		when(this.puzzleSolverClientPool.getClient(List.of("testhost:42")))
 				.thenReturn(this.puzzleSolverClient);
 
 		this.objectUnderTest = new RequestSolvePuzzleCommand(
 				this.out,
 				this.puzzlePrinter,
 				this.puzzleGeneratorFactory,
-				this.puzzleSolverClientFactory);
+				this.puzzleSolverClientPoolFactory);
 	}
 
 	/**
@@ -93,13 +108,14 @@ public class RequestSolvePuzzleCommandTest {
 		when(symbol2.getIconCodePoint()).thenReturn((int) 'B');
 		when(puzzle.getSymbols()).thenReturn(List.of(symbol1, symbol2));
 		when(this.puzzleGenerator.generate(3)).thenReturn(puzzle);
-		when(this.puzzleSolverClient.solvePuzzle(puzzle))
-				.thenReturn(Map.of(1, 1, 2, 2));
+		when(this.puzzleSolverClient.solvePuzzleAsync(puzzle))
+				.thenReturn(CompletableFuture.completedFuture(Map.of(1, 1, 2, 2)));
 
 		this.objectUnderTest.execute("request-solve-puzzle", "testhost", "42", "3");
 
 		verify(this.puzzlePrinter).print(puzzle);
-		verify(this.puzzleSolverClient).close();
+		verify(this.puzzleSolverClient, never()).close();
+		verify(this.puzzleSolverClientPool).close();
 		verify(this.out).println("Solution found:");
 		verify(this.out).println("Symbol A ID: 1, digit value: 1");
 		verify(this.out).println("Symbol B ID: 2, digit value: 2");
@@ -121,18 +137,80 @@ public class RequestSolvePuzzleCommandTest {
 		when(symbol2.getIconCodePoint()).thenReturn((int) 'B');
 		when(puzzle.getSymbols()).thenReturn(List.of(symbol1, symbol2));
 		when(this.puzzleGenerator.generate(2)).thenReturn(puzzle);
-		when(this.puzzleSolverClient.solvePuzzle(puzzle))
-				.thenReturn(Map.of(1, 1, 2, 2));
+		when(this.puzzleSolverClient.solvePuzzleAsync(puzzle))
+				.thenReturn(CompletableFuture.completedFuture(Map.of(1, 1, 2, 2)));
 
 		this.objectUnderTest.execute("request-solve-puzzle", "testhost", "42");
 
 		verify(this.puzzlePrinter).print(puzzle);
-		verify(this.puzzleSolverClient).close();
+		verify(this.puzzleSolverClient, never()).close();
 		verify(this.out).println("Solution found:");
 		verify(this.out).println("Symbol A ID: 1, digit value: 1");
 		verify(this.out).println("Symbol B ID: 2, digit value: 2");
 	}
 
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleCommand#execute(String...)} mit mehreren Hosts,
+	 * mehreren Rätseln und reihum verteilten Anfragen.
+	 */
+	@Test
+	public void testExecuteMultipleHostsAndPuzzles() {
+		Puzzle puzzle1 = mock(Puzzle.class);
+		Puzzle puzzle2 = mock(Puzzle.class);
+		Symbol symbol1 = mock(Symbol.class);
+		Symbol symbol2 = mock(Symbol.class);
+		InOrder orderVerifier = inOrder(this.puzzleSolverClient, this.puzzlePrinter, this.out);
+
+		when(symbol1.getId()).thenReturn(1);
+		when(symbol1.getIconCodePoint()).thenReturn((int) 'A');
+		when(symbol2.getId()).thenReturn(2);
+		when(symbol2.getIconCodePoint()).thenReturn((int) 'B');
+		when(puzzle1.getSymbols()).thenReturn(List.of(symbol1));
+		when(puzzle2.getSymbols()).thenReturn(List.of(symbol2));
+		when(this.puzzleGenerator.generate(3)).thenReturn(puzzle1, puzzle2);
+		when(this.puzzleSolverClientPoolFactory.apply(LoadBalancingStrategy.ROUND_ROBIN))
+				.thenReturn(this.puzzleSolverClientPool);
+		when(this.puzzleSolverClientPool.getClient(List.of("host1:42", "host2:42")))
+				.thenReturn(this.puzzleSolverClient);
+		when(this.puzzleSolverClient.solvePuzzleAsync(puzzle1))
+				.thenReturn(CompletableFuture.completedFuture(Map.of(1, 5)));
+		when(this.puzzleSolverClient.solvePuzzleAsync(puzzle2))
+				.thenReturn(CompletableFuture.completedFuture(Map.of(2, 7)));
+
+		this.objectUnderTest.execute(
+				"request-solve-puzzle", "host1, host2", "42", "3", "2", "round-robin");
+
+		orderVerifier.verify(this.puzzleSolverClient).solvePuzzleAsync(puzzle1);
+		orderVerifier.verify(this.puzzleSolverClient).solvePuzzleAsync(puzzle2);
+		orderVerifier.verify(this.puzzlePrinter).print(puzzle1);
+		orderVerifier.verify(this.out).println("Symbol A ID: 1, digit value: 5");
+		orderVerifier.verify(this.puzzlePrinter).print(puzzle2);
+		orderVerifier.verify(this.out).println("Symbol B ID: 2, digit value: 7");
+		verify(this.puzzleSolverClientPool).close();
+	}
+
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleCommand#execute(String...)}, wenn die Anfrage
+	 * fehlschlägt.
+	 */
+	@Test
+	public void testExecuteFailure() {
+		Puzzle puzzle = mock(Puzzle.class);
+		RuntimeException exception = new RuntimeException("Puzzle has no solution!");
+
+		when(this.puzzleGenerator.generate(2)).thenReturn(puzzle);
+		when(this.puzzleSolverClient.solvePuzzleAsync(puzzle))
+				.thenReturn(CompletableFuture.failedFuture(exception));
+
+		assertSame(
+				exception,
+				assertThrows(
+						RuntimeException.class,
+						() -> this.objectUnderTest.execute(
+								"request-solve-puzzle", "testhost", "42")));
+		verify(this.puzzleSolverClientPool).close();
+	}
+
 	/**
 	 * Diese Methode prüft {@link RequestSolvePuzzleCommand#execute(String...)}, wenn der Parameter
 	 * serverHost fehlt.
@@ -158,4 +236,17 @@ public class RequestSolvePuzzleCommandTest {
 				IllegalArgumentException.class,
 				() -> this.objectUnderTest.execute("request-solve-puzzle", "testhost"));
 	}
+
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleCommand#execute(String...)} mit einem
+	 * unbekannten Verfahren zum Verteilen der Anfragen.
+	 */
+	@Test
+	public void testExecuteInvalidLoadBalancingStrategy() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.execute(
+						"request-solve-puzzle", "testhost", "42", "3", "1", "random"));
+		verifyNoInteractions(this.puzzleSolverClientPoolFactory);
+	}
 }
@@ -0,0 +1,138 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.apache.commons.collections4.Factory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Diese Klasse stellt Tests für {@link RequestSolvePuzzleShardedCommand} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RequestSolvePuzzleShardedCommandTest {
+
+	/**
+	 * Dieses Feld soll den Mock für {@link PrintStream} für die Ausgabe enthalten.
+	 */
+	private PrintStream out;
+
+	/**
+	 * Dieses Feld soll den Mock für {@link PuzzlePrinter} enthalten.
+	 */
+	private PuzzlePrinter puzzlePrinter;
+
+	/**
+	 * Dieses Feld soll den Mock für {@link PuzzleGenerator} enthalten.
+	 */
+	private PuzzleGenerator puzzleGenerator;
+
+	/**
+	 * Dieses Feld soll den Mock für {@link ShardedPuzzleSolverClient} enthalten.
+	 */
+	private ShardedPuzzleSolverClient client;
+
+	/**
+	 * Dieses Feld soll den Mock für die Fabrikmethode für {@link ShardedPuzzleSolverClient}
+	 * enthalten.
+	 */
+	private BiFunction<List<String>, Integer, ShardedPuzzleSolverClient> clientFactory;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private RequestSolvePuzzleShardedCommand objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		Factory<PuzzleGenerator> puzzleGeneratorFactory = mock(Factory.class);
+
+		this.out = mock(PrintStream.class);
+		this.puzzlePrinter = mock(PuzzlePrinter.class);
+		this.puzzleGenerator = mock(PuzzleGenerator.class);
+		this.client = mock(ShardedPuzzleSolverClient.class);
+		this.clientFactory = mock(BiFunction.class);
+		when(puzzleGeneratorFactory.create()).thenReturn(this.puzzleGenerator);
+
+		this.objectUnderTest = new RequestSolvePuzzleShardedCommand(
+				this.out,
+				this.puzzlePrinter,
+				puzzleGeneratorFactory,
+				this.clientFactory);
+	}
+
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleShardedCommand#execute(String...)}.
+	 */
+	@Test
+	public void testExecute() {
+		Puzzle puzzle = mock(Puzzle.class);
+		Symbol symbol1 = mock(Symbol.class);
+		Symbol symbol2 = mock(Symbol.class);
+
+		when(symbol1.getId()).thenReturn(1);
+		when(symbol1.getIconCodePoint()).thenReturn((int) 'A');
+		when(symbol2.getId()).thenReturn(2);
+		when(symbol2.getIconCodePoint()).thenReturn((int) 'B');
+		when(puzzle.getSymbols()).thenReturn(List.of(symbol1, symbol2));
+		when(this.puzzleGenerator.generate(3)).thenReturn(puzzle);
+		when(this.clientFactory.apply(List.of("host1:1", "host2:2"), 4)).thenReturn(this.client);
+		when(this.client.solvePuzzle(puzzle)).thenReturn(Map.of(1, 1, 2, 2));
+
+		this.objectUnderTest.execute(
+				"request-solve-puzzle-sharded", "host1:1,host2:2", "3", "4");
+
+		verify(this.puzzlePrinter).print(puzzle);
+		verify(this.client).close();
+		verify(this.out).println("Solution found:");
+		verify(this.out).println("Symbol A ID: 1, digit value: 1");
+		verify(this.out).println("Symbol B ID: 2, digit value: 2");
+	}
+
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleShardedCommand#execute(String...)} ohne die
+	 * optionalen Parameter.
+	 */
+	@Test
+	public void testExecuteDefaults() {
+		Puzzle puzzle = mock(Puzzle.class);
+
+		when(puzzle.getSymbols()).thenReturn(List.of());
+		when(this.puzzleGenerator.generate(2)).thenReturn(puzzle);
+		when(this.clientFactory.apply(
+				List.of("host1:1"),
+				ShardedPuzzleSolverClient.DEFAULT_CALLS_PER_SERVER)).thenReturn(this.client);
+		when(this.client.solvePuzzle(puzzle)).thenReturn(Map.of());
+
+		this.objectUnderTest.execute("request-solve-puzzle-sharded", "host1:1");
+
+		verify(this.client).close();
+		verify(this.out).println("Solution found:");
+	}
+
+	/**
+	 * Diese Methode prüft {@link RequestSolvePuzzleShardedCommand#execute(String...)}, wenn die
+	 * Server fehlen.
+	 */
+	@Test
+	public void testExecuteMissingServers() {
+		this.objectUnderTest = new RequestSolvePuzzleShardedCommand();
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.execute("request-solve-puzzle-sharded"));
+	}
+}
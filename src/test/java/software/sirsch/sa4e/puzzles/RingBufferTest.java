@@ -0,0 +1,189 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link RingBuffer} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RingBufferTest {
+
+	/**
+	 * Diese Konstante enthält die Wartezeit in Millisekunden, nach der ein wartender Thread als
+	 * blockiert gilt.
+	 */
+	private static final long WAIT_MILLIS = 200;
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit in Millisekunden.
+	 */
+	private static final long TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private RingBuffer<String> objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new RingBuffer<>(2);
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#RingBuffer(int)}.
+	 */
+	@Test
+	public void testConstructor() {
+		assertEquals(2, this.objectUnderTest.getCapacity());
+		assertTrue(this.objectUnderTest.isEmpty());
+		assertEquals(0, this.objectUnderTest.getDroppedCount());
+		assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#offer(Object)} und
+	 * {@link RingBuffer#poll(long, TimeUnit)}.
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testOfferAndPoll() throws InterruptedException {
+		this.objectUnderTest.offer("first");
+		this.objectUnderTest.offer("second");
+
+		assertFalse(this.objectUnderTest.isEmpty());
+		assertEquals(2, this.objectUnderTest.size());
+		assertEquals("first", this.objectUnderTest.poll(0, TimeUnit.MILLISECONDS));
+		assertEquals("second", this.objectUnderTest.poll(0, TimeUnit.MILLISECONDS));
+		assertNull(this.objectUnderTest.poll(1, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#offer(Object)}, wenn der Puffer voll ist.
+	 */
+	@Test
+	public void testOfferFull() {
+		List<String> result = new ArrayList<>();
+
+		this.objectUnderTest.offer("first");
+		this.objectUnderTest.offer("second");
+		this.objectUnderTest.offer("third");
+
+		assertEquals(1, this.objectUnderTest.getDroppedCount());
+		assertEquals(2, this.objectUnderTest.drainTo(result, Integer.MAX_VALUE));
+		assertThat(result, contains("second", "third"));
+		assertTrue(this.objectUnderTest.isEmpty());
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#offer(Object)} mit {@link OverflowPolicy#DROP_NEWEST},
+	 * wenn der Puffer voll ist.
+	 */
+	@Test
+	public void testOfferFullDropNewest() {
+		List<String> result = new ArrayList<>();
+
+		this.objectUnderTest = new RingBuffer<>(2, OverflowPolicy.DROP_NEWEST);
+		this.objectUnderTest.offer("first");
+		this.objectUnderTest.offer("second");
+		this.objectUnderTest.offer("third");
+
+		assertEquals(OverflowPolicy.DROP_NEWEST, this.objectUnderTest.getOverflowPolicy());
+		assertEquals(1, this.objectUnderTest.getDroppedCount());
+		assertEquals(2, this.objectUnderTest.drainTo(result, Integer.MAX_VALUE));
+		assertThat(result, contains("first", "second"));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#offer(Object)} mit {@link OverflowPolicy#BLOCK},
+	 * wenn der Puffer voll ist.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass der einstellende Thread wartet, bis Platz frei
+	 *     wird, und kein Element verloren geht.
+	 * </p>
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testOfferFullBlock() throws InterruptedException {
+		List<String> result = new ArrayList<>();
+		Thread producer;
+
+		this.objectUnderTest = new RingBuffer<>(2, OverflowPolicy.BLOCK);
+		this.objectUnderTest.offer("first");
+		this.objectUnderTest.offer("second");
+		producer = new Thread(() -> this.objectUnderTest.offer("third"));
+		producer.start();
+		producer.join(WAIT_MILLIS);
+
+		assertTrue(producer.isAlive());
+		assertEquals("first", this.objectUnderTest.poll(0, TimeUnit.MILLISECONDS));
+
+		producer.join(TIMEOUT_MILLIS);
+
+		assertFalse(producer.isAlive());
+		assertEquals(0, this.objectUnderTest.getDroppedCount());
+		assertEquals(2, this.objectUnderTest.drainTo(result, Integer.MAX_VALUE));
+		assertThat(result, contains("second", "third"));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#close()} mit {@link OverflowPolicy#BLOCK}, während
+	 * ein Thread auf Platz wartet.
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testCloseBlocked() throws InterruptedException {
+		Thread producer;
+
+		this.objectUnderTest = new RingBuffer<>(1, OverflowPolicy.BLOCK);
+		this.objectUnderTest.offer("first");
+		producer = new Thread(() -> this.objectUnderTest.offer("second"));
+		producer.start();
+		producer.join(WAIT_MILLIS);
+
+		assertTrue(producer.isAlive());
+
+		this.objectUnderTest.close();
+		producer.join(TIMEOUT_MILLIS);
+
+		assertFalse(producer.isAlive());
+		assertEquals(1, this.objectUnderTest.getDroppedCount());
+		assertEquals(1, this.objectUnderTest.size());
+	}
+
+	/**
+	 * Diese Methode prüft {@link RingBuffer#drainTo(java.util.Collection, int)} mit Begrenzung.
+	 */
+	@Test
+	public void testDrainToLimited() {
+		List<String> result = new ArrayList<>();
+
+		this.objectUnderTest.offer("first");
+		this.objectUnderTest.offer("second");
+
+		assertEquals(1, this.objectUnderTest.drainTo(result, 1));
+		assertThat(result, contains("first"));
+		assertEquals(1, this.objectUnderTest.size());
+	}
+}
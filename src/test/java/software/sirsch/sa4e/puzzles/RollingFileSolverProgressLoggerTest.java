@@ -0,0 +1,307 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+/**
+ * Diese Klasse stellt Tests für {@link RollingFileSolverProgressLogger} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RollingFileSolverProgressLoggerTest {
+
+	/**
+	 * Diese Konstante enthält den Zeilenumbruch.
+	 */
+	private static final String EOL = System.lineSeparator();
+
+	/**
+	 * Dieses Feld soll das temporäre Verzeichnis zum Testen enthalten.
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * Dieses Feld soll den Pfad der zu schreibenden Datei enthalten.
+	 */
+	private Path file;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.file = this.tempDir.resolve("test.log");
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#log(String)} und
+	 * {@link RollingFileSolverProgressLogger#close()} ohne Rotation.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLog() throws IOException {
+		RollingFileSolverProgressLogger objectUnderTest =
+				new RollingFileSolverProgressLogger(this.file, 1024);
+
+		objectUnderTest.log("first");
+		objectUnderTest.log("second");
+		objectUnderTest.close();
+
+		assertEquals(
+				"first" + EOL + "second" + EOL,
+				Files.readString(this.file, StandardCharsets.UTF_8));
+		assertEquals(0, objectUnderTest.getRolledCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#log(String)} mit Rotation.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogRolling() throws IOException {
+		RollingFileSolverProgressLogger objectUnderTest = new RollingFileSolverProgressLogger(
+				this.file,
+				("message1" + EOL).length() * 2L,
+				1,
+				RollingFileSolverProgressLogger.DEFAULT_CLOSE_TIMEOUT_MILLIS,
+				Thread::new);
+
+		for (int index = 1; index <= 5; index++) {
+			objectUnderTest.log("message" + index);
+		}
+
+		objectUnderTest.close();
+
+		assertEquals(2, objectUnderTest.getRolledCount());
+		assertEquals("message1" + EOL + "message2" + EOL,
+				readCompressed(objectUnderTest.getRolledFile(1)));
+		assertEquals("message3" + EOL + "message4" + EOL,
+				readCompressed(objectUnderTest.getRolledFile(2)));
+		assertEquals("message5" + EOL, Files.readString(this.file, StandardCharsets.UTF_8));
+		assertFalse(Files.exists(objectUnderTest.getRolledFile(3)));
+		assertFalse(Files.exists(this.tempDir.resolve("test.log.1")));
+		assertFalse(Files.exists(this.tempDir.resolve("test.log.2")));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#log(String)} mit Rotation, wenn
+	 * bereits rotierte Dateien aus einem früheren Lauf vorhanden sind.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die vorhandenen Archive nicht überschrieben werden,
+	 *     die Nummerierung nach der höchsten vorhandenen Nummer fortgesetzt wird und nicht
+	 *     komprimierte rotierte Dateien nachträglich komprimiert werden.
+	 * </p>
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogRollingAfterRestart() throws IOException {
+		RollingFileSolverProgressLogger objectUnderTest;
+
+		Files.writeString(this.tempDir.resolve("test.log.1.gz"), "archive1");
+		Files.writeString(this.tempDir.resolve("test.log.3"), "segment3");
+		Files.writeString(this.tempDir.resolve("test.log.old.gz"), "unrelated");
+
+		objectUnderTest = new RollingFileSolverProgressLogger(
+				this.file,
+				("message1" + EOL).length(),
+				1,
+				RollingFileSolverProgressLogger.DEFAULT_CLOSE_TIMEOUT_MILLIS,
+				Thread::new);
+		objectUnderTest.log("message1");
+		objectUnderTest.log("message2");
+		objectUnderTest.close();
+
+		assertEquals(4, objectUnderTest.getRolledCount());
+		assertEquals("archive1", Files.readString(this.tempDir.resolve("test.log.1.gz")));
+		assertEquals("segment3", readCompressed(this.tempDir.resolve("test.log.3.gz")));
+		assertFalse(Files.exists(this.tempDir.resolve("test.log.3")));
+		assertEquals("message1" + EOL, readCompressed(objectUnderTest.getRolledFile(4)));
+		assertFalse(Files.exists(this.tempDir.resolve("test.log.4")));
+		assertEquals("message2" + EOL, Files.readString(this.file, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#log(String)} mit mehreren
+	 * gleichzeitig schreibenden Threads bei kleiner Warteschlange.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass keine Meldung verloren geht.
+	 * </p>
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testLogConcurrent() throws Exception {
+		final int threadCount = 4;
+		final int messageCount = 1000;
+		RollingFileSolverProgressLogger objectUnderTest = new RollingFileSolverProgressLogger(
+				this.file,
+				Long.MAX_VALUE,
+				2,
+				RollingFileSolverProgressLogger.DEFAULT_CLOSE_TIMEOUT_MILLIS,
+				Thread::new);
+		Thread[] threads = new Thread[threadCount];
+
+		for (int threadIndex = 0; threadIndex < threadCount; threadIndex++) {
+			threads[threadIndex] = new Thread(() -> {
+				for (int index = 0; index < messageCount; index++) {
+					objectUnderTest.log("message");
+				}
+			});
+			threads[threadIndex].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		objectUnderTest.close();
+
+		assertEquals(
+				threadCount * messageCount,
+				Files.readAllLines(this.file, StandardCharsets.UTF_8).size());
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#close()}, wenn das Komprimieren
+	 * nicht abgeschlossen wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass das Schließen nach der Wartezeit zurückkehrt und
+	 *     das Komprimieren anschließend im Hintergrund abgeschlossen wird.
+	 * </p>
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testCloseCompressionTimeout() throws Exception {
+		CountDownLatch compressionReleased = new CountDownLatch(1);
+		AtomicInteger threadCount = new AtomicInteger();
+		RollingFileSolverProgressLogger objectUnderTest = new RollingFileSolverProgressLogger(
+				this.file,
+				("message1" + EOL).length(),
+				1,
+				100,
+				runnable -> {
+					if (threadCount.getAndIncrement() == 0) {
+						return new Thread(runnable);
+					}
+
+					return new Thread(() -> {
+						try {
+							compressionReleased.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+
+						runnable.run();
+					});
+				});
+
+		objectUnderTest.log("message1");
+		objectUnderTest.log("message2");
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), objectUnderTest::close);
+
+		assertEquals("message2" + EOL, Files.readString(this.file, StandardCharsets.UTF_8));
+		assertFalse(Files.exists(objectUnderTest.getRolledFile(1)));
+
+		compressionReleased.countDown();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			while (Files.exists(this.tempDir.resolve("test.log.1"))) {
+				Thread.sleep(10);
+			}
+		});
+		assertEquals("message1" + EOL, readCompressed(objectUnderTest.getRolledFile(1)));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RollingFileSolverProgressLogger#log(String)} nach dem
+	 * Schließen bei voller Warteschlange.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass der aufrufende Thread nicht blockiert wird.
+	 * </p>
+	 */
+	@Test
+	public void testLogAfterClose() {
+		RollingFileSolverProgressLogger objectUnderTest = new RollingFileSolverProgressLogger(
+				this.file,
+				1024,
+				1,
+				RollingFileSolverProgressLogger.DEFAULT_CLOSE_TIMEOUT_MILLIS,
+				Thread::new);
+
+		objectUnderTest.close();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			objectUnderTest.log("first");
+			objectUnderTest.log("second");
+		});
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor, wenn die Datei nicht geöffnet werden kann.
+	 */
+	@Test
+	public void testConstructorIOException() {
+		assertThrows(
+				UncheckedIOException.class,
+				() -> new RollingFileSolverProgressLogger(this.tempDir, 1024));
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor mit ungültigen Größen.
+	 */
+	@Test
+	public void testConstructorInvalidSizes() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new RollingFileSolverProgressLogger(this.file, 0));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new RollingFileSolverProgressLogger(
+						this.file,
+						1024,
+						0,
+						RollingFileSolverProgressLogger.DEFAULT_CLOSE_TIMEOUT_MILLIS,
+						Thread::new));
+	}
+
+	/**
+	 * Diese Methode liest eine komprimierte Datei.
+	 *
+	 * @param compressedFile der Pfad der Datei
+	 * @return der entpackte Inhalt
+	 * @throws IOException falls die Datei nicht gelesen werden kann
+	 */
+	private static String readCompressed(final Path compressedFile) throws IOException {
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(compressedFile))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,400 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.AdviceWith;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link RunCamelCommand} bereit.
+ *
+ * <p>
+ *     Die Routen werden mit {@link AdviceWith} angepasst: Die Rätsel werden über einen
+ *     Direct-Endpoint statt von MQTT gelesen, der gRPC-Aufruf wird durch einen Prozessor ersetzt
+ *     und die Lösungen werden an einen Mock-Endpoint statt an MQTT gesendet.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class RunCamelCommandTest extends CamelTestSupport {
+
+	/**
+	 * Diese Konstante enthält die URI, über die Rätsel eingespeist werden.
+	 */
+	private static final String PUZZLES_URI = "direct:puzzles";
+
+	/**
+	 * Diese Konstante enthält die URI, an die Lösungen gesendet werden.
+	 */
+	private static final String SOLUTIONS_URI = "mock:solutions";
+
+	/**
+	 * Diese Konstante enthält die Wartezeit auf einen fehlgeschlagenen Exchange in Sekunden.
+	 */
+	private static final long TIMEOUT_SECONDS = 10;
+
+	/**
+	 * Dieses Feld soll das JSON-Format der ausgetauschten Nachrichten enthalten.
+	 */
+	private final CommonJsonCodec jsonCodec = new CommonJsonCodec();
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private RunCamelCommand objectUnderTest;
+
+	/**
+	 * Diese Methode gibt an, dass der Camel-Kontext erst nach dem Anpassen der Routen gestartet
+	 * wird.
+	 *
+	 * @return immer {@code true}
+	 */
+	@Override
+	public boolean isUseAdviceWith() {
+		return true;
+	}
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@Override
+	protected void doPreSetup() {
+		this.objectUnderTest = new RunCamelCommand();
+	}
+
+	/**
+	 * Diese Methode übernimmt die Argumente, passt die Routen an und startet den Camel-Kontext.
+	 *
+	 * @param grpcStub der Prozessor, der den gRPC-Aufruf ersetzt
+	 * @param args die Argumente
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	private void startRoutes(final Processor grpcStub, final String... args) throws Exception {
+		this.objectUnderTest.parseArguments(args);
+		this.context.addRoutes(this.objectUnderTest.createDefaultRouteBuilder());
+		AdviceWith.adviceWith(
+				this.context,
+				RunCamelCommand.RECEIVE_ROUTE_ID,
+				advice -> advice.replaceFromWith(PUZZLES_URI));
+		AdviceWith.adviceWith(this.context, RunCamelCommand.SOLVE_ROUTE_ID, advice -> {
+			advice.weaveByToUri("grpc:*").replace().process(grpcStub);
+			advice.weaveByToUri("paho-mqtt5:*").replace().to(SOLUTIONS_URI);
+		});
+		this.context.start();
+	}
+
+	/**
+	 * Diese Methode erzeugt ein JSON-kodiertes Rätsel, dessen Zellen alle aus einem Symbol
+	 * bestehen.
+	 *
+	 * @param raetselId die ID des Rätsels
+	 * @param symbol das Symbol der Zellen
+	 * @return das kodierte Rätsel
+	 */
+	private byte[] createPuzzle(final long raetselId, final char symbol) {
+		CommonSolvePuzzleRequest request = new CommonSolvePuzzleRequest();
+		List<String> row = List.of(
+				String.valueOf(symbol),
+				String.valueOf(symbol),
+				String.valueOf(symbol));
+
+		request.setServerId("test");
+		request.setRaetselId(raetselId);
+		request.setRow1(row);
+		request.setRow2(row);
+		request.setRow3(row);
+		return this.jsonCodec.writeRequest(request);
+	}
+
+	/**
+	 * Diese Methode ermittelt das Symbol des Rätsels, das der gRPC-Aufruf erhält.
+	 *
+	 * @param exchange das zu untersuchende Austauschobjekt
+	 * @return die ID des ersten Symbols
+	 */
+	private static int getSymbolId(final Exchange exchange) {
+		return exchange.getIn().getBody(SolvePuzzleRequest.class).getSymbols(0).getId();
+	}
+
+	/**
+	 * Diese Methode beantwortet den gRPC-Aufruf wie die gRPC-Komponente im asynchronen Modus mit
+	 * einer Liste, die eine Lösung enthält, in der jedes Symbol den Wert 1 hat.
+	 *
+	 * @param exchange das zu verwendende Austauschobjekt
+	 */
+	private static void solve(final Exchange exchange) {
+		SolvePuzzleRequest request = exchange.getIn().getBody(SolvePuzzleRequest.class);
+		SolvePuzzleResponse.Builder response = SolvePuzzleResponse.newBuilder()
+				.setSolutionFound(true);
+
+		for (Puzzles.Symbol symbol : request.getSymbolsList()) {
+			response.putSymbolIdToDigit(symbol.getId(), 1);
+		}
+
+		exchange.getMessage().setBody(List.of(response.build()));
+	}
+
+	/**
+	 * Diese Methode ermittelt die Rätsel-IDs der gesendeten Lösungen.
+	 *
+	 * @param solutions der Mock-Endpoint der Lösungen
+	 * @return die Rätsel-IDs in der Reihenfolge des Eingangs
+	 */
+	private List<Long> getRaetselIds(final MockEndpoint solutions) {
+		return solutions.getReceivedExchanges().stream()
+				.map(exchange -> this.jsonCodec.readResponse(
+						exchange.getIn().getBody(byte[].class)).getRaetselId())
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Lösungen bei geordneter Ausgabe in Eingangsreihenfolge
+	 * gesendet werden, auch wenn das erste Rätsel zuletzt gelöst wird.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRouteOrdered() throws Exception {
+		MockEndpoint solutions = this.getMockEndpoint(SOLUTIONS_URI);
+
+		this.startRoutes(
+				exchange -> {
+					if (getSymbolId(exchange) == 'A') {
+						Thread.sleep(500);
+					}
+
+					solve(exchange);
+				},
+				"run-camel", "tcp://localhost:1883", "localhost:12345",
+				"-", "-", "4", "-", "ordered", "-", "-", "1000");
+		solutions.expectedMessageCount(3);
+
+		for (int index = 0; index < 3; index++) {
+			this.template.sendBody(PUZZLES_URI, this.createPuzzle(index, (char) ('A' + index)));
+		}
+
+		solutions.assertIsSatisfied();
+		assertEquals(List.of(0L, 1L, 2L), this.getRaetselIds(solutions));
+	}
+
+	/**
+	 * Diese Methode prüft, dass doppelt eingehende Rätsel nur einmal gelöst werden.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRouteDuplicate() throws Exception {
+		MockEndpoint solutions = this.getMockEndpoint(SOLUTIONS_URI);
+		AtomicInteger callCount = new AtomicInteger();
+
+		this.startRoutes(
+				exchange -> {
+					callCount.incrementAndGet();
+					solve(exchange);
+				},
+				"run-camel", "tcp://localhost:1883", "localhost:12345");
+		solutions.expectedMessageCount(2);
+		solutions.setAssertPeriod(200);
+
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(1, 'A'));
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(1, 'A'));
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(2, 'B'));
+
+		solutions.assertIsSatisfied();
+		assertThat(this.getRaetselIds(solutions), containsInAnyOrder(1L, 2L));
+		assertEquals(2, callCount.get());
+	}
+
+	/**
+	 * Diese Methode prüft, dass der Idempotent Consumer den Schlüssel eines Rätsels entfernt,
+	 * dessen Exchange in der SEDA-Stufe nach dem Lösen fehlschlägt, sodass eine erneute Zustellung
+	 * wieder gelöst wird.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRoutePublishFailure() throws Exception {
+		MockEndpoint solutions = this.getMockEndpoint(SOLUTIONS_URI);
+		AtomicInteger callCount = new AtomicInteger();
+		NotifyBuilder failed = new NotifyBuilder(this.context)
+				.fromRoute(RunCamelCommand.SOLVE_ROUTE_ID)
+				.whenFailed(1)
+				.create();
+
+		this.startRoutes(
+				exchange -> {
+					callCount.incrementAndGet();
+					solve(exchange);
+				},
+				"run-camel", "tcp://localhost:1883", "localhost:12345");
+		solutions.whenExchangeReceived(1, exchange -> {
+			throw new IllegalStateException("test");
+		});
+
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(1, 'A'));
+
+		assertTrue(failed.matches(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(1, 'A'));
+
+		solutions.expectedMessageCount(2);
+		solutions.assertIsSatisfied();
+		assertEquals(2, callCount.get());
+	}
+
+	/**
+	 * Diese Methode prüft, dass eine leere gRPC-Antwort und ein fehlgeschlagener gRPC-Aufruf
+	 * bei geordneter Ausgabe keine Lücke hinterlassen, auf die der Resequencer warten müsste,
+	 * und dass ein fehlgeschlagenes Rätsel bei erneuter Zustellung gelöst wird.
+	 *
+	 * <p>
+	 *     Da der Resequencer das erste Rätsel erst nach Ablauf der Wartezeit sendet, wird zuerst
+	 *     ein Rätsel zum Aufwärmen gelöst. Die folgenden Lösungen müssen deutlich vor Ablauf der
+	 *     Wartezeit eintreffen.
+	 * </p>
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRouteEmptyResponseAndFailure() throws Exception {
+		MockEndpoint solutions = this.getMockEndpoint(SOLUTIONS_URI);
+		AtomicBoolean failed = new AtomicBoolean();
+
+		this.startRoutes(
+				exchange -> {
+					if (getSymbolId(exchange) == 'A') {
+						exchange.getMessage().setBody(List.of());
+					} else if (getSymbolId(exchange) == 'B' && failed.compareAndSet(false, true)) {
+						throw new IllegalStateException("test");
+					} else {
+						solve(exchange);
+					}
+				},
+				"run-camel", "tcp://localhost:1883", "localhost:12345",
+				"-", "-", "1", "-", "ordered", "-", "-", "5000");
+		solutions.expectedMessageCount(1);
+		solutions.setResultWaitTime(10_000);
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(0, 'W'));
+		solutions.assertIsSatisfied();
+
+		solutions.reset();
+		solutions.expectedMessageCount(1);
+		solutions.setResultWaitTime(2_500);
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(1, 'A'));
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(2, 'B'));
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(3, 'C'));
+
+		solutions.assertIsSatisfied();
+		assertEquals(List.of(3L), this.getRaetselIds(solutions));
+
+		solutions.reset();
+		solutions.expectedMessageCount(1);
+		solutions.setResultWaitTime(2_500);
+		this.template.sendBody(PUZZLES_URI, this.createPuzzle(2, 'B'));
+
+		solutions.assertIsSatisfied();
+		assertEquals(List.of(2L), this.getRaetselIds(solutions));
+	}
+
+	/**
+	 * Diese Methode prüft, dass höchstens {@code maxInFlight} gRPC-Aufrufe gleichzeitig laufen,
+	 * auch wenn mehr Consumer bereitstehen.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testRouteMaxInFlight() throws Exception {
+		MockEndpoint solutions = this.getMockEndpoint(SOLUTIONS_URI);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+
+		this.startRoutes(
+				exchange -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					Thread.sleep(50);
+					running.decrementAndGet();
+					solve(exchange);
+				},
+				"run-camel", "tcp://localhost:1883", "localhost:12345",
+				"-", "1", "4");
+		solutions.expectedMessageCount(4);
+
+		for (int index = 0; index < 4; index++) {
+			this.template.sendBody(PUZZLES_URI, this.createPuzzle(index, (char) ('A' + index)));
+		}
+
+		solutions.assertIsSatisfied();
+		assertEquals(1, maxRunning.get());
+	}
+
+	/**
+	 * Diese Methode prüft {@link RunCamelCommand#parseArguments(String...)} mit ungültigen
+	 * Argumenten.
+	 */
+	@Test
+	public void testParseArgumentsInvalid() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.parseArguments("run-camel", "tcp://localhost:1883"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.parseArguments(
+						"run-camel", "tcp://localhost:1883", "localhost:12345", "-", "0"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.parseArguments(
+						"run-camel", "tcp://localhost:1883", "localhost:12345",
+						"-", "-", "-", "-", "sorted"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.parseArguments(
+						"run-camel", "tcp://localhost:1883", "localhost:12345",
+						"-", "-", "-", "-", "-", "-", "-", "0"));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.parseArguments(
+						"run-camel", "tcp://localhost:1883", "localhost:12345",
+						"-", "-", "-", "-", "-", "-", "-", "-",
+						String.valueOf(SnowflakeIdGenerator.MAX_NODE_ID + 1)));
+	}
+
+	/**
+	 * Diese Methode prüft {@link RunCamelCommand#parseArguments(String...)} mit und ohne
+	 * Knotennummer.
+	 */
+	@Test
+	public void testParseArgumentsNodeId() {
+		int derivedNodeId;
+
+		this.objectUnderTest.parseArguments(
+				"run-camel", "tcp://localhost:1883", "localhost:12345", "2",
+				"-", "-", "-", "-", "-", "-", "-", "42");
+
+		assertEquals(42, this.objectUnderTest.getIdGenerator().getNodeId());
+
+		this.objectUnderTest.parseArguments("run-camel", "tcp://localhost:1883", "localhost:12345");
+		derivedNodeId = this.objectUnderTest.getIdGenerator().getNodeId();
+
+		assertTrue(derivedNodeId >= 0 && derivedNodeId <= SnowflakeIdGenerator.MAX_NODE_ID);
+	}
+}
@@ -9,6 +9,8 @@ import org.mockito.InOrder;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -29,6 +31,11 @@ public class RunServerCommandTest {
 	 */
 	private PuzzleSolverServerFactory puzzleSolverServerFactory;
 
+	/**
+	 * Dieses Feld soll den Mock für {@link PuzzleSolverFactory} enthalten.
+	 */
+	private PuzzleSolverFactory puzzleSolverFactory;
+
 	/**
 	 * Dieses Feld soll den Mock für {@link PrintStream} enthalten.
 	 */
@@ -46,10 +53,20 @@ public class RunServerCommandTest {
 	public void setUp() {
 		this.puzzleSolverServer = mock(PuzzleSolverServer.class);
 		this.puzzleSolverServerFactory = mock(PuzzleSolverServerFactory.class);
+		this.puzzleSolverFactory = mock(PuzzleSolverFactory.class);
 		this.out = mock(PrintStream.class);
-		when(this.puzzleSolverServerFactory.create(12345)).thenReturn(this.puzzleSolverServer);
+		when(this.puzzleSolverServerFactory.create(
+				12345,
+				SolverExecutor.DEFAULT_THREAD_COUNT,
+				SolverExecutor.DEFAULT_QUEUE_CAPACITY,
+				SolutionCache.DEFAULT_CAPACITY,
+				PuzzleSolverServer.METRICS_DISABLED))
+				.thenReturn(this.puzzleSolverServer);
 
-		this.objectUnderTest = new RunServerCommand(this.puzzleSolverServerFactory, this.out);
+		this.objectUnderTest = new RunServerCommand(
+				this.puzzleSolverServerFactory,
+				this.puzzleSolverFactory,
+				this.out);
 	}
 
 	/**
@@ -75,5 +92,50 @@ public class RunServerCommandTest {
 		orderVerifier.verify(this.puzzleSolverServer).run();
 		orderVerifier.verify(this.out).println("Server stopped!");
 		orderVerifier.verifyNoMoreInteractions();
+		verifyNoInteractions(this.puzzleSolverFactory);
+	}
+
+	/**
+	 * Diese Methode prüft {@link RunServerCommand#execute(String...)} mit Angabe des Verfahrens.
+	 */
+	@Test
+	public void testExecuteWithEngine() {
+		InOrder orderVerifier = inOrder(this.puzzleSolverFactory, this.puzzleSolverServer, this.out);
+
+		this.objectUnderTest.execute("run-server", "12345", "columnwise");
+
+		orderVerifier.verify(this.puzzleSolverFactory).setEngine(SolverEngine.COLUMNWISE);
+		orderVerifier.verify(this.out).println("Starting server...");
+		orderVerifier.verify(this.puzzleSolverServer).run();
+		orderVerifier.verify(this.out).println("Server stopped!");
+		orderVerifier.verifyNoMoreInteractions();
+	}
+
+	/**
+	 * Diese Methode prüft {@link RunServerCommand#execute(String...)} mit Angabe der Größe des
+	 * Pools zum Lösen der Rätsel, der Kapazität des Caches und des Ports für die Kennzahlen.
+	 */
+	@Test
+	public void testExecuteWithPoolSize() {
+		when(this.puzzleSolverServerFactory.create(12345, 3, 7, 11, 9100))
+				.thenReturn(this.puzzleSolverServer);
+
+		this.objectUnderTest.execute("run-server", "12345", "parallel", "3", "7", "11", "9100");
+
+		verify(this.puzzleSolverFactory).setEngine(SolverEngine.PARALLEL);
+		verify(this.puzzleSolverServer).run();
+	}
+
+	/**
+	 * Diese Methode prüft {@link RunServerCommand#execute(String...)} mit einem unbekannten
+	 * Verfahren.
+	 */
+	@Test
+	public void testExecuteWithUnknownEngine() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> this.objectUnderTest.execute("run-server", "12345", "unknown"));
+
+		verifyNoInteractions(this.puzzleSolverServerFactory);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Diese Klasse stellt Tests für {@link SamplingSolverProgressLogger} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SamplingSolverProgressLoggerTest {
+
+	/**
+	 * Diese Konstante enthält die Anzahl der Lösungen und Nachrichten eines Bursts.
+	 */
+	private static final int BURST_SIZE = 200;
+
+	/**
+	 * Dieses Feld soll den Mock für die Ausgabe enthalten.
+	 */
+	private SolverProgressLogger delegate;
+
+	/**
+	 * Dieses Feld soll die aktuelle Zeit in Nanosekunden enthalten.
+	 */
+	private AtomicLong now;
+
+	/**
+	 * Dieses Feld soll die Symbole zum Testen enthalten.
+	 */
+	private List<Symbol> symbols;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private SamplingSolverProgressLogger objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.delegate = mock(SolverProgressLogger.class);
+		this.now = new AtomicLong();
+		this.symbols = List.of(
+				new Symbol(0, null, 'A'),
+				new Symbol(1, null, 'B'),
+				new Symbol(2, null, 'C'),
+				new Symbol(3, null, 'D'));
+
+		this.objectUnderTest = new SamplingSolverProgressLogger(
+				this.delegate,
+				10,
+				1000,
+				this.now::get,
+				Thread::new);
+	}
+
+	/**
+	 * Diese Methode prüft den Konstruktor mit ungültigen Abständen.
+	 */
+	@Test
+	public void testConstructorInvalidIntervals() {
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SamplingSolverProgressLogger(this.delegate, 0, 1000));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SamplingSolverProgressLogger(this.delegate, 10, 0));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} mit Einträgen nach einer festen Anzahl von Belegungen.
+	 */
+	@Test
+	public void testLogPermutationCandidateInterval() {
+		for (int index = 1; index <= 25; index++) {
+			this.now.set(TimeUnit.MILLISECONDS.toNanos(index * 100L));
+			this.objectUnderTest.logPermutation(this.symbols, new int[] {1, 2, 3, index}, false);
+		}
+
+		this.objectUnderTest.close();
+
+		InOrder orderVerifier = inOrder(this.delegate);
+
+		orderVerifier.verify(this.delegate)
+				.log("Checked 10 candidates (10/s), current prefix A:1 B:2 C:3");
+		orderVerifier.verify(this.delegate)
+				.log("Checked 20 candidates (10/s), current prefix A:1 B:2 C:3");
+		orderVerifier.verify(this.delegate).close();
+		verify(this.delegate, never()).logPermutation(any(), any(), anyBoolean());
+		assertEquals(25, this.objectUnderTest.getCandidateCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} mit Einträgen nach Ablauf einer festen Zeit.
+	 */
+	@Test
+	public void testLogPermutationTimeInterval() {
+		SamplingSolverProgressLogger sampled = new SamplingSolverProgressLogger(
+				this.delegate,
+				Long.MAX_VALUE,
+				1000,
+				this.now::get,
+				Thread::new);
+
+		for (int index = 1; index <= SamplingSolverProgressLogger.TIME_CHECK_INTERVAL; index++) {
+			sampled.logPermutation(this.symbols, new int[] {4, 5, 6, 7}, false);
+		}
+
+		this.now.set(TimeUnit.SECONDS.toNanos(2));
+
+		for (int index = 1; index <= SamplingSolverProgressLogger.TIME_CHECK_INTERVAL; index++) {
+			sampled.logPermutation(this.symbols, new int[] {4, 5, 6, 7}, false);
+		}
+
+		sampled.close();
+		this.objectUnderTest.close();
+
+		verify(this.delegate, times(1)).log(anyString());
+		verify(this.delegate).log("Checked 2048 candidates (1024/s), current prefix A:4 B:5 C:6");
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} für eine Lösung.
+	 */
+	@Test
+	public void testLogPermutationSolution() {
+		int[] solution = {9, 8, 7, 6};
+
+		this.objectUnderTest.logPermutation(this.symbols, solution, true);
+		solution[0] = 0;
+		this.objectUnderTest.close();
+
+		verify(this.delegate).logPermutation(
+				eq(this.symbols),
+				eq(new int[] {9, 8, 7, 6}),
+				eq(true));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)} mit mehr Lösungen und Nachrichten, als der Puffer fasst.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass weder Lösungen noch Nachrichten verworfen werden,
+	 *     obwohl der Puffer überläuft.
+	 * </p>
+	 */
+	@Test
+	public void testLogPermutationSolutionBurst() {
+		CountDownLatch started = new CountDownLatch(1);
+		SamplingSolverProgressLogger sampled = new SamplingSolverProgressLogger(
+				this.delegate,
+				10,
+				1000,
+				this.now::get,
+				runnable -> new Thread(() -> {
+					awaitQuietly(started);
+					runnable.run();
+				}));
+
+		for (int index = 0; index < BURST_SIZE; index++) {
+			sampled.logPermutation(this.symbols, new int[] {9, 8, 7, 6}, true);
+			sampled.log("testMessage");
+		}
+
+		started.countDown();
+		sampled.close();
+
+		verify(this.delegate, times(BURST_SIZE)).logPermutation(
+				eq(this.symbols),
+				eq(new int[] {9, 8, 7, 6}),
+				eq(true));
+		verify(this.delegate, times(BURST_SIZE)).log("testMessage");
+		assertTrue(sampled.getDroppedCount() > 0);
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#logPermutation(List, int[],
+	 * boolean)}, wenn mehrere Threads gleichzeitig Belegungen melden.
+	 *
+	 * @throws InterruptedException falls das Warten unterbrochen wird
+	 */
+	@Test
+	public void testLogPermutationConcurrent() throws InterruptedException {
+		Thread[] threads = new Thread[4];
+
+		for (int index = 0; index < threads.length; index++) {
+			threads[index] = new Thread(() -> {
+				for (int candidate = 0; candidate < 10000; candidate++) {
+					this.objectUnderTest.logPermutation(
+							this.symbols,
+							new int[] {1, 2, 3, 4},
+							false);
+				}
+			});
+			threads[index].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		this.objectUnderTest.close();
+
+		assertEquals(40000, this.objectUnderTest.getCandidateCount());
+		verify(this.delegate, never()).logPermutation(any(), any(), anyBoolean());
+	}
+
+	/**
+	 * Diese Methode wartet auf einen {@link CountDownLatch}.
+	 *
+	 * @param latch der abzuwartende {@link CountDownLatch}
+	 */
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Diese Methode prüft {@link SamplingSolverProgressLogger#log(String)}.
+	 */
+	@Test
+	public void testLog() {
+		this.objectUnderTest.log("testMessage");
+		this.objectUnderTest.close();
+
+		verify(this.delegate).log("testMessage");
+		verify(this.delegate).close();
+		assertEquals(0, this.objectUnderTest.getDroppedCount());
+	}
+}
@@ -0,0 +1,392 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import software.sirsch.sa4e.puzzles.protobuf.PuzzleSolverGrpc;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleRequest;
+import software.sirsch.sa4e.puzzles.protobuf.Puzzles.SolvePuzzleResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.grpc.BindableService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link ShardedPuzzleSolverClient} bereit.
+ *
+ * <p>
+ *     Die Tests verwenden mehrere In-Process-Server, auf denen jeweils ein
+ *     {@link PuzzleSolverService} läuft.
+ * </p>
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class ShardedPuzzleSolverClientTest {
+
+	/**
+	 * Diese Konstante enthält die Wartezeit in Millisekunden, nach der ein Server als untätig
+	 * gilt, sobald er seine letzte Teilanfrage erhalten hat.
+	 */
+	private static final long IDLE_MILLIS = 200;
+
+	/**
+	 * Dieses Feld soll die gestarteten Server enthalten.
+	 */
+	private List<Server> servers;
+
+	/**
+	 * Dieses Feld soll die Channels zu den Servern enthalten.
+	 */
+	private List<ManagedChannel> channels;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private ShardedPuzzleSolverClient objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.servers = new ArrayList<>();
+		this.channels = new ArrayList<>();
+	}
+
+	/**
+	 * Diese Methode räumt die Testumgebung nach jedem Testfall auf.
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@AfterEach
+	public void tearDown() throws InterruptedException {
+		if (this.objectUnderTest != null) {
+			this.objectUnderTest.close();
+		}
+
+		for (Server server : this.servers) {
+			assertTrue(server.shutdownNow().awaitTermination(1, TimeUnit.MINUTES));
+		}
+	}
+
+	/**
+	 * Diese Methode startet einen In-Process-Server und öffnet einen Channel zu diesem.
+	 *
+	 * @param service der bereitzustellende Dienst
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	private void startServer(final BindableService service) throws IOException {
+		String uniqueName = InProcessServerBuilder.generateName();
+
+		this.servers.add(InProcessServerBuilder.forName(uniqueName)
+				.addService(service)
+				.build()
+				.start());
+		this.channels.add(InProcessChannelBuilder.forName(uniqueName).build());
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Dienst, der die Rätsel mit einem sequentiellen Verfahren löst.
+	 *
+	 * @return der erzeugte Dienst
+	 */
+	private static PuzzleSolverService createService() {
+		return new PuzzleSolverService(
+				Protobuf2PuzzleConverter::new,
+				new PuzzleSolver(0),
+				new SolverExecutor(2, 2),
+				new SolutionCache(0),
+				2);
+	}
+
+	/**
+	 * Diese Methode erzeugt ein Rätsel ohne Lösung.
+	 *
+	 * @return das erzeugte Rätsel
+	 */
+	private static Puzzle createUnsolvablePuzzle() {
+		PuzzleBuilder puzzleBuilder = new PuzzleBuilder();
+		Symbol symbol0 = puzzleBuilder.findOrCreateSymbol(0, null, 0);
+		Symbol symbol1 = puzzleBuilder.findOrCreateSymbol(1, null, 0);
+
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 3; column++) {
+				if (row == 0) {
+					puzzleBuilder.withCell(new Cell(row, column, List.of(symbol0)));
+				} else {
+					puzzleBuilder.withCell(new Cell(row, column, List.of(symbol1)));
+				}
+			}
+		}
+
+		return puzzleBuilder.build();
+	}
+
+	/**
+	 * Diese Methode erzeugt einen Dienst, der alle Anfragen wegen Überlastung ablehnt.
+	 *
+	 * @param requests die Liste, in der die abgelehnten Anfragen gesammelt werden
+	 * @return der erzeugte Dienst
+	 */
+	private static BindableService createRejectingService(
+			final List<SolvePuzzleRequest> requests) {
+
+		return new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+			@Override
+			public void solvePuzzle(
+					final SolvePuzzleRequest request,
+					final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+				requests.add(request);
+				responseObserver.onError(Status.RESOURCE_EXHAUSTED.asRuntimeException());
+			}
+		};
+	}
+
+	/**
+	 * Diese Methode prüft {@link ShardedPuzzleSolverClient#solvePuzzle(Puzzle)} mit drei
+	 * Servern.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzle() throws IOException {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		Map<Integer, Integer> result;
+
+		for (int index = 0; index < 3; index++) {
+			this.startServer(createService());
+		}
+
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				2);
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(puzzle.isSolution(puzzle.getSymbols().stream()
+				.map(symbol -> result.get(symbol.getId()).byteValue())
+				.collect(Collectors.toList())));
+	}
+
+	/**
+	 * Diese Methode prüft {@link ShardedPuzzleSolverClient#solvePuzzle(Puzzle)} mit einem Rätsel
+	 * ohne Lösung.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleNoSolution() throws IOException {
+		Puzzle puzzle = createUnsolvablePuzzle();
+
+		this.startServer(createService());
+		this.startServer(createService());
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				1);
+
+		assertThrows(
+				RuntimeException.class,
+				() -> this.objectUnderTest.solvePuzzle(puzzle));
+	}
+
+	/**
+	 * Diese Methode prüft, dass ein Teilraum, den ein Server zuletzt ablehnt, an einen anderen
+	 * Server gesendet wird, der bereits keinen Teilraum mehr erhalten hat.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleRedispatchesToIdleServer() throws IOException {
+		Puzzle puzzle = createUnsolvablePuzzle();
+		int rangeCount = PrefixRange.split(
+				puzzle.getSymbols().size(),
+				2 * ShardedPuzzleSolverClient.RANGES_PER_CALL).size();
+		CountDownLatch idle = new CountDownLatch(rangeCount - 1);
+		List<SolvePuzzleRequest> solvedRequests = Collections.synchronizedList(new ArrayList<>());
+		PuzzleSolverService service = createService();
+		RuntimeException exception;
+
+		this.startServer(new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+			@Override
+			public void solvePuzzle(
+					final SolvePuzzleRequest request,
+					final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+				new Thread(() -> {
+					try {
+						idle.await();
+						Thread.sleep(IDLE_MILLIS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+
+					responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+				}).start();
+			}
+		});
+		this.startServer(new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+			@Override
+			public void solvePuzzle(
+					final SolvePuzzleRequest request,
+					final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+				solvedRequests.add(request);
+				service.solvePuzzle(request, responseObserver);
+				idle.countDown();
+			}
+		});
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				1);
+
+		exception = assertThrows(
+				RuntimeException.class,
+				() -> this.objectUnderTest.solvePuzzle(puzzle));
+
+		assertEquals("Puzzle has no solution!", exception.getMessage());
+		assertEquals(rangeCount, solvedRequests.size());
+		assertEquals(0, solvedRequests.get(rangeCount - 1).getPrefixRankBegin());
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Teilanfragen eines hängenden Servers abgebrochen werden,
+	 * sobald ein anderer Server die Lösung gefunden hat.
+	 *
+	 * @throws Exception wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleCancelsOtherCalls() throws Exception {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		List<SolvePuzzleRequest> hangingRequests = new ArrayList<>();
+
+		this.startServer(createService());
+		this.startServer(new PuzzleSolverGrpc.PuzzleSolverImplBase() {
+
+			@Override
+			public void solvePuzzle(
+					final SolvePuzzleRequest request,
+					final StreamObserver<SolvePuzzleResponse> responseObserver) {
+
+				hangingRequests.add(request);
+				((ServerCallStreamObserver<SolvePuzzleResponse>) responseObserver)
+						.setOnCancelHandler(cancelled::countDown);
+			}
+		});
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				1);
+
+		this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(cancelled.await(1, TimeUnit.MINUTES));
+		assertEquals(1, hangingRequests.size());
+		assertEquals(1, hangingRequests.get(0).getPrefixLength());
+		assertEquals(1, hangingRequests.get(0).getPrefixRankBegin());
+		assertEquals(2, hangingRequests.get(0).getPrefixRankEnd());
+	}
+
+	/**
+	 * Diese Methode prüft, dass die Teilräume eines ablehnenden Servers von einem anderen
+	 * Server übernommen werden.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleRedispatchesRejectedRange() throws IOException {
+		Puzzle puzzle = new PuzzleGenerator().generate(12, 34, 78, 56);
+		List<SolvePuzzleRequest> rejectedRequests =
+				Collections.synchronizedList(new ArrayList<>());
+		Map<Integer, Integer> result;
+
+		this.startServer(createRejectingService(rejectedRequests));
+		this.startServer(createService());
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				1);
+
+		result = this.objectUnderTest.solvePuzzle(puzzle);
+
+		assertTrue(puzzle.isSolution(puzzle.getSymbols().stream()
+				.map(symbol -> result.get(symbol.getId()).byteValue())
+				.collect(Collectors.toList())));
+		assertEquals(0, rejectedRequests.get(0).getPrefixRankBegin());
+		assertEquals(
+				rejectedRequests.size(),
+				rejectedRequests.stream()
+						.map(SolvePuzzleRequest::getPrefixRankBegin)
+						.distinct()
+						.count());
+	}
+
+	/**
+	 * Diese Methode prüft {@link ShardedPuzzleSolverClient#solvePuzzle(Puzzle)}, wenn alle
+	 * Server ablehnen.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testSolvePuzzleAllServersReject() throws IOException {
+		List<SolvePuzzleRequest> rejectedRequests =
+				Collections.synchronizedList(new ArrayList<>());
+
+		this.startServer(createRejectingService(rejectedRequests));
+		this.startServer(createRejectingService(rejectedRequests));
+		this.objectUnderTest = new ShardedPuzzleSolverClient(
+				this.channels,
+				new Puzzle2ProtobufConverter(),
+				1);
+
+		assertThrows(
+				RuntimeException.class,
+				() -> this.objectUnderTest.solvePuzzle(
+						new PuzzleGenerator().generate(12, 34, 78, 56)));
+		assertTrue(rejectedRequests.size() >= 2);
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link ShardedPuzzleSolverClient#ShardedPuzzleSolverClient(List, int)}.
+	 */
+	@Test
+	public void testTargetsConstructor() {
+		this.objectUnderTest = new ShardedPuzzleSolverClient(List.of("localhost:12345"), 1);
+
+		assertThrows(
+				RuntimeException.class,
+				() -> this.objectUnderTest.solvePuzzle(
+						new PuzzleGenerator().generate(1, 2, 3, 4)));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new ShardedPuzzleSolverClient(List.of(), 1));
+	}
+}
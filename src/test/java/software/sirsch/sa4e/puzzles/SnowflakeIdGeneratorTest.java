@@ -0,0 +1,136 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link SnowflakeIdGenerator} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SnowflakeIdGeneratorTest {
+
+	/**
+	 * Dieses Feld soll die Uhr in Millisekunden enthalten.
+	 */
+	private AtomicLong clock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private SnowflakeIdGenerator objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.clock = new AtomicLong(SnowflakeIdGenerator.EPOCH + 5000);
+		this.objectUnderTest = new SnowflakeIdGenerator(7, this.clock::get);
+	}
+
+	/**
+	 * Diese Methode prüft den Aufbau der mit {@link SnowflakeIdGenerator#nextId()} erzeugten IDs.
+	 */
+	@Test
+	public void testNextId() {
+		long first = this.objectUnderTest.nextId();
+		long second = this.objectUnderTest.nextId();
+
+		assertEquals((5L << 21) | (7L << 11), first);
+		assertEquals(first + 1, second);
+		assertEquals(SnowflakeIdGenerator.EPOCH + 5000, SnowflakeIdGenerator.extractTimestamp(first));
+		assertEquals(7, SnowflakeIdGenerator.extractNodeId(second));
+
+		this.clock.addAndGet(999);
+
+		assertEquals(first + 2, this.objectUnderTest.nextId());
+
+		this.clock.incrementAndGet();
+
+		assertEquals((6L << 21) | (7L << 11), this.objectUnderTest.nextId());
+	}
+
+	/**
+	 * Diese Methode prüft, dass die IDs auch bei erschöpften laufenden Nummern und zurücklaufender
+	 * Uhr eindeutig und streng monoton bleiben.
+	 */
+	@Test
+	public void testMonotonic() {
+		Set<Long> ids = new HashSet<>();
+		long previous = -1;
+
+		for (int index = 0; index < 10_000; index++) {
+			long id;
+
+			if (index == 5000) {
+				this.clock.addAndGet(-2000);
+			}
+
+			id = this.objectUnderTest.nextId();
+
+			assertTrue(id > previous);
+			assertTrue(ids.add(id));
+			previous = id;
+		}
+
+		assertTrue(SnowflakeIdGenerator.extractTimestamp(previous) > this.clock.get());
+	}
+
+	/**
+	 * Diese Methode prüft, dass verschiedene Knoten zur selben Zeit verschiedene IDs erzeugen.
+	 */
+	@Test
+	public void testNodes() {
+		SnowflakeIdGenerator other = new SnowflakeIdGenerator(8, this.clock::get);
+
+		assertNotEquals(this.objectUnderTest.nextId(), other.nextId());
+		assertEquals(8, other.getNodeId());
+		assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+		assertTrue(new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID).nextId() > 0);
+	}
+
+	/**
+	 * Diese Methode prüft, dass die IDs in 53 Bit passen und damit als {@code double} exakt
+	 * darstellbar sind.
+	 */
+	@Test
+	public void testMaxId() {
+		SnowflakeIdGenerator last = new SnowflakeIdGenerator(
+				SnowflakeIdGenerator.MAX_NODE_ID,
+				() -> SnowflakeIdGenerator.EPOCH + ((1L << 32) - 1) * 1000);
+		SnowflakeIdGenerator overflow = new SnowflakeIdGenerator(
+				0,
+				() -> SnowflakeIdGenerator.EPOCH + (1L << 32) * 1000);
+		long id = last.nextId();
+
+		assertEquals(53, SnowflakeIdGenerator.ID_BITS);
+		assertTrue(id <= SnowflakeIdGenerator.MAX_ID);
+		assertEquals(id, (long) (double) id);
+		assertThrows(IllegalStateException.class, overflow::nextId);
+	}
+
+	/**
+	 * Diese Methode prüft {@link SnowflakeIdGenerator#deriveNodeId(String)}.
+	 */
+	@Test
+	public void testDeriveNodeId() {
+		int nodeId = SnowflakeIdGenerator.deriveNodeId("sirsch 1234");
+
+		assertTrue(nodeId >= 0 && nodeId <= SnowflakeIdGenerator.MAX_NODE_ID);
+		assertEquals(nodeId, SnowflakeIdGenerator.deriveNodeId("sirsch 1234"));
+	}
+}
@@ -0,0 +1,354 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link SolutionCache} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolutionCacheTest {
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit in Millisekunden.
+	 */
+	private static final long TIMEOUT_MILLIS = 5000;
+
+	/**
+	 * Diese Konstante enthält die Wartezeit in Millisekunden, nach der die zweite Anfrage auf das
+	 * Ergebnis der ersten wartet.
+	 */
+	private static final long WAIT_MILLIS = 100;
+
+	/**
+	 * Dieses Feld soll die Anzahl der Aufrufe von {@link #solver} enthalten.
+	 */
+	private AtomicInteger solveCount;
+
+	/**
+	 * Dieses Feld soll die Funktion zum Lösen der Rätsel enthalten.
+	 */
+	private Function<Puzzle, Optional<Solution>> solver;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private SolutionCache objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		PuzzleSolver puzzleSolver = new PuzzleSolver(0);
+
+		this.solveCount = new AtomicInteger();
+		this.solver = puzzle -> {
+			this.solveCount.incrementAndGet();
+			return puzzleSolver.solvePuzzle(puzzle);
+		};
+
+		this.objectUnderTest = new SolutionCache(2);
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#SolutionCache()}.
+	 */
+	@Test
+	public void testDefaultConstructor() {
+		this.objectUnderTest = new SolutionCache();
+
+		assertEquals(SolutionCache.DEFAULT_CAPACITY, this.objectUnderTest.getCapacity());
+		assertEquals(0, this.objectUnderTest.getSize());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#SolutionCache(int)} mit negativer Kapazität.
+	 */
+	@Test
+	public void testConstructorNegativeCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new SolutionCache(-1));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass ein Treffer die Lösung mit den Symbol-Ids des
+	 *     anfragenden Rätsels liefert.
+	 * </p>
+	 */
+	@Test
+	public void testSolve() {
+		Puzzle first = new PuzzleGenerator().generate(1, 1, 1, 1);
+		Puzzle second = new PuzzleGenerator().generate(2, 2, 2, 2);
+		Optional<Solution> firstResult;
+		Optional<Solution> secondResult;
+
+		firstResult = this.objectUnderTest.solve(first, this.solver);
+		secondResult = this.objectUnderTest.solve(second, this.solver);
+
+		assertEquals(Optional.of(Solution.of(first.getSymbols(), new int[] {1, 2, 4})), firstResult);
+		assertEquals(
+				Optional.of(Solution.of(second.getSymbols(), new int[] {1, 2, 4})),
+				secondResult);
+		assertEquals(1, this.solveCount.get());
+		assertEquals(1, this.objectUnderTest.getHitCount());
+		assertEquals(1, this.objectUnderTest.getMissCount());
+		assertEquals(0, this.objectUnderTest.getEvictionCount());
+		assertEquals(1, this.objectUnderTest.getSize());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}, wenn das Rätsel keine
+	 * Lösung hat.
+	 */
+	@Test
+	public void testSolveNoSolution() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+
+		this.objectUnderTest.solve(puzzle, ignore -> Optional.empty());
+
+		assertEquals(Optional.empty(), this.objectUnderTest.solve(puzzle, this.solver));
+		assertEquals(0, this.solveCount.get());
+		assertEquals(1, this.objectUnderTest.getHitCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}, wenn die Kapazität
+	 * überschritten wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass der am längsten nicht verwendete Eintrag verdrängt
+	 *     wird.
+	 * </p>
+	 */
+	@Test
+	public void testSolveEviction() {
+		Puzzle first = new PuzzleGenerator().generate(1, 1, 1, 1);
+		Puzzle second = new PuzzleGenerator().generate(1, 2, 3, 4);
+		Puzzle third = new PuzzleGenerator().generate(1, 2, 3, 5);
+
+		this.objectUnderTest.solve(first, this.solver);
+		this.objectUnderTest.solve(second, this.solver);
+		this.objectUnderTest.solve(first, this.solver);
+		this.objectUnderTest.solve(third, this.solver);
+		this.objectUnderTest.solve(first, this.solver);
+		this.objectUnderTest.solve(second, this.solver);
+
+		assertEquals(4, this.solveCount.get());
+		assertEquals(2, this.objectUnderTest.getHitCount());
+		assertEquals(4, this.objectUnderTest.getMissCount());
+		assertEquals(2, this.objectUnderTest.getEvictionCount());
+		assertEquals(2, this.objectUnderTest.getSize());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}, wenn das Lösen
+	 * abgebrochen wird.
+	 */
+	@Test
+	public void testSolveCancelled() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+
+		assertThrows(
+				CancellationException.class,
+				() -> this.objectUnderTest.solve(puzzle, ignore -> {
+					throw new CancellationException();
+				}));
+
+		assertEquals(0, this.objectUnderTest.getSize());
+		assertEquals(1, this.objectUnderTest.getMissCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)} mit deaktiviertem Cache.
+	 */
+	@Test
+	public void testSolveDisabled() {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+
+		this.objectUnderTest = new SolutionCache(0);
+
+		this.objectUnderTest.solve(puzzle, this.solver);
+		this.objectUnderTest.solve(puzzle, this.solver);
+
+		assertEquals(2, this.solveCount.get());
+		assertEquals(0, this.objectUnderTest.getSize());
+		assertEquals(0, this.objectUnderTest.getEvictionCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}, wenn dasselbe Rätsel
+	 * gleichzeitig angefragt wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass das Rätsel nur einmal gelöst wird und die
+	 *     wartende Anfrage die Lösung mit ihren eigenen Symbol-Ids erhält.
+	 * </p>
+	 *
+	 * @throws Exception falls der Test fehlschlägt
+	 */
+	@Test
+	public void testSolveConcurrent() throws Exception {
+		Puzzle first = new PuzzleGenerator().generate(1, 1, 1, 1);
+		Puzzle second = new PuzzleGenerator().generate(2, 2, 2, 2);
+		CountDownLatch solving = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<Optional<Solution>> firstResult;
+		Future<Optional<Solution>> secondResult;
+
+		try {
+			firstResult = executor.submit(() -> this.objectUnderTest.solve(first, puzzle -> {
+				solving.countDown();
+				this.await(release);
+				return this.solver.apply(puzzle);
+			}));
+			this.await(solving);
+			secondResult = executor.submit(() -> this.objectUnderTest.solve(second, this.solver));
+			Thread.sleep(WAIT_MILLIS);
+			release.countDown();
+
+			assertEquals(
+					Optional.of(Solution.of(first.getSymbols(), new int[] {1, 2, 4})),
+					firstResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+			assertEquals(
+					Optional.of(Solution.of(second.getSymbols(), new int[] {1, 2, 4})),
+					secondResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, this.solveCount.get());
+		assertEquals(1, this.objectUnderTest.getMissCount());
+		assertEquals(1, this.objectUnderTest.getHitCount());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, Function)}, wenn das Lösen einer
+	 * gleichzeitigen Anfrage für dasselbe Rätsel abgebrochen wird.
+	 *
+	 * @throws Exception falls der Test fehlschlägt
+	 */
+	@Test
+	public void testSolveConcurrentCancelled() throws Exception {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		CountDownLatch solving = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<Optional<Solution>> firstResult;
+		Future<Optional<Solution>> secondResult;
+
+		try {
+			firstResult = executor.submit(() -> this.objectUnderTest.solve(puzzle, ignore -> {
+				solving.countDown();
+				this.await(release);
+				throw new CancellationException();
+			}));
+			this.await(solving);
+			secondResult = executor.submit(() -> this.objectUnderTest.solve(puzzle, this.solver));
+			Thread.sleep(WAIT_MILLIS);
+			release.countDown();
+
+			assertThrows(
+					ExecutionException.class,
+					() -> firstResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+			assertEquals(
+					Optional.of(Solution.of(puzzle.getSymbols(), new int[] {1, 2, 4})),
+					secondResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, this.solveCount.get());
+		assertEquals(1, this.objectUnderTest.getSize());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolutionCache#solve(Puzzle, BooleanSupplier, Function)}, wenn
+	 * eine auf eine gleichzeitige Anfrage wartende Anfrage abgebrochen wird.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere geprüft, dass die wartende Anfrage nicht bis zum Ende der
+	 *     anderen Anfrage blockiert und diese ungestört fortgesetzt wird.
+	 * </p>
+	 *
+	 * @throws Exception falls der Test fehlschlägt
+	 */
+	@Test
+	public void testSolveConcurrentWaiterCancelled() throws Exception {
+		Puzzle puzzle = new PuzzleGenerator().generate(1, 1, 1, 1);
+		CountDownLatch solving = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean cancelled = new AtomicBoolean();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Future<Optional<Solution>> firstResult;
+		Future<Optional<Solution>> secondResult;
+		ExecutionException exception;
+
+		try {
+			firstResult = executor.submit(() -> this.objectUnderTest.solve(puzzle, ignore -> {
+				solving.countDown();
+				this.await(release);
+				return this.solver.apply(puzzle);
+			}));
+			this.await(solving);
+			secondResult = executor.submit(() -> this.objectUnderTest.solve(
+					puzzle,
+					cancelled::get,
+					this.solver));
+			Thread.sleep(WAIT_MILLIS);
+			cancelled.set(true);
+
+			exception = assertThrows(
+					ExecutionException.class,
+					() -> secondResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+			assertTrue(exception.getCause() instanceof CancellationException);
+
+			release.countDown();
+
+			assertEquals(
+					Optional.of(Solution.of(puzzle.getSymbols(), new int[] {1, 2, 4})),
+					firstResult.get(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, this.solveCount.get());
+		assertEquals(0, this.objectUnderTest.getHitCount());
+	}
+
+	/**
+	 * Diese Methode wartet auf einen {@link CountDownLatch}.
+	 *
+	 * @param latch der abzuwartende {@link CountDownLatch}
+	 */
+	private void await(final CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
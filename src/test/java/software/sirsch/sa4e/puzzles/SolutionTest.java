@@ -0,0 +1,93 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Diese Klasse stellt Tests für {@link Solution} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolutionTest {
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private Solution objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		Symbol firstSymbol = mock(Symbol.class);
+		Symbol secondSymbol = mock(Symbol.class);
+
+		when(firstSymbol.getId()).thenReturn(7);
+		when(secondSymbol.getId()).thenReturn(3);
+
+		this.objectUnderTest = Solution.of(List.of(firstSymbol, secondSymbol), new int[] {1, 2});
+	}
+
+	/**
+	 * Diese Methode prüft {@link Solution#getSymbolIdToDigit()}.
+	 */
+	@Test
+	public void testGetSymbolIdToDigit() {
+		Map<Integer, Integer> result;
+
+		result = this.objectUnderTest.getSymbolIdToDigit();
+
+		assertEquals(Map.of(7, 1, 3, 2), result);
+		assertEquals(List.of(7, 3), List.copyOf(result.keySet()));
+		assertThrows(UnsupportedOperationException.class, () -> result.put(1, 1));
+	}
+
+	/**
+	 * Diese Methode prüft {@link Solution#getDigit(int)}.
+	 */
+	@Test
+	public void testGetDigit() {
+		assertEquals(1, this.objectUnderTest.getDigit(7));
+		assertEquals(2, this.objectUnderTest.getDigit(3));
+		assertThrows(IllegalArgumentException.class, () -> this.objectUnderTest.getDigit(1));
+	}
+
+	/**
+	 * Diese Methode prüft, dass spätere Änderungen an der übergebenen Map die Lösung nicht
+	 * verändern.
+	 */
+	@Test
+	public void testConstructorCopiesMap() {
+		Map<Integer, Integer> symbolIdToDigit = new HashMap<>(Map.of(1, 5));
+		Solution solution = new Solution(symbolIdToDigit);
+
+		symbolIdToDigit.put(1, 6);
+
+		assertEquals(5, solution.getDigit(1));
+	}
+
+	/**
+	 * Diese Methode prüft {@link Solution#equals(Object)} und {@link Solution#hashCode()}.
+	 */
+	@Test
+	public void testEqualsAndHashCode() {
+		Solution equal = new Solution(Map.of(3, 2, 7, 1));
+
+		assertEquals(equal, this.objectUnderTest);
+		assertEquals(equal.hashCode(), this.objectUnderTest.hashCode());
+		assertNotEquals(new Solution(Map.of(3, 2)), this.objectUnderTest);
+		assertNotEquals(this.objectUnderTest, null);
+	}
+}
@@ -0,0 +1,42 @@
+package software.sirsch.sa4e.puzzles;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link SolverEngine} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolverEngineTest {
+
+	/**
+	 * Diese Methode prüft {@link SolverEngine#createPuzzleSolver(int)}.
+	 */
+	@Test
+	public void testCreatePuzzleSolver() {
+		assertEquals(
+				PuzzleSolver.class,
+				SolverEngine.BRUTE_FORCE.createPuzzleSolver(0).getClass());
+		assertEquals(
+				ColumnwisePuzzleSolver.class,
+				SolverEngine.COLUMNWISE.createPuzzleSolver(0).getClass());
+		assertEquals(
+				ParallelPuzzleSolver.class,
+				SolverEngine.PARALLEL.createPuzzleSolver(0).getClass());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverEngine#fromName(String)}.
+	 */
+	@Test
+	public void testFromName() {
+		assertEquals(SolverEngine.BRUTE_FORCE, SolverEngine.fromName("brute-force"));
+		assertEquals(SolverEngine.BRUTE_FORCE, SolverEngine.fromName("BRUTE_FORCE"));
+		assertEquals(SolverEngine.COLUMNWISE, SolverEngine.fromName(" Columnwise "));
+		assertThrows(IllegalArgumentException.class, () -> SolverEngine.fromName("unknown"));
+	}
+}
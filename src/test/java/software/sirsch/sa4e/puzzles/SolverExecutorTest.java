@@ -0,0 +1,137 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Diese Klasse stellt Tests für {@link SolverExecutor} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolverExecutorTest {
+
+	/**
+	 * Diese Konstante enthält die maximale Wartezeit in Sekunden.
+	 */
+	private static final long TIMEOUT_SECONDS = 5;
+
+	/**
+	 * Dieses Feld soll die Sperre enthalten, mit der die Aufgaben blockiert werden.
+	 */
+	private CountDownLatch release;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private SolverExecutor objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.release = new CountDownLatch(1);
+
+		this.objectUnderTest = new SolverExecutor(1, 2);
+	}
+
+	/**
+	 * Diese Methode räumt die Testumgebung nach jedem Testfall auf.
+	 */
+	@AfterEach
+	public void tearDown() {
+		this.release.countDown();
+		this.objectUnderTest.shutdown();
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverExecutor#SolverExecutor()}.
+	 */
+	@Test
+	public void testDefaultConstructor() {
+		this.objectUnderTest.shutdown();
+		this.objectUnderTest = new SolverExecutor();
+
+		assertEquals(SolverExecutor.DEFAULT_THREAD_COUNT, this.objectUnderTest.getThreadCount());
+		assertEquals(
+				SolverExecutor.DEFAULT_QUEUE_CAPACITY,
+				this.objectUnderTest.getQueueCapacity());
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverExecutor#execute(Runnable)}.
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testExecute() throws InterruptedException {
+		CountDownLatch executed = new CountDownLatch(1);
+
+		this.objectUnderTest.execute(executed::countDown);
+
+		assertTrue(executed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverExecutor#execute(Runnable)}, wenn die Warteschlange voll
+	 * ist.
+	 *
+	 * <p>
+	 *     Dabei wird insbesondere {@link SolverExecutor#getQueueDepth()} geprüft.
+	 * </p>
+	 *
+	 * @throws InterruptedException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testExecuteQueueFull() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+
+		this.objectUnderTest.execute(() -> {
+			started.countDown();
+			this.awaitRelease();
+		});
+		assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+		this.objectUnderTest.execute(this::awaitRelease);
+		this.objectUnderTest.execute(this::awaitRelease);
+
+		assertEquals(2, this.objectUnderTest.getQueueDepth());
+		assertEquals(1, this.objectUnderTest.getActiveCount());
+		assertEquals(2, this.objectUnderTest.getQueueCapacity());
+		assertThrows(
+				RejectedExecutionException.class,
+				() -> this.objectUnderTest.execute(this::awaitRelease));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverExecutor#shutdown()}.
+	 */
+	@Test
+	public void testShutdown() {
+		this.objectUnderTest.shutdown();
+
+		assertThrows(
+				RejectedExecutionException.class,
+				() -> this.objectUnderTest.execute(this::awaitRelease));
+	}
+
+	/**
+	 * Diese Methode wartet auf die Freigabe durch {@link #tearDown()}.
+	 */
+	private void awaitRelease() {
+		try {
+			this.release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
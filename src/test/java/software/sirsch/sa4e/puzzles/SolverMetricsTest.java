@@ -0,0 +1,124 @@
+package software.sirsch.sa4e.puzzles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Diese Klasse stellt Tests für {@link SolverMetrics} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class SolverMetricsTest {
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private SolverMetrics objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.objectUnderTest = new SolverMetrics();
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverMetrics#recordSearch(SolverEngine, int, PrefixRange)}.
+	 */
+	@Test
+	public void testRecordSearch() {
+		this.objectUnderTest.recordSearch(SolverEngine.BRUTE_FORCE, 0, PrefixRange.FULL);
+		this.objectUnderTest.recordSearch(SolverEngine.BRUTE_FORCE, 3, PrefixRange.FULL);
+		this.objectUnderTest.recordSearch(SolverEngine.COLUMNWISE, 10, PrefixRange.FULL);
+
+		assertEquals(1 + 720, this.objectUnderTest.getSearchSpaceSize(SolverEngine.BRUTE_FORCE));
+		assertEquals(3_628_800, this.objectUnderTest.getSearchSpaceSize(SolverEngine.COLUMNWISE));
+		assertEquals(0, this.objectUnderTest.getSearchSpaceSize(SolverEngine.PARALLEL));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverMetrics#recordSearch(SolverEngine, int, PrefixRange)} mit
+	 * einem Teilraum.
+	 */
+	@Test
+	public void testRecordSearchInRange() {
+		this.objectUnderTest.recordSearch(SolverEngine.PARALLEL, 3, new PrefixRange(1, 0, 2));
+		this.objectUnderTest.recordSearch(SolverEngine.PARALLEL, 3, PrefixRange.FULL);
+
+		assertEquals(2 * 72 + 720, this.objectUnderTest.getSearchSpaceSize(SolverEngine.PARALLEL));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverMetrics#recordCandidate(SolverEngine, int)}.
+	 */
+	@Test
+	public void testRecordCandidate() {
+		this.objectUnderTest.recordCandidate(
+				SolverEngine.BRUTE_FORCE,
+				CompiledPuzzle.NO_CONTRADICTION);
+		this.objectUnderTest.recordCandidate(SolverEngine.BRUTE_FORCE, 0);
+		this.objectUnderTest.recordCandidate(SolverEngine.BRUTE_FORCE, 5);
+		this.objectUnderTest.recordCandidate(SolverEngine.PARALLEL, 5);
+		this.objectUnderTest.recordCandidate(
+				SolverEngine.BRUTE_FORCE,
+				SolverMetrics.ADDITION_COUNT);
+
+		assertEquals(4, this.objectUnderTest.getCandidateCount(SolverEngine.BRUTE_FORCE));
+		assertEquals(0, this.objectUnderTest.getCandidateCount(SolverEngine.COLUMNWISE));
+		assertEquals(1, this.objectUnderTest.getCandidateCount(SolverEngine.PARALLEL));
+		assertEquals(1, this.objectUnderTest.getContradictionCount(0));
+		assertEquals(0, this.objectUnderTest.getContradictionCount(1));
+		assertEquals(2, this.objectUnderTest.getContradictionCount(5));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverMetrics#getPruningRatio(SolverEngine)}.
+	 */
+	@Test
+	public void testGetPruningRatio() {
+		assertEquals(0, this.objectUnderTest.getPruningRatio(SolverEngine.COLUMNWISE));
+
+		this.objectUnderTest.recordSearch(SolverEngine.COLUMNWISE, 2, PrefixRange.FULL);
+		this.objectUnderTest.recordSearch(SolverEngine.BRUTE_FORCE, 2, PrefixRange.FULL);
+
+		for (int index = 0; index < 9; index++) {
+			this.objectUnderTest.recordCandidate(SolverEngine.COLUMNWISE, 0);
+		}
+
+		for (int index = 0; index < 90; index++) {
+			this.objectUnderTest.recordCandidate(SolverEngine.BRUTE_FORCE, 0);
+		}
+
+		assertEquals(0.9, this.objectUnderTest.getPruningRatio(SolverEngine.COLUMNWISE), 1e-9);
+		assertEquals(0, this.objectUnderTest.getPruningRatio(SolverEngine.BRUTE_FORCE));
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverMetrics#recordSolve(SearchMode, long, boolean)} und
+	 * {@link SolverMetrics#recordCancelled(SearchMode, long)}.
+	 */
+	@Test
+	public void testRecordSolve() {
+		this.objectUnderTest.recordSolve(SearchMode.FIRST_SOLUTION, 1000, true);
+		this.objectUnderTest.recordSolve(SearchMode.FIRST_SOLUTION, 2000, true);
+		this.objectUnderTest.recordSolve(SearchMode.FIRST_SOLUTION, 3000, false);
+		this.objectUnderTest.recordCancelled(SearchMode.FIRST_SOLUTION, 4000);
+		this.objectUnderTest.recordSolve(SearchMode.COUNT_SOLUTIONS, 5000, false);
+
+		assertEquals(2, this.objectUnderTest.getSolvedCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(1, this.objectUnderTest.getUnsolvedCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(1, this.objectUnderTest.getCancelledCount(SearchMode.FIRST_SOLUTION));
+		assertEquals(4,
+				this.objectUnderTest.getSolveDurations(SearchMode.FIRST_SOLUTION).getCount());
+		assertEquals(10000,
+				this.objectUnderTest.getSolveDurations(SearchMode.FIRST_SOLUTION).getTotalNanos());
+		assertEquals(1, this.objectUnderTest.getUnsolvedCount(SearchMode.COUNT_SOLUTIONS));
+		assertEquals(0, this.objectUnderTest.getSolvedCount(SearchMode.ALL_SOLUTIONS));
+		assertEquals(0,
+				this.objectUnderTest.getSolveDurations(SearchMode.ALL_SOLUTIONS).getCount());
+	}
+}
@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -72,7 +73,10 @@ public class SolverProgressLoggerFactoryTest {
 
 			assertNotNull(result);
 			result.log("testMessage");
+			result.close();
 			verify(out).println("testMessage");
+			verify(out).flush();
+			verify(out, never()).close();
 		} finally {
 			System.setOut(defaultOut);
 		}
@@ -111,14 +115,53 @@ public class SolverProgressLoggerFactoryTest {
 	}
 
 	/**
-	 * Diese Methode prüft {@link SolverProgressLoggerFactory#createMqttLogger(String)}.
+	 * Diese Methode prüft {@link SolverProgressLoggerFactory#createTraceLogger(String)}.
+	 *
+	 * @throws IOException wird in diesem Testfall nicht erwartet
+	 */
+	@Test
+	public void testCreateTraceLogger() throws IOException {
+		SolverProgressLogger result;
+
+		result = this.objectUnderTest.createTraceLogger(this.tempFile.getAbsolutePath());
+		result.close();
+
+		assertEquals(
+				"PZTR\u0001",
+				FileUtils.readFileToString(this.tempFile, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Diese Methode prüft
+	 * {@link SolverProgressLoggerFactory#createMqttLogger(String, OverflowPolicy)}.
 	 */
 	@Test
 	public void testCreateMqttLogger() {
 		SolverProgressLogger result;
 
-		result = this.objectUnderTest.createMqttLogger("tcp://dummy:1883");
+		result = this.objectUnderTest.createMqttLogger("tcp://dummy:1883", OverflowPolicy.BLOCK);
+
+		assertEquals(
+				OverflowPolicy.BLOCK,
+				((MqttSolverProgressLogger) result).getOverflowPolicy());
+		result.close();
+	}
+
+	/**
+	 * Diese Methode prüft {@link SolverProgressLoggerFactory#createSampledLogger(
+	 * SolverProgressLogger, long, long)}.
+	 */
+	@Test
+	public void testCreateSampledLogger() {
+		SolverProgressLogger delegate = mock(SolverProgressLogger.class);
+		SolverProgressLogger result;
+
+		result = this.objectUnderTest.createSampledLogger(delegate, 10, 1000);
+		result.log("testMessage");
+		result.close();
 
-		assertNotNull(result);
+		assertTrue(result instanceof SamplingSolverProgressLogger);
+		verify(delegate).log("testMessage");
+		verify(delegate).close();
 	}
 }
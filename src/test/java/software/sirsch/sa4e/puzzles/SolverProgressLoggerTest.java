@@ -33,7 +33,7 @@ public class SolverProgressLoggerTest {
 	}
 
 	/**
-	 * Diese Methode prüft {@link SolverProgressLogger#logPermutation(List, boolean)}.
+	 * Diese Methode prüft {@link SolverProgressLogger#logPermutation(List, int[], boolean)}.
 	 */
 	@Test
 	public void testLogPermutationSolution() {
@@ -41,17 +41,18 @@ public class SolverProgressLoggerTest {
 		Symbol secondSymbol = mock(Symbol.class);
 
 		when(firstSymbol.getIconCodePoint()).thenReturn((int) 'A');
-		when(firstSymbol.getBoundValue()).thenReturn((byte) 1);
 		when(secondSymbol.getIconCodePoint()).thenReturn((int) 'B');
-		when(secondSymbol.getBoundValue()).thenReturn((byte) 2);
 
-		this.objectUnderTest.logPermutation(List.of(firstSymbol, secondSymbol), true);
+		this.objectUnderTest.logPermutation(
+				List.of(firstSymbol, secondSymbol),
+				new int[] {1, 2},
+				true);
 
 		verify(this.objectUnderTest).log("Permutation A:1 B:2 is a solution.");
 	}
 
 	/**
-	 * Diese Methode prüft {@link SolverProgressLogger#logPermutation(List, boolean)}.
+	 * Diese Methode prüft {@link SolverProgressLogger#logPermutation(List, int[], boolean)}.
 	 */
 	@Test
 	public void testLogPermutationNotSolution() {
@@ -59,11 +60,12 @@ public class SolverProgressLoggerTest {
 		Symbol secondSymbol = mock(Symbol.class);
 
 		when(firstSymbol.getIconCodePoint()).thenReturn((int) 'A');
-		when(firstSymbol.getBoundValue()).thenReturn((byte) 1);
 		when(secondSymbol.getIconCodePoint()).thenReturn((int) 'B');
-		when(secondSymbol.getBoundValue()).thenReturn((byte) 2);
 
-		this.objectUnderTest.logPermutation(List.of(firstSymbol, secondSymbol), false);
+		this.objectUnderTest.logPermutation(
+				List.of(firstSymbol, secondSymbol),
+				new int[] {1, 2},
+				false);
 
 		verify(this.objectUnderTest).log("Permutation A:1 B:2 is not a solution.");
 	}
@@ -0,0 +1,84 @@
+package software.sirsch.sa4e.puzzles;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Diese Klasse stellt Tests für {@link TokenBucket} bereit.
+ *
+ * @author sirsch
+ * @since 17.10.2026
+ */
+public class TokenBucketTest {
+
+	/**
+	 * Dieses Feld soll die Uhr in Nanosekunden enthalten.
+	 */
+	private AtomicLong nanoClock;
+
+	/**
+	 * Dieses Feld soll das zu testende Objekt enthalten.
+	 */
+	private TokenBucket objectUnderTest;
+
+	/**
+	 * Diese Methode bereitet die Testumgebung für jeden Testfall vor.
+	 */
+	@BeforeEach
+	public void setUp() {
+		this.nanoClock = new AtomicLong(123_456_789L);
+		this.objectUnderTest = new TokenBucket(20, 100, 10, this.nanoClock::get);
+	}
+
+	/**
+	 * Diese Methode prüft, ob anfangs die angegebenen Marken verfügbar sind und höchstens die
+	 * angeforderte Anzahl entnommen wird.
+	 */
+	@Test
+	public void testTryAcquireUpToInitial() {
+		assertEquals(4, this.objectUnderTest.tryAcquireUpTo(4));
+		assertEquals(6, this.objectUnderTest.tryAcquireUpTo(50));
+		assertEquals(0, this.objectUnderTest.tryAcquireUpTo(50));
+	}
+
+	/**
+	 * Diese Methode prüft das Auffüllen entsprechend der vergangenen Zeit.
+	 */
+	@Test
+	public void testTryAcquireUpToRefill() {
+		this.objectUnderTest.tryAcquireUpTo(10);
+		this.nanoClock.addAndGet(25_000_000L);
+
+		assertEquals(2, this.objectUnderTest.tryAcquireUpTo(50));
+
+		this.nanoClock.addAndGet(5_000_000L);
+
+		assertEquals(1, this.objectUnderTest.tryAcquireUpTo(50));
+	}
+
+	/**
+	 * Diese Methode prüft, ob der Eimer nicht über seine Kapazität gefüllt wird.
+	 */
+	@Test
+	public void testTryAcquireUpToCapacity() {
+		this.nanoClock.addAndGet(10_000_000_000L);
+
+		assertEquals(20, this.objectUnderTest.tryAcquireUpTo(50));
+		assertEquals(0, this.objectUnderTest.tryAcquireUpTo(50));
+	}
+
+	/**
+	 * Diese Methode prüft die Ablehnung ungültiger Parameter.
+	 */
+	@Test
+	public void testConstructorInvalid() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 1, 2));
+	}
+}